@@ -0,0 +1,72 @@
+package com.shoppingmall.ecommerceapi.common.security.util;
+
+import com.shoppingmall.ecommerceapi.domain.user.entity.enums.UserRole;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import javax.crypto.SecretKey;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * 인증 요청 1건당 JWT 처리 비용 비교
+ * - threeParses   : 기존 필터 (validateToken + getUserId + getRole, 호출마다 파서 생성 + 서명 검증)
+ * - singleParse   : authenticate 1번 (재사용 파서, 캐시 미사용)
+ * - cachedRepeat  : authenticate 캐시 히트 (같은 토큰 반복 요청)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class JwtAuthenticationBenchmark {
+
+  private static final String SECRET = "benchmark-secret-key-benchmark-secret-key-0123456789";
+
+  private SecretKey secretKey;
+  private JwtTokenProvider uncachedProvider;
+  private JwtTokenProvider cachedProvider;
+  private String token;
+
+  @Setup
+  public void setUp() {
+    secretKey = Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8));
+    uncachedProvider = new JwtTokenProvider(SECRET, 1, 12, 0);
+    cachedProvider = new JwtTokenProvider(SECRET, 1, 12, 10_000);
+    token = cachedProvider.generateAccessToken(42L, UserRole.USER);
+
+    // 캐시 워밍
+    cachedProvider.authenticate(token);
+  }
+
+  @Benchmark
+  public Object threeParses() {
+    parseWithNewParser(token);
+    Long userId = Long.parseLong(parseWithNewParser(token).getSubject());
+    UserRole role = UserRole.valueOf(parseWithNewParser(token).get("role", String.class));
+    return new JwtPrincipal(userId, role, 0L, 0L);
+  }
+
+  @Benchmark
+  public JwtPrincipal singleParse() {
+    return uncachedProvider.authenticate(token);
+  }
+
+  @Benchmark
+  public JwtPrincipal cachedRepeat() {
+    return cachedProvider.authenticate(token);
+  }
+
+  private Claims parseWithNewParser(String token) {
+    return Jwts.parser()
+        .verifyWith(secretKey)
+        .build()
+        .parseSignedClaims(token)
+        .getPayload();
+  }
+}
@@ -0,0 +1,92 @@
+package com.shoppingmall.ecommerceapi.domain.product.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.shoppingmall.ecommerceapi.common.api.Api;
+import com.shoppingmall.ecommerceapi.common.response.PageRequestDTO;
+import com.shoppingmall.ecommerceapi.common.response.PageResponse;
+import com.shoppingmall.ecommerceapi.config.objectmapper.ObjectMapperConfig;
+import com.shoppingmall.ecommerceapi.domain.product.converter.ProductConverter;
+import com.shoppingmall.ecommerceapi.domain.product.dto.ProductResponse;
+import com.shoppingmall.ecommerceapi.domain.product.entity.Product;
+import com.shoppingmall.ecommerceapi.domain.product.entity.enums.ProductCategory;
+import com.shoppingmall.ecommerceapi.domain.product.entity.enums.ProductStatus;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+
+/**
+ * 상품 목록 응답 1건당 할당량 비교
+ * - perRequest : 기존 방식 (엔티티 → DTO → PageResponse → Api → ObjectMapper 직렬화)
+ * - cachedHit  : ProductJsonCache 히트 (직렬화된 바이트 재사용)
+ * gc 프로파일러의 gc.alloc.rate.norm(B/op)으로 요청당 할당 바이트를 비교
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ProductJsonCacheBenchmark {
+
+  @Param({"10", "50"})
+  private int pageSize;
+
+  private ObjectMapper objectMapper;
+  private ProductConverter productConverter;
+  private ProductJsonCache productJsonCache;
+  private Page<Product> productPage;
+  private PageRequestDTO pageRequestDTO;
+
+  @Setup
+  public void setUp() {
+    objectMapper = new ObjectMapperConfig().objectMapper();
+    productConverter = new ProductConverter();
+    productJsonCache = new ProductJsonCache(objectMapper, 3600, 1000, 1024);
+    pageRequestDTO = PageRequestDTO.builder().page(0).size(pageSize).build();
+
+    List<Product> products = IntStream.rangeClosed(1, pageSize)
+        .mapToObj(i -> Product.builder()
+            .id((long) i)
+            .name("상품" + i)
+            .description("벤치마크용 상품 설명 " + i)
+            .price(1000 * i)
+            .category(ProductCategory.FOOD)
+            .status(ProductStatus.FOR_SALE)
+            .stock(100)
+            .imgSrc("https://example.com/images/product-" + i + ".png")
+            .createdAt(LocalDateTime.now())
+            .updatedAt(LocalDateTime.now())
+            .build())
+        .toList();
+    productPage = new PageImpl<>(products, PageRequest.of(0, pageSize), 1000);
+
+    // 캐시 워밍
+    productJsonCache.getProducts(null, pageRequestDTO, this::buildResponse);
+  }
+
+  @Benchmark
+  public byte[] perRequest() throws Exception {
+    return objectMapper.writeValueAsBytes(buildResponse());
+  }
+
+  @Benchmark
+  public byte[] cachedHit() {
+    return productJsonCache.getProducts(null, pageRequestDTO, this::buildResponse).getJson();
+  }
+
+  private Api<PageResponse<ProductResponse>> buildResponse() {
+    List<ProductResponse> content = productPage.getContent().stream()
+        .map(productConverter::toResponse)
+        .toList();
+    return Api.OK(PageResponse.of(productPage, content, null));
+  }
+}
@@ -19,7 +19,13 @@ public enum CommonErrorCode implements ApiCode {
 
   // 인가 관련 (403)
   FORBIDDEN(HttpStatus.FORBIDDEN.value(), 403, "접근 권한이 없습니다"),
-  ADMIN_REQUIRED(HttpStatus.FORBIDDEN.value(), 403, "관리자 권한이 필요합니다");
+  ADMIN_REQUIRED(HttpStatus.FORBIDDEN.value(), 403, "관리자 권한이 필요합니다"),
+
+  // 요청 빈도 제한 (429)
+  TOO_MANY_REQUESTS(HttpStatus.TOO_MANY_REQUESTS.value(), 429, "요청이 너무 많습니다. 잠시 후 다시 시도해 주세요"),
+
+  // 과부하로 처리 불가 (503)
+  SERVICE_UNAVAILABLE(HttpStatus.SERVICE_UNAVAILABLE.value(), 503, "요청이 몰려 처리할 수 없습니다. 잠시 후 다시 시도해 주세요");
 
   private final Integer httpStatus;
   private final Integer code;
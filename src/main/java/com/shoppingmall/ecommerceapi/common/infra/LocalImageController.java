@@ -0,0 +1,206 @@
+package com.shoppingmall.ecommerceapi.common.infra;
+
+import com.shoppingmall.ecommerceapi.common.api.Api;
+import com.shoppingmall.ecommerceapi.common.code.CommonErrorCode;
+import com.shoppingmall.ecommerceapi.common.exception.BusinessException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.util.UriUtils;
+
+/**
+ * 로컬 저장소 이미지 전송 (storage.type=local)
+ * - Tomcat sendfile을 쓸 수 있으면 파일 경로만 넘겨 커널에서 소켓으로 바로 전송 (힙 복사 없음)
+ * - 그 외에는 FileChannel.transferTo로 전송
+ * - key는 매번 새로 만들어지므로 1년 immutable 캐시, 단일 Range 요청 지원 (206 / 416)
+ * - PUT /upload : LocalStorageService가 발급한 서명 URL로 직접 업로드
+ */
+@RestController
+@RequestMapping(LocalImageController.PATH)
+@ConditionalOnProperty(name = "storage.type", havingValue = "local")
+@RequiredArgsConstructor
+public class LocalImageController {
+
+  static final String PATH = "/open-api/images";
+
+  private static final String CACHE_CONTROL = "public, max-age=31536000, immutable";
+
+  // Tomcat sendfile 요청 속성 (org.apache.tomcat.util.net.Constants / Globals)
+  private static final String SENDFILE_SUPPORTED_ATTR = "org.apache.tomcat.sendfile.support";
+  private static final String SENDFILE_FILENAME_ATTR = "org.apache.tomcat.sendfile.filename";
+  private static final String SENDFILE_START_ATTR = "org.apache.tomcat.sendfile.start";
+  private static final String SENDFILE_END_ATTR = "org.apache.tomcat.sendfile.end";
+  // 작은 파일은 sendfile 준비 비용이 더 큼 (Tomcat DefaultServlet 기본값과 동일)
+  private static final long SENDFILE_MIN_BYTES = 48 * 1024;
+
+  private final LocalStorageService localStorageService;
+
+  // 서명 URL 직접 업로드
+  @PutMapping("/upload")
+  public Api<Void> upload(
+      @RequestParam String key,
+      @RequestParam long expires,
+      @RequestParam String signature,
+      HttpServletRequest request
+  ) throws IOException {
+    if (!localStorageService.verifyUpload(key, request.getContentType(), expires, signature)) {
+      throw new BusinessException(CommonErrorCode.FORBIDDEN);
+    }
+    long length = request.getContentLengthLong();
+    if (length <= 0 || length > localStorageService.getMaxUploadBytes()) {
+      throw new BusinessException(CommonErrorCode.BAD_REQUEST, "업로드 크기 제한을 초과했습니다.");
+    }
+
+    localStorageService.store(key, request.getInputStream());
+    return Api.OK(null);
+  }
+
+  // 이미지 조회
+  @GetMapping("/**")
+  public void serve(HttpServletRequest request, HttpServletResponse response) throws IOException {
+    String key = UriUtils.decode(
+        request.getRequestURI().substring(request.getContextPath().length() + PATH.length() + 1),
+        StandardCharsets.UTF_8);
+    Path file = localStorageService.resolve(key);
+    if (file == null || !Files.isRegularFile(file)) {
+      response.sendError(HttpStatus.NOT_FOUND.value());
+      return;
+    }
+
+    BasicFileAttributes attributes = Files.readAttributes(file, BasicFileAttributes.class);
+    long length = attributes.size();
+    String etag = "\"" + Long.toHexString(attributes.lastModifiedTime().toMillis())
+        + "-" + Long.toHexString(length) + "\"";
+
+    response.setHeader(HttpHeaders.CACHE_CONTROL, CACHE_CONTROL);
+    response.setHeader(HttpHeaders.ETAG, etag);
+    response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+    response.setContentType(contentTypeOf(key));
+
+    if (etag.equals(request.getHeader(HttpHeaders.IF_NONE_MATCH))) {
+      response.setStatus(HttpStatus.NOT_MODIFIED.value());
+      return;
+    }
+
+    long start = 0;
+    long end = length - 1;
+    String range = request.getHeader(HttpHeaders.RANGE);
+    String ifRange = request.getHeader(HttpHeaders.IF_RANGE);
+    if (range != null && (ifRange == null || ifRange.equals(etag))) {
+      long[] parsed = parseRange(range, length);
+      if (parsed == null) {
+        response.setStatus(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE.value());
+        response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + length);
+        return;
+      }
+      if (parsed.length == 2) {
+        start = parsed[0];
+        end = parsed[1];
+        response.setStatus(HttpStatus.PARTIAL_CONTENT.value());
+        response.setHeader(HttpHeaders.CONTENT_RANGE,
+            "bytes " + start + "-" + end + "/" + length);
+      }
+    }
+
+    long count = end - start + 1;
+    response.setContentLengthLong(count);
+    if (count <= 0 || "HEAD".equals(request.getMethod())) {
+      return;
+    }
+
+    if (count >= SENDFILE_MIN_BYTES
+        && Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORTED_ATTR))) {
+      // 응답 본문은 요청 처리가 끝난 뒤 커넥터가 sendfile로 전송 (end는 exclusive)
+      request.setAttribute(SENDFILE_FILENAME_ATTR, file.toAbsolutePath().toString());
+      request.setAttribute(SENDFILE_START_ATTR, start);
+      request.setAttribute(SENDFILE_END_ATTR, end + 1);
+      return;
+    }
+
+    try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+      WritableByteChannel out = Channels.newChannel(response.getOutputStream());
+      long position = start;
+      long remaining = count;
+      while (remaining > 0) {
+        long written = channel.transferTo(position, remaining, out);
+        if (written <= 0) {
+          break;
+        }
+        position += written;
+        remaining -= written;
+      }
+    }
+  }
+
+  /**
+   * Range 헤더 파싱 (단일 범위만 지원)
+   * - {start, end} : 부분 응답
+   * - 빈 배열 : 형식 오류 / 다중 범위 → Range 무시하고 전체 응답
+   * - null : 파일 범위를 벗어남 → 416
+   */
+  static long[] parseRange(String header, long length) {
+    if (!header.startsWith("bytes=") || header.indexOf(',') >= 0) {
+      return new long[0];
+    }
+    String spec = header.substring("bytes=".length()).trim();
+    int dash = spec.indexOf('-');
+    if (dash < 0) {
+      return new long[0];
+    }
+
+    try {
+      String first = spec.substring(0, dash).trim();
+      String last = spec.substring(dash + 1).trim();
+
+      // bytes=-N : 마지막 N바이트
+      if (first.isEmpty()) {
+        long suffix = Long.parseLong(last);
+        if (suffix <= 0 || length == 0) {
+          return null;
+        }
+        return new long[]{Math.max(0, length - suffix), length - 1};
+      }
+
+      long start = Long.parseLong(first);
+      long end = last.isEmpty() ? length - 1 : Math.min(Long.parseLong(last), length - 1);
+      if (start >= length) {
+        return null;
+      }
+      if (end < start) {
+        return new long[0];
+      }
+      return new long[]{start, end};
+
+    } catch (NumberFormatException e) {
+      return new long[0];
+    }
+  }
+
+  private static String contentTypeOf(String key) {
+    String lowercase = key.toLowerCase();
+    if (lowercase.endsWith(".png")) {
+      return "image/png";
+    }
+    if (lowercase.endsWith(".jpg") || lowercase.endsWith(".jpeg")) {
+      return "image/jpeg";
+    }
+    return "application/octet-stream";
+  }
+}
@@ -0,0 +1,332 @@
+package com.shoppingmall.ecommerceapi.common.infra;
+
+import com.shoppingmall.ecommerceapi.common.exception.BusinessException;
+import com.shoppingmall.ecommerceapi.domain.product.exception.ProductErrorCode;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URLDecoder;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.FileSystemException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.security.DigestInputStream;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+/**
+ * 로컬 디스크 저장소 (단일 노드 / 테스트 / 오프라인 부하 테스트용)
+ * - storage.type=local 일 때 S3ServiceImpl 대신 사용
+ * - 실제 바이트는 내용 해시(sha256) 경로(objects/ab/cd/{sha256})에 한 번만 저장하고
+ *   key 경로(files/{key})는 그 파일의 하드 링크 → 같은 이미지를 여러 번 올려도 디스크 사용량 1회분
+ * - key 삭제 시 마지막 링크였으면 내용 파일도 삭제
+ * - 조회는 LocalImageController(/open-api/images/**)가 sendfile로 전송
+ */
+@Slf4j
+@Service
+@ConditionalOnProperty(name = "storage.type", havingValue = "local")
+public class LocalStorageService implements S3Service {
+
+  private static final String DEFAULT_IMG_SRC = "none.png";
+  private static final String HMAC_ALGORITHM = "HmacSHA256";
+
+  private final Path objectsDir;
+  private final Path filesDir;
+  private final Path tmpDir;
+  private final String baseUrl;
+  private final byte[] signingKey;
+  @Getter
+  private final long maxUploadBytes;
+
+  public LocalStorageService(
+      @Value("${storage.local.root:./storage}") String root,
+      @Value("${storage.local.base-url:http://localhost:8080/open-api/images}") String baseUrl,
+      @Value("${storage.local.signing-key:}") String signingKey,
+      @Value("${storage.local.max-upload-bytes:10485760}") long maxUploadBytes
+  ) throws IOException {
+    Path rootDir = Paths.get(root).toAbsolutePath().normalize();
+    this.objectsDir = Files.createDirectories(rootDir.resolve("objects"));
+    this.filesDir = Files.createDirectories(rootDir.resolve("files"));
+    this.tmpDir = Files.createDirectories(rootDir.resolve("tmp"));
+    this.baseUrl = baseUrl.endsWith("/") ? baseUrl.substring(0, baseUrl.length() - 1) : baseUrl;
+    this.signingKey = signingKey.isBlank() ? randomKey() : signingKey.getBytes(StandardCharsets.UTF_8);
+    this.maxUploadBytes = maxUploadBytes;
+  }
+
+  // 파일 업로드
+  @Override
+  public String uploadFile(MultipartFile file) {
+    if (file == null || file.isEmpty()) {
+      return DEFAULT_IMG_SRC;
+    }
+
+    String key = UUID.randomUUID() + "_" + file.getOriginalFilename();
+    try (InputStream in = file.getInputStream()) {
+      return store(key, in);
+    } catch (IOException | IllegalArgumentException e) {
+      log.error("로컬 저장소 업로드 실패: key={}, error={}", key, e.getMessage(), e);
+      throw new BusinessException(ProductErrorCode.PRODUCT_INVALID_IMAGE);
+    }
+  }
+
+  // 바이트 업로드 (리사이즈 이미지 등)
+  @Override
+  public String uploadFile(String key, byte[] bytes, String contentType) {
+    try {
+      return store(key, new ByteArrayInputStream(bytes));
+    } catch (IOException | IllegalArgumentException e) {
+      log.error("로컬 저장소 업로드 실패: key={}, error={}", key, e.getMessage(), e);
+      throw new BusinessException(ProductErrorCode.PRODUCT_INVALID_IMAGE);
+    }
+  }
+
+  // 파일 삭제
+  @Override
+  public void deleteFile(String fileUrl) {
+    if (fileUrl == null || fileUrl.equals(DEFAULT_IMG_SRC) || fileUrl.isBlank()) {
+      return;
+    }
+    if (!fileUrl.startsWith(baseUrl + "/")) {
+      log.warn("로컬 저장소 URL이 아니어서 삭제하지 않음: {}", fileUrl);
+      return;
+    }
+
+    String key = URLDecoder.decode(fileUrl.substring(baseUrl.length() + 1), StandardCharsets.UTF_8);
+    try {
+      delete(key);
+    } catch (IOException e) {
+      log.warn("로컬 저장소 파일 삭제 실패: key={}, error={}", key, e.getMessage());
+    }
+  }
+
+  // 직접 업로드용 PUT URL (HMAC 서명, 만료 시각 포함)
+  @Override
+  public PresignedUpload createPresignedUpload(String key, String contentType, Duration expiry) {
+    Instant expiresAt = Instant.now().plus(expiry);
+    long expires = expiresAt.getEpochSecond();
+
+    String uploadUrl = baseUrl + "/upload"
+        + "?key=" + URLEncoder.encode(key, StandardCharsets.UTF_8)
+        + "&expires=" + expires
+        + "&signature=" + sign(key, contentType, expires);
+    return new PresignedUpload(key, uploadUrl, Map.of("Content-Type", contentType), expiresAt);
+  }
+
+  @Override
+  public boolean exists(String key) {
+    Path file = resolve(key);
+    return file != null && Files.isRegularFile(file);
+  }
+
+  @Override
+  public void downloadFile(String key, Path target) {
+    Path file = resolve(key);
+    if (file == null) {
+      throw new IllegalArgumentException("잘못된 key: " + key);
+    }
+    try {
+      Files.copy(file, target, StandardCopyOption.REPLACE_EXISTING);
+    } catch (IOException e) {
+      throw new IllegalStateException("로컬 저장소 파일 읽기 실패: " + key, e);
+    }
+  }
+
+  @Override
+  public String getFileUrl(String key) {
+    return baseUrl + "/" + key;
+  }
+
+  // key 경로(files/) 순회 - 내용 파일(objects/)은 key 삭제 시 함께 정리됨
+  @Override
+  public void forEachFile(String prefix, Consumer<StoredFile> consumer) {
+    try (Stream<Path> files = Files.walk(filesDir)) {
+      files.filter(Files::isRegularFile).forEach(file -> {
+        String key = filesDir.relativize(file).toString()
+            .replace(file.getFileSystem().getSeparator(), "/");
+        if (!key.startsWith(prefix)) {
+          return;
+        }
+        try {
+          BasicFileAttributes attributes = Files.readAttributes(file, BasicFileAttributes.class);
+          consumer.accept(new StoredFile(key, getFileUrl(key),
+              attributes.lastModifiedTime().toInstant()));
+        } catch (IOException e) {
+          log.warn("로컬 저장소 파일 정보 조회 실패: key={}", key);
+        }
+      });
+    } catch (IOException e) {
+      throw new IllegalStateException("로컬 저장소 목록 조회 실패", e);
+    }
+  }
+
+  @Override
+  public int deleteFiles(List<String> fileUrls) {
+    int deleted = 0;
+    for (String fileUrl : fileUrls) {
+      if (!fileUrl.startsWith(baseUrl + "/")) {
+        continue;
+      }
+      String key = URLDecoder.decode(fileUrl.substring(baseUrl.length() + 1), StandardCharsets.UTF_8);
+      if (exists(key)) {
+        deleteFile(fileUrl);
+        deleted++;
+      }
+    }
+    return deleted;
+  }
+
+  /**
+   * key → 실제 파일 경로 (저장소 밖을 가리키는 key는 null)
+   */
+  public Path resolve(String key) {
+    if (key == null || key.isBlank()) {
+      return null;
+    }
+    Path file = filesDir.resolve(key).normalize();
+    return file.startsWith(filesDir) && !file.equals(filesDir) ? file : null;
+  }
+
+  /**
+   * 입력 스트림을 내용 해시 경로에 저장하고 key 경로를 하드 링크로 연결
+   */
+  public String store(String key, InputStream in) throws IOException {
+    Path target = resolve(key);
+    if (target == null) {
+      throw new IllegalArgumentException("잘못된 key: " + key);
+    }
+
+    // 임시 파일로 받으면서 해시 계산
+    MessageDigest digest = sha256();
+    Path tmp = Files.createTempFile(tmpDir, "upload-", null);
+    try {
+      try (InputStream source = new DigestInputStream(in, digest)) {
+        Files.copy(source, tmp, StandardCopyOption.REPLACE_EXISTING);
+      }
+
+      Path blob = blobPath(HexFormat.of().formatHex(digest.digest()));
+      Files.createDirectories(blob.getParent());
+      if (Files.exists(blob)) {
+        Files.delete(tmp);
+      } else {
+        try {
+          Files.move(tmp, blob);
+        } catch (FileAlreadyExistsException e) {
+          // 같은 내용이 동시에 올라온 경우
+          Files.deleteIfExists(tmp);
+        }
+      }
+
+      Files.createDirectories(target.getParent());
+      Files.deleteIfExists(target);
+      try {
+        Files.createLink(target, blob);
+      } catch (UnsupportedOperationException | FileSystemException e) {
+        // 하드 링크를 지원하지 않는 파일 시스템이면 복사
+        Files.copy(blob, target, StandardCopyOption.REPLACE_EXISTING);
+      }
+      return getFileUrl(key);
+
+    } finally {
+      Files.deleteIfExists(tmp);
+    }
+  }
+
+  /**
+   * 서명된 업로드 요청 검증 (만료 시각 / key / Content-Type 변조 여부)
+   */
+  public boolean verifyUpload(String key, String contentType, long expires, String signature) {
+    if (signature == null || contentType == null || Instant.now().getEpochSecond() > expires) {
+      return false;
+    }
+    return MessageDigest.isEqual(
+        sign(key, contentType, expires).getBytes(StandardCharsets.US_ASCII),
+        signature.getBytes(StandardCharsets.US_ASCII));
+  }
+
+  private void delete(String key) throws IOException {
+    Path file = resolve(key);
+    if (file == null || !Files.isRegularFile(file)) {
+      return;
+    }
+
+    Path blob = blobPath(hashOf(file));
+    Files.delete(file);
+
+    // 다른 key가 같은 내용을 참조하지 않으면 내용 파일도 삭제 (링크 수를 알 수 없으면 유지)
+    if (Files.exists(blob) && linkCount(blob) == 1) {
+      Files.deleteIfExists(blob);
+    }
+  }
+
+  private Path blobPath(String hash) {
+    return objectsDir.resolve(hash.substring(0, 2)).resolve(hash.substring(2, 4)).resolve(hash);
+  }
+
+  private static String hashOf(Path file) throws IOException {
+    MessageDigest digest = sha256();
+    try (InputStream in = new DigestInputStream(Files.newInputStream(file), digest)) {
+      in.transferTo(OutputStream.nullOutputStream());
+    }
+    return HexFormat.of().formatHex(digest.digest());
+  }
+
+  private static int linkCount(Path file) {
+    try {
+      return (Integer) Files.getAttribute(file, "unix:nlink");
+    } catch (UnsupportedOperationException | IllegalArgumentException | IOException e) {
+      return -1;
+    }
+  }
+
+  private String sign(String key, String contentType, long expires) {
+    try {
+      Mac mac = Mac.getInstance(HMAC_ALGORITHM);
+      mac.init(new SecretKeySpec(signingKey, HMAC_ALGORITHM));
+      byte[] signature = mac.doFinal((key + "\n" + contentType + "\n" + expires)
+          .getBytes(StandardCharsets.UTF_8));
+      return Base64.getUrlEncoder().withoutPadding().encodeToString(signature);
+    } catch (GeneralSecurityException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  private static MessageDigest sha256() {
+    try {
+      return MessageDigest.getInstance("SHA-256");
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  private static byte[] randomKey() {
+    // 서명 키를 지정하지 않으면 기동 시마다 새로 생성 (재시작 전 발급한 URL은 무효)
+    byte[] key = new byte[32];
+    new SecureRandom().nextBytes(key);
+    return key;
+  }
+}
@@ -0,0 +1,20 @@
+package com.shoppingmall.ecommerceapi.common.infra;
+
+import java.time.Instant;
+import java.util.Map;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 저장소 직접 업로드용 서명된 PUT URL
+ * - 클라이언트는 uploadUrl로 PUT 하면서 headers를 그대로 함께 보내야 함 (서명에 포함됨)
+ */
+@Getter
+@AllArgsConstructor
+public class PresignedUpload {
+
+  private final String key;
+  private final String uploadUrl;
+  private final Map<String, String> headers;
+  private final Instant expiresAt;
+}
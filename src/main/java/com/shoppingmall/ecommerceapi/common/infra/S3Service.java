@@ -1,5 +1,9 @@
 package com.shoppingmall.ecommerceapi.common.infra;
 
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.function.Consumer;
 import org.springframework.web.multipart.MultipartFile;
 
 public interface S3Service {
@@ -7,6 +11,27 @@ public interface S3Service {
   // 파일 업로드
   String uploadFile(MultipartFile file);
 
+  // 바이트 업로드 (저장 key 지정) - 업로드된 파일 URL 반환
+  String uploadFile(String key, byte[] bytes, String contentType);
+
   // 파일 삭제
   void deleteFile(String fileUrl);
-}
\ No newline at end of file
+
+  // 직접 업로드용 PUT URL 발급 (서버에서 서명만 계산, 네트워크 호출 없음)
+  PresignedUpload createPresignedUpload(String key, String contentType, Duration expiry);
+
+  // 파일 존재 여부
+  boolean exists(String key);
+
+  // 파일 내려받기 (이미지 후처리용)
+  void downloadFile(String key, Path target);
+
+  // key → 공개 URL
+  String getFileUrl(String key);
+
+  // prefix 하위 파일 전체 순회 (목록을 메모리에 모으지 않고 페이지 단위로 전달)
+  void forEachFile(String prefix, Consumer<StoredFile> consumer);
+
+  // 파일 여러 개 삭제, 삭제된 개수 반환
+  int deleteFiles(List<String> fileUrls);
+}
@@ -1,22 +1,43 @@
 package com.shoppingmall.ecommerceapi.common.infra;
 
+import com.amazonaws.HttpMethod;
 import com.amazonaws.services.s3.AmazonS3;
 import com.amazonaws.services.s3.model.CannedAccessControlList;
+import com.amazonaws.services.s3.model.DeleteObjectsRequest;
+import com.amazonaws.services.s3.model.DeleteObjectsRequest.KeyVersion;
+import com.amazonaws.services.s3.model.GeneratePresignedUrlRequest;
+import com.amazonaws.services.s3.model.GetObjectRequest;
+import com.amazonaws.services.s3.model.ListObjectsV2Request;
+import com.amazonaws.services.s3.model.ListObjectsV2Result;
+import com.amazonaws.services.s3.model.MultiObjectDeleteException;
 import com.amazonaws.services.s3.model.ObjectMetadata;
 import com.amazonaws.services.s3.model.PutObjectRequest;
+import com.amazonaws.services.s3.model.S3ObjectSummary;
 import com.shoppingmall.ecommerceapi.common.exception.BusinessException;
 import com.shoppingmall.ecommerceapi.domain.product.exception.ProductErrorCode;
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.function.Consumer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
+@ConditionalOnProperty(name = "storage.type", havingValue = "s3", matchIfMissing = true)
 public class S3ServiceImpl implements S3Service {
 
   private final AmazonS3 amazonS3;
@@ -49,7 +70,7 @@ public class S3ServiceImpl implements S3Service {
       return amazonS3.getUrl(bucket, fileName).toString();
 
     } catch (IOException e) {
-      System.err.println("S3 업로드 에러: " + e.getMessage());
+      log.error("S3 업로드 에러: fileName={}, error={}", fileName, e.getMessage(), e);
       throw new BusinessException(ProductErrorCode.PRODUCT_INVALID_IMAGE);
     } catch (Exception e) {
       // S3/AWS 예외 포함한 모든 예외를 로깅
@@ -58,6 +79,25 @@ public class S3ServiceImpl implements S3Service {
     }
   }
 
+  // 바이트 업로드 (리사이즈 이미지 등)
+  @Override
+  public String uploadFile(String key, byte[] bytes, String contentType) {
+    ObjectMetadata metadata = new ObjectMetadata();
+    metadata.setContentType(contentType);
+    metadata.setContentLength(bytes.length);
+    // key가 매번 새로 만들어지므로 브라우저/CDN에서 오래 캐시해도 안전
+    metadata.setCacheControl("public, max-age=31536000, immutable");
+
+    try {
+      amazonS3.putObject(new PutObjectRequest(bucket, key, new ByteArrayInputStream(bytes), metadata)
+          .withCannedAcl(CannedAccessControlList.PublicRead));
+      return amazonS3.getUrl(bucket, key).toString();
+    } catch (Exception e) {
+      log.error("S3 업로드 실패: bucket={}, key={}, error={}", bucket, key, e.getMessage(), e);
+      throw new BusinessException(ProductErrorCode.PRODUCT_INVALID_IMAGE);
+    }
+  }
+
   // 파일 삭제
   @Override
   public void deleteFile(String fileUrl) {
@@ -66,11 +106,89 @@ public class S3ServiceImpl implements S3Service {
     }
 
     try {
-      // URL에서 마지막 '/' 뒤의 문자열(파일명/Key)만 추출
-      String key = fileUrl.substring(fileUrl.lastIndexOf("/") + 1);
-      amazonS3.deleteObject(bucket, key);
+      amazonS3.deleteObject(bucket, extractKey(fileUrl));
     } catch (Exception e) {
-      System.err.println("S3 파일 삭제 실패: " + e.getMessage());
+      log.warn("S3 파일 삭제 실패: fileUrl={}, error={}", fileUrl, e.getMessage());
+    }
+  }
+
+  // 직접 업로드용 PUT URL (SigV4 서명을 로컬에서 계산)
+  @Override
+  public PresignedUpload createPresignedUpload(String key, String contentType, Duration expiry) {
+    Instant expiresAt = Instant.now().plus(expiry);
+
+    GeneratePresignedUrlRequest request = new GeneratePresignedUrlRequest(bucket, key, HttpMethod.PUT)
+        .withExpiration(Date.from(expiresAt))
+        .withContentType(contentType);
+    // 서버 업로드와 같이 공개 읽기 권한으로 저장
+    request.putCustomRequestHeader("x-amz-acl", CannedAccessControlList.PublicRead.toString());
+
+    Map<String, String> headers = Map.of(
+        "Content-Type", contentType,
+        "x-amz-acl", CannedAccessControlList.PublicRead.toString());
+
+    return new PresignedUpload(key, amazonS3.generatePresignedUrl(request).toString(), headers,
+        expiresAt);
+  }
+
+  @Override
+  public boolean exists(String key) {
+    return amazonS3.doesObjectExist(bucket, key);
+  }
+
+  @Override
+  public void downloadFile(String key, Path target) {
+    amazonS3.getObject(new GetObjectRequest(bucket, key), target.toFile());
+  }
+
+  @Override
+  public String getFileUrl(String key) {
+    return amazonS3.getUrl(bucket, key).toString();
+  }
+
+  // 버킷 목록 조회 (ListObjectsV2, 1000개씩 페이지 단위)
+  @Override
+  public void forEachFile(String prefix, Consumer<StoredFile> consumer) {
+    ListObjectsV2Request request = new ListObjectsV2Request()
+        .withBucketName(bucket)
+        .withPrefix(prefix);
+    ListObjectsV2Result result;
+    do {
+      result = amazonS3.listObjectsV2(request);
+      for (S3ObjectSummary summary : result.getObjectSummaries()) {
+        consumer.accept(new StoredFile(summary.getKey(),
+            amazonS3.getUrl(bucket, summary.getKey()).toString(),
+            summary.getLastModified().toInstant()));
+      }
+      request.setContinuationToken(result.getNextContinuationToken());
+    } while (result.isTruncated());
+  }
+
+  // 여러 파일을 요청 한 번으로 삭제 (DeleteObjects, 최대 1000개)
+  @Override
+  public int deleteFiles(List<String> fileUrls) {
+    if (fileUrls.isEmpty()) {
+      return 0;
+    }
+    List<KeyVersion> keys = fileUrls.stream()
+        .map(url -> new KeyVersion(extractKey(url)))
+        .toList();
+
+    try {
+      amazonS3.deleteObjects(new DeleteObjectsRequest(bucket).withKeys(keys).withQuiet(true));
+      return keys.size();
+    } catch (MultiObjectDeleteException e) {
+      log.warn("S3 일괄 삭제 일부 실패: 요청={}, 실패={}", keys.size(), e.getErrors().size());
+      return keys.size() - e.getErrors().size();
+    }
+  }
+
+  // 업로드 URL → S3 key (버킷 URL 하위 경로 전체, 이전 방식 URL은 마지막 '/' 뒤 파일명)
+  private String extractKey(String fileUrl) {
+    String bucketUrl = amazonS3.getUrl(bucket, "").toString();
+    if (fileUrl.startsWith(bucketUrl)) {
+      return URLDecoder.decode(fileUrl.substring(bucketUrl.length()), StandardCharsets.UTF_8);
     }
+    return fileUrl.substring(fileUrl.lastIndexOf("/") + 1);
   }
-}
\ No newline at end of file
+}
@@ -0,0 +1,17 @@
+package com.shoppingmall.ecommerceapi.common.infra;
+
+import java.time.Instant;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 저장소 파일 목록 항목
+ */
+@Getter
+@AllArgsConstructor
+public class StoredFile {
+
+  private final String key;
+  private final String url;
+  private final Instant lastModified;
+}
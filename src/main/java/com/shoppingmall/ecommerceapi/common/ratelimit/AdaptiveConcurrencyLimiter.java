@@ -0,0 +1,109 @@
+package com.shoppingmall.ecommerceapi.common.ratelimit;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 응답 지연에 따라 동시 처리 한도를 조절하는 리미터 (스레드 안전)
+ * - 구간(window-size개 요청) 평균 지연을 장기 평균 지연과 비교해 기울기(gradient) 계산
+ * - 지연이 장기 평균 x tolerance 보다 커지면 한도를 비율만큼 줄이고 (최대 절반), 아니면 √한도만큼 늘림
+ * - 한도의 절반도 쓰지 않은 구간에서는 늘리지 않음 (부하 없이 한도만 커지는 것 방지)
+ */
+public class AdaptiveConcurrencyLimiter {
+
+  // 새 한도를 반영하는 비율 (구간마다 급변하지 않도록)
+  private static final double SMOOTHING = 0.2;
+
+  // 장기 평균 지연이 따라가는 구간 수
+  private static final int LONG_WINDOW = 600;
+
+  private final int minLimit;
+  private final int maxLimit;
+  private final double tolerance;
+  private final int windowSize;
+
+  private final AtomicInteger inFlight = new AtomicInteger();
+  private volatile int limit;
+
+  // 아래는 this 로 보호
+  private double estimatedLimit;
+  private double longRttNanos;
+  private long windowSumNanos;
+  private int windowCount;
+  private int windowMaxInFlight;
+
+  public AdaptiveConcurrencyLimiter(int initialLimit, int minLimit, int maxLimit, double tolerance,
+      int windowSize) {
+    this.minLimit = minLimit;
+    this.maxLimit = maxLimit;
+    this.tolerance = tolerance;
+    this.windowSize = windowSize;
+    this.estimatedLimit = Math.max(minLimit, Math.min(maxLimit, initialLimit));
+    this.limit = (int) estimatedLimit;
+  }
+
+  /**
+   * 한도 안이면 슬롯을 잡고 true - true를 받았으면 반드시 release 호출
+   */
+  public boolean tryAcquire() {
+    while (true) {
+      int current = inFlight.get();
+      if (current >= limit) {
+        return false;
+      }
+      if (inFlight.compareAndSet(current, current + 1)) {
+        return true;
+      }
+    }
+  }
+
+  /**
+   * 슬롯 반납 + 처리 시간 기록
+   */
+  public void release(long rttNanos) {
+    int inFlightBeforeRelease = inFlight.getAndDecrement();
+    onSample(rttNanos, inFlightBeforeRelease);
+  }
+
+  public int getLimit() {
+    return limit;
+  }
+
+  public int getInFlight() {
+    return inFlight.get();
+  }
+
+  private synchronized void onSample(long rttNanos, int inFlightBeforeRelease) {
+    windowSumNanos += rttNanos;
+    windowCount++;
+    windowMaxInFlight = Math.max(windowMaxInFlight, inFlightBeforeRelease);
+    if (windowCount < windowSize) {
+      return;
+    }
+
+    double shortRtt = Math.max(1, (double) windowSumNanos / windowCount);
+    int maxInFlight = windowMaxInFlight;
+    windowSumNanos = 0;
+    windowCount = 0;
+    windowMaxInFlight = 0;
+
+    if (longRttNanos == 0) {
+      longRttNanos = shortRtt;
+    } else {
+      longRttNanos += (shortRtt - longRttNanos) / LONG_WINDOW;
+    }
+    // 과부하가 풀려 지연이 평소의 절반 아래로 떨어지면 장기 평균도 빨리 따라 내려감
+    if (longRttNanos > shortRtt * 2) {
+      longRttNanos *= 0.95;
+    }
+
+    if (maxInFlight * 2 < estimatedLimit) {
+      return;
+    }
+
+    double gradient = Math.max(0.5, Math.min(1.0, tolerance * longRttNanos / shortRtt));
+    double newLimit = estimatedLimit * gradient + Math.sqrt(estimatedLimit);
+    newLimit = estimatedLimit * (1 - SMOOTHING) + newLimit * SMOOTHING;
+    estimatedLimit = Math.max(minLimit, Math.min(maxLimit, newLimit));
+    limit = (int) estimatedLimit;
+  }
+}
@@ -0,0 +1,91 @@
+package com.shoppingmall.ecommerceapi.common.ratelimit;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.shoppingmall.ecommerceapi.common.api.Api;
+import com.shoppingmall.ecommerceapi.common.code.CommonErrorCode;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.PathContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+/**
+ * 주문 생성/결제 요청 동시 처리 한도 (요청 빈도 제한 다음)
+ * - MySQL/Redis가 느려져 응답 지연이 늘면 한도가 줄어듦 → 락 대기로 Tomcat 스레드가 쌓이기 전에 차단
+ * - 한도 초과 요청은 바로 503 + Retry-After(초)
+ */
+@Slf4j
+@Component
+public class ConcurrencyLimitFilter extends OncePerRequestFilter {
+
+  private final ObjectMapper objectMapper;
+  private final boolean enabled;
+  private final List<PathPattern> patterns;
+  private final long retryAfterSeconds;
+  private final AdaptiveConcurrencyLimiter limiter;
+
+  public ConcurrencyLimitFilter(
+      ObjectMapper objectMapper,
+      @Value("${concurrency-limit.enabled:true}") boolean enabled,
+      @Value("${concurrency-limit.paths:/api/orders,/api/carts/checkout}") List<String> paths,
+      @Value("${concurrency-limit.initial-limit:20}") int initialLimit,
+      @Value("${concurrency-limit.min-limit:4}") int minLimit,
+      @Value("${concurrency-limit.max-limit:200}") int maxLimit,
+      @Value("${concurrency-limit.tolerance:1.5}") double tolerance,
+      @Value("${concurrency-limit.window-size:10}") int windowSize,
+      @Value("${concurrency-limit.retry-after-seconds:1}") long retryAfterSeconds) {
+    this.objectMapper = objectMapper;
+    this.enabled = enabled;
+    this.patterns = paths.stream().map(PathPatternParser.defaultInstance::parse).toList();
+    this.retryAfterSeconds = retryAfterSeconds;
+    this.limiter = new AdaptiveConcurrencyLimiter(initialLimit, minLimit, maxLimit, tolerance,
+        windowSize);
+  }
+
+  @Override
+  protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+      FilterChain filterChain) throws ServletException, IOException {
+    if (!limiter.tryAcquire()) {
+      log.debug("동시 처리 한도 초과: uri={}, limit={}", request.getRequestURI(), limiter.getLimit());
+      sendServiceUnavailable(response);
+      return;
+    }
+
+    long startedAt = System.nanoTime();
+    try {
+      filterChain.doFilter(request, response);
+    } finally {
+      limiter.release(System.nanoTime() - startedAt);
+    }
+  }
+
+  @Override
+  protected boolean shouldNotFilter(HttpServletRequest request) {
+    if (!enabled || !HttpMethod.POST.matches(request.getMethod())) {
+      return true;
+    }
+    PathContainer path = PathContainer.parsePath(
+        request.getRequestURI().substring(request.getContextPath().length()));
+    return patterns.stream().noneMatch(pattern -> pattern.matches(path));
+  }
+
+  private void sendServiceUnavailable(HttpServletResponse response) throws IOException {
+    response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+    response.setCharacterEncoding("UTF-8");
+    response.setStatus(CommonErrorCode.SERVICE_UNAVAILABLE.getHttpStatus());
+    response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+    response.getWriter().write(objectMapper.writeValueAsString(
+        Api.ERROR(CommonErrorCode.SERVICE_UNAVAILABLE)));
+  }
+}
@@ -0,0 +1,203 @@
+package com.shoppingmall.ecommerceapi.common.ratelimit;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.shoppingmall.ecommerceapi.common.api.Api;
+import com.shoppingmall.ecommerceapi.common.code.CommonErrorCode;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.PathContainer;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.web.util.matcher.IpAddressMatcher;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+/**
+ * 라우트 그룹별 요청 빈도 제한 (JWT 인증 필터 다음, 컨트롤러 이전)
+ * - 키: 인증된 요청은 userId, 아니면 클라이언트 IP
+ *   (신뢰하는 프록시를 거친 요청은 X-Forwarded-For를 오른쪽부터 읽어 처음 나오는 외부 주소)
+ * - 1차 서버 로컬 토큰 버킷 → 통과한 요청만 2차 Redis 토큰 버킷 (한 서버로 몰리는 폭주는 Redis까지 가지 않음)
+ * - 초과 시 429 + Retry-After(초), Redis 장애 시 로컬 버킷만으로 통과 (fail-open)
+ */
+@Slf4j
+@Component
+public class RateLimitFilter extends OncePerRequestFilter {
+
+  private static final Pattern IP_LITERAL = Pattern.compile("^[0-9A-Fa-f:.]+$");
+
+  private final RateLimitProperties properties;
+  private final RedisRateLimiter redisRateLimiter;
+  private final ObjectMapper objectMapper;
+  private final List<Route> routes;
+  private final List<IpAddressMatcher> trustedProxies;
+
+  // "그룹:키" → 로컬 버킷
+  private final Map<String, TokenBucket> localBuckets = new ConcurrentHashMap<>();
+
+  private record Route(String name, RateLimitProperties.Group limit, List<PathPattern> patterns,
+                       List<String> methods) {
+
+    boolean matches(String method, PathContainer path) {
+      return (methods.isEmpty() || methods.contains(method))
+          && patterns.stream().anyMatch(pattern -> pattern.matches(path));
+    }
+  }
+
+  public RateLimitFilter(RateLimitProperties properties, RedisRateLimiter redisRateLimiter,
+      ObjectMapper objectMapper) {
+    this.properties = properties;
+    this.redisRateLimiter = redisRateLimiter;
+    this.objectMapper = objectMapper;
+    this.routes = properties.getGroups().entrySet().stream()
+        .map(entry -> new Route(entry.getKey(), entry.getValue(),
+            entry.getValue().getPaths().stream().map(PathPatternParser.defaultInstance::parse).toList(),
+            entry.getValue().getMethods().stream().map(m -> m.toUpperCase(Locale.ROOT)).toList()))
+        .toList();
+    this.trustedProxies = properties.getTrustedProxies().stream()
+        .map(IpAddressMatcher::new)
+        .toList();
+  }
+
+  @Override
+  protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+      FilterChain filterChain) throws ServletException, IOException {
+    Route route = findRoute(request);
+    if (route != null) {
+      String key = clientKey(request);
+      long retryAfterMillis = tryAcquire(route, key);
+      if (retryAfterMillis > 0) {
+        log.debug("요청 빈도 제한: group={}, key={}, retryAfter={}ms", route.name(), key,
+            retryAfterMillis);
+        sendTooManyRequests(response, retryAfterMillis);
+        return;
+      }
+    }
+    filterChain.doFilter(request, response);
+  }
+
+  @Override
+  protected boolean shouldNotFilter(HttpServletRequest request) {
+    return !properties.isEnabled() || routes.isEmpty();
+  }
+
+  private Route findRoute(HttpServletRequest request) {
+    PathContainer path = PathContainer.parsePath(
+        request.getRequestURI().substring(request.getContextPath().length()));
+    String method = request.getMethod();
+    for (Route route : routes) {
+      if (route.matches(method, path)) {
+        return route;
+      }
+    }
+    return null;
+  }
+
+  /**
+   * 허용이면 0, 제한이면 다음 요청 가능까지 남은 시간(ms)
+   */
+  private long tryAcquire(Route route, String key) {
+    long now = System.nanoTime();
+    String bucketKey = route.name() + ":" + key;
+    TokenBucket bucket = localBuckets.get(bucketKey);
+    if (bucket == null) {
+      bucket = new TokenBucket(route.limit().getCapacity(), route.limit().getRefillPerSecond(), now);
+      if (hasRoom(now, route.limit())) {
+        TokenBucket existing = localBuckets.putIfAbsent(bucketKey, bucket);
+        bucket = existing != null ? existing : bucket;
+      }
+    }
+    long localRetry = bucket.tryAcquire(now);
+    if (localRetry > 0) {
+      return localRetry;
+    }
+
+    try {
+      return redisRateLimiter.tryAcquire(route.name(), key, route.limit());
+    } catch (Exception e) {
+      // Redis 장애가 주문/장바구니 장애로 번지지 않도록 로컬 제한만 적용
+      log.warn("Redis 요청 빈도 제한 실패 - 로컬 제한만 적용: {}", e.getMessage());
+      return 0;
+    }
+  }
+
+  /**
+   * 가득 차면 가득 찰 만큼 충분히 쉰 버킷(= 새 버킷과 같은 상태)부터 정리, 그래도 가득 차면 저장하지 않음
+   */
+  private boolean hasRoom(long now, RateLimitProperties.Group limit) {
+    if (localBuckets.size() < properties.getLocalMaxBuckets()) {
+      return true;
+    }
+    long idleNanos = (long) (limit.getCapacity() / limit.getRefillPerSecond() * 1_000_000_000d);
+    localBuckets.values().removeIf(bucket -> now - bucket.lastUsedNanos() > idleNanos);
+    return localBuckets.size() < properties.getLocalMaxBuckets();
+  }
+
+  private String clientKey(HttpServletRequest request) {
+    Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+    if (authentication != null && authentication.getPrincipal() instanceof Long userId) {
+      return "user:" + userId;
+    }
+    return "ip:" + clientIp(request);
+  }
+
+  /**
+   * 신뢰하는 프록시에서 온 요청만 X-Forwarded-For 사용 (그 외에는 클라이언트가 조작할 수 있으므로 무시)
+   * - 오른쪽(가까운 프록시)부터 신뢰 프록시를 건너뛰고 처음 나오는 주소가 실제 클라이언트
+   */
+  private String clientIp(HttpServletRequest request) {
+    String remoteAddr = request.getRemoteAddr();
+    String forwardedFor = request.getHeader("X-Forwarded-For");
+    if (forwardedFor == null || !isTrustedProxy(remoteAddr)) {
+      return remoteAddr;
+    }
+    String[] hops = forwardedFor.split(",");
+    String clientIp = remoteAddr;
+    for (int i = hops.length - 1; i >= 0; i--) {
+      String hop = hops[i].trim();
+      if (hop.isEmpty()) {
+        break;
+      }
+      clientIp = hop;
+      if (!isTrustedProxy(hop)) {
+        break;
+      }
+    }
+    return clientIp;
+  }
+
+  // IP 형식이 아닌 값(조작된 헤더, 호스트명)은 DNS 조회 없이 신뢰하지 않음
+  private boolean isTrustedProxy(String address) {
+    if (address == null || !IP_LITERAL.matcher(address).matches()) {
+      return false;
+    }
+    try {
+      return trustedProxies.stream().anyMatch(matcher -> matcher.matches(address));
+    } catch (IllegalArgumentException e) {
+      return false;
+    }
+  }
+
+  private void sendTooManyRequests(HttpServletResponse response, long retryAfterMillis)
+      throws IOException {
+    response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+    response.setCharacterEncoding("UTF-8");
+    response.setStatus(CommonErrorCode.TOO_MANY_REQUESTS.getHttpStatus());
+    response.setHeader(HttpHeaders.RETRY_AFTER,
+        String.valueOf(Math.max(1, (retryAfterMillis + 999) / 1000)));
+    response.getWriter().write(objectMapper.writeValueAsString(
+        Api.ERROR(CommonErrorCode.TOO_MANY_REQUESTS)));
+  }
+}
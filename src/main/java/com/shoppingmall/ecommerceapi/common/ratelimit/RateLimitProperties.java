@@ -0,0 +1,45 @@
+package com.shoppingmall.ecommerceapi.common.ratelimit;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 요청 빈도 제한 설정 (rate-limit.*)
+ * - 라우트 그룹별 토큰 버킷: capacity개까지 연속 허용, 초당 refill-per-second개 충전
+ * - 그룹은 선언 순서대로 검사해 처음 일치한 그룹 하나만 적용
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "rate-limit")
+public class RateLimitProperties {
+
+  private boolean enabled = true;
+
+  // 서버별 로컬 버킷 최대 개수 (가득 차면 오래 안 쓴 버킷부터 정리)
+  private int localMaxBuckets = 100_000;
+
+  // 앞단 프록시(로드밸런서) 주소 대역 (CIDR) - 여기서 온 요청만 X-Forwarded-For로 실제 IP를 찾음
+  private List<String> trustedProxies = new ArrayList<>();
+
+  private Map<String, Group> groups = new LinkedHashMap<>();
+
+  @Getter
+  @Setter
+  public static class Group {
+
+    // PathPattern 형식 (/api/orders, /api/carts/**)
+    private List<String> paths = new ArrayList<>();
+
+    // 비어 있으면 모든 메서드
+    private List<String> methods = new ArrayList<>();
+
+    private int capacity = 10;
+
+    private double refillPerSecond = 1.0;
+  }
+}
@@ -0,0 +1,59 @@
+package com.shoppingmall.ecommerceapi.common.ratelimit;
+
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+/**
+ * 클러스터 전체 토큰 버킷 (Redis Lua 스크립트 1번)
+ * - rate:{그룹}:{키} = Hash(tokens, ts), 시각은 Redis TIME 기준 (서버 간 시계 차이 무관)
+ * - 가득 찰 때까지 걸리는 시간이 지나면 키 만료 (버킷이 가득 찬 것과 같은 상태)
+ */
+@Component
+@RequiredArgsConstructor
+public class RedisRateLimiter {
+
+  private static final String KEY_PREFIX = "rate:";
+
+  // ARGV = capacity, 초당 충전량 / 결과: {허용 1/0, 다음 토큰까지 남은 ms}
+  @SuppressWarnings("rawtypes")
+  private static final RedisScript<List> TOKEN_BUCKET_SCRIPT = new DefaultRedisScript<>("""
+      local capacity = tonumber(ARGV[1])
+      local rate = tonumber(ARGV[2])
+      local time = redis.call('TIME')
+      local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+      local state = redis.call('HMGET', KEYS[1], 'tokens', 'ts')
+      local tokens = tonumber(state[1]) or capacity
+      local ts = tonumber(state[2]) or now
+      tokens = math.min(capacity, tokens + math.max(0, now - ts) * rate / 1000)
+      local allowed, retry = 0, 0
+      if tokens >= 1 then
+        tokens = tokens - 1
+        allowed = 1
+      else
+        retry = math.ceil((1 - tokens) * 1000 / rate)
+      end
+      redis.call('HSET', KEYS[1], 'tokens', tostring(tokens), 'ts', now)
+      redis.call('PEXPIRE', KEYS[1], math.ceil(capacity * 1000 / rate) + 1000)
+      return {allowed, retry}
+      """, List.class);
+
+  private final StringRedisTemplate redisTemplate;
+
+  /**
+   * 토큰 1개를 꺼내면 0, 부족하면 다음 토큰까지 남은 시간(ms) - Redis 오류는 그대로 전파
+   */
+  @SuppressWarnings("unchecked")
+  public long tryAcquire(String group, String key, RateLimitProperties.Group limit) {
+    List<Long> result = redisTemplate.execute(TOKEN_BUCKET_SCRIPT,
+        List.of(KEY_PREFIX + group + ":" + key),
+        String.valueOf(limit.getCapacity()), String.valueOf(limit.getRefillPerSecond()));
+    if (result == null || result.size() < 2 || result.get(0) == 1L) {
+      return 0;
+    }
+    return Math.max(1, result.get(1));
+  }
+}
@@ -0,0 +1,41 @@
+package com.shoppingmall.ecommerceapi.common.ratelimit;
+
+/**
+ * 서버 로컬 토큰 버킷 (스레드 안전)
+ * - 꺼낼 때 경과 시간만큼 충전하므로 별도 타이머 없음
+ */
+public class TokenBucket {
+
+  private final int capacity;
+  private final double refillPerNano;
+
+  private double tokens;
+  private long refilledAtNanos;
+  private volatile long lastUsedNanos;
+
+  public TokenBucket(int capacity, double refillPerSecond, long nowNanos) {
+    this.capacity = capacity;
+    this.refillPerNano = refillPerSecond / 1_000_000_000d;
+    this.tokens = capacity;
+    this.refilledAtNanos = nowNanos;
+    this.lastUsedNanos = nowNanos;
+  }
+
+  /**
+   * 토큰 1개를 꺼내면 0, 부족하면 다음 토큰까지 남은 시간(ms)
+   */
+  public synchronized long tryAcquire(long nowNanos) {
+    lastUsedNanos = nowNanos;
+    tokens = Math.min(capacity, tokens + (nowNanos - refilledAtNanos) * refillPerNano);
+    refilledAtNanos = nowNanos;
+    if (tokens >= 1) {
+      tokens -= 1;
+      return 0;
+    }
+    return (long) Math.ceil((1 - tokens) / refillPerNano / 1_000_000d);
+  }
+
+  public long lastUsedNanos() {
+    return lastUsedNanos;
+  }
+}
@@ -1,11 +1,14 @@
 package com.shoppingmall.ecommerceapi.common.security.config;
 
+import com.shoppingmall.ecommerceapi.common.ratelimit.ConcurrencyLimitFilter;
+import com.shoppingmall.ecommerceapi.common.ratelimit.RateLimitFilter;
 import com.shoppingmall.ecommerceapi.common.security.handler.CustomAccessDeniedHandler;
 import com.shoppingmall.ecommerceapi.common.security.handler.CustomAuthenticationEntryPoint;
 import com.shoppingmall.ecommerceapi.domain.auth.service.AuthService;
 import com.shoppingmall.ecommerceapi.common.security.filter.JwtAuthenticationFilter;
 import com.shoppingmall.ecommerceapi.common.security.handler.OAuth2FailureHandler;
 import com.shoppingmall.ecommerceapi.common.security.handler.OAuth2SuccessHandler;
+import com.shoppingmall.ecommerceapi.common.security.oauth2.HttpCookieOAuth2AuthorizationRequestRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -29,7 +32,10 @@ public class SecurityConfig {
     private final AuthService authService;
     private final OAuth2SuccessHandler oAuth2SuccessHandler;
     private final OAuth2FailureHandler oAuth2FailureHandler;
+    private final HttpCookieOAuth2AuthorizationRequestRepository authorizationRequestRepository;
     private final JwtAuthenticationFilter jwtAuthenticationFilter;
+    private final RateLimitFilter rateLimitFilter;
+    private final ConcurrencyLimitFilter concurrencyLimitFilter;
     private final CustomAccessDeniedHandler customAccessDeniedHandler;
     private final CustomAuthenticationEntryPoint customAuthenticationEntryPoint;
 
@@ -76,6 +82,10 @@ public class SecurityConfig {
 
                 // OAuth2 로그인 설정
                 .oauth2Login(oauth2 -> oauth2
+                        // 인가 요청은 세션 대신 암호화 쿠키에 보관 (다른 서버로 콜백이 와도 처리)
+                        .authorizationEndpoint(authorization -> authorization
+                                .authorizationRequestRepository(authorizationRequestRepository)
+                        )
                         .userInfoEndpoint(userInfo -> userInfo
                                 .userService(authService)
                         )
@@ -84,7 +94,13 @@ public class SecurityConfig {
                 )
 
                 // JWT 필터 추가
-                .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class);
+                .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class)
+
+                // 요청 빈도 제한 (JWT 인증 결과의 userId 기준이라 JWT 필터 다음)
+                .addFilterAfter(rateLimitFilter, JwtAuthenticationFilter.class)
+
+                // 주문 생성/결제 동시 처리 한도 (빈도 제한에 걸린 요청은 슬롯을 차지하지 않도록 그 다음)
+                .addFilterAfter(concurrencyLimitFilter, RateLimitFilter.class);
 
         return http.build();
     }
@@ -3,9 +3,12 @@ package com.shoppingmall.ecommerceapi.common.security.filter;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.shoppingmall.ecommerceapi.common.api.Api;
 import com.shoppingmall.ecommerceapi.common.code.CommonErrorCode;
+import com.shoppingmall.ecommerceapi.common.security.util.JwtPrincipal;
 import com.shoppingmall.ecommerceapi.common.security.util.JwtTokenProvider;
 import com.shoppingmall.ecommerceapi.domain.auth.service.TokenBlacklistService;
+import com.shoppingmall.ecommerceapi.domain.auth.service.TokenRevocationService;
 import com.shoppingmall.ecommerceapi.domain.user.entity.enums.UserRole;
+import io.jsonwebtoken.JwtException;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -31,8 +34,11 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtTokenProvider jwtTokenProvider;
     private final TokenBlacklistService tokenBlacklistService;
+    private final TokenRevocationService tokenRevocationService;
     private final ObjectMapper objectMapper;
 
+    private static final String OPEN_API_PREFIX = "/open-api/";
+
     @Override
     protected void doFilterInternal(HttpServletRequest request,
                                     HttpServletResponse response,
@@ -41,9 +47,12 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             String token = resolveToken(request);
 
             if (token != null) {
-                // 1. 토큰 유효성 검증
-                if (!jwtTokenProvider.validateToken(token)) {
-                    log.debug("유효하지 않은 JWT 토큰: {}", maskToken(token));
+                // 1. 토큰 검증 + 사용자 정보 추출 (서명 검증 1번, 반복 토큰은 캐시)
+                JwtPrincipal principal;
+                try {
+                    principal = jwtTokenProvider.authenticate(token);
+                } catch (JwtException | IllegalArgumentException e) {
+                    log.debug("유효하지 않은 JWT 토큰: {} ({})", maskToken(token), e.getMessage());
                     sendErrorResponse(response, CommonErrorCode.INVALID_TOKEN);
                     return;
                 }
@@ -55,9 +64,16 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
                     return;
                 }
 
-                // 3. 토큰에서 사용자 정보 추출
-                Long userId = jwtTokenProvider.getUserIdFromToken(token);
-                UserRole role = jwtTokenProvider.getRoleFromToken(token);
+                // 3. 전체 디바이스 로그아웃 이전에 발급된 토큰인지 확인 (iat 비교)
+                if (tokenRevocationService.isRevoked(principal)) {
+                    log.warn("일괄 무효화된 토큰 접근 시도: userId={}", principal.userId());
+                    sendErrorResponse(response, CommonErrorCode.TOKEN_EXPIRED);
+                    return;
+                }
+
+                // 4. 토큰에서 사용자 정보 추출
+                Long userId = principal.userId();
+                UserRole role = principal.role();
 
                 // ROLE_ 접두사 추가 (Spring Security 규칙)
                 String authority = "ROLE_" + role.name();
@@ -84,6 +100,15 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         filterChain.doFilter(request, response);
     }
 
+    /**
+     * 인증이 필요 없는 공개 API는 필터 전체 생략
+     */
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        return path.startsWith(OPEN_API_PREFIX);
+    }
+
     /**
      * Request Header에서 토큰 추출
      */
@@ -1,6 +1,8 @@
 package com.shoppingmall.ecommerceapi.common.security.handler;
 
 import com.shoppingmall.ecommerceapi.domain.auth.service.AuthService;
+import com.shoppingmall.ecommerceapi.domain.cart.service.GuestCartService;
+import com.shoppingmall.ecommerceapi.domain.cart.util.GuestCartCookie;
 import com.shoppingmall.ecommerceapi.domain.user.entity.User;
 import com.shoppingmall.ecommerceapi.domain.user.repository.UserRepository;
 import jakarta.servlet.http.HttpServletRequest;
@@ -23,6 +25,7 @@ public class OAuth2SuccessHandler extends SimpleUrlAuthenticationSuccessHandler
 
     private final AuthService authService;
     private final UserRepository userRepository;
+    private final GuestCartService guestCartService;
 
     @Value("${oauth2.redirect-url}")
     private String redirectUrl;
@@ -44,6 +47,16 @@ public class OAuth2SuccessHandler extends SimpleUrlAuthenticationSuccessHandler
 
         log.info("OAuth2 로그인 성공: userId={}, role={}", userId, user.getRole());
 
+        // 비회원 장바구니가 있으면 회원 장바구니로 합치기 (실패해도 로그인은 진행)
+        GuestCartCookie.read(request).ifPresent(guestId -> {
+            try {
+                guestCartService.mergeIntoUserCart(guestId, userId);
+                GuestCartCookie.expire(request, response);
+            } catch (Exception e) {
+                log.warn("비회원 장바구니 합치기 실패: userId={}", userId, e);
+            }
+        });
+
         // Swagger로 리다이렉트 (토큰 쿼리 파라미터로 전달)
         String targetUrl = UriComponentsBuilder.fromUriString(redirectUrl)
                 .queryParam("accessToken", tokenResponse.getAccessToken())
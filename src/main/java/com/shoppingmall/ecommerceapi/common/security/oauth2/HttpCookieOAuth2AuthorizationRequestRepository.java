@@ -0,0 +1,209 @@
+package com.shoppingmall.ecommerceapi.common.security.oauth2;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseCookie;
+import org.springframework.security.oauth2.client.web.AuthorizationRequestRepository;
+import org.springframework.security.oauth2.core.endpoint.OAuth2AuthorizationRequest;
+import org.springframework.security.oauth2.core.endpoint.OAuth2ParameterNames;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Cipher;
+import javax.crypto.spec.GCMParameterSpec;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * OAuth2 인가 요청을 세션 대신 암호화 쿠키에 보관 (어느 서버로 콜백이 와도 로그인 완료 가능)
+ * - 값 = base64url(IV 12바이트 + AES-256-GCM(JSON)), GCM 인증 태그로 위·변조 검출
+ * - 만료 시각을 내용에 함께 넣어 쿠키 Max-Age를 조작해도 오래된 인가 요청은 거부
+ * - 콜백의 state가 보관한 state와 다르면 없는 것으로 처리
+ */
+@Slf4j
+@Component
+public class HttpCookieOAuth2AuthorizationRequestRepository
+        implements AuthorizationRequestRepository<OAuth2AuthorizationRequest> {
+
+    public static final String COOKIE_NAME = "OAUTH2_AUTH_REQUEST";
+
+    private static final String CIPHER_ALGORITHM = "AES/GCM/NoPadding";
+    private static final int IV_BYTES = 12;
+    private static final int TAG_BITS = 128;
+
+    private static final SecureRandom RANDOM = new SecureRandom();
+
+    private final ObjectMapper objectMapper;
+    private final SecretKeySpec key;
+    private final Duration maxAge;
+
+    // 쿠키에 담는 인가 요청 (OAuth2AuthorizationRequest는 역직렬화용 생성자가 없어 필요한 값만 따로 보관)
+    record StoredAuthorizationRequest(
+            String authorizationUri,
+            String clientId,
+            String redirectUri,
+            Set<String> scopes,
+            String state,
+            Map<String, Object> additionalParameters,
+            Map<String, Object> attributes,
+            String authorizationRequestUri,
+            long expiresAtMillis
+    ) {
+    }
+
+    public HttpCookieOAuth2AuthorizationRequestRepository(
+            ObjectMapper objectMapper,
+            @Value("${oauth2.authorization-cookie.secret}") String secret,
+            @Value("${oauth2.authorization-cookie.max-age-seconds:180}") long maxAgeSeconds) {
+        this.objectMapper = objectMapper;
+        this.key = new SecretKeySpec(sha256("oauth2-authorization-cookie:" + secret), "AES");
+        this.maxAge = Duration.ofSeconds(maxAgeSeconds);
+    }
+
+    @Override
+    public OAuth2AuthorizationRequest loadAuthorizationRequest(HttpServletRequest request) {
+        String state = request.getParameter(OAuth2ParameterNames.STATE);
+        if (state == null) {
+            return null;
+        }
+        StoredAuthorizationRequest stored = readCookie(request);
+        if (stored == null || !state.equals(stored.state())) {
+            return null;
+        }
+        return OAuth2AuthorizationRequest.authorizationCode()
+                .authorizationUri(stored.authorizationUri())
+                .clientId(stored.clientId())
+                .redirectUri(stored.redirectUri())
+                .scopes(stored.scopes())
+                .state(stored.state())
+                .additionalParameters(stored.additionalParameters())
+                .attributes(stored.attributes())
+                .authorizationRequestUri(stored.authorizationRequestUri())
+                .build();
+    }
+
+    @Override
+    public void saveAuthorizationRequest(OAuth2AuthorizationRequest authorizationRequest,
+                                         HttpServletRequest request, HttpServletResponse response) {
+        if (authorizationRequest == null) {
+            expireCookie(request, response);
+            return;
+        }
+        StoredAuthorizationRequest stored = new StoredAuthorizationRequest(
+                authorizationRequest.getAuthorizationUri(),
+                authorizationRequest.getClientId(),
+                authorizationRequest.getRedirectUri(),
+                authorizationRequest.getScopes(),
+                authorizationRequest.getState(),
+                authorizationRequest.getAdditionalParameters(),
+                authorizationRequest.getAttributes(),
+                authorizationRequest.getAuthorizationRequestUri(),
+                System.currentTimeMillis() + maxAge.toMillis()
+        );
+        writeCookie(request, response, encrypt(stored), maxAge);
+    }
+
+    @Override
+    public OAuth2AuthorizationRequest removeAuthorizationRequest(HttpServletRequest request,
+                                                                 HttpServletResponse response) {
+        OAuth2AuthorizationRequest authorizationRequest = loadAuthorizationRequest(request);
+        if (authorizationRequest != null) {
+            expireCookie(request, response);
+        }
+        return authorizationRequest;
+    }
+
+    private StoredAuthorizationRequest readCookie(HttpServletRequest request) {
+        Cookie[] cookies = request.getCookies();
+        if (cookies == null) {
+            return null;
+        }
+        String value = Arrays.stream(cookies)
+                .filter(cookie -> COOKIE_NAME.equals(cookie.getName()))
+                .map(Cookie::getValue)
+                .filter(v -> v != null && !v.isEmpty())
+                .findFirst()
+                .orElse(null);
+        if (value == null) {
+            return null;
+        }
+
+        try {
+            StoredAuthorizationRequest stored = decrypt(value);
+            if (stored.expiresAtMillis() < System.currentTimeMillis()) {
+                log.debug("만료된 OAuth2 인가 요청 쿠키");
+                return null;
+            }
+            return stored;
+        } catch (Exception e) {
+            // 위·변조, 키 변경, 형식 오류 모두 인가 요청 없음으로 처리 (로그인 실패 핸들러로 이동)
+            log.debug("OAuth2 인가 요청 쿠키 복호화 실패: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private String encrypt(StoredAuthorizationRequest stored) {
+        try {
+            byte[] iv = new byte[IV_BYTES];
+            RANDOM.nextBytes(iv);
+            Cipher cipher = Cipher.getInstance(CIPHER_ALGORITHM);
+            cipher.init(Cipher.ENCRYPT_MODE, key, new GCMParameterSpec(TAG_BITS, iv));
+            cipher.updateAAD(COOKIE_NAME.getBytes(StandardCharsets.US_ASCII));
+            byte[] encrypted = cipher.doFinal(objectMapper.writeValueAsBytes(stored));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(
+                    ByteBuffer.allocate(iv.length + encrypted.length).put(iv).put(encrypted).array());
+        } catch (Exception e) {
+            throw new IllegalStateException("OAuth2 인가 요청 쿠키 암호화 실패", e);
+        }
+    }
+
+    private StoredAuthorizationRequest decrypt(String value) throws Exception {
+        byte[] bytes = Base64.getUrlDecoder().decode(value);
+        if (bytes.length <= IV_BYTES) {
+            throw new IllegalArgumentException("쿠키 길이 오류");
+        }
+        Cipher cipher = Cipher.getInstance(CIPHER_ALGORITHM);
+        cipher.init(Cipher.DECRYPT_MODE, key, new GCMParameterSpec(TAG_BITS, bytes, 0, IV_BYTES));
+        cipher.updateAAD(COOKIE_NAME.getBytes(StandardCharsets.US_ASCII));
+        byte[] json = cipher.doFinal(bytes, IV_BYTES, bytes.length - IV_BYTES);
+        return objectMapper.readValue(json, StoredAuthorizationRequest.class);
+    }
+
+    // 콜백은 외부 사이트에서 돌아오는 top-level GET 이라 SameSite=Lax 여야 쿠키가 전송됨
+    private static void writeCookie(HttpServletRequest request, HttpServletResponse response,
+                                    String value, Duration maxAge) {
+        response.addHeader(HttpHeaders.SET_COOKIE, ResponseCookie.from(COOKIE_NAME, value)
+                .path("/")
+                .httpOnly(true)
+                .secure(request.isSecure())
+                .sameSite("Lax")
+                .maxAge(maxAge)
+                .build()
+                .toString());
+    }
+
+    private static void expireCookie(HttpServletRequest request, HttpServletResponse response) {
+        writeCookie(request, response, "", Duration.ZERO);
+    }
+
+    private static byte[] sha256(String value) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(value.getBytes(StandardCharsets.UTF_8));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package com.shoppingmall.ecommerceapi.common.security.util;
+
+import com.shoppingmall.ecommerceapi.domain.user.entity.enums.UserRole;
+
+/**
+ * 서명 검증이 끝난 Access Token에서 꺼낸 인증 정보 (불변)
+ */
+public record JwtPrincipal(Long userId, UserRole role, long issuedAtMillis, long expiresAtMillis) {
+
+    public boolean isExpired(long nowMillis) {
+        return nowMillis >= expiresAtMillis;
+    }
+}
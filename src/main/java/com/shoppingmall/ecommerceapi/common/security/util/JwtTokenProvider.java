@@ -9,7 +9,13 @@ import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
 import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.Collections;
 import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.UUID;
 
 @Slf4j
@@ -17,16 +23,31 @@ import java.util.UUID;
 public class JwtTokenProvider {
 
     private final SecretKey secretKey;
+    // 파서는 불변이라 한 번 만들어 재사용
+    private final JwtParser parser;
     private final long accessTokenValidityInMilliseconds;
     private final long refreshTokenValidityInMilliseconds;
 
+    // 검증 결과 캐시 (토큰 SHA-256 → 인증 정보), 원문 토큰은 보관하지 않음
+    // - 접근 순서 LinkedHashMap: 가득 차면 가장 오래 쓰지 않은 항목을 O(1)로 밀어냄
+    private final Map<String, JwtPrincipal> principalCache;
+
     public JwtTokenProvider(
             @Value("${token.secret.key}") String secret,
             @Value("${token.access-token.plus-hour}") long accessTokenValidityInHours,
-            @Value("${token.refresh-token.plus-hour}") long refreshTokenValidityInHours) {
+            @Value("${token.refresh-token.plus-hour}") long refreshTokenValidityInHours,
+            @Value("${token.principal-cache.max-entries:10000}") int principalCacheMaxEntries) {
         this.secretKey = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+        this.parser = Jwts.parser().verifyWith(secretKey).build();
         this.accessTokenValidityInMilliseconds = accessTokenValidityInHours * 60 * 60 * 1000;
         this.refreshTokenValidityInMilliseconds = refreshTokenValidityInHours * 60 * 60 * 1000;
+        this.principalCache = Collections.synchronizedMap(
+                new LinkedHashMap<>(16, 0.75f, true) {
+                    @Override
+                    protected boolean removeEldestEntry(Map.Entry<String, JwtPrincipal> eldest) {
+                        return size() > principalCacheMaxEntries;
+                    }
+                });
     }
 
     /**
@@ -60,6 +81,38 @@ public class JwtTokenProvider {
                 .compact();
     }
 
+    /**
+     * Access Token 검증 + 사용자 정보 추출 (서명 검증 1번)
+     * - 같은 토큰이 다시 오면 캐시된 결과 사용 (만료 시각은 매번 확인)
+     * - 유효하지 않으면 JwtException / IllegalArgumentException
+     */
+    public JwtPrincipal authenticate(String token) {
+        long now = System.currentTimeMillis();
+        String digest = digest(token);
+
+        JwtPrincipal cached = principalCache.get(digest);
+        if (cached != null) {
+            if (!cached.isExpired(now)) {
+                return cached;
+            }
+            principalCache.remove(digest);
+        }
+
+        Claims claims = parseClaims(token);
+        String role = claims.get("role", String.class);
+        if (role == null) {
+            throw new UnsupportedJwtException("Access Token이 아닙니다 (role 없음)");
+        }
+        JwtPrincipal principal = new JwtPrincipal(
+                Long.parseLong(claims.getSubject()),
+                UserRole.valueOf(role),
+                claims.getIssuedAt() != null ? claims.getIssuedAt().getTime() : 0L,
+                claims.getExpiration().getTime());
+
+        principalCache.put(digest, principal);
+        return principal;
+    }
+
     /**
      * 토큰에서 userId 추출
      */
@@ -165,10 +218,16 @@ public class JwtTokenProvider {
      * 토큰 파싱
      */
     private Claims parseClaims(String token) {
-        return Jwts.parser()
-                .verifyWith(secretKey)
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
+        return parser.parseSignedClaims(token).getPayload();
+    }
+
+    private static String digest(String token) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256")
+                    .digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
     }
 }
@@ -0,0 +1,82 @@
+package com.shoppingmall.ecommerceapi.common.util;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 문자열용 Bloom filter (단일 스레드용)
+ * - 수십만 개 URL도 원소당 약 10비트로 "포함 여부"를 근사 판정
+ * - mightContain이 false면 확실히 없음, true면 오탐 확률(fpp) 이하로 있을 수 있음
+ * - 해시는 64비트 FNV-1a 하나를 상/하위로 나눠 k개로 확장 (Kirsch-Mitzenmacher)
+ */
+public class BloomFilter {
+
+  private final long[] bits;
+  private final long bitCount;
+  private final int hashCount;
+
+  private BloomFilter(long bitCount, int hashCount) {
+    this.bits = new long[(int) ((bitCount + 63) / 64)];
+    this.bitCount = (long) bits.length * 64;
+    this.hashCount = hashCount;
+  }
+
+  /**
+   * @param expectedInsertions 예상 원소 수
+   * @param fpp                허용 오탐 확률 (0 < fpp < 1)
+   */
+  public static BloomFilter create(long expectedInsertions, double fpp) {
+    if (fpp <= 0 || fpp >= 1) {
+      throw new IllegalArgumentException("fpp는 0과 1 사이여야 합니다: " + fpp);
+    }
+    long n = Math.max(1, expectedInsertions);
+    long m = (long) Math.ceil(-n * Math.log(fpp) / (Math.log(2) * Math.log(2)));
+    int k = Math.max(1, (int) Math.round((double) m / n * Math.log(2)));
+    return new BloomFilter(Math.min(Integer.MAX_VALUE, Math.max(64, m)), k);
+  }
+
+  public void put(String value) {
+    long hash = hash(value);
+    int h1 = (int) hash;
+    int h2 = (int) (hash >>> 32);
+    for (int i = 1; i <= hashCount; i++) {
+      long index = indexOf(h1 + i * h2);
+      bits[(int) (index >>> 6)] |= 1L << index;
+    }
+  }
+
+  public boolean mightContain(String value) {
+    long hash = hash(value);
+    int h1 = (int) hash;
+    int h2 = (int) (hash >>> 32);
+    for (int i = 1; i <= hashCount; i++) {
+      long index = indexOf(h1 + i * h2);
+      if ((bits[(int) (index >>> 6)] & (1L << index)) == 0) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  public long bitSize() {
+    return bitCount;
+  }
+
+  private long indexOf(int combined) {
+    return (combined & 0x7fffffffL) % bitCount;
+  }
+
+  private static long hash(String value) {
+    long hash = 0xcbf29ce484222325L;
+    for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+      hash ^= b & 0xff;
+      hash *= 0x100000001b3L;
+    }
+    // FNV 하위 비트 편향 보정 (murmur3 fmix64)
+    hash ^= hash >>> 33;
+    hash *= 0xff51afd7ed558ccdL;
+    hash ^= hash >>> 33;
+    hash *= 0xc4ceb9fe1a85ec53L;
+    hash ^= hash >>> 33;
+    return hash;
+  }
+}
@@ -0,0 +1,56 @@
+package com.shoppingmall.ecommerceapi.config.async;
+
+import java.util.concurrent.ThreadPoolExecutor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * 백그라운드 작업용 스레드 풀 설정
+ * - 요청 스레드와 분리해야 하는 장시간 작업 전용
+ */
+@Configuration
+public class AsyncConfig {
+
+  /**
+   * 상품 일괄 등록(import) 전용 실행기
+   * - DB 배치 쓰기가 몰리지 않도록 동시 실행 수를 작게 유지
+   */
+  @Bean(name = "productImportExecutor")
+  public ThreadPoolTaskExecutor productImportExecutor(
+      @Value("${product.import.concurrency:2}") int concurrency,
+      @Value("${product.import.queue-capacity:10}") int queueCapacity
+  ) {
+    ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+    executor.setCorePoolSize(concurrency);
+    executor.setMaxPoolSize(concurrency);
+    executor.setQueueCapacity(queueCapacity);
+    executor.setThreadNamePrefix("product-import-");
+    executor.setWaitForTasksToCompleteOnShutdown(true);
+    executor.setAwaitTerminationSeconds(60);
+    executor.initialize();
+    return executor;
+  }
+
+  /**
+   * 상품 이미지 업로드/리사이즈 전용 실행기
+   * - 큐가 가득 차면 호출 스레드에서 실행해 작업을 버리지 않고 유입 속도를 늦춤
+   */
+  @Bean(name = "productImageExecutor")
+  public ThreadPoolTaskExecutor productImageExecutor(
+      @Value("${product.image.concurrency:4}") int concurrency,
+      @Value("${product.image.queue-capacity:100}") int queueCapacity
+  ) {
+    ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+    executor.setCorePoolSize(concurrency);
+    executor.setMaxPoolSize(concurrency);
+    executor.setQueueCapacity(queueCapacity);
+    executor.setThreadNamePrefix("product-image-");
+    executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+    executor.setWaitForTasksToCompleteOnShutdown(true);
+    executor.setAwaitTerminationSeconds(60);
+    executor.initialize();
+    return executor;
+  }
+}
@@ -0,0 +1,14 @@
+package com.shoppingmall.ecommerceapi.config.ratelimit;
+
+import com.shoppingmall.ecommerceapi.common.ratelimit.RateLimitProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 요청 빈도 제한 설정 바인딩 (rate-limit.*)
+ */
+@Configuration
+@EnableConfigurationProperties(RateLimitProperties.class)
+public class RateLimitConfig {
+
+}
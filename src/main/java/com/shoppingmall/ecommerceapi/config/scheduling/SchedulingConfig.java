@@ -0,0 +1,15 @@
+package com.shoppingmall.ecommerceapi.config.scheduling;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * 주기 작업(@Scheduled) 활성화
+ * - 스레드 풀 크기는 spring.task.scheduling.pool.size (배치 사이에 대기하는 정리 작업이
+ *   장바구니 반영/조회수 반영 같은 짧은 주기 작업을 막지 않도록 작업 수만큼 둠)
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+
+}
@@ -0,0 +1,40 @@
+package com.shoppingmall.ecommerceapi.domain.auth.controller;
+
+import com.shoppingmall.ecommerceapi.common.api.Api;
+import com.shoppingmall.ecommerceapi.domain.auth.dto.TokenBulkRevokeResponse;
+import com.shoppingmall.ecommerceapi.domain.auth.service.TokenBulkRevocationService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.*;
+
+@Tag(name = "Admin Auth", description = "관리자 인증 관리 API")
+@RestController
+@RequestMapping("/api/admin/auth")
+@RequiredArgsConstructor
+@SecurityRequirement(name = "Bearer Authentication")
+public class AdminAuthController {
+
+    private final TokenBulkRevocationService tokenBulkRevocationService;
+
+    /**
+     * 사용자 집단 토큰 일괄 무효화 (관리자 전용)
+     */
+    @Operation(
+            summary = "토큰 일괄 무효화 (관리자)",
+            description = "사용자 ID 범위의 Refresh Token을 전부 삭제하고 Access Token을 무효화합니다. "
+                    + "범위를 비우면 Refresh Token이 있는 모든 사용자가 대상입니다."
+    )
+    @PostMapping("/tokens/revoke")
+    public Api<TokenBulkRevokeResponse> revokeTokens(
+            @Parameter(description = "시작 사용자 ID (포함)", example = "1")
+            @RequestParam(required = false) Long fromUserId,
+            @Parameter(description = "끝 사용자 ID (포함)", example = "10000")
+            @RequestParam(required = false) Long toUserId
+    ) {
+        TokenBulkRevokeResponse response = tokenBulkRevocationService.revoke(fromUserId, toUserId);
+        return Api.OK(response);
+    }
+}
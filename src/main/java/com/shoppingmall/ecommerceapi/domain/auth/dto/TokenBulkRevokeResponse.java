@@ -0,0 +1,23 @@
+package com.shoppingmall.ecommerceapi.domain.auth.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TokenBulkRevokeResponse {
+
+    private Long fromUserId;
+    private Long toUserId;
+    private Long scannedUsers;
+    private Long revokedUsers;
+    private Long deletedRefreshTokens;
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+}
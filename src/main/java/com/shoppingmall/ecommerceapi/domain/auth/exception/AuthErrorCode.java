@@ -11,6 +11,7 @@ public enum AuthErrorCode implements ApiCode {
 
     // OAuth2 관련
     UNSUPPORTED_OAUTH_PROVIDER(HttpStatus.BAD_REQUEST.value(), 40001, "지원하지 않는 OAuth2 제공자입니다."),
+    INVALID_USER_ID_RANGE(HttpStatus.BAD_REQUEST.value(), 40002, "사용자 ID 범위가 올바르지 않습니다."),
     OAUTH_AUTHENTICATION_FAILED(HttpStatus.UNAUTHORIZED.value(), 40101, "OAuth2 인증에 실패했습니다."),
 
     // JWT 토큰 관련
@@ -19,6 +20,7 @@ public enum AuthErrorCode implements ApiCode {
     INVALID_REFRESH_TOKEN(HttpStatus.UNAUTHORIZED.value(), 40104, "유효하지 않은 Refresh Token입니다."),
     REFRESH_TOKEN_NOT_FOUND(HttpStatus.NOT_FOUND.value(), 40401, "Refresh Token을 찾을 수 없습니다."),
     REFRESH_TOKEN_EXPIRED(HttpStatus.UNAUTHORIZED.value(), 40105, "만료된 Refresh Token입니다."),
+    REFRESH_TOKEN_REUSED(HttpStatus.UNAUTHORIZED.value(), 40107, "이미 사용된 Refresh Token입니다. 다시 로그인해 주세요."),
 
     // 인증/인가 관련
     UNAUTHORIZED(HttpStatus.UNAUTHORIZED.value(), 40106, "인증이 필요합니다."),
@@ -26,6 +28,9 @@ public enum AuthErrorCode implements ApiCode {
 
     // 사용자 관련
     USER_NOT_FOUND(HttpStatus.NOT_FOUND.value(), 40402, "사용자를 찾을 수 없습니다."),
+
+    // 관리자 작업
+    TOKEN_BULK_REVOKE_RUNNING(HttpStatus.CONFLICT.value(), 40901, "토큰 일괄 무효화 작업이 이미 실행 중입니다."),
     ;
 
     private final Integer httpStatus;
@@ -1,43 +1,148 @@
 package com.shoppingmall.ecommerceapi.domain.auth.repository;
 
+import com.shoppingmall.ecommerceapi.domain.user.entity.enums.UserRole;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Repository;
 
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
-
+import java.util.function.Consumer;
+
+/**
+ * Redis Refresh Token 저장소
+ * - refresh_token:{token} = Hash(userId, role, device), user_tokens:{userId} = Set<token> (멀티 디바이스)
+ * - 교체된 토큰은 refresh_token:used:{token} = userId 로 남은 수명만큼 기록 (재사용 감지)
+ * - 교체/삭제는 Lua 스크립트 한 번으로 원자적 처리 (동시 갱신 중 하나만 성공)
+ * - 이전 형식(refresh_token:{token} = userId 문자열) 토큰도 읽고 교체 시 Hash로 바꿈
+ */
 @Slf4j
 @Repository
 @RequiredArgsConstructor
 public class RedisRefreshTokenStore implements RefreshTokenStore {
 
-    private final RedisTemplate<String, String> redisTemplate;
-
     private static final String TOKEN_PREFIX = "refresh_token:";
+    private static final String USED_TOKEN_PREFIX = "refresh_token:used:";
     private static final String USER_TOKEN_PREFIX = "user_tokens:";
+    private static final int UNLINK_BATCH_SIZE = 500;
+
+    // KEYS[1] = 토큰, KEYS[2] = 사용자 토큰 Set / ARGV = userId, role, device, TTL(ms), 토큰
+    private static final RedisScript<Long> SAVE_SCRIPT = new DefaultRedisScript<>("""
+            redis.call('HSET', KEYS[1], 'userId', ARGV[1], 'role', ARGV[2], 'device', ARGV[3])
+            redis.call('PEXPIRE', KEYS[1], ARGV[4])
+            redis.call('SADD', KEYS[2], ARGV[5])
+            redis.call('PEXPIRE', KEYS[2], ARGV[4])
+            return 1
+            """, Long.class);
+
+    // 사용자 토큰 Set 키는 userId를 알아야 하므로 스크립트 안에서 조립 (단일 노드 Redis 기준)
+    // KEYS[1] = 기존 토큰, KEYS[2] = 새 토큰, KEYS[3] = 기존 토큰 사용 기록
+    // ARGV = 사용자 토큰 Set prefix, 기존 토큰, 새 토큰, device, TTL(ms), 이전 형식용 role, 토큰 prefix
+    // 결과: {'1', userId, role} 교체, {'0'} 없음, {'-1', userId} 재사용, {'2', userId} role 필요
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> ROTATE_SCRIPT = new DefaultRedisScript<>("""
+            local kind = redis.call('TYPE', KEYS[1]).ok
+            if kind == 'none' then
+              local uid = redis.call('GET', KEYS[3])
+              if not uid then return {'0'} end
+              local setKey = ARGV[1] .. uid
+              for _, token in ipairs(redis.call('SMEMBERS', setKey)) do
+                redis.call('DEL', ARGV[7] .. token)
+              end
+              redis.call('DEL', setKey, KEYS[3])
+              return {'-1', uid}
+            end
+            local uid, role
+            if kind == 'hash' then
+              local fields = redis.call('HMGET', KEYS[1], 'userId', 'role')
+              uid, role = fields[1], fields[2]
+            else
+              uid, role = redis.call('GET', KEYS[1]), ARGV[6]
+              if role == '' then return {'2', uid} end
+            end
+            local remaining = redis.call('PTTL', KEYS[1])
+            redis.call('DEL', KEYS[1])
+            if remaining > 0 then redis.call('SET', KEYS[3], uid, 'PX', remaining) end
+            local setKey = ARGV[1] .. uid
+            redis.call('SREM', setKey, ARGV[2])
+            redis.call('HSET', KEYS[2], 'userId', uid, 'role', role, 'device', ARGV[4])
+            redis.call('PEXPIRE', KEYS[2], ARGV[5])
+            redis.call('SADD', setKey, ARGV[3])
+            redis.call('PEXPIRE', setKey, ARGV[5])
+            return {'1', uid, role}
+            """, List.class);
+
+    // KEYS[1] = 토큰 / 결과: userId (없으면 nil)
+    private static final RedisScript<String> USER_ID_SCRIPT = new DefaultRedisScript<>("""
+            local kind = redis.call('TYPE', KEYS[1]).ok
+            if kind == 'hash' then return redis.call('HGET', KEYS[1], 'userId') end
+            if kind == 'string' then return redis.call('GET', KEYS[1]) end
+            return false
+            """, String.class);
+
+    // KEYS[1] = 토큰 / ARGV = 사용자 토큰 Set prefix, 토큰
+    private static final RedisScript<Long> DELETE_SCRIPT = new DefaultRedisScript<>("""
+            local kind = redis.call('TYPE', KEYS[1]).ok
+            local uid
+            if kind == 'hash' then uid = redis.call('HGET', KEYS[1], 'userId')
+            elseif kind == 'string' then uid = redis.call('GET', KEYS[1]) end
+            if uid then redis.call('SREM', ARGV[1] .. uid, ARGV[2]) end
+            return redis.call('DEL', KEYS[1])
+            """, Long.class);
 
-    @Override
-    public void save(Long userId, String refreshToken, String deviceInfo, Duration expiration) {
-        String tokenKey = TOKEN_PREFIX + refreshToken;
-        String userTokenKey = USER_TOKEN_PREFIX + userId;
-
-        // refresh_token:{token} -> userId 저장
-        redisTemplate.opsForValue().set(tokenKey, userId.toString(), expiration);
+    private final RedisTemplate<String, String> redisTemplate;
 
-        // user_tokens:{userId} -> Set<token> 저장 (멀티 디바이스)
-        redisTemplate.opsForSet().add(userTokenKey, refreshToken);
-        redisTemplate.expire(userTokenKey, expiration);
+    @Override
+    public void save(Long userId, UserRole role, String refreshToken, String deviceInfo, Duration expiration) {
+        redisTemplate.execute(SAVE_SCRIPT,
+                List.of(TOKEN_PREFIX + refreshToken, USER_TOKEN_PREFIX + userId),
+                userId.toString(), role.name(), deviceInfo(deviceInfo),
+                String.valueOf(expiration.toMillis()), refreshToken);
 
         log.debug("Refresh Token 저장: userId={}, token={}, device={}", userId, refreshToken.substring(0, 10) + "...", deviceInfo);
     }
 
+    @Override
+    @SuppressWarnings("unchecked")
+    public RefreshTokenRotation rotate(String refreshToken, String newRefreshToken, String deviceInfo,
+                                       Duration expiration, UserRole fallbackRole) {
+        List<String> result = redisTemplate.execute(ROTATE_SCRIPT,
+                List.of(TOKEN_PREFIX + refreshToken, TOKEN_PREFIX + newRefreshToken,
+                        USED_TOKEN_PREFIX + refreshToken),
+                USER_TOKEN_PREFIX, refreshToken, newRefreshToken, deviceInfo(deviceInfo),
+                String.valueOf(expiration.toMillis()),
+                fallbackRole != null ? fallbackRole.name() : "", TOKEN_PREFIX);
+
+        if (result == null || result.isEmpty()) {
+            return RefreshTokenRotation.notFound();
+        }
+        return switch (result.get(0)) {
+            case "1" -> new RefreshTokenRotation(RefreshTokenRotation.Status.ROTATED,
+                    Long.valueOf(result.get(1)), UserRole.valueOf(result.get(2)));
+            case "-1" -> new RefreshTokenRotation(RefreshTokenRotation.Status.REUSED,
+                    Long.valueOf(result.get(1)), null);
+            case "2" -> new RefreshTokenRotation(RefreshTokenRotation.Status.LEGACY_FORMAT,
+                    Long.valueOf(result.get(1)), null);
+            default -> RefreshTokenRotation.notFound();
+        };
+    }
+
     @Override
     public Optional<Long> findUserIdByToken(String refreshToken) {
-        String tokenKey = TOKEN_PREFIX + refreshToken;
-        String userIdStr = redisTemplate.opsForValue().get(tokenKey);
+        String userIdStr = redisTemplate.execute(USER_ID_SCRIPT, List.of(TOKEN_PREFIX + refreshToken));
 
         if (userIdStr != null) {
             return Optional.of(Long.parseLong(userIdStr));
@@ -47,38 +152,82 @@ public class RedisRefreshTokenStore implements RefreshTokenStore {
 
     @Override
     public void delete(String refreshToken) {
-        String tokenKey = TOKEN_PREFIX + refreshToken;
-
-        // userId 조회 후 user_tokens에서도 제거
-        String userIdStr = redisTemplate.opsForValue().get(tokenKey);
-        if (userIdStr != null) {
-            Long userId = Long.parseLong(userIdStr);
-            String userTokenKey = USER_TOKEN_PREFIX + userId;
-            redisTemplate.opsForSet().remove(userTokenKey, refreshToken);
-        }
-
-        // 토큰 삭제
-        redisTemplate.delete(tokenKey);
+        // user_tokens에서 제거 + 토큰 삭제
+        redisTemplate.execute(DELETE_SCRIPT, List.of(TOKEN_PREFIX + refreshToken),
+                USER_TOKEN_PREFIX, refreshToken);
         log.debug("Refresh Token 삭제: token={}", refreshToken.substring(0, 10) + "...");
     }
 
     @Override
     public void deleteAllByUserId(Long userId) {
-        String userTokenKey = USER_TOKEN_PREFIX + userId;
+        int deleted = deleteAllByUserIds(List.of(userId));
+        log.debug("사용자의 모든 Refresh Token 삭제: userId={}, count={}", userId, deleted);
+    }
 
-        // 해당 사용자의 모든 토큰 조회
-        Set<String> tokens = redisTemplate.opsForSet().members(userTokenKey);
+    /**
+     * 여러 사용자의 Refresh Token 일괄 삭제 (파이프라인 2번: SMEMBERS → UNLINK/SREM)
+     * - user_tokens Set은 지운 토큰만 SREM (삭제 도중 교체로 추가된 토큰은 Set에 남아 다음 삭제 대상)
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public int deleteAllByUserIds(Collection<Long> userIds) {
+        if (userIds.isEmpty()) {
+            return 0;
+        }
+        List<String> userTokenKeys = userIds.stream().map(userId -> USER_TOKEN_PREFIX + userId).toList();
+
+        List<Object> members = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            userTokenKeys.forEach(key -> connection.setCommands().sMembers(bytes(key)));
+            return null;
+        });
+
+        Map<String, List<String>> tokensByUserKey = new LinkedHashMap<>();
+        List<byte[]> tokenKeys = new ArrayList<>();
+        for (int i = 0; i < userTokenKeys.size(); i++) {
+            Set<String> tokens = (Set<String>) members.get(i);
+            if (tokens == null || tokens.isEmpty()) {
+                continue;
+            }
+            tokensByUserKey.put(userTokenKeys.get(i), List.copyOf(tokens));
+            tokens.forEach(token -> tokenKeys.add(bytes(TOKEN_PREFIX + token)));
+        }
+        if (tokenKeys.isEmpty()) {
+            return 0;
+        }
 
-        if (tokens != null && !tokens.isEmpty()) {
-            // 각 토큰 삭제
-            tokens.forEach(token -> {
-                String tokenKey = TOKEN_PREFIX + token;
-                redisTemplate.delete(tokenKey);
-            });
+        // UNLINK: 값 해제는 Redis 백그라운드 스레드에서 (큰 삭제도 이벤트 루프를 막지 않음)
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (int from = 0; from < tokenKeys.size(); from += UNLINK_BATCH_SIZE) {
+                List<byte[]> batch = tokenKeys.subList(from, Math.min(from + UNLINK_BATCH_SIZE, tokenKeys.size()));
+                connection.keyCommands().unlink(batch.toArray(byte[][]::new));
+            }
+            tokensByUserKey.forEach((userKey, tokens) -> connection.setCommands()
+                    .sRem(bytes(userKey), tokens.stream().map(RedisRefreshTokenStore::bytes).toArray(byte[][]::new)));
+            return null;
+        });
+        return tokenKeys.size();
+    }
 
-            // user_tokens 삭제
-            redisTemplate.delete(userTokenKey);
-            log.debug("사용자의 모든 Refresh Token 삭제: userId={}, count={}", userId, tokens.size());
+    /**
+     * Refresh Token이 있는 사용자 ID를 SCAN으로 훑어 batchSize개씩 전달 (KEYS 미사용)
+     * - SCAN 특성상 같은 사용자가 두 번 전달될 수 있음
+     */
+    @Override
+    public void forEachUserIdBatch(int batchSize, Consumer<List<Long>> consumer) {
+        ScanOptions options = ScanOptions.scanOptions()
+                .match(USER_TOKEN_PREFIX + "*").count(batchSize).build();
+        List<Long> batch = new ArrayList<>(batchSize);
+        try (Cursor<String> cursor = redisTemplate.scan(options)) {
+            while (cursor.hasNext()) {
+                batch.add(Long.valueOf(cursor.next().substring(USER_TOKEN_PREFIX.length())));
+                if (batch.size() >= batchSize) {
+                    consumer.accept(List.copyOf(batch));
+                    batch.clear();
+                }
+            }
+        }
+        if (!batch.isEmpty()) {
+            consumer.accept(List.copyOf(batch));
         }
     }
 
@@ -87,4 +236,12 @@ public class RedisRefreshTokenStore implements RefreshTokenStore {
         String tokenKey = TOKEN_PREFIX + refreshToken;
         return redisTemplate.hasKey(tokenKey);
     }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static String deviceInfo(String deviceInfo) {
+        return deviceInfo != null ? deviceInfo : "";
+    }
 }
@@ -0,0 +1,21 @@
+package com.shoppingmall.ecommerceapi.domain.auth.repository;
+
+import com.shoppingmall.ecommerceapi.domain.user.entity.enums.UserRole;
+
+/**
+ * Refresh Token 교체 결과
+ * - ROTATED: 기존 토큰 삭제 + 새 토큰 저장 완료 (userId, role 포함)
+ * - NOT_FOUND: 없거나 만료된 토큰
+ * - REUSED: 이미 교체된 토큰이 다시 사용됨 → 사용자의 Refresh Token 전부 삭제됨 (userId 포함)
+ * - LEGACY_FORMAT: role 없이 저장된 이전 형식 토큰 → role을 넘겨 다시 교체해야 함 (userId 포함)
+ */
+public record RefreshTokenRotation(Status status, Long userId, UserRole role) {
+
+    public enum Status {
+        ROTATED, NOT_FOUND, REUSED, LEGACY_FORMAT
+    }
+
+    public static RefreshTokenRotation notFound() {
+        return new RefreshTokenRotation(Status.NOT_FOUND, null, null);
+    }
+}
@@ -1,14 +1,26 @@
 package com.shoppingmall.ecommerceapi.domain.auth.repository;
 
+import com.shoppingmall.ecommerceapi.domain.user.entity.enums.UserRole;
+
 import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 public interface RefreshTokenStore {
 
     /**
-     * Refresh Token 저장
+     * Refresh Token 저장 (userId, role, 디바이스 정보)
      */
-    void save(Long userId, String refreshToken, String deviceInfo, Duration expiration);
+    void save(Long userId, UserRole role, String refreshToken, String deviceInfo, Duration expiration);
+
+    /**
+     * Refresh Token 교체 (검증 + 기존 토큰 삭제 + 새 토큰 저장 + 재사용 감지를 원자적으로)
+     * @param fallbackRole 이전 형식(role 없음) 토큰에 사용할 role, 모르면 null
+     */
+    RefreshTokenRotation rotate(String refreshToken, String newRefreshToken, String deviceInfo,
+                                Duration expiration, UserRole fallbackRole);
 
     /**
      * Refresh Token으로 userId 조회
@@ -25,6 +37,17 @@ public interface RefreshTokenStore {
      */
     void deleteAllByUserId(Long userId);
 
+    /**
+     * 여러 사용자의 모든 Refresh Token 일괄 삭제
+     * @return 삭제한 Refresh Token 수
+     */
+    int deleteAllByUserIds(Collection<Long> userIds);
+
+    /**
+     * Refresh Token이 있는 사용자 ID를 batchSize개씩 순회 (같은 사용자가 중복될 수 있음)
+     */
+    void forEachUserIdBatch(int batchSize, Consumer<List<Long>> consumer);
+
     /**
      * Refresh Token 존재 여부 확인
      */
@@ -5,6 +5,7 @@ import com.shoppingmall.ecommerceapi.domain.auth.converter.OAuthConverter;
 import com.shoppingmall.ecommerceapi.domain.auth.dto.TokenResponse;
 import com.shoppingmall.ecommerceapi.domain.auth.entity.SocialAccount;
 import com.shoppingmall.ecommerceapi.domain.auth.exception.AuthErrorCode;
+import com.shoppingmall.ecommerceapi.domain.auth.repository.RefreshTokenRotation;
 import com.shoppingmall.ecommerceapi.domain.auth.repository.RefreshTokenStore;
 import com.shoppingmall.ecommerceapi.domain.auth.repository.SocialAccountRepository;
 import com.shoppingmall.ecommerceapi.domain.cart.service.CartService;
@@ -40,6 +41,7 @@ public class AuthService extends DefaultOAuth2UserService {
     private final OAuthConverter oAuthConverter;
     private final CartService cartService;
     private final TokenBlacklistService tokenBlacklistService;
+    private final TokenRevocationService tokenRevocationService;
 
     // Refresh Token 만료 시간 (yml에서 주입)
     @Value("${token.refresh-token.plus-hour}")
@@ -121,7 +123,7 @@ public class AuthService extends DefaultOAuth2UserService {
 
         // Redis에 Refresh Token 저장
         Duration expiration = Duration.ofHours(refreshTokenValidityInHours);
-        refreshTokenStore.save(userId, refreshToken, deviceInfo, expiration);
+        refreshTokenStore.save(userId, role, refreshToken, deviceInfo, expiration);
 
         log.info("토큰 발급 완료: userId={}, role={}, device={}", userId, role, deviceInfo);
 
@@ -130,23 +132,40 @@ public class AuthService extends DefaultOAuth2UserService {
 
     /**
      *  Access Token 재발급 (기존 Access Token 만료 처리 포함)
+     * - Refresh Token 검증/교체/재사용 감지는 Redis 스크립트 한 번 (DB 조회 없음)
+     * - 이미 교체된 Refresh Token이 다시 오면 탈취로 보고 사용자의 토큰 전부 무효화
+     * - DB 커넥션을 잡지 않도록 트랜잭션 없이 실행
      */
-    @Transactional
     public TokenResponse refreshAccessToken(String refreshToken, String deviceInfo, String oldAccessToken) {
-        // 1. Refresh Token 검증
+        // 1. Refresh Token 서명/만료 검증
         if (!jwtTokenProvider.validateToken(refreshToken)) {
             throw new BusinessException(AuthErrorCode.INVALID_REFRESH_TOKEN);
         }
 
-        // 2. Redis에서 userId 조회
-        Long userId = refreshTokenStore.findUserIdByToken(refreshToken)
-                .orElseThrow(() -> new BusinessException(AuthErrorCode.REFRESH_TOKEN_NOT_FOUND));
+        // 2. Refresh Token 교체 (Refresh Token Rotation)
+        String newRefreshToken = jwtTokenProvider.generateRefreshToken();
+        Duration expiration = Duration.ofHours(refreshTokenValidityInHours);
+        RefreshTokenRotation rotation =
+                refreshTokenStore.rotate(refreshToken, newRefreshToken, deviceInfo, expiration, null);
+
+        // 이전 형식(role 없음) 토큰만 사용자 role을 조회해 한 번 더 교체
+        if (rotation.status() == RefreshTokenRotation.Status.LEGACY_FORMAT) {
+            User user = userRepository.findById(rotation.userId())
+                    .orElseThrow(() -> new BusinessException(AuthErrorCode.USER_NOT_FOUND));
+            rotation = refreshTokenStore.rotate(refreshToken, newRefreshToken, deviceInfo, expiration, user.getRole());
+        }
 
-        // 3. User 조회하여 role 가져오기
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new BusinessException(AuthErrorCode.USER_NOT_FOUND));
+        if (rotation.status() == RefreshTokenRotation.Status.REUSED) {
+            tokenRevocationService.revokeAll(rotation.userId());
+            log.warn("교체된 Refresh Token 재사용 감지 - 사용자 토큰 전부 무효화: userId={}", rotation.userId());
+            throw new BusinessException(AuthErrorCode.REFRESH_TOKEN_REUSED);
+        }
+        if (rotation.status() != RefreshTokenRotation.Status.ROTATED) {
+            throw new BusinessException(AuthErrorCode.REFRESH_TOKEN_NOT_FOUND);
+        }
+        Long userId = rotation.userId();
 
-        // 4.  기존 Access Token을 블랙리스트에 추가
+        // 3.  기존 Access Token을 블랙리스트에 추가
         if (oldAccessToken != null && !oldAccessToken.isEmpty()) {
             long remainingTime = jwtTokenProvider.getTokenRemainingTime(oldAccessToken);
 
@@ -158,21 +177,10 @@ public class AuthService extends DefaultOAuth2UserService {
             }
         }
 
-        // 5. 새로운 토큰 발급 (Refresh Token Rotation)
-        String newAccessToken = jwtTokenProvider.generateAccessToken(userId, user.getRole());
-        String newRefreshToken = jwtTokenProvider.generateRefreshToken();
+        // 4. 새로운 Access Token 발급 (role은 Refresh Token에 저장된 값)
+        String newAccessToken = jwtTokenProvider.generateAccessToken(userId, rotation.role());
 
-        // 토큰 비교
-        if (oldAccessToken != null && oldAccessToken.equals(newAccessToken)) {
-            log.error("❌❌❌ 경고: 기존 토큰과 새 토큰이 동일합니다! ❌❌❌");
-        }
-
-        // 6. 기존 Refresh Token 삭제 후 새로운 토큰 저장
-        refreshTokenStore.delete(refreshToken);
-        Duration expiration = Duration.ofHours(refreshTokenValidityInHours);
-        refreshTokenStore.save(userId, newRefreshToken, deviceInfo, expiration);
-
-        log.info("토큰 갱신 완료: userId={}, role={}, device={}", userId, user.getRole(), deviceInfo);
+        log.info("토큰 갱신 완료: userId={}, role={}, device={}", userId, rotation.role(), deviceInfo);
 
         return TokenResponse.of(newAccessToken, newRefreshToken);
     }
@@ -200,16 +208,17 @@ public class AuthService extends DefaultOAuth2UserService {
 
     /**
      *  전체 디바이스 로그아웃
-     * 참고: 모든 디바이스의 Access Token을 블랙리스트에 추가하려면
-     * Redis에 userId별 Access Token 목록을 별도로 관리해야 합니다.
-     * 현재는 Refresh Token만 삭제하여 재발급을 막는 방식입니다.
+     * - Refresh Token 전부 삭제 (재발급 차단)
+     * - 지금까지 발급된 Access Token은 사용자별 무효화 시각으로 한 번에 무효화
      */
     @Transactional
     public void logoutAllDevices(Long userId) {
         // 모든 Refresh Token 삭제
         refreshTokenStore.deleteAllByUserId(userId);
 
+        // 기존 Access Token 일괄 무효화 (토큰별 블랙리스트 불필요)
+        tokenRevocationService.revokeAll(userId);
+
         log.info("전체 디바이스 로그아웃 완료: userId={}", userId);
-        log.info("참고: 기존 Access Token은 만료 시간까지 유효합니다. 완전한 무효화를 원한다면 Access Token 관리 전략이 필요합니다.");
     }
 }
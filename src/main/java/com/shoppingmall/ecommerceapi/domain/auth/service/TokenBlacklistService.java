@@ -1,23 +1,77 @@
 package com.shoppingmall.ecommerceapi.domain.auth.service;
 
-import lombok.RequiredArgsConstructor;
+import com.shoppingmall.ecommerceapi.common.util.BloomFilter;
+import jakarta.annotation.PostConstruct;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.ScanOptions;
 import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
 import java.util.concurrent.TimeUnit;
 
 /**
  * Access Token 블랙리스트 관리 서비스
+ * - Redis 키는 토큰 원문이 아닌 짧은 다이제스트 (blacklist:token:{SHA-256 앞 16바이트, base64url})
+ * - 서버마다 블랙리스트 토큰 다이제스트의 Bloom filter를 두고, 필터에 없으면 Redis 조회 생략
+ * - 필터에 있으면(오탐 포함) Redis에서 최종 확인
+ * - 추가된 토큰은 Redis 채널로 다이제스트를 전파해 다른 서버의 필터에도 반영
+ * - 기동 시 / 주기적으로 Redis 키를 SCAN해 필터 재구성 (만료된 토큰 정리)
+ * - 재구성 전이거나 실패하면 매 요청 Redis 조회로 동작
  */
 @Slf4j
 @Service
-@RequiredArgsConstructor
-public class TokenBlacklistService {
+public class TokenBlacklistService implements MessageListener {
 
-    private final StringRedisTemplate redisTemplate;
+    static final String CHANNEL = "auth:blacklist";
 
     private static final String BLACKLIST_PREFIX = "blacklist:token:";
+    private static final int SCAN_COUNT = 1000;
+    private static final int DIGEST_BYTES = 16;
+
+    private final StringRedisTemplate redisTemplate;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+    private final long expectedInsertions;
+    private final double fpp;
+
+    // filter, pending, ready는 모두 this 락으로 보호 (BloomFilter는 스레드 안전하지 않음)
+    private BloomFilter filter;
+    // 재구성 중 추가된 다이제스트 (재구성 끝나면 새 필터에 반영)
+    private List<String> pending;
+    private boolean ready;
+
+    public TokenBlacklistService(
+            StringRedisTemplate redisTemplate,
+            RedisMessageListenerContainer redisMessageListenerContainer,
+            @Value("${token.blacklist.bloom.expected-insertions:100000}") long expectedInsertions,
+            @Value("${token.blacklist.bloom.fpp:0.001}") double fpp
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.redisMessageListenerContainer = redisMessageListenerContainer;
+        this.expectedInsertions = expectedInsertions;
+        this.fpp = fpp;
+        this.filter = BloomFilter.create(expectedInsertions, fpp);
+    }
+
+    @PostConstruct
+    void init() {
+        // 구독을 먼저 걸어야 재구성 중 다른 서버에서 추가된 토큰도 놓치지 않음
+        redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+        rebuild();
+    }
 
     /**
      * 토큰을 블랙리스트에 추가
@@ -25,9 +79,17 @@ public class TokenBlacklistService {
      * @param expirationMillis 토큰 남은 유효시간 (밀리초)
      */
     public void addToBlacklist(String token, long expirationMillis) {
-        String key = BLACKLIST_PREFIX + token;
+        String digest = digest(token);
         redisTemplate.opsForValue()
-                .set(key, "blacklisted", expirationMillis, TimeUnit.MILLISECONDS);
+                .set(BLACKLIST_PREFIX + digest, "blacklisted", expirationMillis, TimeUnit.MILLISECONDS);
+
+        putDigest(digest);
+        try {
+            redisTemplate.convertAndSend(CHANNEL, digest);
+        } catch (Exception e) {
+            // 전파 실패 시 다른 서버는 다음 재구성 때 반영
+            log.warn("블랙리스트 전파 메시지 발행 실패: {}", e.getMessage());
+        }
         log.info("블랙리스트에 토큰 추가: {}", maskToken(token));
     }
 
@@ -37,8 +99,95 @@ public class TokenBlacklistService {
      * @return 블랙리스트에 있으면 true
      */
     public boolean isBlacklisted(String token) {
-        String key = BLACKLIST_PREFIX + token;
-        return redisTemplate.hasKey(key);
+        String digest = digest(token);
+        if (!mightBeBlacklisted(digest)) {
+            return false;
+        }
+        return redisTemplate.hasKey(BLACKLIST_PREFIX + digest);
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        putDigest(new String(message.getBody(), StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Redis 블랙리스트 키 전체를 SCAN해 필터 재구성
+     * - 만료된 토큰이 빠지고, 늘어난 토큰 수에 맞춰 필터 크기 조정
+     * - 토큰 원문 키(이전 형식)는 남은 TTL 그대로 다이제스트 키로 옮김
+     */
+    @Scheduled(initialDelayString = "${token.blacklist.bloom.rebuild-interval-ms:3600000}",
+            fixedDelayString = "${token.blacklist.bloom.rebuild-interval-ms:3600000}")
+    public void rebuild() {
+        synchronized (this) {
+            pending = new ArrayList<>();
+        }
+
+        List<String> digests = new ArrayList<>();
+        ScanOptions options = ScanOptions.scanOptions()
+                .match(BLACKLIST_PREFIX + "*").count(SCAN_COUNT).build();
+        try (Cursor<String> cursor = redisTemplate.scan(options)) {
+            while (cursor.hasNext()) {
+                String suffix = cursor.next().substring(BLACKLIST_PREFIX.length());
+                digests.add(isLegacyKey(suffix) ? migrateLegacyKey(suffix) : suffix);
+            }
+        } catch (Exception e) {
+            synchronized (this) {
+                pending = null;
+            }
+            log.warn("블랙리스트 필터 재구성 실패 - 이전 상태 유지 (준비 전이면 Redis 직접 조회): {}",
+                    e.getMessage());
+            return;
+        }
+
+        BloomFilter rebuilt = BloomFilter.create(
+                Math.max(expectedInsertions, digests.size() * 2L), fpp);
+        digests.forEach(rebuilt::put);
+        synchronized (this) {
+            pending.forEach(rebuilt::put);
+            pending = null;
+            filter = rebuilt;
+            ready = true;
+        }
+        log.info("블랙리스트 필터 재구성 완료 - 토큰 수: {}, 비트 수: {}",
+                digests.size(), rebuilt.bitSize());
+    }
+
+    private synchronized void putDigest(String digest) {
+        filter.put(digest);
+        if (pending != null) {
+            pending.add(digest);
+        }
+    }
+
+    private synchronized boolean mightBeBlacklisted(String digest) {
+        return !ready || filter.mightContain(digest);
+    }
+
+    // JWT 원문에는 '.'이 있고 base64url 다이제스트에는 없음
+    private static boolean isLegacyKey(String suffix) {
+        return suffix.indexOf('.') >= 0;
+    }
+
+    private String migrateLegacyKey(String token) {
+        String digest = digest(token);
+        Long ttlMillis = redisTemplate.getExpire(BLACKLIST_PREFIX + token, TimeUnit.MILLISECONDS);
+        if (ttlMillis != null && ttlMillis > 0) {
+            redisTemplate.opsForValue()
+                    .set(BLACKLIST_PREFIX + digest, "blacklisted", ttlMillis, TimeUnit.MILLISECONDS);
+        }
+        return digest;
+    }
+
+    static String digest(String token) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256")
+                    .digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getUrlEncoder().withoutPadding()
+                    .encodeToString(Arrays.copyOf(hash, DIGEST_BYTES));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
     }
 
     /**
@@ -0,0 +1,111 @@
+package com.shoppingmall.ecommerceapi.domain.auth.service;
+
+import com.shoppingmall.ecommerceapi.common.exception.BusinessException;
+import com.shoppingmall.ecommerceapi.domain.auth.dto.TokenBulkRevokeResponse;
+import com.shoppingmall.ecommerceapi.domain.auth.exception.AuthErrorCode;
+import com.shoppingmall.ecommerceapi.domain.auth.repository.RefreshTokenStore;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RLock;
+import org.redisson.api.RedissonClient;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 사용자 집단 토큰 일괄 무효화 (보안 사고 대응용 관리자 작업)
+ * - Refresh Token이 있는 사용자를 SCAN으로 batch-size명씩 훑음 (KEYS 미사용)
+ * - 배치마다 Refresh Token 삭제(파이프라인 UNLINK) + Access Token 무효화 시각 기록(파이프라인 SET)
+ * - 배치 사이 batch-interval-ms 대기 (Redis 부하 제한), 여러 서버 중 한 곳에서만 실행 (Redisson 락)
+ */
+@Slf4j
+@Service
+public class TokenBulkRevocationService {
+
+    private static final String LOCK_KEY = "auth:bulk-revoke";
+
+    private final RefreshTokenStore refreshTokenStore;
+    private final TokenRevocationService tokenRevocationService;
+    private final RedissonClient redissonClient;
+    private final int batchSize;
+    private final long batchIntervalMillis;
+
+    public TokenBulkRevocationService(
+            RefreshTokenStore refreshTokenStore,
+            TokenRevocationService tokenRevocationService,
+            RedissonClient redissonClient,
+            @Value("${token.bulk-revoke.batch-size:500}") int batchSize,
+            @Value("${token.bulk-revoke.batch-interval-ms:50}") long batchIntervalMillis
+    ) {
+        this.refreshTokenStore = refreshTokenStore;
+        this.tokenRevocationService = tokenRevocationService;
+        this.redissonClient = redissonClient;
+        this.batchSize = batchSize;
+        this.batchIntervalMillis = batchIntervalMillis;
+    }
+
+    /**
+     * 사용자 ID 범위(양끝 포함, null이면 제한 없음)의 토큰 전부 무효화
+     * - 이미 실행 중이면 TOKEN_BULK_REVOKE_RUNNING
+     */
+    public TokenBulkRevokeResponse revoke(Long fromUserId, Long toUserId) {
+        if (fromUserId != null && toUserId != null && fromUserId > toUserId) {
+            throw new BusinessException(AuthErrorCode.INVALID_USER_ID_RANGE);
+        }
+        RLock lock = redissonClient.getLock(LOCK_KEY);
+        if (!lock.tryLock()) {
+            throw new BusinessException(AuthErrorCode.TOKEN_BULK_REVOKE_RUNNING);
+        }
+        try {
+            return revokeInRange(fromUserId, toUserId);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private TokenBulkRevokeResponse revokeInRange(Long fromUserId, Long toUserId) {
+        LocalDateTime startedAt = LocalDateTime.now();
+        long[] scanned = {0};
+        long[] revoked = {0};
+        long[] deleted = {0};
+
+        refreshTokenStore.forEachUserIdBatch(batchSize, userIds -> {
+            scanned[0] += userIds.size();
+            List<Long> targets = userIds.stream()
+                    .filter(userId -> fromUserId == null || userId >= fromUserId)
+                    .filter(userId -> toUserId == null || userId <= toUserId)
+                    .toList();
+            if (targets.isEmpty()) {
+                return;
+            }
+            deleted[0] += refreshTokenStore.deleteAllByUserIds(targets);
+            tokenRevocationService.revokeAll(targets);
+            revoked[0] += targets.size();
+            pause();
+        });
+
+        log.warn("토큰 일괄 무효화 완료 - 사용자 범위: [{}, {}], 조회: {}, 무효화: {}, Refresh Token 삭제: {}",
+                fromUserId, toUserId, scanned[0], revoked[0], deleted[0]);
+
+        return TokenBulkRevokeResponse.builder()
+                .fromUserId(fromUserId)
+                .toUserId(toUserId)
+                .scannedUsers(scanned[0])
+                .revokedUsers(revoked[0])
+                .deletedRefreshTokens(deleted[0])
+                .startedAt(startedAt)
+                .finishedAt(LocalDateTime.now())
+                .build();
+    }
+
+    private void pause() {
+        if (batchIntervalMillis > 0) {
+            try {
+                Thread.sleep(batchIntervalMillis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
@@ -0,0 +1,166 @@
+package com.shoppingmall.ecommerceapi.domain.auth.service;
+
+import com.shoppingmall.ecommerceapi.common.security.util.JwtPrincipal;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.connection.RedisStringCommands;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.types.Expiration;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * 사용자별 Access Token 일괄 무효화 (revocation epoch)
+ * - auth:revoked_before:{userId} = 이 시각 이전에 발급된 토큰은 무효 (사용자당 키 1개)
+ * - Access Token 최대 수명이 지나면 이전 토큰은 어차피 만료되므로 키도 그때 만료
+ * - 서버별 로컬 캐시 (없음도 캐시), 무효화 시 Redis 채널로 다른 서버 캐시 제거 (사용자 ID 쉼표 구분)
+ * - 채널 메시지를 놓쳐도 로컬 캐시 TTL이 지나면 Redis에서 다시 읽음
+ */
+@Slf4j
+@Service
+public class TokenRevocationService implements MessageListener {
+
+    static final String CHANNEL = "auth:revoked";
+
+    private static final String KEY_PREFIX = "auth:revoked_before:";
+    // 무효화 기록이 없는 사용자
+    private static final long NONE = 0L;
+
+    private final StringRedisTemplate redisTemplate;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+    private final Duration keyTtl;
+    private final long localTtlMillis;
+    private final int maxEntries;
+
+    // userId → (무효화 기준 시각, 캐시 만료 시각)
+    private final ConcurrentHashMap<Long, CachedEpoch> cache = new ConcurrentHashMap<>();
+
+    private record CachedEpoch(long revokedBeforeMillis, long expiresAtMillis) {
+
+    }
+
+    public TokenRevocationService(
+            StringRedisTemplate redisTemplate,
+            RedisMessageListenerContainer redisMessageListenerContainer,
+            @Value("${token.access-token.plus-hour}") long accessTokenValidityInHours,
+            @Value("${token.revocation.local-ttl-ms:30000}") long localTtlMillis,
+            @Value("${token.revocation.max-entries:100000}") int maxEntries
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.redisMessageListenerContainer = redisMessageListenerContainer;
+        this.keyTtl = Duration.ofHours(accessTokenValidityInHours);
+        this.localTtlMillis = localTtlMillis;
+        this.maxEntries = maxEntries;
+    }
+
+    @PostConstruct
+    void subscribe() {
+        redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+    }
+
+    /**
+     * 지금까지 발급된 사용자의 Access Token 전부 무효화
+     * - JWT iat는 초 단위라 같은 초에 발급된 토큰까지 무효 (다음 초부터 발급된 토큰만 유효)
+     */
+    public void revokeAll(Long userId) {
+        long revokedBefore = nextSecondMillis();
+        redisTemplate.opsForValue().set(key(userId), String.valueOf(revokedBefore), keyTtl);
+        cache.remove(userId);
+        try {
+            redisTemplate.convertAndSend(CHANNEL, userId.toString());
+        } catch (Exception e) {
+            // 전파 실패 시 다른 서버는 로컬 캐시 TTL 이후 반영
+            log.warn("토큰 무효화 메시지 발행 실패: userId={}, {}", userId, e.getMessage());
+        }
+        log.info("사용자 Access Token 일괄 무효화: userId={}, revokedBefore={}", userId, revokedBefore);
+    }
+
+    /**
+     * 여러 사용자의 Access Token 일괄 무효화 (SET 파이프라인 1번 + 메시지 1번)
+     */
+    public void revokeAll(Collection<Long> userIds) {
+        if (userIds.isEmpty()) {
+            return;
+        }
+        byte[] revokedBefore = String.valueOf(nextSecondMillis()).getBytes(StandardCharsets.UTF_8);
+        Expiration expiration = Expiration.from(keyTtl);
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            userIds.forEach(userId -> connection.stringCommands().set(
+                    key(userId).getBytes(StandardCharsets.UTF_8), revokedBefore, expiration,
+                    RedisStringCommands.SetOption.upsert()));
+            return null;
+        });
+        userIds.forEach(cache::remove);
+        try {
+            redisTemplate.convertAndSend(CHANNEL,
+                    userIds.stream().map(String::valueOf).collect(Collectors.joining(",")));
+        } catch (Exception e) {
+            log.warn("토큰 무효화 메시지 발행 실패: 사용자 수={}, {}", userIds.size(), e.getMessage());
+        }
+    }
+
+    /**
+     * 무효화 기준 시각 이전에 발급된 토큰이면 true
+     */
+    public boolean isRevoked(JwtPrincipal principal) {
+        return principal.issuedAtMillis() < revokedBefore(principal.userId());
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String payload = new String(message.getBody(), StandardCharsets.UTF_8);
+        try {
+            Arrays.stream(payload.split(",")).map(Long::valueOf).forEach(cache::remove);
+        } catch (NumberFormatException e) {
+            log.warn("잘못된 토큰 무효화 메시지: {}", payload);
+            cache.clear();
+        }
+    }
+
+    private long revokedBefore(Long userId) {
+        long now = System.currentTimeMillis();
+        CachedEpoch cached = cache.get(userId);
+        if (cached != null && now < cached.expiresAtMillis()) {
+            return cached.revokedBeforeMillis();
+        }
+
+        String value = redisTemplate.opsForValue().get(key(userId));
+        long revokedBefore = value != null ? Long.parseLong(value) : NONE;
+        if (hasRoom(now)) {
+            cache.put(userId, new CachedEpoch(revokedBefore, now + localTtlMillis));
+        }
+        return revokedBefore;
+    }
+
+    /**
+     * 캐시가 가득 차면 만료된 항목부터 정리, 그래도 가득 차면 캐시하지 않음
+     */
+    private boolean hasRoom(long now) {
+        if (cache.size() < maxEntries) {
+            return true;
+        }
+        cache.values().removeIf(cached -> now >= cached.expiresAtMillis());
+        return cache.size() < maxEntries;
+    }
+
+    // iat(초 단위)와 비교하므로 다음 초 경계
+    private static long nextSecondMillis() {
+        return (System.currentTimeMillis() / 1000 + 1) * 1000;
+    }
+
+    private static String key(Long userId) {
+        return KEY_PREFIX + userId;
+    }
+}
@@ -0,0 +1,161 @@
+package com.shoppingmall.ecommerceapi.domain.cart.cleanup;
+
+import com.shoppingmall.ecommerceapi.domain.cart.repository.CartJdbcRepository;
+import com.shoppingmall.ecommerceapi.domain.cart.repository.CartJdbcRepository.StaleCart;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RLock;
+import org.redisson.api.RedissonClient;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 방치된 장바구니 아이템 정리
+ * - stale-days 동안 사용하지 않은 장바구니를 (updated_at, id) 키셋으로 chunk-size개씩 순회
+ * - 아이템은 DELETE ... LIMIT delete-batch-size로 나눠 삭제 (문장마다 자동 커밋, 긴 락 없음)
+ * - 배치 사이 batch-interval-ms 대기, lag-probe-sql이 있으면 복제 지연이 max-lag-seconds 이하가 될 때까지 대기
+ * - 지연이 max-lag-wait-ms 넘게 풀리지 않으면 이번 주기는 중단 (다음 주기에 이어서)
+ * - 장바구니 행은 사용자와 함께 계속 쓰므로 아이템만 삭제, 여러 서버 중 한 곳에서만 실행 (Redisson 락)
+ */
+@Slf4j
+@Component
+public class AbandonedCartCleanupJob {
+
+  private static final String LOCK_KEY = "cart:cleanup";
+  private static final LocalDateTime KEYSET_START = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+  private final CartJdbcRepository cartJdbcRepository;
+  private final JdbcTemplate jdbcTemplate;
+  private final RedissonClient redissonClient;
+  private final Duration staleAfter;
+  private final int chunkSize;
+  private final int deleteBatchSize;
+  private final long batchIntervalMillis;
+  private final String lagProbeSql;
+  private final long maxLagSeconds;
+  private final long maxLagWaitMillis;
+
+  public AbandonedCartCleanupJob(
+      CartJdbcRepository cartJdbcRepository,
+      JdbcTemplate jdbcTemplate,
+      RedissonClient redissonClient,
+      @Value("${cart.cleanup.stale-days:90}") long staleDays,
+      @Value("${cart.cleanup.chunk-size:500}") int chunkSize,
+      @Value("${cart.cleanup.delete-batch-size:1000}") int deleteBatchSize,
+      @Value("${cart.cleanup.batch-interval-ms:200}") long batchIntervalMillis,
+      @Value("${cart.cleanup.lag-probe-sql:}") String lagProbeSql,
+      @Value("${cart.cleanup.max-lag-seconds:5}") long maxLagSeconds,
+      @Value("${cart.cleanup.max-lag-wait-ms:60000}") long maxLagWaitMillis
+  ) {
+    this.cartJdbcRepository = cartJdbcRepository;
+    this.jdbcTemplate = jdbcTemplate;
+    this.redissonClient = redissonClient;
+    this.staleAfter = Duration.ofDays(staleDays);
+    this.chunkSize = chunkSize;
+    this.deleteBatchSize = deleteBatchSize;
+    this.batchIntervalMillis = batchIntervalMillis;
+    this.lagProbeSql = lagProbeSql;
+    this.maxLagSeconds = maxLagSeconds;
+    this.maxLagWaitMillis = maxLagWaitMillis;
+  }
+
+  @Scheduled(cron = "${cart.cleanup.cron:0 0 5 * * *}")
+  public void scheduledRun() {
+    RLock lock = redissonClient.getLock(LOCK_KEY);
+    if (!lock.tryLock()) {
+      log.info("다른 서버에서 장바구니 정리 실행 중 - 이번 주기는 건너뜀");
+      return;
+    }
+    try {
+      run();
+    } catch (Exception e) {
+      log.error("장바구니 정리 실패", e);
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * 정리 실행 후 삭제한 아이템 수 반환
+   */
+  public long run() {
+    LocalDateTime cutoff = LocalDateTime.now().minus(staleAfter);
+    LocalDateTime afterUpdatedAt = KEYSET_START;
+    long afterId = 0;
+    long scannedCarts = 0;
+    long deletedItems = 0;
+
+    while (true) {
+      List<StaleCart> carts = cartJdbcRepository.findStaleCarts(cutoff, afterUpdatedAt, afterId,
+          chunkSize);
+      if (carts.isEmpty()) {
+        break;
+      }
+      scannedCarts += carts.size();
+
+      List<Long> cartIds = carts.stream().map(StaleCart::id).toList();
+      int deleted;
+      do {
+        deleted = cartJdbcRepository.deleteStaleItems(cartIds, cutoff, deleteBatchSize);
+        deletedItems += deleted;
+        if (!throttle()) {
+          log.warn("복제 지연이 계속되어 장바구니 정리 중단 - 장바구니: {}, 삭제: {}",
+              scannedCarts, deletedItems);
+          return deletedItems;
+        }
+      } while (deleted == deleteBatchSize);
+
+      StaleCart last = carts.get(carts.size() - 1);
+      afterUpdatedAt = last.updatedAt();
+      afterId = last.id();
+      if (carts.size() < chunkSize) {
+        break;
+      }
+    }
+
+    log.info("장바구니 정리 완료 - 기준: {}, 장바구니: {}, 삭제 아이템: {}",
+        cutoff, scannedCarts, deletedItems);
+    return deletedItems;
+  }
+
+  /**
+   * 배치 사이 대기 + 복제 지연 확인, 지연이 max-lag-wait-ms 안에 풀리지 않으면 false
+   */
+  private boolean throttle() {
+    sleep(batchIntervalMillis);
+    if (lagProbeSql == null || lagProbeSql.isBlank()) {
+      return true;
+    }
+
+    long waited = 0;
+    while (true) {
+      Long lag = jdbcTemplate.queryForObject(lagProbeSql, Long.class);
+      // 복제가 멈춘 경우(NULL)도 지연으로 간주
+      if (lag != null && lag <= maxLagSeconds) {
+        return true;
+      }
+      if (waited >= maxLagWaitMillis) {
+        return false;
+      }
+      long backoff = Math.max(batchIntervalMillis, 1000L);
+      log.debug("복제 지연 대기 - 지연: {}초, 허용: {}초", lag, maxLagSeconds);
+      sleep(backoff);
+      waited += backoff;
+    }
+  }
+
+  private static void sleep(long millis) {
+    if (millis <= 0) {
+      return;
+    }
+    try {
+      Thread.sleep(millis);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
@@ -3,6 +3,9 @@ package com.shoppingmall.ecommerceapi.domain.cart.controller;
 import com.shoppingmall.ecommerceapi.common.api.Api;
 import com.shoppingmall.ecommerceapi.domain.cart.converter.CartConverter;
 import com.shoppingmall.ecommerceapi.domain.cart.dto.AddCartItemRequest;
+import com.shoppingmall.ecommerceapi.domain.cart.dto.BulkCartItemRequest;
+import com.shoppingmall.ecommerceapi.domain.cart.dto.BulkCartItemResponse;
+import com.shoppingmall.ecommerceapi.domain.cart.dto.CartCheckoutRequest;
 import com.shoppingmall.ecommerceapi.domain.cart.dto.CartItemAddResponse;
 import com.shoppingmall.ecommerceapi.domain.cart.dto.CartItemQuantityUpdateResponse;
 import com.shoppingmall.ecommerceapi.domain.cart.dto.CartResponse;
@@ -10,6 +13,7 @@ import com.shoppingmall.ecommerceapi.domain.cart.dto.ChangeCartItemQuantityReque
 import com.shoppingmall.ecommerceapi.domain.cart.entity.Cart;
 import com.shoppingmall.ecommerceapi.domain.cart.entity.CartItem;
 import com.shoppingmall.ecommerceapi.domain.cart.service.CartService;
+import com.shoppingmall.ecommerceapi.domain.order.dto.OrderResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
@@ -51,6 +55,15 @@ public class CartController {
     return Api.OK(response);
   }
 
+  // 일괄 담기/수량 변경 (POST /api/carts/items/bulk) - 항목별 결과 반환
+  @PostMapping("/items/bulk")
+  public Api<BulkCartItemResponse> upsertItems(
+      @AuthenticationPrincipal Long userId,
+      @Valid @RequestBody BulkCartItemRequest request
+  ) {
+    return Api.OK(cartService.upsertItems(userId, request));
+  }
+
   // 수량 변경 (PATCH /api/v1/cart/items/{id})
   @PatchMapping("/items/{id}")
   public Api<CartItemQuantityUpdateResponse> changeQuantity(
@@ -64,6 +77,16 @@ public class CartController {
     return Api.OK(response);
   }
 
+  // 상품 기준 수량 변경 (PATCH /api/carts/items/products/{productId})
+  @PatchMapping("/items/products/{productId}")
+  public Api<CartItemQuantityUpdateResponse> changeQuantityByProduct(
+      @AuthenticationPrincipal Long userId,
+      @PathVariable Long productId,
+      @Valid @RequestBody ChangeCartItemQuantityRequest request
+  ) {
+    CartItem item = cartService.changeQuantityByProduct(userId, productId, request.getQuantity());
+    return Api.OK(CartConverter.toCartItemQuantityUpdateResponse(item));
+  }
 
   // 특정 상품 삭제 (DELETE /api/v1/cart/items/{productId})
   @DeleteMapping("/items/{productId}")
@@ -75,6 +98,15 @@ public class CartController {
     return Api.OK(null);
   }
 
+  // 장바구니 주문 (POST /api/carts/checkout)
+  @PostMapping("/checkout")
+  public Api<OrderResponse> checkout(
+      @AuthenticationPrincipal Long userId,
+      @Valid @RequestBody CartCheckoutRequest request
+  ) {
+    return Api.CREATED(cartService.checkout(userId, request));
+  }
+
   // 장바구니 비우기 (DELETE /api/v1/cart/items)
   @DeleteMapping("/items")
   public Api<Void> clearCart(@AuthenticationPrincipal Long userId) {
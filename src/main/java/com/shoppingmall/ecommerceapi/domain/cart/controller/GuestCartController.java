@@ -0,0 +1,102 @@
+package com.shoppingmall.ecommerceapi.domain.cart.controller;
+
+import com.shoppingmall.ecommerceapi.common.api.Api;
+import com.shoppingmall.ecommerceapi.common.exception.BusinessException;
+import com.shoppingmall.ecommerceapi.domain.cart.converter.CartConverter;
+import com.shoppingmall.ecommerceapi.domain.cart.dto.AddCartItemRequest;
+import com.shoppingmall.ecommerceapi.domain.cart.dto.CartItemAddResponse;
+import com.shoppingmall.ecommerceapi.domain.cart.dto.CartItemQuantityUpdateResponse;
+import com.shoppingmall.ecommerceapi.domain.cart.dto.CartResponse;
+import com.shoppingmall.ecommerceapi.domain.cart.dto.ChangeCartItemQuantityRequest;
+import com.shoppingmall.ecommerceapi.domain.cart.entity.CartItem;
+import com.shoppingmall.ecommerceapi.domain.cart.exception.CartErrorCode;
+import com.shoppingmall.ecommerceapi.domain.cart.service.GuestCartService;
+import com.shoppingmall.ecommerceapi.domain.cart.store.GuestCartStore;
+import com.shoppingmall.ecommerceapi.domain.cart.util.GuestCartCookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PatchMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * 비회원 장바구니 API (쿠키 GUEST_CART 기준)
+ * - 처음 담을 때 쿠키 발급, 사용할 때마다 쿠키 만료를 Redis TTL과 같이 연장
+ */
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/open-api/carts")
+public class GuestCartController {
+
+  private final GuestCartService guestCartService;
+  private final GuestCartStore guestCartStore;
+
+  // 비회원 장바구니 조회 (GET /open-api/carts)
+  @GetMapping
+  public Api<CartResponse> getCart(HttpServletRequest request, HttpServletResponse response) {
+    String guestId = GuestCartCookie.read(request).orElse(null);
+    if (guestId != null) {
+      GuestCartCookie.write(request, response, guestId, guestCartStore.getTtl());
+    }
+    return Api.OK(guestCartService.getCartResponse(guestId));
+  }
+
+  // 비회원 장바구니 담기 (POST /open-api/carts/items)
+  @PostMapping("/items")
+  public Api<CartItemAddResponse> addItem(
+      @Valid @RequestBody AddCartItemRequest body,
+      HttpServletRequest request,
+      HttpServletResponse response
+  ) {
+    String guestId = GuestCartCookie.read(request)
+        .orElseGet(() -> GuestCartCookie.issue(request, response, guestCartStore.getTtl()));
+    CartItem item = guestCartService.addItem(guestId, body);
+    return Api.OK(CartConverter.toGuestCartItemAddResponse(item));
+  }
+
+  // 상품 기준 수량 변경 (PATCH /open-api/carts/items/products/{productId})
+  @PatchMapping("/items/products/{productId}")
+  public Api<CartItemQuantityUpdateResponse> changeQuantityByProduct(
+      @PathVariable Long productId,
+      @Valid @RequestBody ChangeCartItemQuantityRequest body,
+      HttpServletRequest request,
+      HttpServletResponse response
+  ) {
+    CartItem item = guestCartService.changeQuantityByProduct(
+        requireGuestId(request, response), productId, body.getQuantity());
+    return Api.OK(CartConverter.toCartItemQuantityUpdateResponse(item));
+  }
+
+  // 특정 상품 삭제 (DELETE /open-api/carts/items/{productId})
+  @DeleteMapping("/items/{productId}")
+  public Api<Void> removeItem(
+      @PathVariable Long productId,
+      HttpServletRequest request,
+      HttpServletResponse response
+  ) {
+    guestCartService.removeItem(requireGuestId(request, response), productId);
+    return Api.OK(null);
+  }
+
+  // 장바구니 비우기 (DELETE /open-api/carts/items)
+  @DeleteMapping("/items")
+  public Api<Void> clearCart(HttpServletRequest request, HttpServletResponse response) {
+    guestCartService.clearCart(requireGuestId(request, response));
+    return Api.OK(null);
+  }
+
+  // 쿠키가 없으면 담긴 상품도 없음
+  private String requireGuestId(HttpServletRequest request, HttpServletResponse response) {
+    String guestId = GuestCartCookie.read(request)
+        .orElseThrow(() -> new BusinessException(CartErrorCode.CART_NOT_FOUND));
+    GuestCartCookie.write(request, response, guestId, guestCartStore.getTtl());
+    return guestId;
+  }
+}
@@ -7,6 +7,7 @@ import com.shoppingmall.ecommerceapi.domain.cart.dto.CartItemResponse;
 import com.shoppingmall.ecommerceapi.domain.cart.dto.CartResponse;
 import com.shoppingmall.ecommerceapi.domain.cart.entity.Cart;
 import com.shoppingmall.ecommerceapi.domain.cart.entity.CartItem;
+import com.shoppingmall.ecommerceapi.domain.cart.store.CartSnapshot;
 import java.util.List;
 
 public class CartConverter {
@@ -41,9 +42,9 @@ public class CartConverter {
   }
 
   // GET /cart 응답 본문
-  public static CartResponse toCartResponse(Cart cart, List<CartItemResponse> items) {
+  public static CartResponse toCartResponse(CartSnapshot cart, List<CartItemResponse> items) {
     return CartResponse.builder()
-        .cartId(cart.getId())
+        .cartId(cart.getCartId())
         .userId(cart.getUserId())
         .updatedAt(cart.getUpdatedAt())
         .items(items)
@@ -63,6 +64,14 @@ public class CartConverter {
         .build();
   }
 
+  // 비회원 장바구니 (장바구니 ID 없음)
+  public static CartItemAddResponse toGuestCartItemAddResponse(CartItem item) {
+    return CartItemAddResponse.builder()
+        .productId(item.getProductId())
+        .productQuantity(item.getQuantity())
+        .build();
+  }
+
   // ---------- toResponse (수량 변경 응답) ----------
 
   public static CartItemQuantityUpdateResponse toCartItemQuantityUpdateResponse(CartItem item) {
@@ -0,0 +1,24 @@
+package com.shoppingmall.ecommerceapi.domain.cart.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 장바구니 일괄 담기/수량 변경 요청
+ * - 항목 검증 실패는 요청 전체를 거절하지 않고 항목별 결과로 응답 (항목에 @Valid 적용 안 함, 빈 항목도 항목 실패)
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BulkCartItemRequest {
+
+  @NotEmpty(message = "장바구니 아이템은 최소 1개 이상이어야 합니다")
+  @Size(max = 100, message = "한 번에 최대 100개까지 담을 수 있습니다")
+  private List<AddCartItemRequest> items;
+}
@@ -0,0 +1,41 @@
+package com.shoppingmall.ecommerceapi.domain.cart.dto;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 장바구니 일괄 담기/수량 변경 결과 (요청 순서대로 항목별 결과)
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BulkCartItemResponse {
+
+  private int successCount;
+  private int failureCount;
+  private List<Result> results;
+
+  public enum Status {
+    ADDED,    // 새로 담김
+    UPDATED,  // 이미 담긴 상품의 수량 변경
+    FAILED
+  }
+
+  @Getter
+  @NoArgsConstructor
+  @AllArgsConstructor
+  @Builder
+  public static class Result {
+
+    private Long productId;
+    private Integer quantity;
+    private Status status;
+    // 실패한 경우에만 (CartErrorCode 이름, 메시지)
+    private String errorCode;
+    private String message;
+  }
+}
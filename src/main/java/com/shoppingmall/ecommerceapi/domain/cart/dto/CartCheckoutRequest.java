@@ -0,0 +1,31 @@
+package com.shoppingmall.ecommerceapi.domain.cart.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 장바구니 주문 요청 - 주문 상품과 총 금액은 서버에서 장바구니 기준으로 확정
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CartCheckoutRequest {
+
+  @NotBlank(message = "우편번호는 필수입니다")
+  @Pattern(regexp = "^\\d{5}$", message = "우편번호는 5자리 숫자여야 합니다")
+  private String zipCode;
+
+  @NotBlank(message = "주소는 필수입니다")
+  @Size(min = 5, max = 200, message = "주소는 5자 이상 200자 이하여야 합니다")
+  private String address;
+
+  @NotBlank(message = "상세주소는 필수입니다")
+  @Size(min = 1, max = 100, message = "상세주소는 1자 이상 100자 이하여야 합니다")
+  private String detailAddress;
+}
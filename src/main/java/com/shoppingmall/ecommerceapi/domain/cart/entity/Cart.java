@@ -7,6 +7,7 @@ import jakarta.persistence.EntityListeners;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.Table;
 import java.time.LocalDateTime;
@@ -20,7 +21,10 @@ import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
 @Entity
-@Table(name = "carts")
+@Table(name = "carts", indexes = {
+    // 방치된 장바구니 정리 키셋 조회 (InnoDB 보조 인덱스에 id 포함)
+    @Index(name = "idx_carts_updated_at", columnList = "updated_at")
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @EntityListeners(AuditingEntityListener.class)
@@ -38,6 +42,10 @@ public class Cart {
   @Column(name = "updated_at", nullable = false)
   private LocalDateTime updatedAt;
 
+  // Redis 장바구니(write-behind)에서 마지막으로 반영한 버전 - 더 오래된 스냅샷은 반영하지 않음
+  @Column(name = "flushed_version", nullable = false)
+  private long flushedVersion;
+
   @OneToMany(mappedBy = "cart", cascade = CascadeType.ALL, orphanRemoval = true)
   private final List<CartItem> items = new ArrayList<>();
 
@@ -62,6 +62,20 @@ public class CartItem {
     this.quantity = quantity;
   }
 
+  // 영속화 컨텍스트 밖의 조회/응답용 아이템 (Redis 장바구니, 단건 쿼리로 반영한 아이템)
+  public static CartItem detached(Long id, Long productId, int quantity) {
+    return detached(id, productId, quantity, null, null);
+  }
+
+  public static CartItem detached(Long id, Long productId, int quantity,
+      LocalDateTime createdAt, LocalDateTime updatedAt) {
+    CartItem item = new CartItem(productId, quantity);
+    item.id = id;
+    item.createdAt = createdAt;
+    item.updatedAt = updatedAt;
+    return item;
+  }
+
   // Cart 쪽에서만 호출해서 양방향 일관성 유지
   void attachCart(Cart cart) {
     this.cart = cart;
@@ -16,6 +16,8 @@ public enum CartErrorCode implements ApiCode {
   CART_ALREADY_EMPTY(400, 400, "이미 비어 있는 장바구니입니다"),
   CART_CLEANUP_FAILED(500, 500, "장바구니 비우기 중 오류가 발생했습니다"),
   CART_ALREADY_EXISTS(409, 409, "이미 존재하는 장바구니입니다"),
+  CART_CHECKOUT_EMPTY(400, 400, "장바구니가 비어 있어 주문할 수 없습니다"),
+  CART_GUEST_ITEM_LIMIT_EXCEEDED(400, 400, "비회원 장바구니에 담을 수 있는 상품 수를 초과했습니다"),
 
   // 장바구니 아이템 공통/권한
   CART_ITEM_UNAUTHENTICATED(401, 401, "로그인이 필요합니다"),
@@ -26,6 +28,7 @@ public enum CartErrorCode implements ApiCode {
   CART_ITEM_INVALID_PRODUCT(400, 400, "유효하지 않은 상품입니다"),
   CART_ITEM_PRODUCT_NOT_FOR_SALE(400, 400, "판매 불가 상태의 상품입니다"),
   CART_ITEM_ALREADY_EXISTS(409, 409, "이미 장바구니에 담긴 상품입니다"),
+  CART_ITEM_DUPLICATED_IN_REQUEST(400, 400, "요청에 같은 상품이 중복되었습니다"),
 
   // 수량/재고
   CART_ITEM_INVALID_QUANTITY(400, 400, "허용되지 않는 수량입니다"),
@@ -1,12 +1,66 @@
 package com.shoppingmall.ecommerceapi.domain.cart.repository;
 
 import com.shoppingmall.ecommerceapi.domain.cart.entity.CartItem;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface CartItemRepository extends JpaRepository<CartItem, Long> {
 
   Optional<CartItem> findByCartIdAndProductId(Long cartId, Long productId);
 
   void deleteAllByCartId(Long cartId);
+
+  // 사용자 장바구니의 아이템이면 상품 ID 반환
+  @Query("SELECT ci.productId FROM CartItem ci WHERE ci.id = :id AND ci.cart.userId = :userId")
+  Optional<Long> findProductIdByIdAndUserId(@Param("id") Long id, @Param("userId") Long userId);
+
+  // 장바구니에 이미 담긴 상품 ID (일괄 담기 결과 구분용)
+  @Query("SELECT ci.productId FROM CartItem ci "
+      + "WHERE ci.cart.id = :cartId AND ci.productId IN :productIds")
+  List<Long> findProductIdsByCartIdAndProductIdIn(
+      @Param("cartId") Long cartId,
+      @Param("productIds") Collection<Long> productIds
+  );
+
+  // ---------- 단건 대상 변경 (컬렉션을 읽지 않음) ----------
+
+  @Modifying
+  @Query("UPDATE CartItem ci SET ci.quantity = :quantity, ci.updatedAt = :now WHERE ci.id = :id")
+  int updateQuantityById(
+      @Param("id") Long id,
+      @Param("quantity") int quantity,
+      @Param("now") LocalDateTime now
+  );
+
+  @Modifying
+  @Query("UPDATE CartItem ci SET ci.quantity = :quantity, ci.updatedAt = :now "
+      + "WHERE ci.cart.id = :cartId AND ci.productId = :productId")
+  int updateQuantityByCartIdAndProductId(
+      @Param("cartId") Long cartId,
+      @Param("productId") Long productId,
+      @Param("quantity") int quantity,
+      @Param("now") LocalDateTime now
+  );
+
+  @Modifying
+  @Query("DELETE FROM CartItem ci WHERE ci.cart.id = :cartId AND ci.productId = :productId")
+  int deleteByCartIdAndProductId(@Param("cartId") Long cartId, @Param("productId") Long productId);
+
+  @Modifying
+  @Query("DELETE FROM CartItem ci WHERE ci.cart.id = :cartId AND ci.productId IN :productIds")
+  int deleteByCartIdAndProductIdIn(
+      @Param("cartId") Long cartId,
+      @Param("productIds") Collection<Long> productIds
+  );
+
+  // 장바구니 아이템 일괄 삭제 (deleteAllByCartId와 달리 엔티티를 읽지 않고 DELETE 한 번)
+  @Modifying
+  @Query("DELETE FROM CartItem ci WHERE ci.cart.id = :cartId")
+  int bulkDeleteByCartId(@Param("cartId") Long cartId);
 }
@@ -0,0 +1,192 @@
+package com.shoppingmall.ecommerceapi.domain.cart.repository;
+
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 장바구니 JDBC 저장소
+ * - 유니크 제약 기반 단건 삽입/일괄 upsert, Redis 장바구니 write-behind 일괄 반영
+ * - 방치된 장바구니 아이템 정리 (키셋 조회, LIMIT 삭제)
+ */
+@Repository
+@RequiredArgsConstructor
+public class CartJdbcRepository {
+
+  // 수량이 바뀐 경우에만 updated_at 갱신 (MySQL은 왼쪽 대입부터 적용하므로 updated_at 먼저)
+  private static final String UPSERT_ITEM_SQL =
+      "INSERT INTO cart_items (cart_id, product_id, quantity, created_at, updated_at) "
+          + "VALUES (?, ?, ?, ?, ?) ON DUPLICATE KEY UPDATE "
+          + "updated_at = IF(quantity <> VALUES(quantity), VALUES(updated_at), updated_at), "
+          + "quantity = VALUES(quantity)";
+
+  // 중복이면 영향 행 수 0 (ON DUPLICATE KEY UPDATE no-op은 Connector/J 기본 설정에서 1로 보고되어 구분 불가)
+  private static final String INSERT_ITEM_IF_ABSENT_SQL =
+      "INSERT IGNORE INTO cart_items (cart_id, product_id, quantity, created_at, updated_at) "
+          + "VALUES (?, ?, ?, ?, ?)";
+
+  // (updated_at, id) 키셋 다음 페이지, 아이템이 남아 있는 장바구니만
+  // 아이템만 바뀌고 carts.updated_at은 갱신되지 않던 기존 데이터가 있으므로 최근 아이템이 있으면 제외
+  private static final String FIND_STALE_CARTS_SQL =
+      "SELECT c.id, c.updated_at FROM carts c "
+          + "WHERE c.updated_at < ? "
+          + "AND (c.updated_at > ? OR (c.updated_at = ? AND c.id > ?)) "
+          + "AND EXISTS (SELECT 1 FROM cart_items ci WHERE ci.cart_id = c.id) "
+          + "AND NOT EXISTS (SELECT 1 FROM cart_items ci WHERE ci.cart_id = c.id "
+          + "AND ci.updated_at >= ?) "
+          + "ORDER BY c.updated_at, c.id LIMIT ?";
+
+  // 조회 이후 다시 사용된 장바구니/아이템은 제외 (carts, cart_items 모두 updated_at 재확인)
+  private static final String DELETE_STALE_ITEMS_SQL =
+      "DELETE FROM cart_items WHERE cart_id IN ("
+          + "SELECT id FROM carts WHERE id IN (%s) AND updated_at < ?) "
+          + "AND updated_at < ? LIMIT ?";
+
+  private final JdbcTemplate jdbcTemplate;
+
+  /**
+   * 방치된 장바구니 (키셋 커서 이후, 최대 limit개)
+   */
+  public record StaleCart(long id, LocalDateTime updatedAt) {
+
+  }
+
+  /**
+   * Redis 장바구니 스냅샷 (상품 ID → 수량, 스냅샷을 읽을 때의 버전)
+   */
+  public record CartState(Map<Long, Integer> items, long version) {
+
+  }
+
+  /**
+   * (cart_id, product_id) 유니크 제약 기준 삽입 - 조회 후 삽입하지 않고 한 번에 처리
+   * - 새로 담겼으면 생성된 아이템 ID, 이미 담긴 상품이면 empty
+   */
+  public Optional<Long> insertItemIfAbsent(Long cartId, Long productId, int quantity,
+      LocalDateTime now) {
+    Timestamp timestamp = Timestamp.valueOf(now);
+    KeyHolder keyHolder = new GeneratedKeyHolder();
+
+    int inserted = jdbcTemplate.update(connection -> {
+      PreparedStatement ps = connection.prepareStatement(INSERT_ITEM_IF_ABSENT_SQL,
+          Statement.RETURN_GENERATED_KEYS);
+      ps.setLong(1, cartId);
+      ps.setLong(2, productId);
+      ps.setInt(3, quantity);
+      ps.setTimestamp(4, timestamp);
+      ps.setTimestamp(5, timestamp);
+      return ps;
+    }, keyHolder);
+
+    if (inserted != 1 || keyHolder.getKey() == null) {
+      return Optional.empty();
+    }
+    return Optional.of(keyHolder.getKey().longValue());
+  }
+
+  /**
+   * 장바구니 아이템 일괄 upsert (상품 ID → 수량) - 없으면 삽입, 있으면 수량 변경을 배치 한 번으로
+   */
+  public void upsertItems(Long cartId, Map<Long, Integer> quantities, LocalDateTime now) {
+    Timestamp timestamp = Timestamp.valueOf(now);
+    List<Object[]> upserts = new ArrayList<>(quantities.size());
+    quantities.forEach((productId, quantity) ->
+        upserts.add(new Object[]{cartId, productId, quantity, timestamp, timestamp}));
+    jdbcTemplate.batchUpdate(UPSERT_ITEM_SQL, upserts);
+  }
+
+  /**
+   * 장바구니 아이템을 주어진 상태로 맞춤 (장바구니 ID → 스냅샷) 하고 반영한 장바구니 수 반환
+   * - 장바구니 행을 먼저 잠그고(FOR UPDATE) 이미 같거나 더 새 버전이 반영된 장바구니는 건너뜀
+   *   → 여러 서버가 같은 장바구니를 동시에 반영해도 오래된 스냅샷이 최신 상태를 덮어쓰지 않음
+   * - 없는 상품은 삭제, 있는 상품은 upsert, 장바구니 수정 시각/반영 버전 갱신
+   */
+  @Transactional
+  public int replaceItems(Map<Long, CartState> statesByCartId) {
+    if (statesByCartId.isEmpty()) {
+      return 0;
+    }
+    Map<Long, Long> flushedVersions = new HashMap<>();
+    jdbcTemplate.query("SELECT id, flushed_version FROM carts WHERE id IN ("
+            + placeholders(statesByCartId.size()) + ") ORDER BY id FOR UPDATE",
+        rs -> {
+          flushedVersions.put(rs.getLong(1), rs.getLong(2));
+        },
+        statesByCartId.keySet().toArray());
+
+    Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+    List<Object[]> upserts = new ArrayList<>();
+    List<Object[]> cartUpdates = new ArrayList<>();
+    statesByCartId.forEach((cartId, state) -> {
+      Long flushedVersion = flushedVersions.get(cartId);
+      if (flushedVersion == null || flushedVersion >= state.version()) {
+        return;
+      }
+      cartUpdates.add(new Object[]{now, state.version(), cartId});
+
+      Map<Long, Integer> items = state.items();
+      if (items.isEmpty()) {
+        jdbcTemplate.update("DELETE FROM cart_items WHERE cart_id = ?", cartId);
+        return;
+      }
+      List<Object> params = new ArrayList<>();
+      params.add(cartId);
+      params.addAll(items.keySet());
+      jdbcTemplate.update("DELETE FROM cart_items WHERE cart_id = ? AND product_id NOT IN ("
+          + placeholders(items.size()) + ")", params.toArray());
+
+      items.forEach((productId, quantity) ->
+          upserts.add(new Object[]{cartId, productId, quantity, now, now}));
+    });
+
+    if (!upserts.isEmpty()) {
+      jdbcTemplate.batchUpdate(UPSERT_ITEM_SQL, upserts);
+    }
+    if (!cartUpdates.isEmpty()) {
+      jdbcTemplate.batchUpdate(
+          "UPDATE carts SET updated_at = ?, flushed_version = ? WHERE id = ?", cartUpdates);
+    }
+    return cartUpdates.size();
+  }
+
+  /**
+   * cutoff 이전에 마지막으로 사용된 장바구니를 (updated_at, id) 순서로 조회
+   * - 장바구니와 모든 아이템의 updated_at이 cutoff 이전이어야 방치된 것으로 봄
+   */
+  public List<StaleCart> findStaleCarts(LocalDateTime cutoff, LocalDateTime afterUpdatedAt,
+      long afterId, int limit) {
+    Timestamp after = Timestamp.valueOf(afterUpdatedAt);
+    return jdbcTemplate.query(FIND_STALE_CARTS_SQL,
+        (rs, rowNum) -> new StaleCart(rs.getLong(1), rs.getTimestamp(2).toLocalDateTime()),
+        Timestamp.valueOf(cutoff), after, after, afterId, Timestamp.valueOf(cutoff), limit);
+  }
+
+  /**
+   * 방치된 장바구니 아이템을 최대 limit행 삭제하고 삭제한 행 수 반환 (짧은 트랜잭션으로 나눠 지우도록)
+   */
+  public int deleteStaleItems(List<Long> cartIds, LocalDateTime cutoff, int limit) {
+    List<Object> params = new ArrayList<>(cartIds);
+    params.add(Timestamp.valueOf(cutoff));
+    params.add(Timestamp.valueOf(cutoff));
+    params.add(limit);
+    return jdbcTemplate.update(
+        DELETE_STALE_ITEMS_SQL.formatted(placeholders(cartIds.size())), params.toArray());
+  }
+
+  private static String placeholders(int count) {
+    return String.join(",", Collections.nCopies(count, "?"));
+  }
+}
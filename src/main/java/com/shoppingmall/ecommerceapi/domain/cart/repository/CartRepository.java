@@ -1,12 +1,28 @@
 package com.shoppingmall.ecommerceapi.domain.cart.repository;
 
 import com.shoppingmall.ecommerceapi.domain.cart.entity.Cart;
+import java.time.LocalDateTime;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface CartRepository extends JpaRepository<Cart, Long> {
 
   Optional<Cart> findByUserId(Long userId);
 
+  // 장바구니 + 아이템 한 번에 조회 (장바구니 화면용)
+  @Query("SELECT c FROM Cart c LEFT JOIN FETCH c.items WHERE c.userId = :userId")
+  Optional<Cart> findWithItemsByUserId(@Param("userId") Long userId);
+
   boolean existsByUserId(Long userId);
+
+  @Query("SELECT c.id FROM Cart c WHERE c.userId = :userId")
+  Optional<Long> findIdByUserId(@Param("userId") Long userId);
+
+  // 아이템만 바뀌어도 장바구니 수정 시각 갱신 (오래된 장바구니 정리 기준)
+  @Modifying
+  @Query("UPDATE Cart c SET c.updatedAt = :now WHERE c.userId = :userId")
+  int touch(@Param("userId") Long userId, @Param("now") LocalDateTime now);
 }
@@ -3,16 +3,33 @@ package com.shoppingmall.ecommerceapi.domain.cart.service;
 import com.shoppingmall.ecommerceapi.common.exception.BusinessException;
 import com.shoppingmall.ecommerceapi.domain.cart.converter.CartConverter;
 import com.shoppingmall.ecommerceapi.domain.cart.dto.AddCartItemRequest;
+import com.shoppingmall.ecommerceapi.domain.cart.dto.BulkCartItemRequest;
+import com.shoppingmall.ecommerceapi.domain.cart.dto.BulkCartItemResponse;
+import com.shoppingmall.ecommerceapi.domain.cart.dto.CartCheckoutRequest;
 import com.shoppingmall.ecommerceapi.domain.cart.dto.CartItemResponse;
 import com.shoppingmall.ecommerceapi.domain.cart.dto.CartResponse;
 import com.shoppingmall.ecommerceapi.domain.cart.entity.Cart;
 import com.shoppingmall.ecommerceapi.domain.cart.entity.CartItem;
 import com.shoppingmall.ecommerceapi.domain.cart.exception.CartErrorCode;
 import com.shoppingmall.ecommerceapi.domain.cart.repository.CartRepository;
+import com.shoppingmall.ecommerceapi.domain.cart.store.CartSnapshot;
+import com.shoppingmall.ecommerceapi.domain.cart.store.CartStore;
+import com.shoppingmall.ecommerceapi.domain.order.dto.CreateOrderItemRequest;
+import com.shoppingmall.ecommerceapi.domain.order.dto.CreateOrderRequest;
+import com.shoppingmall.ecommerceapi.domain.order.dto.OrderResponse;
+import com.shoppingmall.ecommerceapi.domain.order.service.OrderService;
 import com.shoppingmall.ecommerceapi.domain.product.entity.Product;
 import com.shoppingmall.ecommerceapi.domain.product.entity.enums.ProductStatus;
+import com.shoppingmall.ecommerceapi.domain.product.repository.ProductSummary;
 import com.shoppingmall.ecommerceapi.domain.product.service.ProductService;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -24,6 +41,8 @@ public class CartService {
 
   private final CartRepository cartRepository;
   private final ProductService productService;
+  private final CartStore cartStore;
+  private final OrderService orderService;
 
   @Transactional(readOnly = true)
   public Cart getCartByUserId(Long userId) {
@@ -40,14 +59,18 @@ public class CartService {
 
   /**
    * 장바구니 조회 + Product 정보 조합 후 CartResponse 반환.
+   * - 아이템은 CartStore에서 한 번, 상품 이름/가격은 ID 목록으로 한 번 조회 (아이템 수와 무관)
    */
   @Transactional(readOnly = true)
   public CartResponse getCartResponse(Long userId) {
-    Cart cart = getCartByUserId(userId);
+    CartSnapshot cart = cartStore.getCart(userId);
+
+    Map<Long, ProductSummary> products = productService.findProductSummaries(
+        cart.getItems().stream().map(CartItem::getProductId).toList());
 
     List<CartItemResponse> itemResponses = cart.getItems().stream()
         .map(item -> {
-          Product product = productService.findProductEntityById(item.getProductId());
+          ProductSummary product = products.get(item.getProductId());
           return CartConverter.toCartItemResponse(
               item,
               product.getName(),
@@ -63,8 +86,6 @@ public class CartService {
    * 정책: 이미 담긴 상품이면 CART_ITEM_ALREADY_EXISTS
    */
   public CartItem addItem(Long userId, AddCartItemRequest request) {
-    Cart cart = getCartByUserId(userId);
-
     if (request.getQuantity() <= 0) {
       throw new BusinessException(CartErrorCode.CART_ITEM_INVALID_QUANTITY);
     }
@@ -81,59 +102,139 @@ public class CartService {
       throw new BusinessException(CartErrorCode.CART_ITEM_OUT_OF_STOCK);
     }
 
-    // 3) 장바구니 중복 검증
-    boolean exists = cart.getItems().stream()
-        .anyMatch(i -> i.getProductId().equals(request.getProductId()));
-    if (exists) {
-      throw new BusinessException(CartErrorCode.CART_ITEM_ALREADY_EXISTS);
+    // 3) 담기 (중복이면 저장소에서 CART_ITEM_ALREADY_EXISTS)
+    return cartStore.addItem(userId, request.getProductId(), request.getQuantity());
+  }
+
+  /**
+   * 일괄 담기/수량 변경 - 없는 상품은 담고 이미 담긴 상품은 요청 수량으로 변경
+   * - 상품 검증은 ID 목록으로 한 번 조회, 통과한 항목만 저장소에 한 번에 반영
+   * - 실패 항목이 있어도 나머지는 반영하고 요청 순서대로 항목별 결과 반환
+   */
+  public BulkCartItemResponse upsertItems(Long userId, BulkCartItemRequest request) {
+    List<AddCartItemRequest> lines = request.getItems();
+
+    Map<Long, Product> products = productService.findProductEntities(lines.stream()
+        .filter(Objects::nonNull)
+        .map(AddCartItemRequest::getProductId)
+        .filter(Objects::nonNull)
+        .collect(Collectors.toSet()));
+
+    // 요청 순서 유지 (항목 인덱스 → 실패 사유)
+    Map<Long, Integer> quantities = new LinkedHashMap<>();
+    Map<Integer, CartErrorCode> failures = new HashMap<>();
+    for (int i = 0; i < lines.size(); i++) {
+      AddCartItemRequest line = lines.get(i);
+      // 빈 항목(null)은 상품을 알 수 없으므로 항목 실패로 처리
+      if (line == null) {
+        failures.put(i, CartErrorCode.CART_ITEM_INVALID_PRODUCT);
+        continue;
+      }
+      Product product = line.getProductId() == null ? null : products.get(line.getProductId());
+      CartErrorCode error = validateLine(line, product);
+      if (error == null && quantities.containsKey(line.getProductId())) {
+        error = CartErrorCode.CART_ITEM_DUPLICATED_IN_REQUEST;
+      }
+      if (error != null) {
+        failures.put(i, error);
+        continue;
+      }
+      quantities.put(line.getProductId(), line.getQuantity());
     }
 
-    // 4) 담기
-    CartItem item = CartConverter.toEntity(request);
-    cart.addItem(item);
+    Set<Long> added = quantities.isEmpty() ? Set.of() : cartStore.upsertItems(userId, quantities);
+
+    List<BulkCartItemResponse.Result> results = new ArrayList<>(lines.size());
+    for (int i = 0; i < lines.size(); i++) {
+      AddCartItemRequest line = lines.get(i);
+      CartErrorCode error = failures.get(i);
+      results.add(BulkCartItemResponse.Result.builder()
+          .productId(line != null ? line.getProductId() : null)
+          .quantity(line != null ? line.getQuantity() : null)
+          .status(error != null ? BulkCartItemResponse.Status.FAILED
+              : added.contains(line.getProductId()) ? BulkCartItemResponse.Status.ADDED
+                  : BulkCartItemResponse.Status.UPDATED)
+          .errorCode(error != null ? error.name() : null)
+          .message(error != null ? error.getMessage() : null)
+          .build());
+    }
 
-    return item;
+    return BulkCartItemResponse.builder()
+        .successCount(lines.size() - failures.size())
+        .failureCount(failures.size())
+        .results(results)
+        .build();
   }
 
-
-  public CartItem changeQuantity(Long userId, Long cartItemId, int quantity) {
-    Cart cart = getCartByUserId(userId);
-
-    if (quantity <= 0) {
-      throw new BusinessException(CartErrorCode.CART_ITEM_INVALID_QUANTITY);
+  // 단건 담기와 같은 검증 (수량, 상품 존재, 판매 상태), 통과하면 null
+  static CartErrorCode validateLine(AddCartItemRequest line, Product product) {
+    if (line.getQuantity() <= 0) {
+      return CartErrorCode.CART_ITEM_INVALID_QUANTITY;
+    }
+    if (product == null) {
+      return CartErrorCode.CART_ITEM_INVALID_PRODUCT;
+    }
+    if (product.getStatus() == ProductStatus.STOP_SALE) {
+      return CartErrorCode.CART_ITEM_PRODUCT_NOT_FOR_SALE;
+    }
+    if (product.getStatus() == ProductStatus.SOLD_OUT) {
+      return CartErrorCode.CART_ITEM_OUT_OF_STOCK;
     }
+    return null;
+  }
 
-    CartItem item = cart.getItems().stream()
-        .filter(i -> cartItemId.equals(i.getId()))// ID 기준
-        .findFirst()
-        .orElseThrow(() -> new BusinessException(CartErrorCode.CART_ITEM_NOT_FOUND));
+  public CartItem changeQuantity(Long userId, Long cartItemId, int quantity) {
+    validateQuantity(quantity);
+    return cartStore.changeQuantity(userId, cartItemId, quantity);
+  }
 
-    item.changeQuantity(quantity);
-    return item;
+  // 상품 ID 기준 수량 변경 (Redis 저장소에서는 아직 반영 전인 아이템에 ID가 없음)
+  public CartItem changeQuantityByProduct(Long userId, Long productId, int quantity) {
+    validateQuantity(quantity);
+    return cartStore.changeQuantityByProduct(userId, productId, quantity);
   }
 
   public void removeItem(Long userId, Long productId) {
-    Cart cart = getCartByUserId(userId);
-
-    CartItem item = cart.getItems().stream()
-        .filter(i -> i.getProductId().equals(productId))
-        .findFirst()
-        .orElseThrow(() -> new BusinessException(CartErrorCode.CART_ITEM_NOT_FOUND));
-
-    cart.removeItem(item);
+    cartStore.removeItem(userId, productId);
   }
 
   public void clearCart(Long userId) {
-    Cart cart = getCartByUserId(userId);
+    cartStore.clear(userId);
+  }
 
+  /**
+   * 장바구니 주문 - 장바구니 조회, 재고 차감, 주문 생성, 장바구니 정리를 한 트랜잭션으로
+   * - 상품은 주문 생성 시 한 번에 조회, 총 금액은 서버 계산 금액으로 확정
+   * - 주문한 상품만 장바구니에서 삭제 (주문 중 새로 담긴 상품은 유지)
+   */
+  public OrderResponse checkout(Long userId, CartCheckoutRequest request) {
+    CartSnapshot cart = cartStore.getCart(userId);
     if (cart.getItems().isEmpty()) {
-      throw new BusinessException(CartErrorCode.CART_ALREADY_EMPTY);
+      throw new BusinessException(CartErrorCode.CART_CHECKOUT_EMPTY);
     }
 
-    try {
-      cart.clearItems();
-    } catch (Exception e) {
-      throw new BusinessException(CartErrorCode.CART_CLEANUP_FAILED, e.getMessage());
+    List<CreateOrderItemRequest> orderItems = cart.getItems().stream()
+        .map(item -> CreateOrderItemRequest.builder()
+            .productId(item.getProductId())
+            .quantity(item.getQuantity())
+            .build())
+        .toList();
+
+    OrderResponse order = orderService.createOrderFromCart(userId, CreateOrderRequest.builder()
+        .zipCode(request.getZipCode())
+        .address(request.getAddress())
+        .detailAddress(request.getDetailAddress())
+        .orderItems(orderItems)
+        .build());
+
+    cartStore.removeItems(userId,
+        orderItems.stream().map(CreateOrderItemRequest::getProductId).toList());
+    return order;
+  }
+
+  private static void validateQuantity(int quantity) {
+    if (quantity <= 0) {
+      throw new BusinessException(CartErrorCode.CART_ITEM_INVALID_QUANTITY);
     }
   }
 }
@@ -0,0 +1,115 @@
+package com.shoppingmall.ecommerceapi.domain.cart.service;
+
+import com.shoppingmall.ecommerceapi.common.exception.BusinessException;
+import com.shoppingmall.ecommerceapi.domain.cart.converter.CartConverter;
+import com.shoppingmall.ecommerceapi.domain.cart.dto.AddCartItemRequest;
+import com.shoppingmall.ecommerceapi.domain.cart.dto.BulkCartItemRequest;
+import com.shoppingmall.ecommerceapi.domain.cart.dto.BulkCartItemResponse;
+import com.shoppingmall.ecommerceapi.domain.cart.dto.CartItemResponse;
+import com.shoppingmall.ecommerceapi.domain.cart.dto.CartResponse;
+import com.shoppingmall.ecommerceapi.domain.cart.entity.CartItem;
+import com.shoppingmall.ecommerceapi.domain.cart.exception.CartErrorCode;
+import com.shoppingmall.ecommerceapi.domain.cart.store.CartSnapshot;
+import com.shoppingmall.ecommerceapi.domain.cart.store.GuestCartStore;
+import com.shoppingmall.ecommerceapi.domain.product.entity.Product;
+import com.shoppingmall.ecommerceapi.domain.product.repository.ProductSummary;
+import com.shoppingmall.ecommerceapi.domain.product.service.ProductService;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+/**
+ * 비회원 장바구니
+ * - Redis(GuestCartStore)에만 보관하고 상품은 조회만 하므로 비회원 요청은 MySQL에 쓰지 않음
+ * - 로그인하면 회원 장바구니로 한 번에 합침 (일괄 담기와 같은 검증, 담긴 상품은 비회원 수량으로 변경)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class GuestCartService {
+
+  private final GuestCartStore guestCartStore;
+  private final ProductService productService;
+  private final CartService cartService;
+
+  // 쿠키가 없으면 빈 장바구니
+  public CartResponse getCartResponse(String guestId) {
+    CartSnapshot cart = guestId == null
+        ? new CartSnapshot(null, null, null, List.of())
+        : guestCartStore.getCart(guestId);
+
+    Map<Long, ProductSummary> products = productService.findProductSummaries(
+        cart.getItems().stream().map(CartItem::getProductId).toList());
+
+    List<CartItemResponse> itemResponses = cart.getItems().stream()
+        .map(item -> {
+          ProductSummary product = products.get(item.getProductId());
+          return CartConverter.toCartItemResponse(item, product.getName(), product.getPrice());
+        })
+        .toList();
+
+    return CartConverter.toCartResponse(cart, itemResponses);
+  }
+
+  /**
+   * 정책은 회원 장바구니 담기와 동일 (수량, 상품 존재, 판매 상태, 중복)
+   */
+  public CartItem addItem(String guestId, AddCartItemRequest request) {
+    Product product = request.getProductId() == null ? null
+        : productService.findProductEntities(Set.of(request.getProductId()))
+            .get(request.getProductId());
+
+    CartErrorCode error = CartService.validateLine(request, product);
+    if (error != null) {
+      throw new BusinessException(error);
+    }
+    return guestCartStore.addItem(guestId, request.getProductId(), request.getQuantity());
+  }
+
+  public CartItem changeQuantityByProduct(String guestId, Long productId, int quantity) {
+    if (quantity <= 0) {
+      throw new BusinessException(CartErrorCode.CART_ITEM_INVALID_QUANTITY);
+    }
+    return guestCartStore.changeQuantityByProduct(guestId, productId, quantity);
+  }
+
+  public void removeItem(String guestId, Long productId) {
+    guestCartStore.removeItem(guestId, productId);
+  }
+
+  public void clearCart(String guestId) {
+    if (guestCartStore.getCart(guestId).getItems().isEmpty()) {
+      throw new BusinessException(CartErrorCode.CART_ALREADY_EMPTY);
+    }
+    guestCartStore.delete(guestId);
+  }
+
+  /**
+   * 로그인 시 비회원 장바구니를 회원 장바구니로 합치고 삭제
+   * - 상품 검증 1번 + 저장소 일괄 반영 1번 (CartService.upsertItems)
+   * - 합치기에 실패하면 비회원 장바구니를 남겨 두고 예외 전파
+   */
+  public void mergeIntoUserCart(String guestId, Long userId) {
+    CartSnapshot guestCart = guestCartStore.getCart(guestId);
+    if (guestCart.getItems().isEmpty()) {
+      guestCartStore.delete(guestId);
+      return;
+    }
+
+    BulkCartItemResponse result = cartService.upsertItems(userId, BulkCartItemRequest.builder()
+        .items(guestCart.getItems().stream()
+            .map(item -> AddCartItemRequest.builder()
+                .productId(item.getProductId())
+                .quantity(item.getQuantity())
+                .build())
+            .toList())
+        .build());
+    guestCartStore.delete(guestId);
+
+    log.info("비회원 장바구니 합치기 완료: userId={}, 반영={}, 제외={}",
+        userId, result.getSuccessCount(), result.getFailureCount());
+  }
+}
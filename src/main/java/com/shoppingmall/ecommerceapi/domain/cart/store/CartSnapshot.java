@@ -0,0 +1,21 @@
+package com.shoppingmall.ecommerceapi.domain.cart.store;
+
+import com.shoppingmall.ecommerceapi.domain.cart.entity.CartItem;
+import java.time.LocalDateTime;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 저장소에서 읽은 장바구니 (JPA 엔티티 또는 Redis 해시)
+ * - Redis 저장소의 아이템은 영속화 전일 수 있어 id/생성 시각이 비어 있을 수 있음
+ */
+@Getter
+@AllArgsConstructor
+public class CartSnapshot {
+
+  private final Long cartId;
+  private final Long userId;
+  private final LocalDateTime updatedAt;
+  private final List<CartItem> items;
+}
@@ -0,0 +1,36 @@
+package com.shoppingmall.ecommerceapi.domain.cart.store;
+
+import com.shoppingmall.ecommerceapi.domain.cart.entity.CartItem;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 장바구니 아이템 저장소 (cart.store-mode : jpa | redis)
+ * - 검증(수량, 상품 판매 상태)은 CartService에서, 저장소는 담기/변경/삭제만 담당
+ * - 장바구니가 없으면 CART_NOT_FOUND, 아이템 중복/부재는 CartErrorCode 예외
+ */
+public interface CartStore {
+
+  CartSnapshot getCart(Long userId);
+
+  // 이미 담긴 상품이면 CART_ITEM_ALREADY_EXISTS
+  CartItem addItem(Long userId, Long productId, int quantity);
+
+  // 상품 ID → 수량 일괄 반영 (없으면 담고 있으면 수량 변경), 새로 담긴 상품 ID 반환
+  Set<Long> upsertItems(Long userId, Map<Long, Integer> quantities);
+
+  // cartItemId 기준 수량 변경
+  CartItem changeQuantity(Long userId, Long cartItemId, int quantity);
+
+  // 상품 ID 기준 수량 변경
+  CartItem changeQuantityByProduct(Long userId, Long productId, int quantity);
+
+  void removeItem(Long userId, Long productId);
+
+  // 주문한 상품만 삭제 (주문 중 새로 담긴 상품은 유지), 진행 중인 트랜잭션이 있으면 커밋과 함께 반영
+  void removeItems(Long userId, Collection<Long> productIds);
+
+  // 비어 있으면 CART_ALREADY_EMPTY
+  void clear(Long userId);
+}
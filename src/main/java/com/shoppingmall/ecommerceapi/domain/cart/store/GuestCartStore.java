@@ -0,0 +1,156 @@
+package com.shoppingmall.ecommerceapi.domain.cart.store;
+
+import com.shoppingmall.ecommerceapi.common.exception.BusinessException;
+import com.shoppingmall.ecommerceapi.domain.cart.entity.CartItem;
+import com.shoppingmall.ecommerceapi.domain.cart.exception.CartErrorCode;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+/**
+ * 비회원 장바구니 저장소 (Redis 전용, MySQL에는 기록하지 않음)
+ * - 쿠키의 비회원 ID별 해시 cart:guest:{guestId} (상품 ID → 수량, _at = 수정 시각)
+ * - 조회/변경할 때마다 TTL 연장 (sliding), 방치되면 만료로 정리
+ * - 로그인 시 회원 장바구니로 합친 뒤 삭제
+ */
+@Component
+public class GuestCartStore {
+
+  static final String KEY_PREFIX = "cart:guest:";
+
+  // 스크립트 결과: 1 = 반영, 0 = 조건 불일치, -2 = 담을 수 있는 상품 수 초과
+  private static final long LIMIT_EXCEEDED = -2L;
+
+  // ARGV = 상품 ID, 수량, 현재 시각(ms), TTL(초), 최대 상품 수
+  private static final String TOUCH = """
+      redis.call('HSET', KEYS[1], '_at', ARGV[3])
+      redis.call('EXPIRE', KEYS[1], ARGV[4])
+      return 1
+      """;
+
+  private static final RedisScript<Long> ADD_SCRIPT = new DefaultRedisScript<>("""
+      if redis.call('HEXISTS', KEYS[1], ARGV[1]) == 1 then return 0 end
+      local items = redis.call('HLEN', KEYS[1]) - redis.call('HEXISTS', KEYS[1], '_at')
+      if items >= tonumber(ARGV[5]) then return -2 end
+      redis.call('HSET', KEYS[1], ARGV[1], ARGV[2])
+      """ + TOUCH, Long.class);
+
+  private static final RedisScript<Long> SET_SCRIPT = new DefaultRedisScript<>("""
+      if redis.call('HEXISTS', KEYS[1], ARGV[1]) == 0 then return 0 end
+      redis.call('HSET', KEYS[1], ARGV[1], ARGV[2])
+      """ + TOUCH, Long.class);
+
+  private static final RedisScript<Long> REMOVE_SCRIPT = new DefaultRedisScript<>("""
+      if redis.call('HDEL', KEYS[1], ARGV[1]) == 0 then return 0 end
+      """ + TOUCH, Long.class);
+
+  // 조회 + TTL 연장 (ARGV[1] = TTL(초))
+  @SuppressWarnings("rawtypes")
+  private static final RedisScript<List> READ_SCRIPT = new DefaultRedisScript<>("""
+      local entries = redis.call('HGETALL', KEYS[1])
+      if #entries > 0 then redis.call('EXPIRE', KEYS[1], ARGV[1]) end
+      return entries
+      """, List.class);
+
+  private final StringRedisTemplate redisTemplate;
+  private final Duration ttl;
+  private final int maxItems;
+
+  public GuestCartStore(
+      StringRedisTemplate redisTemplate,
+      @Value("${cart.guest.ttl-hours:72}") long ttlHours,
+      @Value("${cart.guest.max-items:100}") int maxItems
+  ) {
+    this.redisTemplate = redisTemplate;
+    this.ttl = Duration.ofHours(ttlHours);
+    this.maxItems = maxItems;
+  }
+
+  public Duration getTtl() {
+    return ttl;
+  }
+
+  /**
+   * 비회원 장바구니 조회 (없으면 빈 장바구니)
+   */
+  @SuppressWarnings("unchecked")
+  public CartSnapshot getCart(String guestId) {
+    List<String> entries = redisTemplate.execute(READ_SCRIPT, List.of(key(guestId)),
+        String.valueOf(ttl.getSeconds()));
+
+    Map<String, String> fields = new LinkedHashMap<>();
+    for (int i = 0; entries != null && i + 1 < entries.size(); i += 2) {
+      fields.put(entries.get(i), entries.get(i + 1));
+    }
+
+    List<CartItem> items = new ArrayList<>();
+    new TreeMap<>(RedisCartStore.items(fields)).forEach((productId, quantity) ->
+        items.add(CartItem.detached(null, productId, quantity)));
+    return new CartSnapshot(null, null, toDateTime(fields.get("_at")), items);
+  }
+
+  // 이미 담긴 상품이면 CART_ITEM_ALREADY_EXISTS, 최대 상품 수 초과면 CART_GUEST_ITEM_LIMIT_EXCEEDED
+  public CartItem addItem(String guestId, Long productId, int quantity) {
+    long result = execute(ADD_SCRIPT, guestId, productId, quantity);
+    if (result == LIMIT_EXCEEDED) {
+      throw new BusinessException(CartErrorCode.CART_GUEST_ITEM_LIMIT_EXCEEDED);
+    }
+    if (result == 0) {
+      throw new BusinessException(CartErrorCode.CART_ITEM_ALREADY_EXISTS);
+    }
+    return CartItem.detached(null, productId, quantity);
+  }
+
+  public CartItem changeQuantityByProduct(String guestId, Long productId, int quantity) {
+    if (execute(SET_SCRIPT, guestId, productId, quantity) == 0) {
+      throw new BusinessException(CartErrorCode.CART_ITEM_NOT_FOUND);
+    }
+    return CartItem.detached(null, productId, quantity);
+  }
+
+  public void removeItem(String guestId, Long productId) {
+    if (execute(REMOVE_SCRIPT, guestId, productId, 0) == 0) {
+      throw new BusinessException(CartErrorCode.CART_ITEM_NOT_FOUND);
+    }
+  }
+
+  /**
+   * 비회원 장바구니 삭제 (비우기, 로그인 후 합치기 완료)
+   */
+  public void delete(String guestId) {
+    redisTemplate.delete(key(guestId));
+  }
+
+  static String key(String guestId) {
+    return KEY_PREFIX + guestId;
+  }
+
+  private long execute(RedisScript<Long> script, String guestId, Long productId, int quantity) {
+    Long result = redisTemplate.execute(script, List.of(key(guestId)),
+        String.valueOf(productId),
+        String.valueOf(quantity),
+        String.valueOf(System.currentTimeMillis()),
+        String.valueOf(ttl.getSeconds()),
+        String.valueOf(maxItems));
+    return result == null ? 0 : result;
+  }
+
+  private static LocalDateTime toDateTime(String epochMillis) {
+    if (epochMillis == null) {
+      return null;
+    }
+    return LocalDateTime.ofInstant(Instant.ofEpochMilli(Long.parseLong(epochMillis)),
+        ZoneId.systemDefault());
+  }
+}
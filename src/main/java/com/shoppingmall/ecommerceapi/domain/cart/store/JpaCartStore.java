@@ -0,0 +1,136 @@
+package com.shoppingmall.ecommerceapi.domain.cart.store;
+
+import com.shoppingmall.ecommerceapi.common.exception.BusinessException;
+import com.shoppingmall.ecommerceapi.domain.cart.entity.Cart;
+import com.shoppingmall.ecommerceapi.domain.cart.entity.CartItem;
+import com.shoppingmall.ecommerceapi.domain.cart.exception.CartErrorCode;
+import com.shoppingmall.ecommerceapi.domain.cart.repository.CartItemRepository;
+import com.shoppingmall.ecommerceapi.domain.cart.repository.CartJdbcRepository;
+import com.shoppingmall.ecommerceapi.domain.cart.repository.CartRepository;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * MySQL 장바구니 저장소 (기본값, cart.store-mode=jpa)
+ * - 변경은 아이템 컬렉션을 읽지 않고 대상 행만 UPDATE/DELETE/INSERT (장바구니 크기와 무관하게 쿼리 수 고정)
+ * - 담기는 (cart_id, product_id) 유니크 제약에 맡겨 중복 확인 조회 없이 한 번에 처리
+ * - 변경 시 장바구니 수정 시각도 갱신
+ */
+@Component
+@ConditionalOnProperty(name = "cart.store-mode", havingValue = "jpa", matchIfMissing = true)
+@RequiredArgsConstructor
+@Transactional
+public class JpaCartStore implements CartStore {
+
+  private final CartRepository cartRepository;
+  private final CartItemRepository cartItemRepository;
+  private final CartJdbcRepository cartJdbcRepository;
+
+  @Override
+  @Transactional(readOnly = true)
+  public CartSnapshot getCart(Long userId) {
+    Cart cart = cartRepository.findWithItemsByUserId(userId)
+        .orElseThrow(() -> new BusinessException(CartErrorCode.CART_NOT_FOUND));
+    return new CartSnapshot(cart.getId(), cart.getUserId(), cart.getUpdatedAt(),
+        cart.getItems());
+  }
+
+  @Override
+  public CartItem addItem(Long userId, Long productId, int quantity) {
+    Long cartId = findCartId(userId);
+    LocalDateTime now = LocalDateTime.now();
+
+    Long itemId = cartJdbcRepository.insertItemIfAbsent(cartId, productId, quantity, now)
+        .orElseThrow(() -> new BusinessException(CartErrorCode.CART_ITEM_ALREADY_EXISTS));
+    cartRepository.touch(userId, now);
+    return CartItem.detached(itemId, productId, quantity, now, now);
+  }
+
+  /**
+   * 담긴 상품 확인 1번 + 배치 upsert 1번 (항목 수와 무관)
+   */
+  @Override
+  public Set<Long> upsertItems(Long userId, Map<Long, Integer> quantities) {
+    Long cartId = findCartId(userId);
+    LocalDateTime now = LocalDateTime.now();
+
+    Set<Long> added = new HashSet<>(quantities.keySet());
+    cartItemRepository.findProductIdsByCartIdAndProductIdIn(cartId, quantities.keySet())
+        .forEach(added::remove);
+
+    cartJdbcRepository.upsertItems(cartId, quantities, now);
+    cartRepository.touch(userId, now);
+    return added;
+  }
+
+  @Override
+  public CartItem changeQuantity(Long userId, Long cartItemId, int quantity) {
+    // 본인 장바구니 아이템인지 확인하면서 응답용 상품 ID 조회
+    Long productId = cartItemRepository.findProductIdByIdAndUserId(cartItemId, userId)
+        .orElseThrow(() -> new BusinessException(CartErrorCode.CART_ITEM_NOT_FOUND));
+    LocalDateTime now = LocalDateTime.now();
+
+    cartItemRepository.updateQuantityById(cartItemId, quantity, now);
+    cartRepository.touch(userId, now);
+    return CartItem.detached(cartItemId, productId, quantity, null, now);
+  }
+
+  @Override
+  public CartItem changeQuantityByProduct(Long userId, Long productId, int quantity) {
+    Long cartId = findCartId(userId);
+    LocalDateTime now = LocalDateTime.now();
+
+    if (cartItemRepository.updateQuantityByCartIdAndProductId(cartId, productId, quantity, now)
+        == 0) {
+      throw new BusinessException(CartErrorCode.CART_ITEM_NOT_FOUND);
+    }
+    cartRepository.touch(userId, now);
+    return CartItem.detached(null, productId, quantity, null, now);
+  }
+
+  @Override
+  public void removeItem(Long userId, Long productId) {
+    Long cartId = findCartId(userId);
+
+    if (cartItemRepository.deleteByCartIdAndProductId(cartId, productId) == 0) {
+      throw new BusinessException(CartErrorCode.CART_ITEM_NOT_FOUND);
+    }
+    cartRepository.touch(userId, LocalDateTime.now());
+  }
+
+  @Override
+  public void removeItems(Long userId, Collection<Long> productIds) {
+    Long cartId = findCartId(userId);
+
+    cartItemRepository.deleteByCartIdAndProductIdIn(cartId, productIds);
+    cartRepository.touch(userId, LocalDateTime.now());
+  }
+
+  @Override
+  public void clear(Long userId) {
+    Long cartId = findCartId(userId);
+
+    int deleted;
+    try {
+      deleted = cartItemRepository.bulkDeleteByCartId(cartId);
+    } catch (Exception e) {
+      throw new BusinessException(CartErrorCode.CART_CLEANUP_FAILED, e.getMessage());
+    }
+    if (deleted == 0) {
+      throw new BusinessException(CartErrorCode.CART_ALREADY_EMPTY);
+    }
+    cartRepository.touch(userId, LocalDateTime.now());
+  }
+
+  private Long findCartId(Long userId) {
+    return cartRepository.findIdByUserId(userId)
+        .orElseThrow(() -> new BusinessException(CartErrorCode.CART_NOT_FOUND));
+  }
+}
@@ -0,0 +1,106 @@
+package com.shoppingmall.ecommerceapi.domain.cart.store;
+
+import com.shoppingmall.ecommerceapi.domain.cart.repository.CartJdbcRepository;
+import com.shoppingmall.ecommerceapi.domain.cart.repository.CartJdbcRepository.CartState;
+import jakarta.annotation.PreDestroy;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Redis 장바구니 → MySQL 반영 (write-behind)
+ * - 변경된 사용자 ID는 cart:dirty(Set)에 모이므로 여러 번 바뀌어도 한 번만 반영
+ * - SPOP은 꺼내는 것만 한 번일 뿐 반영 순서를 보장하지 않음 (A가 꺼내 읽은 뒤 멈춘 사이
+ *   다시 바뀐 장바구니를 B가 먼저 반영할 수 있음) → 해시의 버전(_v)을 함께 넘겨
+ *   MySQL에 더 새 버전이 반영되어 있으면 건너뜀 (CartJdbcRepository.replaceItems)
+ * - 꺼낸 뒤 다시 바뀌면 스크립트가 다시 등록 → 다음 주기에 최신 상태로 반영
+ * - 반영 실패 시 사용자 ID를 되돌려 놓고 다음 주기에 재시도
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "cart.store-mode", havingValue = "redis")
+public class RedisCartFlusher {
+
+  private final StringRedisTemplate redisTemplate;
+  private final CartJdbcRepository cartJdbcRepository;
+  private final int batchSize;
+
+  public RedisCartFlusher(
+      StringRedisTemplate redisTemplate,
+      CartJdbcRepository cartJdbcRepository,
+      @Value("${cart.redis.flush-batch-size:200}") int batchSize
+  ) {
+    this.redisTemplate = redisTemplate;
+    this.cartJdbcRepository = cartJdbcRepository;
+    this.batchSize = batchSize;
+  }
+
+  @Scheduled(fixedDelayString = "${cart.redis.flush-interval-ms:1000}")
+  public void scheduledFlush() {
+    // 밀린 변경이 batch-size보다 많으면 이어서 반영
+    int flushed;
+    do {
+      flushed = flush();
+    } while (flushed == batchSize);
+  }
+
+  @PreDestroy
+  public void flushOnShutdown() {
+    int flushed;
+    do {
+      flushed = flush();
+    } while (flushed > 0);
+  }
+
+  /**
+   * 변경된 장바구니를 최대 batch-size개 반영하고 반영한 사용자 수 반환
+   */
+  @SuppressWarnings("unchecked")
+  public int flush() {
+    List<String> userIds = redisTemplate.opsForSet().pop(RedisCartStore.DIRTY_KEY, batchSize);
+    if (userIds == null || userIds.isEmpty()) {
+      return 0;
+    }
+
+    try {
+      // 해시 전체 조회를 파이프라인 한 번으로
+      List<Object> hashes = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+        userIds.forEach(userId -> connection.hashCommands().hGetAll(
+            RedisCartStore.key(userId).getBytes(StandardCharsets.UTF_8)));
+        return null;
+      });
+
+      Map<Long, CartState> statesByCartId = new LinkedHashMap<>();
+      for (Object hash : hashes) {
+        Map<String, String> fields = (Map<String, String>) hash;
+        // 만료된 장바구니는 MySQL 상태 유지
+        if (fields == null || fields.isEmpty()) {
+          continue;
+        }
+        String version = fields.get(RedisCartStore.VERSION_FIELD);
+        statesByCartId.put(Long.valueOf(fields.get(RedisCartStore.CART_ID_FIELD)),
+            new CartState(RedisCartStore.items(fields),
+                version == null ? 0 : Long.parseLong(version)));
+      }
+
+      int applied = cartJdbcRepository.replaceItems(statesByCartId);
+      if (applied < statesByCartId.size()) {
+        log.debug("이미 더 새 버전이 반영된 장바구니 건너뜀: {}건", statesByCartId.size() - applied);
+      }
+      return userIds.size();
+
+    } catch (Exception e) {
+      log.warn("장바구니 MySQL 반영 실패 - 다음 주기에 재시도, 사용자 수: {}", userIds.size(), e);
+      redisTemplate.opsForSet().add(RedisCartStore.DIRTY_KEY, userIds.toArray(String[]::new));
+      return 0;
+    }
+  }
+}
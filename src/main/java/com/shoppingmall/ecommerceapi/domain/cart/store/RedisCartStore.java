@@ -0,0 +1,330 @@
+package com.shoppingmall.ecommerceapi.domain.cart.store;
+
+import com.shoppingmall.ecommerceapi.common.exception.BusinessException;
+import com.shoppingmall.ecommerceapi.domain.cart.entity.Cart;
+import com.shoppingmall.ecommerceapi.domain.cart.entity.CartItem;
+import com.shoppingmall.ecommerceapi.domain.cart.exception.CartErrorCode;
+import com.shoppingmall.ecommerceapi.domain.cart.repository.CartItemRepository;
+import com.shoppingmall.ecommerceapi.domain.cart.repository.CartRepository;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Redis 장바구니 저장소 (cart.store-mode=redis)
+ * - 사용자별 해시 cart:user:{userId} (상품 ID → 수량, 메타 필드 _id = 장바구니 ID, _at = 수정 시각,
+ *   _v = 변경할 때마다 1씩 늘어나는 버전, MySQL에서 적재할 때는 마지막으로 반영된 버전부터 시작)
+ * - 담기/변경/삭제는 Lua 스크립트 한 번 (존재 확인 + 변경 + TTL 연장 + 반영 대상 등록을 원자적으로)
+ * - Redis에 없으면 MySQL에서 적재 후 다시 실행 (MySQL이 복구 기준)
+ * - MySQL 반영은 RedisCartFlusher가 cart:dirty에 모인 사용자 단위로 묶어서 처리 (write-behind)
+ */
+@Component
+@ConditionalOnProperty(name = "cart.store-mode", havingValue = "redis")
+public class RedisCartStore implements CartStore {
+
+  static final String KEY_PREFIX = "cart:user:";
+  static final String DIRTY_KEY = "cart:dirty";
+  // 상품 ID 필드와 구분되도록 '_'로 시작
+  static final String CART_ID_FIELD = "_id";
+  static final String UPDATED_AT_FIELD = "_at";
+  static final String VERSION_FIELD = "_v";
+
+  // 스크립트 결과: -1 = Redis에 없음(적재 필요), 0 = 조건 불일치, 1 = 반영
+  private static final long NOT_LOADED = -1L;
+
+  // KEYS[1] = 장바구니, KEYS[2] = 반영 대상 / ARGV = 상품 ID, 수량, 현재 시각(ms), TTL(초), 사용자 ID
+  private static final String TOUCH = """
+      redis.call('HSET', KEYS[1], '_at', ARGV[3])
+      redis.call('HINCRBY', KEYS[1], '_v', 1)
+      redis.call('EXPIRE', KEYS[1], ARGV[4])
+      redis.call('SADD', KEYS[2], ARGV[5])
+      return 1
+      """;
+
+  private static final RedisScript<Long> ADD_SCRIPT = new DefaultRedisScript<>("""
+      if redis.call('EXISTS', KEYS[1]) == 0 then return -1 end
+      if redis.call('HSETNX', KEYS[1], ARGV[1], ARGV[2]) == 0 then return 0 end
+      """ + TOUCH, Long.class);
+
+  private static final RedisScript<Long> SET_SCRIPT = new DefaultRedisScript<>("""
+      if redis.call('EXISTS', KEYS[1]) == 0 then return -1 end
+      if redis.call('HEXISTS', KEYS[1], ARGV[1]) == 0 then return 0 end
+      redis.call('HSET', KEYS[1], ARGV[1], ARGV[2])
+      """ + TOUCH, Long.class);
+
+  private static final RedisScript<Long> REMOVE_SCRIPT = new DefaultRedisScript<>("""
+      if redis.call('EXISTS', KEYS[1]) == 0 then return -1 end
+      if redis.call('HDEL', KEYS[1], ARGV[1]) == 0 then return 0 end
+      """ + TOUCH, Long.class);
+
+  // ARGV[6..] = 상품 ID, 수량 쌍 / 결과: 항목별 1 = 새로 담김, 0 = 수량 변경 ({-1} = 적재 필요)
+  @SuppressWarnings("rawtypes")
+  private static final RedisScript<List> UPSERT_SCRIPT = new DefaultRedisScript<>("""
+      if redis.call('EXISTS', KEYS[1]) == 0 then return {-1} end
+      local added = {}
+      for i = 6, #ARGV, 2 do
+        added[#added + 1] = redis.call('HSET', KEYS[1], ARGV[i], ARGV[i + 1])
+      end
+      redis.call('HSET', KEYS[1], '_at', ARGV[3])
+      redis.call('HINCRBY', KEYS[1], '_v', 1)
+      redis.call('EXPIRE', KEYS[1], ARGV[4])
+      redis.call('SADD', KEYS[2], ARGV[5])
+      return added
+      """, List.class);
+
+  // ARGV[6..] = 삭제할 상품 ID
+  private static final RedisScript<Long> REMOVE_ITEMS_SCRIPT = new DefaultRedisScript<>("""
+      if redis.call('EXISTS', KEYS[1]) == 0 then return -1 end
+      local removed = 0
+      for i = 6, #ARGV do
+        removed = removed + redis.call('HDEL', KEYS[1], ARGV[i])
+      end
+      if removed == 0 then return 0 end
+      """ + TOUCH, Long.class);
+
+  private static final RedisScript<Long> CLEAR_SCRIPT = new DefaultRedisScript<>("""
+      if redis.call('EXISTS', KEYS[1]) == 0 then return -1 end
+      local removed = 0
+      for _, field in ipairs(redis.call('HKEYS', KEYS[1])) do
+        if string.sub(field, 1, 1) ~= '_' then
+          redis.call('HDEL', KEYS[1], field)
+          removed = removed + 1
+        end
+      end
+      if removed == 0 then return 0 end
+      """ + TOUCH, Long.class);
+
+  // 조회 + TTL 연장 (ARGV[1] = TTL(초))
+  @SuppressWarnings("rawtypes")
+  private static final RedisScript<List> READ_SCRIPT = new DefaultRedisScript<>("""
+      local entries = redis.call('HGETALL', KEYS[1])
+      if #entries > 0 then redis.call('EXPIRE', KEYS[1], ARGV[1]) end
+      return entries
+      """, List.class);
+
+  // 이미 있으면 덮어쓰지 않음 (다른 요청이 먼저 적재/변경한 경우) / ARGV = TTL(초), 필드, 값, ...
+  private static final RedisScript<Long> LOAD_SCRIPT = new DefaultRedisScript<>("""
+      if redis.call('EXISTS', KEYS[1]) == 1 then return 0 end
+      redis.call('HSET', KEYS[1], unpack(ARGV, 2))
+      redis.call('EXPIRE', KEYS[1], ARGV[1])
+      return 1
+      """, Long.class);
+
+  private final StringRedisTemplate redisTemplate;
+  private final CartRepository cartRepository;
+  private final CartItemRepository cartItemRepository;
+  private final Duration ttl;
+
+  public RedisCartStore(
+      StringRedisTemplate redisTemplate,
+      CartRepository cartRepository,
+      CartItemRepository cartItemRepository,
+      @Value("${cart.redis.ttl-hours:168}") long ttlHours
+  ) {
+    this.redisTemplate = redisTemplate;
+    this.cartRepository = cartRepository;
+    this.cartItemRepository = cartItemRepository;
+    this.ttl = Duration.ofHours(ttlHours);
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public CartSnapshot getCart(Long userId) {
+    List<String> entries = redisTemplate.execute(READ_SCRIPT, List.of(key(userId)),
+        String.valueOf(ttl.getSeconds()));
+
+    Map<String, String> fields = new LinkedHashMap<>();
+    if (entries == null || entries.isEmpty()) {
+      fields = load(userId);
+    } else {
+      for (int i = 0; i + 1 < entries.size(); i += 2) {
+        fields.put(entries.get(i), entries.get(i + 1));
+      }
+    }
+
+    List<CartItem> items = new ArrayList<>();
+    new TreeMap<>(items(fields)).forEach((productId, quantity) ->
+        items.add(CartItem.detached(null, productId, quantity)));
+    return new CartSnapshot(Long.valueOf(fields.get(CART_ID_FIELD)), userId,
+        toDateTime(fields.get(UPDATED_AT_FIELD)), items);
+  }
+
+  @Override
+  public CartItem addItem(Long userId, Long productId, int quantity) {
+    if (mutate(ADD_SCRIPT, userId, productId, quantity) == 0) {
+      throw new BusinessException(CartErrorCode.CART_ITEM_ALREADY_EXISTS);
+    }
+    return CartItem.detached(null, productId, quantity);
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public Set<Long> upsertItems(Long userId, Map<Long, Integer> quantities) {
+    List<Long> productIds = new ArrayList<>(quantities.keySet());
+    String[] fields = new String[productIds.size() * 2];
+    for (int i = 0; i < productIds.size(); i++) {
+      fields[i * 2] = String.valueOf(productIds.get(i));
+      fields[i * 2 + 1] = String.valueOf(quantities.get(productIds.get(i)));
+    }
+    List<String> keys = List.of(key(userId), DIRTY_KEY);
+    Object[] args = args(userId, null, 0, fields);
+
+    List<Long> results = redisTemplate.execute(UPSERT_SCRIPT, keys, args);
+    if (results != null && results.size() == 1 && results.get(0) == NOT_LOADED) {
+      load(userId);
+      results = redisTemplate.execute(UPSERT_SCRIPT, keys, args);
+    }
+
+    Set<Long> added = new HashSet<>();
+    for (int i = 0; results != null && i < results.size(); i++) {
+      if (results.get(i) == 1L) {
+        added.add(productIds.get(i));
+      }
+    }
+    return added;
+  }
+
+  @Override
+  public CartItem changeQuantity(Long userId, Long cartItemId, int quantity) {
+    // MySQL에 반영된 아이템만 ID가 있음
+    Long productId = cartItemRepository.findProductIdByIdAndUserId(cartItemId, userId)
+        .orElseThrow(() -> new BusinessException(CartErrorCode.CART_ITEM_NOT_FOUND));
+    changeQuantityByProduct(userId, productId, quantity);
+    return CartItem.detached(cartItemId, productId, quantity);
+  }
+
+  @Override
+  public CartItem changeQuantityByProduct(Long userId, Long productId, int quantity) {
+    if (mutate(SET_SCRIPT, userId, productId, quantity) == 0) {
+      throw new BusinessException(CartErrorCode.CART_ITEM_NOT_FOUND);
+    }
+    return CartItem.detached(null, productId, quantity);
+  }
+
+  @Override
+  public void removeItem(Long userId, Long productId) {
+    if (mutate(REMOVE_SCRIPT, userId, productId, 0) == 0) {
+      throw new BusinessException(CartErrorCode.CART_ITEM_NOT_FOUND);
+    }
+  }
+
+  /**
+   * Redis는 MySQL 트랜잭션에 묶이지 않으므로 커밋 이후에 삭제 (롤백되면 장바구니 유지)
+   */
+  @Override
+  public void removeItems(Long userId, Collection<Long> productIds) {
+    String[] fields = productIds.stream().map(String::valueOf).toArray(String[]::new);
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      mutate(REMOVE_ITEMS_SCRIPT, userId, null, 0, fields);
+      return;
+    }
+    TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+      @Override
+      public void afterCommit() {
+        mutate(REMOVE_ITEMS_SCRIPT, userId, null, 0, fields);
+      }
+    });
+  }
+
+  @Override
+  public void clear(Long userId) {
+    if (mutate(CLEAR_SCRIPT, userId, null, 0) == 0) {
+      throw new BusinessException(CartErrorCode.CART_ALREADY_EMPTY);
+    }
+  }
+
+  static String key(Object userId) {
+    return KEY_PREFIX + userId;
+  }
+
+  // 해시에서 상품 필드만 (상품 ID → 수량)
+  static Map<Long, Integer> items(Map<String, String> fields) {
+    Map<Long, Integer> items = new LinkedHashMap<>();
+    fields.forEach((field, value) -> {
+      if (!field.startsWith("_")) {
+        items.put(Long.valueOf(field), Integer.valueOf(value));
+      }
+    });
+    return items;
+  }
+
+  private long mutate(RedisScript<Long> script, Long userId, Long productId, int quantity,
+      String... extraArgs) {
+    List<String> keys = List.of(key(userId), DIRTY_KEY);
+    Object[] args = args(userId, productId, quantity, extraArgs);
+
+    Long result = redisTemplate.execute(script, keys, args);
+    if (result != null && result == NOT_LOADED) {
+      load(userId);
+      result = redisTemplate.execute(script, keys, args);
+    }
+    return result == null ? 0 : result;
+  }
+
+  // 스크립트 공통 인자 (TOUCH 참고) + 스크립트별 추가 인자
+  private Object[] args(Long userId, Long productId, int quantity, String... extraArgs) {
+    List<String> args = new ArrayList<>(List.of(
+        productId == null ? "" : String.valueOf(productId),
+        String.valueOf(quantity),
+        String.valueOf(System.currentTimeMillis()),
+        String.valueOf(ttl.getSeconds()),
+        String.valueOf(userId)));
+    args.addAll(Arrays.asList(extraArgs));
+    return args.toArray();
+  }
+
+  /**
+   * MySQL 장바구니를 Redis에 적재하고 적재한 필드 반환
+   */
+  private Map<String, String> load(Long userId) {
+    Cart cart = cartRepository.findWithItemsByUserId(userId)
+        .orElseThrow(() -> new BusinessException(CartErrorCode.CART_NOT_FOUND));
+
+    Map<String, String> fields = new LinkedHashMap<>();
+    fields.put(CART_ID_FIELD, String.valueOf(cart.getId()));
+    fields.put(UPDATED_AT_FIELD, String.valueOf(toEpochMillis(cart.getUpdatedAt())));
+    fields.put(VERSION_FIELD, String.valueOf(cart.getFlushedVersion()));
+    cart.getItems().forEach(item ->
+        fields.put(String.valueOf(item.getProductId()), String.valueOf(item.getQuantity())));
+
+    List<String> args = new ArrayList<>();
+    args.add(String.valueOf(ttl.getSeconds()));
+    fields.forEach((field, value) -> {
+      args.add(field);
+      args.add(value);
+    });
+    redisTemplate.execute(LOAD_SCRIPT, List.of(key(userId)), args.toArray());
+    return fields;
+  }
+
+  private static long toEpochMillis(LocalDateTime dateTime) {
+    LocalDateTime value = dateTime == null ? LocalDateTime.now() : dateTime;
+    return value.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+  }
+
+  private static LocalDateTime toDateTime(String epochMillis) {
+    if (epochMillis == null) {
+      return null;
+    }
+    return LocalDateTime.ofInstant(Instant.ofEpochMilli(Long.parseLong(epochMillis)),
+        ZoneId.systemDefault());
+  }
+}
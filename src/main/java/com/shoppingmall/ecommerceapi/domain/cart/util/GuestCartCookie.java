@@ -0,0 +1,73 @@
+package com.shoppingmall.ecommerceapi.domain.cart.util;
+
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Optional;
+import java.util.regex.Pattern;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseCookie;
+
+/**
+ * 비회원 장바구니 쿠키 (값 = 추측 불가능한 비회원 ID, 128비트 난수)
+ * - 형식이 맞지 않는 값은 무시 (Redis 키에 그대로 쓰이므로)
+ */
+public final class GuestCartCookie {
+
+  public static final String NAME = "GUEST_CART";
+
+  private static final SecureRandom RANDOM = new SecureRandom();
+  private static final Pattern GUEST_ID = Pattern.compile("^[A-Za-z0-9_-]{22}$");
+
+  private GuestCartCookie() {
+  }
+
+  public static Optional<String> read(HttpServletRequest request) {
+    Cookie[] cookies = request.getCookies();
+    if (cookies == null) {
+      return Optional.empty();
+    }
+    return Arrays.stream(cookies)
+        .filter(cookie -> NAME.equals(cookie.getName()))
+        .map(Cookie::getValue)
+        .filter(GuestCartCookie::isValid)
+        .findFirst();
+  }
+
+  public static boolean isValid(String guestId) {
+    return guestId != null && GUEST_ID.matcher(guestId).matches();
+  }
+
+  /**
+   * 새 비회원 ID를 발급해 쿠키로 내려주고 반환
+   */
+  public static String issue(HttpServletRequest request, HttpServletResponse response,
+      Duration maxAge) {
+    byte[] bytes = new byte[16];
+    RANDOM.nextBytes(bytes);
+    String guestId = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    write(request, response, guestId, maxAge);
+    return guestId;
+  }
+
+  // 사용할 때마다 쿠키 만료도 Redis TTL과 같이 연장
+  public static void write(HttpServletRequest request, HttpServletResponse response,
+      String guestId, Duration maxAge) {
+    response.addHeader(HttpHeaders.SET_COOKIE, ResponseCookie.from(NAME, guestId)
+        .path("/")
+        .httpOnly(true)
+        .secure(request.isSecure())
+        .sameSite("Lax")
+        .maxAge(maxAge)
+        .build()
+        .toString());
+  }
+
+  public static void expire(HttpServletRequest request, HttpServletResponse response) {
+    write(request, response, "", Duration.ZERO);
+  }
+}
@@ -13,23 +13,34 @@ import com.shoppingmall.ecommerceapi.domain.order.exception.OrderErrorCode;
 import com.shoppingmall.ecommerceapi.domain.order.repository.OrderRepository;
 import com.shoppingmall.ecommerceapi.domain.order.util.OrderNumberGenerator;
 import com.shoppingmall.ecommerceapi.domain.product.entity.Product;
+import com.shoppingmall.ecommerceapi.domain.product.event.ProductChangedEvent;
+import com.shoppingmall.ecommerceapi.domain.product.event.ProductOrderConfirmedEvent;
+import com.shoppingmall.ecommerceapi.domain.product.event.ProductSalesEvent;
 import com.shoppingmall.ecommerceapi.domain.product.repository.ProductRepository;
+import com.shoppingmall.ecommerceapi.domain.product.service.ProductStockService;
 import com.shoppingmall.ecommerceapi.domain.user.entity.User;
 import com.shoppingmall.ecommerceapi.domain.user.repository.UserRepository;
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.redisson.api.RLock;
 import org.redisson.api.RedissonClient;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 @Service
 @Slf4j
@@ -43,19 +54,37 @@ public class OrderService {
   private final OrderConverter orderConverter;
   private final OrderNumberGenerator orderNumberGenerator;
   private final RedissonClient redissonClient;
+  private final ApplicationEventPublisher eventPublisher;
 
   // lock 설정값
+  // 상품 재고 lock은 유지 시간을 두지 않음 (Redisson watchdog이 트랜잭션 종료 후 해제까지 연장)
+  // - 고정 유지 시간이면 여러 상품 주문에서 뒤 lock을 기다리는 동안 앞 lock이 먼저 만료될 수 있음
   private static final long LOCK_WAIT_TIME = 5L;     // 5초 대기
-  private static final long LOCK_LEASE_TIME = 3L;    // 3초 유지
-  private static final String PRODUCT_LOCK_PREFIX = "product:stock:";
+  private static final String PRODUCT_LOCK_PREFIX = ProductStockService.STOCK_LOCK_PREFIX;
   private static final String ORDER_NUMBER_LOCK = "order:number:generate";
 
   /**
    * 1. 주문 생성 POST /orders
    * 분산lock 적용: 상품별 재고 차감 (데드락 방지: ID 정렬)
+   * - 요청 총 금액이 서버 계산 금액과 다르면 ORDER_AMOUNT_MISMATCH
    */
   @Transactional
   public OrderResponse createOrder(Long userId, CreateOrderRequest request) {
+    return placeOrder(userId, request, true);
+  }
+
+  /**
+   * 장바구니 주문 POST /carts/checkout
+   * - 총 금액은 서버에서 계산한 값으로 확정 (요청 총 금액은 사용하지 않음)
+   * - 호출한 트랜잭션에 참여하므로 장바구니 정리와 함께 커밋/롤백
+   */
+  @Transactional
+  public OrderResponse createOrderFromCart(Long userId, CreateOrderRequest request) {
+    return placeOrder(userId, request, false);
+  }
+
+  private OrderResponse placeOrder(Long userId, CreateOrderRequest request,
+                                   boolean verifyTotalPrice) {
     // 유저 검증
     User user = userRepository.findById(userId)
             .orElseThrow(() -> new BusinessException(OrderErrorCode.ORDER_INVALID_USER));
@@ -78,83 +107,90 @@ public class OrderService {
     List<CreateOrderItemRequest> sortedItems = request.getOrderItems().stream()
             .sorted(Comparator.comparing(CreateOrderItemRequest::getProductId))
             .toList();
+    List<Long> productIds = sortedItems.stream()
+            .map(CreateOrderItemRequest::getProductId)
+            .distinct()
+            .toList();
 
     log.info("주문 생성 시작 - 주문번호: {}, 상품 개수: {}, 정렬된 상품 ID: {}",
-            orderNumber,
-            sortedItems.size(),
-            sortedItems.stream()
-                    .map(CreateOrderItemRequest::getProductId)
-                    .toList());
-
-    BigDecimal calculatedTotal = BigDecimal.ZERO;
+            orderNumber, sortedItems.size(), productIds);
 
-    // 각 상품별로 분산lock 적용하여 재고 차감
-    for (CreateOrderItemRequest itemRequest : sortedItems)  {
-      // 상품별 lock 키 생성
-      String lockKey = PRODUCT_LOCK_PREFIX + itemRequest.getProductId();
-      RLock lock = redissonClient.getLock(lockKey);
+    // 상품별 분산lock을 모두 획득한 뒤 상품은 한 번에 조회 (lock 해제는 트랜잭션 종료 후)
+    productIds.forEach(this::lockProductStock);
 
-      try {
-        // lock 획득 시도 (5초 대기, 3초 유지)
-        boolean acquired = lock.tryLock(LOCK_WAIT_TIME, LOCK_LEASE_TIME, TimeUnit.SECONDS);
+    Map<Long, Product> products = productRepository.findAllById(productIds).stream()
+            .collect(Collectors.toMap(Product::getId, Function.identity()));
 
-        if (!acquired) {
-          log.warn("상품 lock 획득 실패 - 상품 ID: {}", itemRequest.getProductId());
-          throw new BusinessException(OrderErrorCode.ORDER_ITEM_OUT_OF_STOCK);
-        }
-
-        try {
-          // 상품 조회
-          Product product = productRepository.findById(itemRequest.getProductId())
-                  .orElseThrow(() -> new BusinessException(OrderErrorCode.ORDER_ITEM_INVALID_PRODUCT));
+    BigDecimal calculatedTotal = BigDecimal.ZERO;
 
-          // 재고 검증
-          if (product.getStock() < itemRequest.getQuantity()) {
-            throw new BusinessException(OrderErrorCode.ORDER_ITEM_OUT_OF_STOCK);
-          }
+    for (CreateOrderItemRequest itemRequest : sortedItems) {
+      Product product = products.get(itemRequest.getProductId());
+      if (product == null) {
+        throw new BusinessException(OrderErrorCode.ORDER_ITEM_INVALID_PRODUCT);
+      }
 
-          // OrderItem 생성
-          OrderItem orderItem = OrderItem.builder()
-                  .product(product)
-                  .quantity(itemRequest.getQuantity())
-                  .orderPrice(product.getPrice())
-                  .build();
+      // 재고 검증
+      if (product.getStock() < itemRequest.getQuantity()) {
+        throw new BusinessException(OrderErrorCode.ORDER_ITEM_OUT_OF_STOCK);
+      }
 
-          orderItem.validateQuantity();
-          orderItem.validatePrice();
+      // OrderItem 생성
+      OrderItem orderItem = OrderItem.builder()
+              .product(product)
+              .quantity(itemRequest.getQuantity())
+              .orderPrice(product.getPrice())
+              .build();
 
-          order.addOrderItem(orderItem);
-          calculatedTotal = calculatedTotal.add(orderItem.getTotalItemPrice());
+      orderItem.validateQuantity();
+      orderItem.validatePrice();
 
-          // 재고 차감 (lock 안에서 실행)
-          product.updateStock(-itemRequest.getQuantity());
+      order.addOrderItem(orderItem);
+      calculatedTotal = calculatedTotal.add(orderItem.getTotalItemPrice());
 
-          log.info("재고 차감 완료 - 상품 ID: {}, 남은 재고: {}",
-                  product.getId(), product.getStock());
+      // 재고 차감 (lock 안에서 실행, 변경 감지 UPDATE는 flush 시 JDBC 배치로 묶임)
+      product.updateStock(-itemRequest.getQuantity());
 
-        } finally {
-          // lock 해제
-          if (lock.isHeldByCurrentThread()) {
-            lock.unlock();
-          }
-        }
-
-      } catch (InterruptedException e) {
-        Thread.currentThread().interrupt();
-        log.error("상품 lock 대기 중 인터럽트 발생 - 상품 ID: {}", itemRequest.getProductId(), e);
-        throw new BusinessException(OrderErrorCode.ORDER_ITEM_OUT_OF_STOCK);
-      }
+      log.info("재고 차감 완료 - 상품 ID: {}, 남은 재고: {}",
+              product.getId(), product.getStock());
     }
 
-    // 총 금액 검증
-    order.validateTotalPrice(calculatedTotal);
+    // 총 금액 검증 (장바구니 주문은 서버 계산 금액으로 확정)
+    if (verifyTotalPrice) {
+      order.validateTotalPrice(calculatedTotal);
+    } else {
+      order.updateTotalPrice(calculatedTotal);
+    }
 
     // 주문 저장
     Order savedOrder = orderRepository.save(order);
 
+    // 재고/판매상태 변경 → 상품 조회 캐시 무효화 (커밋 이후 처리)
+    eventPublisher.publishEvent(ProductChangedEvent.of(productIds));
+    // 베스트 상품 판매 수량 집계 (커밋 이후 처리)
+    eventPublisher.publishEvent(salesEvent(order.getOrderItems(), 1, LocalDateTime.now()));
+
     return orderConverter.toResponse(savedOrder);
   }
 
+  /**
+   * 상품 재고 lock 획득 (5초 대기, watchdog 연장) - 해제는 트랜잭션 종료 후
+   */
+  private void lockProductStock(Long productId) {
+    RLock lock = redissonClient.getLock(PRODUCT_LOCK_PREFIX + productId);
+
+    try {
+      if (!lock.tryLock(LOCK_WAIT_TIME, TimeUnit.SECONDS)) {
+        log.warn("상품 lock 획득 실패 - 상품 ID: {}", productId);
+        throw new BusinessException(OrderErrorCode.ORDER_ITEM_OUT_OF_STOCK);
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      log.error("상품 lock 대기 중 인터럽트 발생 - 상품 ID: {}", productId, e);
+      throw new BusinessException(OrderErrorCode.ORDER_ITEM_OUT_OF_STOCK);
+    }
+    unlockAfterTransaction(lock);
+  }
+
   /**
    * 주문번호 생성 (분산lock 적용)
    * 다중 서버 환경에서 중복 방지
@@ -262,7 +298,7 @@ public class OrderService {
         RLock lock = redissonClient.getLock(lockKey);
 
         try {
-          boolean acquired = lock.tryLock(LOCK_WAIT_TIME, LOCK_LEASE_TIME, TimeUnit.SECONDS);
+          boolean acquired = lock.tryLock(LOCK_WAIT_TIME, TimeUnit.SECONDS);
 
           if (!acquired) {
             log.warn("재고 복구 lock 획득 실패 - 상품 ID:: {}", product.getId());
@@ -283,13 +319,46 @@ public class OrderService {
         }
       }
       log.info("주문 취소 완료 - 주문 ID: {}", orderId);
+
+      eventPublisher.publishEvent(ProductChangedEvent.of(
+              sortedItems.stream().map(item -> item.getProduct().getId()).toList()));
+      // 주문이 들어간 시간대의 판매 수량에서 차감
+      eventPublisher.publishEvent(salesEvent(sortedItems, -1, order.getCreatedAt()));
     } finally {
-      // 모든 획득한 lock 해제
-      for (RLock lock : acquiredLocks) {
-        if (lock.isHeldByCurrentThread()) {
-          lock.unlock();
-        }
+      // 모든 획득한 lock 해제 (트랜잭션 종료 후)
+      acquiredLocks.forEach(this::unlockAfterTransaction);
+    }
+  }
+
+  private ProductSalesEvent salesEvent(List<OrderItem> items, int sign, LocalDateTime orderedAt) {
+    List<ProductSalesEvent.Item> salesItems = items.stream()
+            .map(item -> new ProductSalesEvent.Item(item.getProduct().getId(),
+                    item.getProduct().getCategory(), sign * item.getQuantity()))
+            .toList();
+    return new ProductSalesEvent(salesItems,
+            orderedAt != null ? orderedAt : LocalDateTime.now());
+  }
+
+  /**
+   * 상품 재고 lock은 트랜잭션 커밋/롤백 이후에 해제
+   * - 커밋 전에 풀면 다른 주문이나 재고 대량 조정이 반영 전 재고를 읽을 수 있음
+   */
+  private void unlockAfterTransaction(RLock lock) {
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      unlock(lock);
+      return;
+    }
+    TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+      @Override
+      public void afterCompletion(int status) {
+        unlock(lock);
       }
+    });
+  }
+
+  private void unlock(RLock lock) {
+    if (lock.isHeldByCurrentThread()) {
+      lock.unlock();
     }
   }
 
@@ -357,5 +426,10 @@ public class OrderService {
             .orElseThrow(() -> new BusinessException(OrderErrorCode.ORDER_NOT_FOUND));
 
     order.confirmPayment();
+
+    // 결제 확정 주문만 함께 구매된 상품 집계에 반영
+    eventPublisher.publishEvent(new ProductOrderConfirmedEvent(orderId,
+            order.getOrderItems().stream().map(item -> item.getProduct().getId()).distinct()
+                    .toList()));
   }
 }
\ No newline at end of file
@@ -0,0 +1,74 @@
+package com.shoppingmall.ecommerceapi.domain.product.cache;
+
+import com.shoppingmall.ecommerceapi.domain.product.event.ProductChangedEvent;
+import jakarta.annotation.PostConstruct;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 상품 변경 이벤트 → JSON 캐시 무효화
+ * - 트랜잭션 커밋 이후 로컬 캐시를 비우고
+ * - Redis 채널로 변경 상품 ID를 전파해 다른 서버의 캐시도 비움
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProductCacheInvalidationListener implements MessageListener {
+
+  static final String CHANNEL = "product:changed";
+  private static final String ALL_PRODUCTS = "*";
+
+  private final ProductJsonCache productJsonCache;
+  private final StringRedisTemplate stringRedisTemplate;
+  private final RedisMessageListenerContainer redisMessageListenerContainer;
+
+  @PostConstruct
+  void subscribe() {
+    redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+  }
+
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onProductChanged(ProductChangedEvent event) {
+    productJsonCache.evict(event.getProductIds(), event.isAllProducts());
+
+    String payload = event.isAllProducts()
+        ? ALL_PRODUCTS
+        : event.getProductIds().stream().map(String::valueOf).collect(Collectors.joining(","));
+    try {
+      stringRedisTemplate.convertAndSend(CHANNEL, payload);
+    } catch (Exception e) {
+      // 전파 실패 시 다른 서버는 TTL 만료로 갱신됨
+      log.warn("상품 캐시 무효화 메시지 발행 실패: {}", e.getMessage());
+    }
+  }
+
+  @Override
+  public void onMessage(Message message, byte[] pattern) {
+    String payload = new String(message.getBody(), StandardCharsets.UTF_8);
+
+    if (ALL_PRODUCTS.equals(payload)) {
+      productJsonCache.evict(List.of(), true);
+      return;
+    }
+    try {
+      List<Long> productIds = payload.isEmpty()
+          ? List.of()
+          : Arrays.stream(payload.split(",")).map(Long::valueOf).toList();
+      productJsonCache.evict(productIds, false);
+    } catch (NumberFormatException e) {
+      log.warn("잘못된 상품 캐시 무효화 메시지: {}", payload);
+      productJsonCache.evict(List.of(), true);
+    }
+  }
+}
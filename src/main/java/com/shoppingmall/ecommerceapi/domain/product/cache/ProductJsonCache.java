@@ -0,0 +1,246 @@
+package com.shoppingmall.ecommerceapi.domain.product.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.shoppingmall.ecommerceapi.common.api.Api;
+import com.shoppingmall.ecommerceapi.common.code.CommonErrorCode;
+import com.shoppingmall.ecommerceapi.common.exception.BusinessException;
+import com.shoppingmall.ecommerceapi.common.response.PageRequestDTO;
+import com.shoppingmall.ecommerceapi.domain.product.entity.enums.ProductCategory;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Collection;
+import java.util.Locale;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import java.util.zip.GZIPOutputStream;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+
+/**
+ * 상품 조회 응답(JSON) 바이트 캐시
+ * - Api 래핑 + snake_case 직렬화까지 끝난 UTF-8 바이트를 그대로 보관
+ * - 일정 크기 이상이면 gzip 압축본도 함께 보관
+ * - 캐시 히트 시 DTO 생성/직렬화 없이 서블릿 출력 스트림에 바로 기록
+ * - 무효화 방식은 캐시마다 하나 (evict 참고)
+ *   - 상품 단건: 바뀐 상품 ID의 항목만 제거
+ *   - 상품 목록: 세대(generation)를 올려 이전 세대 항목을 모두 무효 처리
+ */
+@Slf4j
+@Component
+public class ProductJsonCache {
+
+  private static final String LIST_KEY_PREFIX = "list:";
+  private static final String DETAIL_KEY_PREFIX = "detail:";
+
+  private final ObjectMapper objectMapper;
+  private final long ttlMillis;
+  private final int maxEntries;
+  private final int gzipMinBytes;
+
+  private final ConcurrentHashMap<String, CachedJson> entries = new ConcurrentHashMap<>();
+  // 상품 목록 항목의 세대 - 이전 세대 목록은 조회 시 무효
+  private final AtomicLong listGeneration = new AtomicLong();
+  // 상품 단건 무효화 횟수 - 조회하는 동안 무효화가 있었으면 조회 결과를 남기지 않음
+  private final AtomicLong detailEvictions = new AtomicLong();
+
+  public ProductJsonCache(
+      ObjectMapper objectMapper,
+      @Value("${product.cache.json.ttl-seconds:30}") long ttlSeconds,
+      @Value("${product.cache.json.max-entries:1000}") int maxEntries,
+      @Value("${product.cache.json.gzip-min-bytes:1024}") int gzipMinBytes
+  ) {
+    this.objectMapper = objectMapper;
+    this.ttlMillis = TimeUnit.SECONDS.toMillis(ttlSeconds);
+    this.maxEntries = maxEntries;
+    this.gzipMinBytes = gzipMinBytes;
+  }
+
+  // 상품 목록 응답
+  public CachedJson getProducts(ProductCategory category, PageRequestDTO req,
+      Supplier<Api<?>> loader) {
+    String key = LIST_KEY_PREFIX + category + ":" + req.getPage() + ":" + req.getSize() + ":"
+        + req.getSort() + ":" + req.getSortType();
+    long currentGeneration = listGeneration.get();
+    CachedJson cached = entries.get(key);
+    if (cached != null && cached.getGeneration() == currentGeneration
+        && !cached.isExpired(System.currentTimeMillis())) {
+      return cached;
+    }
+
+    CachedJson loaded = load(loader, currentGeneration);
+    if (hasRoom()) {
+      entries.put(key, loaded);
+    }
+    return loaded;
+  }
+
+  // 상품 단건 응답
+  public CachedJson getProduct(Long id, Supplier<Api<?>> loader) {
+    String key = DETAIL_KEY_PREFIX + id;
+    CachedJson cached = entries.get(key);
+    if (cached != null && !cached.isExpired(System.currentTimeMillis())) {
+      return cached;
+    }
+
+    long evictionsBefore = detailEvictions.get();
+    CachedJson loaded = load(loader, 0);
+    if (hasRoom()) {
+      entries.put(key, loaded);
+      // 조회 중 무효화가 있었으면 이전 데이터일 수 있으므로 되돌림
+      if (detailEvictions.get() != evictionsBefore) {
+        entries.remove(key, loaded);
+      }
+    }
+    return loaded;
+  }
+
+  /**
+   * 캐시 무효화
+   * - 상품 단건: 바뀐 상품의 항목만 제거 (allProducts면 단건 항목 전부 제거)
+   * - 상품 목록: 어떤 상품이 바뀌어도 내용이 달라질 수 있으므로 세대만 올림 (항목은 hasRoom 정리 때 제거)
+   * - 횟수/세대를 먼저 올려 조회 중이던 요청이 이전 데이터를 다시 넣지 못하게 함
+   */
+  public void evict(Collection<Long> productIds, boolean allProducts) {
+    listGeneration.incrementAndGet();
+    detailEvictions.incrementAndGet();
+
+    if (allProducts) {
+      entries.keySet().removeIf(key -> key.startsWith(DETAIL_KEY_PREFIX));
+      return;
+    }
+    productIds.forEach(id -> entries.remove(DETAIL_KEY_PREFIX + id));
+  }
+
+  public int size() {
+    return entries.size();
+  }
+
+  // 캐시 미스: 서비스 조회 후 직렬화 (예외는 그대로 전파되어 GlobalExceptionHandler가 처리)
+  private CachedJson load(Supplier<Api<?>> loader, long entryGeneration) {
+    Api<?> body = loader.get();
+    return serialize(body, entryGeneration, System.currentTimeMillis() + ttlMillis);
+  }
+
+  // 최대 개수 초과 시 만료/이전 세대 목록 항목부터 정리, 그래도 가득 차면 저장하지 않음
+  private boolean hasRoom() {
+    if (entries.size() < maxEntries) {
+      return true;
+    }
+    long now = System.currentTimeMillis();
+    long currentGeneration = listGeneration.get();
+    entries.entrySet().removeIf(entry -> entry.getValue().isExpired(now)
+        || (entry.getKey().startsWith(LIST_KEY_PREFIX)
+        && entry.getValue().getGeneration() != currentGeneration));
+    return entries.size() < maxEntries;
+  }
+
+  CachedJson serialize(Api<?> body, long entryGeneration, long expiresAt) {
+    try {
+      byte[] json = objectMapper.writeValueAsBytes(body);
+      byte[] gzipJson = json.length >= gzipMinBytes ? gzip(json) : null;
+      return new CachedJson(json, gzipJson, entryGeneration, expiresAt);
+    } catch (JsonProcessingException e) {
+      log.error("상품 응답 직렬화 실패", e);
+      throw new BusinessException(CommonErrorCode.SERVER_ERROR);
+    }
+  }
+
+  private static byte[] gzip(byte[] json) {
+    ByteArrayOutputStream out = new ByteArrayOutputStream(json.length / 4);
+    try (GZIPOutputStream gzipOut = new GZIPOutputStream(out)) {
+      gzipOut.write(json);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+    return out.toByteArray();
+  }
+
+  /**
+   * 직렬화가 끝난 응답 한 건
+   */
+  @Getter
+  @RequiredArgsConstructor(access = AccessLevel.PACKAGE)
+  public static class CachedJson {
+
+    private final byte[] json;
+    private final byte[] gzipJson;
+    // 상품 목록 항목의 세대 (단건 항목은 쓰지 않음)
+    private final long generation;
+    private final long expiresAt;
+
+    boolean isExpired(long now) {
+      return now >= expiresAt;
+    }
+
+    // 클라이언트가 gzip을 허용하면 압축본을, 아니면 원본을 그대로 기록
+    public void writeTo(HttpServletRequest request, HttpServletResponse response)
+        throws IOException {
+      byte[] payload = json;
+
+      if (gzipJson != null) {
+        response.setHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (acceptsGzip(request.getHeader(HttpHeaders.ACCEPT_ENCODING))) {
+          response.setHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+          payload = gzipJson;
+        }
+      }
+
+      response.setStatus(HttpServletResponse.SC_OK);
+      response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+      response.setCharacterEncoding("UTF-8");
+      response.setContentLength(payload.length);
+      response.getOutputStream().write(payload);
+    }
+
+    /**
+     * Accept-Encoding이 gzip을 허용하는지 (RFC 9110 q-value 기준)
+     * - gzip;q=0 은 명시적 거절, gzip이 없으면 * 의 q-value를 따름
+     */
+    static boolean acceptsGzip(String acceptEncoding) {
+      if (acceptEncoding == null) {
+        return false;
+      }
+      Double wildcard = null;
+      for (String part : acceptEncoding.split(",")) {
+        String[] tokens = part.split(";");
+        String coding = tokens[0].trim().toLowerCase(Locale.ROOT);
+        double quality = quality(tokens);
+        if (coding.equals("gzip") || coding.equals("x-gzip")) {
+          return quality > 0;
+        }
+        if (coding.equals("*")) {
+          wildcard = quality;
+        }
+      }
+      return wildcard != null && wildcard > 0;
+    }
+
+    // q 파라미터가 없으면 1, 형식이 잘못되면 0 (허용하지 않는 것으로 처리)
+    private static double quality(String[] tokens) {
+      for (int i = 1; i < tokens.length; i++) {
+        String param = tokens[i].trim();
+        if (param.length() > 2 && param.charAt(1) == '='
+            && Character.toLowerCase(param.charAt(0)) == 'q') {
+          try {
+            return Double.parseDouble(param.substring(2).trim());
+          } catch (NumberFormatException e) {
+            return 0;
+          }
+        }
+      }
+      return 1;
+    }
+  }
+}
@@ -2,20 +2,33 @@ package com.shoppingmall.ecommerceapi.domain.product.controller;
 
 import com.shoppingmall.ecommerceapi.common.api.Api;
 import com.shoppingmall.ecommerceapi.domain.product.dto.ProductCreateRequest;
+import com.shoppingmall.ecommerceapi.domain.product.dto.ProductImageConfirmRequest;
+import com.shoppingmall.ecommerceapi.domain.product.dto.ProductImageGcResponse;
+import com.shoppingmall.ecommerceapi.domain.product.dto.ProductImageUploadRequest;
+import com.shoppingmall.ecommerceapi.domain.product.dto.ProductImageUploadResponse;
+import com.shoppingmall.ecommerceapi.domain.product.dto.ProductImportResponse;
 import com.shoppingmall.ecommerceapi.domain.product.dto.ProductResponse;
+import com.shoppingmall.ecommerceapi.domain.product.dto.ProductStockAdjustRequest;
+import com.shoppingmall.ecommerceapi.domain.product.dto.ProductStockAdjustResponse;
 import com.shoppingmall.ecommerceapi.domain.product.dto.ProductUpdateRequest;
+import com.shoppingmall.ecommerceapi.domain.product.image.ProductImageGarbageCollector;
+import com.shoppingmall.ecommerceapi.domain.product.service.ProductImportService;
 import com.shoppingmall.ecommerceapi.domain.product.service.ProductService;
+import com.shoppingmall.ecommerceapi.domain.product.service.ProductStockService;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RequestPart;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.multipart.MultipartFile;
@@ -26,6 +39,9 @@ import org.springframework.web.multipart.MultipartFile;
 public class AdminProductController {
 
   private final ProductService productService;
+  private final ProductImportService productImportService;
+  private final ProductStockService productStockService;
+  private final ProductImageGarbageCollector productImageGarbageCollector;
 
   // 상품 등록
   @PostMapping(consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
@@ -52,10 +68,71 @@ public class AdminProductController {
     return Api.OK(response);
   }
 
+  // 상품 이미지 직접 업로드용 서명 URL 발급
+  @PostMapping("/{id}/image/upload-url")
+  public Api<ProductImageUploadResponse> createImageUploadUrl(
+      @PathVariable Long id,
+      @RequestBody @Valid ProductImageUploadRequest request
+  ) {
+    ProductImageUploadResponse response = productService.createImageUploadUrl(id, request);
+    return Api.CREATED(response);
+  }
+
+  // 상품 이미지 직접 업로드 완료 확인 - 이미지 교체는 백그라운드 처리
+  @PostMapping("/{id}/image/confirm")
+  public Api<Void> confirmImageUpload(
+      @PathVariable Long id,
+      @RequestBody @Valid ProductImageConfirmRequest request
+  ) {
+    productService.confirmImageUpload(id, request);
+    return Api.OK(null);
+  }
+
+  // 재고 대량 조정 (창고 재고 동기화) - 상품별 반영 결과 반환
+  @PatchMapping("/stock")
+  public Api<ProductStockAdjustResponse> adjustStock(
+      @RequestBody @Valid ProductStockAdjustRequest request
+  ) {
+    ProductStockAdjustResponse response = productStockService.adjustStock(request);
+    return Api.OK(response);
+  }
+
   // 상품 삭제
   @PatchMapping("/{id}")
   public Api<Void> delete(@PathVariable Long id) {
     productService.deleteProduct(id);
     return Api.OK(null);
   }
-}
\ No newline at end of file
+
+  // 상품 일괄 등록 (CSV / NDJSON) - 작업 ID 반환 후 백그라운드 처리
+  @PostMapping(value = "/import", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+  public Api<ProductImportResponse> importProducts(
+      @RequestPart(value = "file") MultipartFile file
+  ) {
+    ProductImportResponse response = productImportService.startImport(file);
+    return Api.CREATED(response);
+  }
+
+  // 상품 일괄 등록 진행 상황 조회
+  @GetMapping("/import/{jobId}")
+  public Api<ProductImportResponse> getImportJob(@PathVariable String jobId) {
+    ProductImportResponse response = productImportService.getJob(jobId);
+    return Api.OK(response);
+  }
+
+  // 고아 이미지 정리 즉시 실행 (기본 dry-run: 삭제 없이 결과만 반환)
+  @PostMapping("/images/gc")
+  public Api<ProductImageGcResponse> runImageGc(
+      @RequestParam(defaultValue = "true") boolean dryRun
+  ) {
+    ProductImageGcResponse response = productImageGarbageCollector.run(dryRun);
+    return Api.OK(response);
+  }
+
+  // 마지막 고아 이미지 정리 결과 조회
+  @GetMapping("/images/gc")
+  public Api<ProductImageGcResponse> getImageGcReport() {
+    ProductImageGcResponse response = productImageGarbageCollector.getLastReport();
+    return Api.OK(response);
+  }
+}
@@ -2,10 +2,18 @@ package com.shoppingmall.ecommerceapi.domain.product.controller;
 
 import com.shoppingmall.ecommerceapi.common.api.Api;
 import com.shoppingmall.ecommerceapi.common.response.PageRequestDTO;
-import com.shoppingmall.ecommerceapi.common.response.PageResponse;
-import com.shoppingmall.ecommerceapi.domain.product.dto.ProductResponse;
+import com.shoppingmall.ecommerceapi.domain.product.cache.ProductJsonCache;
+import com.shoppingmall.ecommerceapi.domain.product.dto.ProductBestResponse;
+import com.shoppingmall.ecommerceapi.domain.product.dto.ProductRelatedResponse;
 import com.shoppingmall.ecommerceapi.domain.product.entity.enums.ProductCategory;
+import com.shoppingmall.ecommerceapi.domain.product.ranking.ProductRankingService;
+import com.shoppingmall.ecommerceapi.domain.product.related.ProductRelatedService;
 import com.shoppingmall.ecommerceapi.domain.product.service.ProductService;
+import com.shoppingmall.ecommerceapi.domain.product.view.ProductViewCounter;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.List;
 import lombok.RequiredArgsConstructor;
 import org.springdoc.core.annotations.ParameterObject;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -14,32 +22,66 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+/**
+ * 상품 조회 API
+ * - 응답은 ProductJsonCache에 직렬화된 바이트로 캐시되어 출력 스트림에 바로 기록
+ */
 @RestController
 @RequestMapping("/open-api/products")
 @RequiredArgsConstructor
 public class OpenApiProductController {
 
   private final ProductService productService;
+  private final ProductJsonCache productJsonCache;
+  private final ProductRankingService productRankingService;
+  private final ProductViewCounter productViewCounter;
+  private final ProductRelatedService productRelatedService;
 
   // 상품 전체 조회
   @GetMapping
-  public Api<PageResponse<ProductResponse>> getProducts(
+  public void getProducts(
       @RequestParam(required = false) ProductCategory category,
-      @ParameterObject PageRequestDTO pageRequestDTO
-  ) {
-    PageResponse<ProductResponse> response = productService.getProducts(category, pageRequestDTO);
+      @ParameterObject PageRequestDTO pageRequestDTO,
+      HttpServletRequest request,
+      HttpServletResponse response
+  ) throws IOException {
+    productJsonCache
+        .getProducts(category, pageRequestDTO,
+            () -> Api.OK(productService.getProducts(category, pageRequestDTO)))
+        .writeTo(request, response);
+  }
 
-    return Api.OK(response);
+  // 베스트 상품 조회 (판매 수량 순, window: day | week)
+  @GetMapping("/best")
+  public Api<List<ProductBestResponse>> getBestProducts(
+      @RequestParam(required = false) ProductCategory category,
+      @RequestParam(defaultValue = "day") String window,
+      @RequestParam(defaultValue = "10") int size
+  ) {
+    return Api.OK(productRankingService.getBestProducts(category, window, size));
   }
 
   // 상품 단건 조회
   @GetMapping("/{id}")
-  public Api<ProductResponse> getProduct(
-      @PathVariable Long id
-  ) {
-    ProductResponse response = productService.getProduct(id);
+  public void getProduct(
+      @PathVariable Long id,
+      HttpServletRequest request,
+      HttpServletResponse response
+  ) throws IOException {
+    productJsonCache
+        .getProduct(id, () -> Api.OK(productService.getProduct(id)))
+        .writeTo(request, response);
+    // 캐시 응답 포함 실제 조회만 집계 (없는 상품이면 위에서 예외)
+    productViewCounter.increment(id);
+  }
 
-    return Api.OK(response);
+  // 함께 구매된 상품 조회
+  @GetMapping("/{id}/related")
+  public Api<List<ProductRelatedResponse>> getRelatedProducts(
+      @PathVariable Long id,
+      @RequestParam(defaultValue = "10") int size
+  ) {
+    return Api.OK(productRelatedService.getRelatedProducts(id, size));
   }
 
-}
\ No newline at end of file
+}
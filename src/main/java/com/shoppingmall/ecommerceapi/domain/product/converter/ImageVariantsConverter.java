@@ -0,0 +1,45 @@
+package com.shoppingmall.ecommerceapi.domain.product.converter;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 이미지 크기별 URL(Map) ↔ JSON 문자열 컬럼 변환
+ */
+@Converter
+public class ImageVariantsConverter implements AttributeConverter<Map<String, String>, String> {
+
+  private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+  private static final TypeReference<LinkedHashMap<String, String>> TYPE =
+      new TypeReference<>() {
+      };
+
+  @Override
+  public String convertToDatabaseColumn(Map<String, String> variants) {
+    if (variants == null || variants.isEmpty()) {
+      return null;
+    }
+    try {
+      return OBJECT_MAPPER.writeValueAsString(variants);
+    } catch (JsonProcessingException e) {
+      throw new IllegalArgumentException("이미지 URL 목록 변환 실패", e);
+    }
+  }
+
+  @Override
+  public Map<String, String> convertToEntityAttribute(String json) {
+    if (json == null || json.isBlank()) {
+      return null;
+    }
+    try {
+      return OBJECT_MAPPER.readValue(json, TYPE);
+    } catch (JsonProcessingException e) {
+      throw new IllegalArgumentException("이미지 URL 목록 변환 실패", e);
+    }
+  }
+}
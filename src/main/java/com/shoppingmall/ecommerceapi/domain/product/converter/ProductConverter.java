@@ -35,6 +35,8 @@ public class ProductConverter {
         .status(product.getStatus().name())
         .description(product.getDescription())
         .imgSrc(product.getImgSrc())
+        .imgVariants(product.getImgVariants())
+        .viewCount(product.getViewCount())
         .createdAt(product.getCreatedAt())
         .updatedAt(product.getUpdatedAt())
         .build();
@@ -0,0 +1,17 @@
+package com.shoppingmall.ecommerceapi.domain.product.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProductBestResponse {
+
+  private Integer rank;
+  private Long salesQuantity;
+  private ProductResponse product;
+}
@@ -0,0 +1,17 @@
+package com.shoppingmall.ecommerceapi.domain.product.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ProductImageConfirmRequest {
+
+  @NotBlank(message = "업로드한 파일 key는 필수입니다.")
+  private String key;
+}
@@ -0,0 +1,25 @@
+package com.shoppingmall.ecommerceapi.domain.product.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProductImageGcResponse {
+
+  private Boolean dryRun;
+  private Long referencedUrls;
+  private Long scannedFiles;
+  private Long skippedRecentFiles;
+  private Long orphanFiles;
+  private Long deletedFiles;
+  private List<String> orphanSamples;
+  private LocalDateTime startedAt;
+  private LocalDateTime finishedAt;
+}
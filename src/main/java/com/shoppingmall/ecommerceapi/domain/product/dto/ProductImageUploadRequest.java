@@ -0,0 +1,22 @@
+package com.shoppingmall.ecommerceapi.domain.product.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Pattern;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ProductImageUploadRequest {
+
+  @NotBlank(message = "파일 이름은 필수입니다.")
+  private String fileName;
+
+  @NotBlank(message = "Content-Type은 필수입니다.")
+  @Pattern(regexp = "^image/(png|jpeg)$", message = "image/png, image/jpeg만 업로드 가능합니다.")
+  private String contentType;
+}
@@ -0,0 +1,21 @@
+package com.shoppingmall.ecommerceapi.domain.product.dto;
+
+import java.time.Instant;
+import java.util.Map;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProductImageUploadResponse {
+
+  private String key;
+  private String uploadUrl;
+  private String method;
+  private Map<String, String> headers;
+  private Instant expiresAt;
+}
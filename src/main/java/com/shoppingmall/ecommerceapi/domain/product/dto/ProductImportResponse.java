@@ -0,0 +1,45 @@
+package com.shoppingmall.ecommerceapi.domain.product.dto;
+
+import com.shoppingmall.ecommerceapi.domain.product.importer.ProductImportJob;
+import com.shoppingmall.ecommerceapi.domain.product.importer.ProductImportJob.RowError;
+import java.time.LocalDateTime;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProductImportResponse {
+
+  private String jobId;
+  private String fileName;
+  private String format;
+  private String status;
+  private Integer processedRows;
+  private Integer successRows;
+  private Integer failedRows;
+  private String failureMessage;
+  private List<RowError> errors;
+  private LocalDateTime createdAt;
+  private LocalDateTime finishedAt;
+
+  public static ProductImportResponse from(ProductImportJob job) {
+    return ProductImportResponse.builder()
+        .jobId(job.getJobId())
+        .fileName(job.getFileName())
+        .format(job.getFormat().name())
+        .status(job.getStatus().name())
+        .processedRows(job.getProcessedRows().get())
+        .successRows(job.getSuccessRows().get())
+        .failedRows(job.getFailedRows().get())
+        .failureMessage(job.getFailureMessage())
+        .errors(job.getErrorList())
+        .createdAt(job.getCreatedAt())
+        .finishedAt(job.getFinishedAt())
+        .build();
+  }
+}
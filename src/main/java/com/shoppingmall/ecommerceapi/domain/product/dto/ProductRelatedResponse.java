@@ -0,0 +1,16 @@
+package com.shoppingmall.ecommerceapi.domain.product.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProductRelatedResponse {
+
+  private Integer coPurchaseCount;
+  private ProductResponse product;
+}
@@ -4,6 +4,7 @@ import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonInclude.Include;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import java.time.LocalDateTime;
+import java.util.Map;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -24,6 +25,8 @@ public class ProductResponse {
   private String status;
   private String description;
   private String imgSrc;
+  private Map<String, String> imgVariants;
+  private Long viewCount;
 
   @JsonProperty("create_at")
   private LocalDateTime createdAt;
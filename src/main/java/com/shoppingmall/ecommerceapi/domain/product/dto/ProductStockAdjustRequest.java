@@ -0,0 +1,46 @@
+package com.shoppingmall.ecommerceapi.domain.product.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ProductStockAdjustRequest {
+
+  @NotEmpty(message = "재고 조정 항목은 최소 1개 이상이어야 합니다.")
+  @Size(max = 10000, message = "한 번에 최대 10000개 상품까지 조정 가능합니다.")
+  @Valid
+  private List<Item> items;
+
+  /**
+   * 상품별 재고 조정 (delta, stock 중 하나만 입력)
+   * - delta : 현재 재고에 더할 수량 (음수면 차감)
+   * - stock : 변경할 재고 수량 (절대값)
+   */
+  @Getter
+  @NoArgsConstructor
+  @AllArgsConstructor
+  @Builder
+  public static class Item {
+
+    @NotNull(message = "상품 ID는 필수입니다.")
+    private Long productId;
+
+    private Integer delta;
+
+    @Min(value = 0, message = "재고는 0개 이상이어야 합니다.")
+    @Max(value = 10000, message = "재고는 최대 10000개 까지 등록 가능합니다.")
+    private Integer stock;
+  }
+}
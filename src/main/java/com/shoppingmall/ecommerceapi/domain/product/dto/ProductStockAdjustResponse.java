@@ -0,0 +1,42 @@
+package com.shoppingmall.ecommerceapi.domain.product.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProductStockAdjustResponse {
+
+  private Integer requested;
+  private Integer updated;
+  private Integer failed;
+  private List<Result> results;
+
+  public enum ResultType {
+    UPDATED,        // 반영 완료
+    NOT_FOUND,      // 존재하지 않거나 삭제된 상품
+    INVALID,        // delta/stock 입력 오류, 중복 상품 ID 또는 조정 후 재고가 최대 수량 초과
+    OUT_OF_STOCK,   // 차감 후 재고가 음수
+    LOCK_FAILED     // 주문 처리 중이라 재고 락 획득 실패 (재시도 필요)
+  }
+
+  @Getter
+  @Builder
+  @NoArgsConstructor
+  @AllArgsConstructor
+  @JsonInclude(JsonInclude.Include.NON_NULL)
+  public static class Result {
+
+    private Long productId;
+    private ResultType result;
+    private Integer stock;
+    private String status;
+    private String message; // 실패 사유 (필요한 경우만)
+  }
+}
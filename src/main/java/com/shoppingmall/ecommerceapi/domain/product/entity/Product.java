@@ -1,10 +1,12 @@
 package com.shoppingmall.ecommerceapi.domain.product.entity;
 
 import com.shoppingmall.ecommerceapi.common.exception.BusinessException;
+import com.shoppingmall.ecommerceapi.domain.product.converter.ImageVariantsConverter;
 import com.shoppingmall.ecommerceapi.domain.product.entity.enums.ProductCategory;
 import com.shoppingmall.ecommerceapi.domain.product.entity.enums.ProductStatus;
 import com.shoppingmall.ecommerceapi.domain.product.exception.ProductErrorCode;
 import jakarta.persistence.Column;
+import jakarta.persistence.Convert;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EntityListeners;
 import jakarta.persistence.EnumType;
@@ -14,10 +16,12 @@ import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.Table;
 import java.time.LocalDateTime;
+import java.util.Map;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.ColumnDefault;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
@@ -31,6 +35,9 @@ import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 @EntityListeners(AuditingEntityListener.class)
 public class Product {
 
+  // 상품 재고 최대 수량 (등록/수정 요청의 @Max와 동일)
+  public static final int MAX_STOCK = 10_000;
+
   @Id
   @GeneratedValue(strategy = GenerationType.IDENTITY)
   private Long id;
@@ -58,6 +65,17 @@ public class Product {
   @Column(nullable = false, length = 700)
   private String imgSrc = "none.png";
 
+  // 리사이즈된 이미지 URL (크기 이름 → URL), 백그라운드 이미지 처리 완료 후 채워짐
+  @Convert(converter = ImageVariantsConverter.class)
+  @Column(length = 2000)
+  private Map<String, String> imgVariants;
+
+  // 조회수 - ProductViewCounter가 모아서 JDBC로만 누적 (JPA 더티 체킹이 덮어쓰지 않도록 읽기 전용)
+  @ColumnDefault("0")
+  @Column(nullable = false, insertable = false, updatable = false)
+  @Builder.Default
+  private Long viewCount = 0L;
+
   @Builder.Default
   private Boolean isActive = true;
 
@@ -116,22 +134,22 @@ public class Product {
     }
 
     this.stock = resultStock;
+    this.status = statusForStock(this.stock);
+  }
 
-    if (this.stock > 0) {
-      this.status = ProductStatus.FOR_SALE;
-    } else {
-      this.status = ProductStatus.SOLD_OUT;
-    }
+  // 재고 변경 후 판매상태 (재고 있으면 판매중, 없으면 품절) - 대량 재고 조정에서도 동일 규칙 사용
+  public static ProductStatus statusForStock(int stock) {
+    return stock > 0 ? ProductStatus.FOR_SALE : ProductStatus.SOLD_OUT;
   }
 
-  // 내부 검증
-  private void validateStock(int stock) {
-    if (stock < 0) {
+  // 재고/판매상태 검증 (일괄 등록 시에도 동일 규칙 사용)
+  public static void validateStock(int stock) {
+    if (stock < 0 || stock > MAX_STOCK) {
       throw new BusinessException(ProductErrorCode.PRODUCT_INVALID_STOCK);
     }
   }
 
-  private void validateStatusWithStock(int stock, ProductStatus status) {
+  public static void validateStatusWithStock(int stock, ProductStatus status) {
     if (stock == 0 && status == ProductStatus.FOR_SALE) {
       throw new BusinessException(ProductErrorCode.PRODUCT_STATUS_CONFLICT);
     }
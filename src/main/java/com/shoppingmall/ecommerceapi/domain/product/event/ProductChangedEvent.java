@@ -0,0 +1,41 @@
+package com.shoppingmall.ecommerceapi.domain.product.event;
+
+import java.util.Collection;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 상품 정보(가격, 재고, 상태, 이미지 등)가 변경되었음을 알리는 이벤트
+ * - 상품 목록 캐시는 항상 무효화 대상
+ * - productIds에 포함된 상품의 단건 캐시만 무효화
+ * - allProducts가 true면 전체 단건 캐시 무효화
+ */
+@Getter
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class ProductChangedEvent {
+
+  private final Set<Long> productIds;
+  private final boolean allProducts;
+
+  // 단일 상품 변경 (신규 등록처럼 ID가 없으면 목록만 무효화)
+  public static ProductChangedEvent of(Long productId) {
+    return new ProductChangedEvent(productId == null ? Set.of() : Set.of(productId), false);
+  }
+
+  // 여러 상품 변경
+  public static ProductChangedEvent of(Collection<Long> productIds) {
+    Set<Long> ids = productIds.stream()
+        .filter(Objects::nonNull)
+        .collect(Collectors.toUnmodifiableSet());
+    return new ProductChangedEvent(ids, false);
+  }
+
+  // 전체 상품 변경
+  public static ProductChangedEvent all() {
+    return new ProductChangedEvent(Set.of(), true);
+  }
+}
@@ -0,0 +1,20 @@
+package com.shoppingmall.ecommerceapi.domain.product.event;
+
+import java.nio.file.Path;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 상품 이미지가 임시 파일로 준비되었음을 알리는 이벤트
+ * - 트랜잭션 커밋 이후 백그라운드에서 업로드/리사이즈 처리
+ * - expectedImgSrc : 요청 시점의 상품 이미지 (처리 중 다른 이미지로 바뀌었으면 반영하지 않음)
+ */
+@Getter
+@AllArgsConstructor
+public class ProductImageStagedEvent {
+
+  private final Long productId;
+  private final Path stagedFile;
+  private final String originalFilename;
+  private final String expectedImgSrc;
+}
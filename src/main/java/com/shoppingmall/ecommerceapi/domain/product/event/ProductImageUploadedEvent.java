@@ -0,0 +1,18 @@
+package com.shoppingmall.ecommerceapi.domain.product.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 클라이언트가 서명된 URL로 저장소에 직접 올린 원본 이미지를 상품에 연결하는 이벤트
+ * - 트랜잭션 커밋 이후 백그라운드에서 크기별 이미지 생성 후 상품 이미지 교체
+ * - expectedImgSrc : 확인 요청 시점의 상품 이미지 (처리 중 다른 이미지로 바뀌었으면 반영하지 않음)
+ */
+@Getter
+@AllArgsConstructor
+public class ProductImageUploadedEvent {
+
+  private final Long productId;
+  private final String key;
+  private final String expectedImgSrc;
+}
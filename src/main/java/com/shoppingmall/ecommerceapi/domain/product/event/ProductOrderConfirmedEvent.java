@@ -0,0 +1,16 @@
+package com.shoppingmall.ecommerceapi.domain.product.event;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 주문 결제 확정 이벤트 (함께 구매된 상품 집계용)
+ */
+@Getter
+@AllArgsConstructor
+public class ProductOrderConfirmedEvent {
+
+  private final Long orderId;
+  private final List<Long> productIds;
+}
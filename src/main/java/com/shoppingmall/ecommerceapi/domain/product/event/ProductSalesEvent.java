@@ -0,0 +1,28 @@
+package com.shoppingmall.ecommerceapi.domain.product.event;
+
+import com.shoppingmall.ecommerceapi.domain.product.entity.enums.ProductCategory;
+import java.time.LocalDateTime;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 상품 판매 수량 변경 이벤트 (주문 생성: +수량, 주문 취소: -수량)
+ * - orderedAt : 주문 시각 (취소도 주문이 들어간 시간대 집계에서 차감)
+ */
+@Getter
+@AllArgsConstructor
+public class ProductSalesEvent {
+
+  private final List<Item> items;
+  private final LocalDateTime orderedAt;
+
+  @Getter
+  @AllArgsConstructor
+  public static class Item {
+
+    private final Long productId;
+    private final ProductCategory category;
+    private final int quantity;
+  }
+}
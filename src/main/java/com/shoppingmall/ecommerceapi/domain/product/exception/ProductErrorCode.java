@@ -44,7 +44,27 @@ public enum ProductErrorCode implements ApiCode {
   PRODUCT_DELETE_FORBIDDEN(HttpStatus.FORBIDDEN.value(), 403, "해당 상품을 삭제할 관리자 권한이 없습니다."),
   PRODUCT_DELETE_NOT_FOUND(HttpStatus.NOT_FOUND.value(), 404,
       "삭제하려는 상품 ID가 존재하지 않거나 이미 삭제 처리된 상품입니다."),
-  PRODUCT_DELETE_FAILED(HttpStatus.CONFLICT.value(), 409, "해당 상품으로 결제된 주문 내역이 존재하여 삭제할 수 없습니다.");
+  PRODUCT_DELETE_FAILED(HttpStatus.CONFLICT.value(), 409, "해당 상품으로 결제된 주문 내역이 존재하여 삭제할 수 없습니다."),
+
+  // 상품 이미지 직접 업로드
+  PRODUCT_IMAGE_INVALID_KEY(HttpStatus.BAD_REQUEST.value(), 400, "발급받은 업로드 key가 아닙니다."),
+  PRODUCT_IMAGE_NOT_UPLOADED(HttpStatus.BAD_REQUEST.value(), 400, "저장소에 업로드된 이미지가 없습니다. 업로드 후 다시 시도해주세요."),
+
+  // 베스트 상품
+  PRODUCT_INVALID_RANKING_WINDOW(HttpStatus.BAD_REQUEST.value(), 400, "집계 기간은 day, week 중 하나여야 합니다."),
+  PRODUCT_INVALID_RANKING_SIZE(HttpStatus.BAD_REQUEST.value(), 400, "조회 개수는 1 이상 100 이하여야 합니다."),
+
+  // 함께 구매된 상품
+  PRODUCT_INVALID_RELATED_SIZE(HttpStatus.BAD_REQUEST.value(), 400, "조회 개수는 1 이상 50 이하여야 합니다."),
+
+  // 상품 이미지 정리
+  PRODUCT_IMAGE_GC_RUNNING(HttpStatus.CONFLICT.value(), 409, "이미지 정리 작업이 이미 실행 중입니다."),
+  PRODUCT_IMAGE_GC_REPORT_NOT_FOUND(HttpStatus.NOT_FOUND.value(), 404, "이미지 정리 실행 결과가 없습니다."),
+
+  // 상품 일괄 등록
+  PRODUCT_IMPORT_INVALID_FILE(HttpStatus.BAD_REQUEST.value(), 400, "CSV(.csv) 또는 NDJSON(.ndjson, .jsonl) 파일만 업로드 가능합니다."),
+  PRODUCT_IMPORT_JOB_NOT_FOUND(HttpStatus.NOT_FOUND.value(), 404, "존재하지 않는 상품 일괄 등록 작업입니다."),
+  PRODUCT_IMPORT_FAILED(HttpStatus.INTERNAL_SERVER_ERROR.value(), 500, "업로드 파일을 처리하는 중 오류가 발생했습니다.");
 
   private final Integer httpStatus;
   private final Integer code;
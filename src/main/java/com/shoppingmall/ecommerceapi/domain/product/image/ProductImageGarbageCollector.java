@@ -0,0 +1,187 @@
+package com.shoppingmall.ecommerceapi.domain.product.image;
+
+import com.shoppingmall.ecommerceapi.common.exception.BusinessException;
+import com.shoppingmall.ecommerceapi.common.infra.S3Service;
+import com.shoppingmall.ecommerceapi.common.infra.StoredFile;
+import com.shoppingmall.ecommerceapi.common.util.BloomFilter;
+import com.shoppingmall.ecommerceapi.domain.product.dto.ProductImageGcResponse;
+import com.shoppingmall.ecommerceapi.domain.product.exception.ProductErrorCode;
+import com.shoppingmall.ecommerceapi.domain.product.repository.ProductJdbcRepository;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RLock;
+import org.redisson.api.RedissonClient;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 고아 상품 이미지 정리
+ * - 상품 테이블의 imgSrc / imgVariants URL을 스트리밍으로 읽어 Bloom filter 구성
+ * - 저장소 목록을 순회하며 filter에 없는 파일만 고아로 판정 (오탐은 "참조 중"으로만 나므로 잘못 지우지 않음)
+ * - 최근 grace-hours 안에 올라온 파일은 처리 중/확인 전 업로드일 수 있어 제외
+ * - 삭제는 batch-size씩, 배치 사이 batch-interval-ms 대기 (저장소 요청량 제한)
+ * - dry-run이면 삭제 없이 결과만 기록, 여러 서버 중 한 곳에서만 실행 (Redisson 락)
+ */
+@Slf4j
+@Component
+public class ProductImageGarbageCollector {
+
+  private static final String LOCK_KEY = "product:image:gc";
+  private static final double BLOOM_FPP = 0.001;
+  private static final int MAX_ORPHAN_SAMPLES = 100;
+
+  private final S3Service s3Service;
+  private final ProductJdbcRepository productJdbcRepository;
+  private final RedissonClient redissonClient;
+  private final String prefix;
+  private final Duration grace;
+  private final int batchSize;
+  private final long batchIntervalMillis;
+  private final boolean dryRun;
+
+  private final AtomicReference<ProductImageGcResponse> lastReport = new AtomicReference<>();
+
+  public ProductImageGarbageCollector(
+      S3Service s3Service,
+      ProductJdbcRepository productJdbcRepository,
+      RedissonClient redissonClient,
+      @Value("${product.image.gc.prefix:}") String prefix,
+      @Value("${product.image.gc.grace-hours:24}") long graceHours,
+      @Value("${product.image.gc.batch-size:100}") int batchSize,
+      @Value("${product.image.gc.batch-interval-ms:1000}") long batchIntervalMillis,
+      @Value("${product.image.gc.dry-run:true}") boolean dryRun
+  ) {
+    this.s3Service = s3Service;
+    this.productJdbcRepository = productJdbcRepository;
+    this.redissonClient = redissonClient;
+    this.prefix = prefix;
+    this.grace = Duration.ofHours(graceHours);
+    this.batchSize = batchSize;
+    this.batchIntervalMillis = batchIntervalMillis;
+    this.dryRun = dryRun;
+  }
+
+  @Scheduled(cron = "${product.image.gc.cron:0 30 4 * * *}")
+  public void scheduledRun() {
+    try {
+      run(dryRun);
+    } catch (BusinessException e) {
+      log.info("다른 서버에서 이미지 정리 실행 중 - 이번 주기는 건너뜀");
+    } catch (Exception e) {
+      log.error("이미지 정리 실패", e);
+    }
+  }
+
+  /**
+   * 이미지 정리 실행 (이미 실행 중이면 PRODUCT_IMAGE_GC_RUNNING)
+   */
+  public ProductImageGcResponse run(boolean dryRun) {
+    RLock lock = redissonClient.getLock(LOCK_KEY);
+    if (!lock.tryLock()) {
+      throw new BusinessException(ProductErrorCode.PRODUCT_IMAGE_GC_RUNNING);
+    }
+    try {
+      ProductImageGcResponse report = collect(dryRun);
+      lastReport.set(report);
+      return report;
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  public ProductImageGcResponse getLastReport() {
+    ProductImageGcResponse report = lastReport.get();
+    if (report == null) {
+      throw new BusinessException(ProductErrorCode.PRODUCT_IMAGE_GC_REPORT_NOT_FOUND);
+    }
+    return report;
+  }
+
+  private ProductImageGcResponse collect(boolean dryRun) {
+    LocalDateTime startedAt = LocalDateTime.now();
+    // filter 구성 이후에 올라온 파일은 grace 기간으로 보호됨
+    Instant cutoff = Instant.now().minus(grace);
+
+    // 1. 참조 중인 URL → Bloom filter (상품당 원본 + 크기별 이미지)
+    long expected = productJdbcRepository.countAll() * (1 + ProductImageSize.values().length);
+    BloomFilter referenced = BloomFilter.create(expected, BLOOM_FPP);
+    long[] referencedCount = {0};
+    productJdbcRepository.forEachImageUrl(url -> {
+      if (url != null) {
+        referenced.put(url);
+        referencedCount[0]++;
+      }
+    });
+
+    // 2. 저장소 순회 → 고아 판정 → 배치 삭제
+    long[] scanned = {0};
+    long[] skippedRecent = {0};
+    long[] orphans = {0};
+    long[] deleted = {0};
+    List<String> samples = new ArrayList<>();
+    List<String> batch = new ArrayList<>(batchSize);
+
+    s3Service.forEachFile(prefix, file -> {
+      scanned[0]++;
+      if (isRecent(file, cutoff)) {
+        skippedRecent[0]++;
+        return;
+      }
+      if (referenced.mightContain(file.getUrl())) {
+        return;
+      }
+
+      orphans[0]++;
+      if (samples.size() < MAX_ORPHAN_SAMPLES) {
+        samples.add(file.getUrl());
+      }
+      if (!dryRun) {
+        batch.add(file.getUrl());
+        if (batch.size() >= batchSize) {
+          deleted[0] += deleteBatch(batch);
+        }
+      }
+    });
+    if (!batch.isEmpty()) {
+      deleted[0] += deleteBatch(batch);
+    }
+
+    log.info("이미지 정리 완료 - dryRun: {}, 참조: {}, 저장소: {}, 최근 제외: {}, 고아: {}, 삭제: {}",
+        dryRun, referencedCount[0], scanned[0], skippedRecent[0], orphans[0], deleted[0]);
+
+    return ProductImageGcResponse.builder()
+        .dryRun(dryRun)
+        .referencedUrls(referencedCount[0])
+        .scannedFiles(scanned[0])
+        .skippedRecentFiles(skippedRecent[0])
+        .orphanFiles(orphans[0])
+        .deletedFiles(deleted[0])
+        .orphanSamples(List.copyOf(samples))
+        .startedAt(startedAt)
+        .finishedAt(LocalDateTime.now())
+        .build();
+  }
+
+  private static boolean isRecent(StoredFile file, Instant cutoff) {
+    return file.getLastModified() == null || file.getLastModified().isAfter(cutoff);
+  }
+
+  private int deleteBatch(List<String> batch) {
+    int deleted = s3Service.deleteFiles(List.copyOf(batch));
+    batch.clear();
+    if (batchIntervalMillis > 0) {
+      try {
+        Thread.sleep(batchIntervalMillis);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+    }
+    return deleted;
+  }
+}
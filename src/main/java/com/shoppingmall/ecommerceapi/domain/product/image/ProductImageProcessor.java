@@ -0,0 +1,201 @@
+package com.shoppingmall.ecommerceapi.domain.product.image;
+
+import com.shoppingmall.ecommerceapi.common.infra.S3Service;
+import com.shoppingmall.ecommerceapi.domain.product.entity.Product;
+import com.shoppingmall.ecommerceapi.domain.product.event.ProductChangedEvent;
+import com.shoppingmall.ecommerceapi.domain.product.event.ProductImageStagedEvent;
+import com.shoppingmall.ecommerceapi.domain.product.event.ProductImageUploadedEvent;
+import com.shoppingmall.ecommerceapi.domain.product.repository.ProductRepository;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import javax.imageio.ImageIO;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 상품 이미지 백그라운드 처리
+ * - 상품 저장 트랜잭션이 커밋된 후 전용 스레드 풀에서 원본 + 크기별 이미지를 S3Service로 업로드
+ * - 업로드가 끝나면 상품의 imgSrc / imgVariants를 교체하고 이전 이미지를 삭제
+ * - 트랜잭션이 롤백되면 임시 파일만 삭제 (업로드 자체가 일어나지 않음)
+ * - 서명된 URL로 직접 업로드된 원본은 다시 올리지 않고 내려받아 크기별 이미지만 생성
+ */
+@Slf4j
+@Component
+public class ProductImageProcessor {
+
+  private static final String DEFAULT_IMG_SRC = "none.png";
+  private static final String KEY_PREFIX = "products/";
+
+  private final S3Service s3Service;
+  private final ProductRepository productRepository;
+  private final ApplicationEventPublisher eventPublisher;
+  private final TaskExecutor productImageExecutor;
+
+  public ProductImageProcessor(
+      S3Service s3Service,
+      ProductRepository productRepository,
+      ApplicationEventPublisher eventPublisher,
+      @Qualifier("productImageExecutor") TaskExecutor productImageExecutor
+  ) {
+    this.s3Service = s3Service;
+    this.productRepository = productRepository;
+    this.eventPublisher = eventPublisher;
+    this.productImageExecutor = productImageExecutor;
+  }
+
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onImageStaged(ProductImageStagedEvent event) {
+    productImageExecutor.execute(() -> process(event));
+  }
+
+  @TransactionalEventListener(phase = TransactionPhase.AFTER_ROLLBACK)
+  public void onRollback(ProductImageStagedEvent event) {
+    deleteQuietly(event.getStagedFile());
+  }
+
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onImageUploaded(ProductImageUploadedEvent event) {
+    productImageExecutor.execute(() -> process(event));
+  }
+
+  void process(ProductImageStagedEvent event) {
+    try {
+      processImage(event.getProductId(), event.getStagedFile(), event.getOriginalFilename(),
+          null, event.getExpectedImgSrc());
+    } finally {
+      deleteQuietly(event.getStagedFile());
+    }
+  }
+
+  void process(ProductImageUploadedEvent event) {
+    String originalUrl = s3Service.getFileUrl(event.getKey());
+    Path downloaded = null;
+    try {
+      downloaded = Files.createTempFile("product-image-", extensionOf(event.getKey()));
+      s3Service.downloadFile(event.getKey(), downloaded);
+      processImage(event.getProductId(), downloaded, event.getKey(), originalUrl,
+          event.getExpectedImgSrc());
+    } catch (Exception e) {
+      log.error("업로드된 상품 이미지 다운로드 실패 - 상품 ID: {}, key: {}",
+          event.getProductId(), event.getKey(), e);
+      s3Service.deleteFile(originalUrl);
+    } finally {
+      if (downloaded != null) {
+        deleteQuietly(downloaded);
+      }
+    }
+  }
+
+  /**
+   * 원본 파일로 크기별 이미지를 만들어 업로드하고 상품 이미지를 교체
+   * - existingOriginalUrl이 있으면 원본은 이미 저장소에 있으므로 업로드 생략
+   *   (반영하지 못하면 원본도 함께 폐기)
+   */
+  private void processImage(Long productId, Path file, String filename,
+      String existingOriginalUrl, String expectedImgSrc) {
+    List<String> uploadedUrls = new ArrayList<>();
+    if (existingOriginalUrl != null) {
+      uploadedUrls.add(existingOriginalUrl);
+    }
+
+    try {
+      BufferedImage original = ImageIO.read(file.toFile());
+      if (original == null) {
+        log.warn("이미지로 읽을 수 없는 파일 - 상품 ID: {}, 파일: {}", productId, filename);
+        uploadedUrls.forEach(s3Service::deleteFile);
+        return;
+      }
+
+      String format = ProductImageResizer.hasAlpha(original) ? "png" : "jpg";
+      String contentType = "png".equals(format) ? "image/png" : "image/jpeg";
+
+      String keyBase;
+      String imgSrc;
+      if (existingOriginalUrl != null) {
+        // 직접 업로드된 원본과 같은 경로에 크기별 이미지 저장
+        keyBase = filename.substring(0, filename.lastIndexOf('/') + 1);
+        imgSrc = existingOriginalUrl;
+      } else {
+        // 원본은 업로드된 바이트 그대로 저장
+        keyBase = KEY_PREFIX + UUID.randomUUID() + "/";
+        imgSrc = s3Service.uploadFile(keyBase + "original" + extensionOf(filename),
+            Files.readAllBytes(file), contentTypeOf(filename, contentType));
+        uploadedUrls.add(imgSrc);
+      }
+
+      Map<String, String> variants = new LinkedHashMap<>();
+      for (ProductImageSize size : ProductImageSize.values()) {
+        byte[] resized = ProductImageResizer.encode(
+            ProductImageResizer.resize(original, size.getWidth()), format);
+        String url = s3Service.uploadFile(keyBase + size.getKey() + "." + format, resized,
+            contentType);
+        uploadedUrls.add(url);
+        variants.put(size.getKey(), url);
+      }
+
+      // 처리 중 상품 이미지가 바뀌었거나 삭제되었으면 반영하지 않음
+      Map<String, String> previousVariants = productRepository.findById(productId)
+          .map(Product::getImgVariants)
+          .orElse(null);
+      int updated = productRepository.updateImageIfUnchanged(
+          productId, expectedImgSrc, imgSrc, variants);
+
+      if (updated == 0) {
+        log.info("상품 이미지가 변경되어 처리 결과 폐기 - 상품 ID: {}", productId);
+        uploadedUrls.forEach(s3Service::deleteFile);
+        return;
+      }
+
+      // 이전 이미지 정리
+      if (!DEFAULT_IMG_SRC.equals(expectedImgSrc)) {
+        s3Service.deleteFile(expectedImgSrc);
+      }
+      if (previousVariants != null) {
+        previousVariants.values().forEach(s3Service::deleteFile);
+      }
+
+      eventPublisher.publishEvent(ProductChangedEvent.of(productId));
+      log.info("상품 이미지 처리 완료 - 상품 ID: {}, 크기: {}", productId, variants.keySet());
+
+    } catch (Exception e) {
+      log.error("상품 이미지 처리 실패 - 상품 ID: {}", productId, e);
+      uploadedUrls.forEach(s3Service::deleteFile);
+    }
+  }
+
+  private static String extensionOf(String name) {
+    int dot = name == null ? -1 : name.lastIndexOf('.');
+    return dot < 0 ? "" : name.substring(dot).toLowerCase();
+  }
+
+  private static String contentTypeOf(String name, String fallback) {
+    String extension = extensionOf(name);
+    if (extension.equals(".png")) {
+      return "image/png";
+    }
+    if (extension.equals(".jpg") || extension.equals(".jpeg")) {
+      return "image/jpeg";
+    }
+    return fallback;
+  }
+
+  private static void deleteQuietly(Path file) {
+    try {
+      Files.deleteIfExists(file);
+    } catch (IOException e) {
+      log.warn("임시 이미지 파일 삭제 실패: {}", file);
+    }
+  }
+}
@@ -0,0 +1,72 @@
+package com.shoppingmall.ecommerceapi.domain.product.image;
+
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import javax.imageio.ImageIO;
+
+/**
+ * ImageIO / Graphics2D 기반 이미지 리사이즈
+ * - 큰 비율로 줄일 때 화질 저하를 막기 위해 절반씩 단계적으로 축소
+ */
+public final class ProductImageResizer {
+
+  private ProductImageResizer() {
+  }
+
+  // 가로 targetWidth로 축소 (비율 유지, 원본이 더 작으면 그대로 반환)
+  public static BufferedImage resize(BufferedImage source, int targetWidth) {
+    if (source.getWidth() <= targetWidth) {
+      return source;
+    }
+    int targetHeight = Math.max(1,
+        Math.round(source.getHeight() * (float) targetWidth / source.getWidth()));
+
+    BufferedImage current = source;
+    int width = source.getWidth();
+    int height = source.getHeight();
+
+    do {
+      width = Math.max(targetWidth, width / 2);
+      height = Math.max(targetHeight, height / 2);
+      current = draw(current, width, height, hasAlpha(source));
+    } while (width != targetWidth || height != targetHeight);
+
+    return current;
+  }
+
+  // png(투명도 있음) / jpg로 인코딩
+  public static byte[] encode(BufferedImage image, String format) throws IOException {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    BufferedImage target = image;
+    if ("jpg".equals(format) && hasAlpha(image)) {
+      target = draw(image, image.getWidth(), image.getHeight(), false);
+    }
+    if (!ImageIO.write(target, format, out)) {
+      throw new IOException("지원하지 않는 이미지 형식: " + format);
+    }
+    return out.toByteArray();
+  }
+
+  public static boolean hasAlpha(BufferedImage image) {
+    return image.getColorModel().hasAlpha();
+  }
+
+  private static BufferedImage draw(BufferedImage source, int width, int height, boolean alpha) {
+    BufferedImage resized = new BufferedImage(width, height,
+        alpha ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB);
+    Graphics2D graphics = resized.createGraphics();
+    try {
+      graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION,
+          RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+      graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+      graphics.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+      graphics.drawImage(source, 0, 0, width, height, null);
+    } finally {
+      graphics.dispose();
+    }
+    return resized;
+  }
+}
@@ -0,0 +1,20 @@
+package com.shoppingmall.ecommerceapi.domain.product.image;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 상품 이미지 리사이즈 크기 (가로 px 기준, 비율 유지)
+ * - 원본이 더 작으면 확대하지 않고 원본 크기로 저장
+ */
+@Getter
+@AllArgsConstructor
+public enum ProductImageSize {
+  THUMBNAIL("thumbnail", 150),
+  SMALL("small", 300),
+  MEDIUM("medium", 600),
+  LARGE("large", 1200);
+
+  private final String key;
+  private final int width;
+}
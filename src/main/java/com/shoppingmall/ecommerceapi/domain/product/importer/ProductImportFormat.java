@@ -0,0 +1,28 @@
+package com.shoppingmall.ecommerceapi.domain.product.importer;
+
+import com.shoppingmall.ecommerceapi.common.exception.BusinessException;
+import com.shoppingmall.ecommerceapi.domain.product.exception.ProductErrorCode;
+
+/**
+ * 상품 일괄 등록 파일 형식
+ * - CSV    : 첫 줄은 헤더 (name,description,price,category,stock,status,img_src)
+ * - NDJSON : 한 줄에 상품 JSON 하나 (snake_case 키)
+ */
+public enum ProductImportFormat {
+  CSV,
+  NDJSON;
+
+  // 파일 확장자로 형식 판별
+  public static ProductImportFormat fromFileName(String fileName) {
+    if (fileName != null) {
+      String lowercase = fileName.toLowerCase();
+      if (lowercase.endsWith(".csv")) {
+        return CSV;
+      }
+      if (lowercase.endsWith(".ndjson") || lowercase.endsWith(".jsonl")) {
+        return NDJSON;
+      }
+    }
+    throw new BusinessException(ProductErrorCode.PRODUCT_IMPORT_INVALID_FILE);
+  }
+}
@@ -0,0 +1,83 @@
+package com.shoppingmall.ecommerceapi.domain.product.importer;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.Getter;
+
+/**
+ * 상품 일괄 등록 작업 진행 상황
+ * - 작업 스레드가 갱신하고 조회 API가 읽으므로 카운터는 원자적으로 관리
+ * - 행별 오류는 최대 MAX_ERRORS건까지만 보관 (건수는 전부 집계)
+ */
+@Getter
+public class ProductImportJob {
+
+  static final int MAX_ERRORS = 1000;
+
+  public enum Status {
+    PENDING, RUNNING, COMPLETED, FAILED
+  }
+
+  public record RowError(int line, String message) {
+
+  }
+
+  private final String jobId = UUID.randomUUID().toString();
+  private final String fileName;
+  private final ProductImportFormat format;
+  private final LocalDateTime createdAt = LocalDateTime.now();
+
+  private volatile Status status = Status.PENDING;
+  private volatile LocalDateTime finishedAt;
+  private volatile String failureMessage;
+
+  private final AtomicInteger processedRows = new AtomicInteger();
+  private final AtomicInteger successRows = new AtomicInteger();
+  private final AtomicInteger failedRows = new AtomicInteger();
+  private final ConcurrentLinkedQueue<RowError> errors = new ConcurrentLinkedQueue<>();
+  private final AtomicInteger storedErrors = new AtomicInteger();
+
+  public ProductImportJob(String fileName, ProductImportFormat format) {
+    this.fileName = fileName;
+    this.format = format;
+  }
+
+  public void start() {
+    this.status = Status.RUNNING;
+  }
+
+  public void complete() {
+    this.status = Status.COMPLETED;
+    this.finishedAt = LocalDateTime.now();
+  }
+
+  public void fail(String message) {
+    this.status = Status.FAILED;
+    this.failureMessage = message;
+    this.finishedAt = LocalDateTime.now();
+  }
+
+  public void addSuccess(int count) {
+    processedRows.addAndGet(count);
+    successRows.addAndGet(count);
+  }
+
+  public void addFailure(int line, String message) {
+    processedRows.incrementAndGet();
+    failedRows.incrementAndGet();
+    if (storedErrors.incrementAndGet() <= MAX_ERRORS) {
+      errors.add(new RowError(line, message));
+    }
+  }
+
+  public boolean isFinished() {
+    return status == Status.COMPLETED || status == Status.FAILED;
+  }
+
+  public List<RowError> getErrorList() {
+    return List.copyOf(errors);
+  }
+}
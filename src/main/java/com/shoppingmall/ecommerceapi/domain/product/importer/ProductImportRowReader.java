@@ -0,0 +1,145 @@
+package com.shoppingmall.ecommerceapi.domain.product.importer;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 업로드 파일을 한 줄씩 읽어 "컬럼명 → 값" 형태의 행으로 변환
+ * - 파일 전체를 메모리에 올리지 않고 BufferedReader로 스트리밍
+ * - CSV는 큰따옴표 필드("a,b", "" 이스케이프)를 지원하며, 필드 안의 줄바꿈은 지원하지 않음
+ */
+public class ProductImportRowReader {
+
+  private final BufferedReader reader;
+  private final ProductImportFormat format;
+  private final ObjectMapper objectMapper;
+  private List<String> csvHeader;
+  private int lineNumber;
+
+  public ProductImportRowReader(BufferedReader reader, ProductImportFormat format,
+      ObjectMapper objectMapper) throws IOException {
+    this.reader = reader;
+    this.format = format;
+    this.objectMapper = objectMapper;
+
+    if (format == ProductImportFormat.CSV) {
+      String headerLine = nextLine();
+      if (headerLine == null) {
+        throw new IOException("CSV 헤더가 없습니다.");
+      }
+      this.csvHeader = splitCsvLine(stripBom(headerLine)).stream()
+          .map(column -> column.trim().toLowerCase())
+          .toList();
+    }
+  }
+
+  public int getLineNumber() {
+    return lineNumber;
+  }
+
+  /**
+   * 다음 데이터 행 (빈 줄은 건너뜀), 파일 끝이면 null
+   *
+   * @throws IllegalArgumentException 행 형식 오류 (해당 행만 실패 처리)
+   */
+  public Map<String, String> nextRow() throws IOException {
+    String line;
+    do {
+      line = nextLine();
+      if (line == null) {
+        return null;
+      }
+    } while (line.isBlank());
+
+    return format == ProductImportFormat.CSV ? toCsvRow(line) : toJsonRow(line);
+  }
+
+  private String nextLine() throws IOException {
+    String line = reader.readLine();
+    if (line != null) {
+      lineNumber++;
+    }
+    return line;
+  }
+
+  private Map<String, String> toCsvRow(String line) {
+    List<String> values = splitCsvLine(line);
+    if (values.size() > csvHeader.size()) {
+      throw new IllegalArgumentException("컬럼 수가 헤더보다 많습니다.");
+    }
+
+    Map<String, String> row = new HashMap<>();
+    for (int i = 0; i < values.size(); i++) {
+      row.put(csvHeader.get(i), values.get(i));
+    }
+    return row;
+  }
+
+  private Map<String, String> toJsonRow(String line) {
+    JsonNode node;
+    try {
+      node = objectMapper.readTree(line);
+    } catch (IOException e) {
+      throw new IllegalArgumentException("JSON 형식이 올바르지 않습니다.");
+    }
+    if (node == null || !node.isObject()) {
+      throw new IllegalArgumentException("JSON 객체가 아닙니다.");
+    }
+
+    Map<String, String> row = new HashMap<>();
+    Iterator<Map.Entry<String, JsonNode>> fields = node.fields();
+    while (fields.hasNext()) {
+      Map.Entry<String, JsonNode> field = fields.next();
+      if (!field.getValue().isNull()) {
+        row.put(field.getKey().toLowerCase(), field.getValue().asText());
+      }
+    }
+    return row;
+  }
+
+  // CSV 한 줄 분리 (RFC 4180의 따옴표 규칙)
+  static List<String> splitCsvLine(String line) {
+    List<String> values = new ArrayList<>();
+    StringBuilder current = new StringBuilder();
+    boolean quoted = false;
+
+    for (int i = 0; i < line.length(); i++) {
+      char c = line.charAt(i);
+      if (quoted) {
+        if (c == '"') {
+          if (i + 1 < line.length() && line.charAt(i + 1) == '"') {
+            current.append('"');
+            i++;
+          } else {
+            quoted = false;
+          }
+        } else {
+          current.append(c);
+        }
+      } else if (c == '"') {
+        quoted = true;
+      } else if (c == ',') {
+        values.add(current.toString());
+        current.setLength(0);
+      } else {
+        current.append(c);
+      }
+    }
+    if (quoted) {
+      throw new IllegalArgumentException("닫히지 않은 따옴표가 있습니다.");
+    }
+    values.add(current.toString());
+    return values;
+  }
+
+  private static String stripBom(String line) {
+    return line.startsWith("\uFEFF") ? line.substring(1) : line;
+  }
+}
@@ -0,0 +1,199 @@
+package com.shoppingmall.ecommerceapi.domain.product.ranking;
+
+import com.shoppingmall.ecommerceapi.common.exception.BusinessException;
+import com.shoppingmall.ecommerceapi.domain.product.converter.ProductConverter;
+import com.shoppingmall.ecommerceapi.domain.product.dto.ProductBestResponse;
+import com.shoppingmall.ecommerceapi.domain.product.entity.Product;
+import com.shoppingmall.ecommerceapi.domain.product.entity.enums.ProductCategory;
+import com.shoppingmall.ecommerceapi.domain.product.event.ProductSalesEvent;
+import com.shoppingmall.ecommerceapi.domain.product.exception.ProductErrorCode;
+import com.shoppingmall.ecommerceapi.domain.product.repository.ProductRepository;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 베스트 상품 랭킹 (Redis Sorted Set)
+ * - 주문 커밋 후 판매 수량을 시간/일 버킷에 ZINCRBY (카테고리별 + 전체, 파이프라인 한 번)
+ *   product:best:h:{yyyyMMddHH}:{카테고리|all}, product:best:d:{yyyyMMdd}:{카테고리|all}
+ * - 조회 시 최근 24개 시간 버킷(DAY) / 7개 일 버킷(WEEK)을 ZUNIONSTORE로 합쳐 짧게 캐시
+ * - 상위 N개는 ZREVRANGEBYSCORE(O(log n + N)), 상품 정보는 findAllById 한 번으로 조회
+ */
+@Slf4j
+@Service
+public class ProductRankingService {
+
+  static final String KEY_PREFIX = "product:best:";
+  private static final String ALL = "all";
+  private static final int MAX_SIZE = 100;
+
+  private static final DateTimeFormatter HOUR_FORMAT = DateTimeFormatter.ofPattern("yyyyMMddHH");
+  private static final DateTimeFormatter DAY_FORMAT = DateTimeFormatter.ofPattern("yyyyMMdd");
+
+  // 취소가 늦게 들어와도 같은 버킷에서 차감할 수 있도록 집계 기간보다 길게 유지
+  private static final Duration HOUR_BUCKET_TTL = Duration.ofHours(48);
+  private static final Duration DAY_BUCKET_TTL = Duration.ofDays(14);
+
+  private final StringRedisTemplate redisTemplate;
+  private final ProductRepository productRepository;
+  private final ProductConverter productConverter;
+  private final Duration windowCacheTtl;
+
+  public ProductRankingService(
+      StringRedisTemplate redisTemplate,
+      ProductRepository productRepository,
+      ProductConverter productConverter,
+      @Value("${product.ranking.window-cache-seconds:60}") long windowCacheSeconds
+  ) {
+    this.redisTemplate = redisTemplate;
+    this.productRepository = productRepository;
+    this.productConverter = productConverter;
+    this.windowCacheTtl = Duration.ofSeconds(windowCacheSeconds);
+  }
+
+  // 주문 커밋 이후 판매 수량 반영 (랭킹 실패가 주문에 영향을 주지 않도록 예외는 로그만)
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onSales(ProductSalesEvent event) {
+    try {
+      record(event);
+    } catch (Exception e) {
+      log.warn("베스트 상품 집계 반영 실패 - 주문 시각: {}", event.getOrderedAt(), e);
+    }
+  }
+
+  void record(ProductSalesEvent event) {
+    String hour = HOUR_FORMAT.format(event.getOrderedAt());
+    String day = DAY_FORMAT.format(event.getOrderedAt());
+
+    // 같은 상품이 여러 줄이면 합산, 키별로 모아 만료 시간도 한 번씩만 설정
+    Map<String, Map<Long, Integer>> deltas = new LinkedHashMap<>();
+    for (ProductSalesEvent.Item item : event.getItems()) {
+      List<String> keys = new ArrayList<>(List.of(hourKey(hour, ALL), dayKey(day, ALL)));
+      if (item.getCategory() != null) {
+        keys.add(hourKey(hour, item.getCategory().name()));
+        keys.add(dayKey(day, item.getCategory().name()));
+      }
+      for (String key : keys) {
+        deltas.computeIfAbsent(key, k -> new LinkedHashMap<>())
+            .merge(item.getProductId(), item.getQuantity(), Integer::sum);
+      }
+    }
+
+    redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+      deltas.forEach((key, members) -> {
+        byte[] rawKey = key.getBytes(StandardCharsets.UTF_8);
+        members.forEach((productId, quantity) -> connection.zSetCommands().zIncrBy(
+            rawKey, quantity, String.valueOf(productId).getBytes(StandardCharsets.UTF_8)));
+        Duration ttl = key.startsWith(KEY_PREFIX + "h:") ? HOUR_BUCKET_TTL : DAY_BUCKET_TTL;
+        connection.keyCommands().expire(rawKey, ttl.getSeconds());
+      });
+      return null;
+    });
+  }
+
+  // 베스트 상품 조회
+  @Transactional(readOnly = true)
+  public List<ProductBestResponse> getBestProducts(ProductCategory category, String window,
+      int size) {
+    return getBestProducts(category, ProductRankingWindow.from(window), size,
+        LocalDateTime.now());
+  }
+
+  List<ProductBestResponse> getBestProducts(ProductCategory category,
+      ProductRankingWindow window, int size, LocalDateTime now) {
+    if (size < 1 || size > MAX_SIZE) {
+      throw new BusinessException(ProductErrorCode.PRODUCT_INVALID_RANKING_SIZE);
+    }
+
+    String windowKey = prepareWindow(category == null ? ALL : category.name(), window, now);
+
+    // 삭제된 상품이 섞여 있을 수 있어 여유 있게 조회
+    Set<TypedTuple<String>> top = redisTemplate.opsForZSet()
+        .reverseRangeByScoreWithScores(windowKey, 1, Double.MAX_VALUE, 0, size * 2L);
+    if (top == null || top.isEmpty()) {
+      return List.of();
+    }
+
+    Map<Long, Long> quantities = new LinkedHashMap<>();
+    for (TypedTuple<String> tuple : top) {
+      quantities.put(Long.valueOf(tuple.getValue()), tuple.getScore().longValue());
+    }
+
+    Map<Long, Product> products = productRepository.findAllById(quantities.keySet()).stream()
+        .filter(product -> product.getDeletedAt() == null)
+        .collect(Collectors.toMap(Product::getId, Function.identity()));
+
+    List<ProductBestResponse> responses = new ArrayList<>();
+    for (Map.Entry<Long, Long> entry : quantities.entrySet()) {
+      Product product = products.get(entry.getKey());
+      if (product == null) {
+        continue;
+      }
+      responses.add(ProductBestResponse.builder()
+          .rank(responses.size() + 1)
+          .salesQuantity(entry.getValue())
+          .product(productConverter.toResponse(product))
+          .build());
+      if (responses.size() == size) {
+        break;
+      }
+    }
+    return responses;
+  }
+
+  /**
+   * 집계 기간 버킷을 합친 키 (현재 시각 기준 버킷 ID를 키에 포함 → 시간이 지나면 자연히 새 키)
+   */
+  private String prepareWindow(String scope, ProductRankingWindow window, LocalDateTime now) {
+    String windowKey = KEY_PREFIX + "w:" + window.name().toLowerCase() + ":" + scope + ":"
+        + HOUR_FORMAT.format(now);
+    if (Boolean.TRUE.equals(redisTemplate.hasKey(windowKey))) {
+      return windowKey;
+    }
+
+    List<String> bucketKeys = bucketKeys(scope, window, now);
+    redisTemplate.opsForZSet().unionAndStore(bucketKeys.get(0), bucketKeys.subList(1,
+        bucketKeys.size()), windowKey);
+    redisTemplate.expire(windowKey, windowCacheTtl);
+    return windowKey;
+  }
+
+  static List<String> bucketKeys(String scope, ProductRankingWindow window, LocalDateTime now) {
+    Set<String> keys = new LinkedHashSet<>();
+    if (window == ProductRankingWindow.DAY) {
+      for (int i = 0; i < 24; i++) {
+        keys.add(hourKey(HOUR_FORMAT.format(now.minusHours(i)), scope));
+      }
+    } else {
+      for (int i = 0; i < 7; i++) {
+        keys.add(dayKey(DAY_FORMAT.format(now.minusDays(i)), scope));
+      }
+    }
+    return List.copyOf(keys);
+  }
+
+  private static String hourKey(String hour, String scope) {
+    return KEY_PREFIX + "h:" + hour + ":" + scope;
+  }
+
+  private static String dayKey(String day, String scope) {
+    return KEY_PREFIX + "d:" + day + ":" + scope;
+  }
+}
@@ -0,0 +1,24 @@
+package com.shoppingmall.ecommerceapi.domain.product.ranking;
+
+import com.shoppingmall.ecommerceapi.common.exception.BusinessException;
+import com.shoppingmall.ecommerceapi.domain.product.exception.ProductErrorCode;
+
+/**
+ * 베스트 상품 집계 기간
+ * - DAY : 최근 24시간 (시간 버킷 24개 합산)
+ * - WEEK : 최근 7일 (일 버킷 7개 합산)
+ */
+public enum ProductRankingWindow {
+  DAY, WEEK;
+
+  public static ProductRankingWindow from(String value) {
+    if (value == null || value.isBlank()) {
+      return DAY;
+    }
+    try {
+      return valueOf(value.trim().toUpperCase());
+    } catch (IllegalArgumentException e) {
+      throw new BusinessException(ProductErrorCode.PRODUCT_INVALID_RANKING_WINDOW);
+    }
+  }
+}
@@ -0,0 +1,207 @@
+package com.shoppingmall.ecommerceapi.domain.product.related;
+
+import it.unimi.dsi.fastutil.longs.Long2IntMap;
+import it.unimi.dsi.fastutil.longs.Long2IntOpenHashMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.ObjectIterator;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.LongStream;
+
+/**
+ * 함께 구매된 상품 인덱스 (상품 ID → 함께 구매된 상품 ID → 횟수)
+ * - 박싱 없는 long 키 맵(fastutil)으로 상품당 최대 maxCandidates개만 유지
+ * - 후보가 가득 차면 Space-Saving 방식: 가장 작은 항목을 새 상품으로 교체하고 (최솟값 + 1)부터 집계
+ *   → 자주 함께 팔리는 상품은 밀려나지 않고, 메모리는 상품 수 × maxCandidates로 고정
+ * - 쓰기는 주문 단위로 write lock, 조회는 read lock (후보 최대 수십 개 정렬)
+ */
+public class ProductCoOccurrenceIndex {
+
+  private static final int SNAPSHOT_VERSION = 1;
+  // 주문 하나가 만드는 쌍 수 제한 (n²)
+  private static final int MAX_ITEMS_PER_ORDER = 50;
+
+  private final int maxCandidates;
+  private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+  private Long2ObjectOpenHashMap<Long2IntOpenHashMap> index = new Long2ObjectOpenHashMap<>();
+  // 변경마다 1씩 증가 - savedVersion과 다르면 아직 스냅샷에 없는 변경이 있음
+  private volatile long version;
+  private volatile long savedVersion;
+
+  public ProductCoOccurrenceIndex(int maxCandidates) {
+    this.maxCandidates = maxCandidates;
+  }
+
+  public record Related(long productId, int count) {
+
+  }
+
+  /**
+   * 주문 하나의 상품 쌍을 모두 반영
+   */
+  public void addOrder(long[] productIds) {
+    long[] ids = LongStream.of(productIds).distinct().limit(MAX_ITEMS_PER_ORDER).toArray();
+    if (ids.length < 2) {
+      return;
+    }
+
+    lock.writeLock().lock();
+    try {
+      for (long product : ids) {
+        for (long other : ids) {
+          if (product != other) {
+            increment(product, other);
+          }
+        }
+      }
+      version++;
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  /**
+   * 함께 구매된 횟수 상위 limit개 (횟수 내림차순, 같으면 상품 ID 오름차순)
+   */
+  public List<Related> topRelated(long productId, int limit) {
+    lock.readLock().lock();
+    try {
+      Long2IntOpenHashMap counts = index.get(productId);
+      if (counts == null) {
+        return List.of();
+      }
+      List<Related> related = new ArrayList<>(counts.size());
+      ObjectIterator<Long2IntMap.Entry> iterator = counts.long2IntEntrySet().fastIterator();
+      while (iterator.hasNext()) {
+        Long2IntMap.Entry entry = iterator.next();
+        related.add(new Related(entry.getLongKey(), entry.getIntValue()));
+      }
+      related.sort(Comparator.comparingInt(Related::count).reversed()
+          .thenComparingLong(Related::productId));
+      return related.size() > limit ? List.copyOf(related.subList(0, limit)) : related;
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  public int size() {
+    lock.readLock().lock();
+    try {
+      return index.size();
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  public boolean isDirty() {
+    return version != savedVersion;
+  }
+
+  /**
+   * 스냅샷 저장 (버전, 상품 수, [상품 ID, 후보 수, [후보 ID, 횟수]...]...)
+   * - 기록한 시점의 변경 버전 반환 → 파일 교체까지 끝나면 markSaved로 넘겨야 dirty 해제
+   */
+  public long writeTo(DataOutputStream out) throws IOException {
+    lock.readLock().lock();
+    try {
+      out.writeInt(SNAPSHOT_VERSION);
+      out.writeInt(index.size());
+      ObjectIterator<Long2ObjectMap.Entry<Long2IntOpenHashMap>> products =
+          index.long2ObjectEntrySet().fastIterator();
+      while (products.hasNext()) {
+        Long2ObjectMap.Entry<Long2IntOpenHashMap> product = products.next();
+        out.writeLong(product.getLongKey());
+        out.writeInt(product.getValue().size());
+        ObjectIterator<Long2IntMap.Entry> counts =
+            product.getValue().long2IntEntrySet().fastIterator();
+        while (counts.hasNext()) {
+          Long2IntMap.Entry entry = counts.next();
+          out.writeLong(entry.getLongKey());
+          out.writeInt(entry.getIntValue());
+        }
+      }
+      return version;
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  /**
+   * 스냅샷 저장 완료 표시 (writeTo가 반환한 버전 이후의 변경은 계속 dirty)
+   */
+  public void markSaved(long snapshotVersion) {
+    lock.writeLock().lock();
+    try {
+      savedVersion = Math.max(savedVersion, snapshotVersion);
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  /**
+   * 스냅샷으로 교체 (읽는 동안에는 기존 인덱스로 계속 응답)
+   */
+  public void readFrom(DataInputStream in) throws IOException {
+    int formatVersion = in.readInt();
+    if (formatVersion != SNAPSHOT_VERSION) {
+      throw new IOException("지원하지 않는 스냅샷 버전: " + formatVersion);
+    }
+
+    int productCount = in.readInt();
+    Long2ObjectOpenHashMap<Long2IntOpenHashMap> loaded = new Long2ObjectOpenHashMap<>(productCount);
+    for (int i = 0; i < productCount; i++) {
+      long productId = in.readLong();
+      int candidateCount = in.readInt();
+      Long2IntOpenHashMap counts = new Long2IntOpenHashMap(candidateCount);
+      for (int j = 0; j < candidateCount; j++) {
+        counts.put(in.readLong(), in.readInt());
+      }
+      loaded.put(productId, counts);
+    }
+
+    lock.writeLock().lock();
+    try {
+      index = loaded;
+      savedVersion = this.version;
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  private void increment(long product, long other) {
+    Long2IntOpenHashMap counts = index.get(product);
+    if (counts == null) {
+      counts = new Long2IntOpenHashMap(4);
+      index.put(product, counts);
+    }
+
+    if (counts.containsKey(other)) {
+      counts.addTo(other, 1);
+      return;
+    }
+    if (counts.size() < maxCandidates) {
+      counts.put(other, 1);
+      return;
+    }
+
+    // Space-Saving: 최소 항목 교체
+    long minKey = 0;
+    int min = Integer.MAX_VALUE;
+    ObjectIterator<Long2IntMap.Entry> iterator = counts.long2IntEntrySet().fastIterator();
+    while (iterator.hasNext()) {
+      Long2IntMap.Entry entry = iterator.next();
+      if (entry.getIntValue() < min) {
+        min = entry.getIntValue();
+        minKey = entry.getLongKey();
+      }
+    }
+    counts.remove(minKey);
+    counts.put(other, min + 1);
+  }
+}
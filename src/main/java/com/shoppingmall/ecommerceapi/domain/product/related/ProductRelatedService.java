@@ -0,0 +1,215 @@
+package com.shoppingmall.ecommerceapi.domain.product.related;
+
+import com.shoppingmall.ecommerceapi.common.exception.BusinessException;
+import com.shoppingmall.ecommerceapi.domain.product.converter.ProductConverter;
+import com.shoppingmall.ecommerceapi.domain.product.dto.ProductRelatedResponse;
+import com.shoppingmall.ecommerceapi.domain.product.entity.Product;
+import com.shoppingmall.ecommerceapi.domain.product.event.ProductOrderConfirmedEvent;
+import com.shoppingmall.ecommerceapi.domain.product.exception.ProductErrorCode;
+import com.shoppingmall.ecommerceapi.domain.product.repository.ProductJdbcRepository;
+import com.shoppingmall.ecommerceapi.domain.product.repository.ProductRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 함께 구매된 상품 (ProductCoOccurrenceIndex)
+ * - 주문 결제 확정 커밋 후 상품 ID를 Redis 채널로 전파 → 모든 서버(자신 포함)가 메모리 인덱스에 반영
+ * - 변경이 있으면 주기적으로 gzip 스냅샷 저장 (임시 파일 → 원자적 교체), 기동 시 스냅샷 적재
+ * - 스냅샷이 없으면 결제 완료 주문을 스트리밍 조회해 한 번만 적재
+ * - 조회는 메모리 인덱스 + findAllById 한 번
+ */
+@Slf4j
+@Service
+public class ProductRelatedService implements MessageListener {
+
+  static final String CHANNEL = "product:related:order";
+  private static final int MAX_SIZE = 50;
+
+  private final ProductRepository productRepository;
+  private final ProductJdbcRepository productJdbcRepository;
+  private final ProductConverter productConverter;
+  private final StringRedisTemplate stringRedisTemplate;
+  private final RedisMessageListenerContainer redisMessageListenerContainer;
+  private final ProductCoOccurrenceIndex index;
+  private final Path snapshotPath;
+
+  public ProductRelatedService(
+      ProductRepository productRepository,
+      ProductJdbcRepository productJdbcRepository,
+      ProductConverter productConverter,
+      StringRedisTemplate stringRedisTemplate,
+      RedisMessageListenerContainer redisMessageListenerContainer,
+      @Value("${product.related.max-candidates:50}") int maxCandidates,
+      @Value("${product.related.snapshot-path:./data/related-products.snapshot.gz}") String snapshotPath
+  ) {
+    this.productRepository = productRepository;
+    this.productJdbcRepository = productJdbcRepository;
+    this.productConverter = productConverter;
+    this.stringRedisTemplate = stringRedisTemplate;
+    this.redisMessageListenerContainer = redisMessageListenerContainer;
+    this.index = new ProductCoOccurrenceIndex(maxCandidates);
+    this.snapshotPath = Paths.get(snapshotPath);
+  }
+
+  @PostConstruct
+  void init() {
+    redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+
+    if (loadSnapshot()) {
+      return;
+    }
+    try {
+      productJdbcRepository.forEachPaidOrderProducts(index::addOrder);
+      log.info("함께 구매된 상품 인덱스 초기 적재 완료 - 상품 수: {}", index.size());
+    } catch (Exception e) {
+      log.warn("함께 구매된 상품 인덱스 초기 적재 실패 - 이후 주문부터 집계", e);
+    }
+  }
+
+  // 주문 결제 확정 커밋 이후 전파 (실패해도 주문에는 영향 없음)
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onOrderConfirmed(ProductOrderConfirmedEvent event) {
+    if (event.getProductIds().size() < 2) {
+      return;
+    }
+    String payload = event.getProductIds().stream().map(String::valueOf)
+        .collect(Collectors.joining(","));
+    try {
+      stringRedisTemplate.convertAndSend(CHANNEL, payload);
+    } catch (Exception e) {
+      // 전파 실패 시 이 서버에만 반영 (다른 서버는 다음 스냅샷/재적재 전까지 누락)
+      log.warn("함께 구매된 상품 메시지 발행 실패 - 주문 ID: {}", event.getOrderId(), e);
+      index.addOrder(event.getProductIds().stream().mapToLong(Long::longValue).toArray());
+    }
+  }
+
+  @Override
+  public void onMessage(Message message, byte[] pattern) {
+    String payload = new String(message.getBody(), StandardCharsets.UTF_8);
+    try {
+      index.addOrder(Arrays.stream(payload.split(",")).mapToLong(Long::parseLong).toArray());
+    } catch (NumberFormatException e) {
+      log.warn("잘못된 함께 구매된 상품 메시지: {}", payload);
+    }
+  }
+
+  // 함께 구매된 상품 조회
+  @Transactional(readOnly = true)
+  public List<ProductRelatedResponse> getRelatedProducts(Long productId, int size) {
+    if (size < 1 || size > MAX_SIZE) {
+      throw new BusinessException(ProductErrorCode.PRODUCT_INVALID_RELATED_SIZE);
+    }
+
+    // 삭제된 상품이 섞여 있을 수 있어 여유 있게 조회
+    List<ProductCoOccurrenceIndex.Related> related = index.topRelated(productId, size * 2);
+    if (related.isEmpty()) {
+      return List.of();
+    }
+
+    Map<Long, Product> products = productRepository.findAllById(
+            related.stream().map(ProductCoOccurrenceIndex.Related::productId).toList()).stream()
+        .filter(product -> product.getDeletedAt() == null)
+        .collect(Collectors.toMap(Product::getId, Function.identity()));
+
+    List<ProductRelatedResponse> responses = new ArrayList<>();
+    for (ProductCoOccurrenceIndex.Related candidate : related) {
+      Product product = products.get(candidate.productId());
+      if (product == null) {
+        continue;
+      }
+      responses.add(ProductRelatedResponse.builder()
+          .coPurchaseCount(candidate.count())
+          .product(productConverter.toResponse(product))
+          .build());
+      if (responses.size() == size) {
+        break;
+      }
+    }
+    return responses;
+  }
+
+  @Scheduled(fixedDelayString = "${product.related.snapshot-interval-ms:600000}")
+  public void scheduledSnapshot() {
+    if (index.isDirty()) {
+      saveSnapshot();
+    }
+  }
+
+  @PreDestroy
+  public void snapshotOnShutdown() {
+    if (index.isDirty()) {
+      saveSnapshot();
+    }
+  }
+
+  /**
+   * 스냅샷 저장 (같은 디렉터리의 임시 파일에 쓴 뒤 교체 → 저장 중 종료돼도 이전 스냅샷 유지)
+   */
+  void saveSnapshot() {
+    try {
+      Path directory = snapshotPath.toAbsolutePath().getParent();
+      Files.createDirectories(directory);
+      Path temp = Files.createTempFile(directory, "related-", ".tmp");
+      long snapshotVersion;
+      try {
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(
+            new GZIPOutputStream(Files.newOutputStream(temp))))) {
+          snapshotVersion = index.writeTo(out);
+        }
+        Files.move(temp, snapshotPath, StandardCopyOption.REPLACE_EXISTING,
+            StandardCopyOption.ATOMIC_MOVE);
+      } finally {
+        Files.deleteIfExists(temp);
+      }
+      // 파일 교체까지 끝난 뒤에만 dirty 해제 (실패하면 다음 주기에 다시 저장)
+      index.markSaved(snapshotVersion);
+      log.info("함께 구매된 상품 스냅샷 저장 - 상품 수: {}", index.size());
+    } catch (IOException e) {
+      log.warn("함께 구매된 상품 스냅샷 저장 실패: {}", snapshotPath, e);
+    }
+  }
+
+  private boolean loadSnapshot() {
+    if (!Files.isRegularFile(snapshotPath)) {
+      return false;
+    }
+    try (DataInputStream in = new DataInputStream(new BufferedInputStream(
+        new GZIPInputStream(Files.newInputStream(snapshotPath))))) {
+      index.readFrom(in);
+      log.info("함께 구매된 상품 스냅샷 적재 - 상품 수: {}", index.size());
+      return true;
+    } catch (IOException e) {
+      log.warn("함께 구매된 상품 스냅샷 적재 실패 - DB에서 다시 적재: {}", snapshotPath, e);
+      return false;
+    }
+  }
+}
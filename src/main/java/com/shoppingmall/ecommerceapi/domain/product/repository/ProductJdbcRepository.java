@@ -0,0 +1,202 @@
+package com.shoppingmall.ecommerceapi.domain.product.repository;
+
+import com.shoppingmall.ecommerceapi.domain.product.converter.ImageVariantsConverter;
+import com.shoppingmall.ecommerceapi.domain.product.entity.Product;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 대량 처리 전용 JDBC 저장소
+ * - JPA IDENTITY 전략은 insert 배치가 불가능하므로 JdbcTemplate batchUpdate 사용
+ * - MySQL은 rewriteBatchedStatements=true 설정 시 multi-row insert로 전송
+ */
+@Repository
+@RequiredArgsConstructor
+public class ProductJdbcRepository {
+
+  private static final String INSERT_SQL =
+      "INSERT INTO products (name, description, price, category, status, stock, img_src, "
+          + "is_active, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?, true, ?, ?)";
+
+  private static final ImageVariantsConverter IMAGE_VARIANTS_CONVERTER =
+      new ImageVariantsConverter();
+
+  private final JdbcTemplate jdbcTemplate;
+
+  // 상품 일괄 저장 (호출 측 트랜잭션 안에서 한 번의 배치로 전송)
+  public int batchInsert(List<Product> products) {
+    Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+    int[] results = jdbcTemplate.batchUpdate(INSERT_SQL, new BatchPreparedStatementSetter() {
+      @Override
+      public void setValues(PreparedStatement ps, int i) throws SQLException {
+        Product product = products.get(i);
+        ps.setString(1, product.getName());
+        ps.setString(2, product.getDescription());
+        ps.setInt(3, product.getPrice());
+        ps.setString(4, product.getCategory().name());
+        ps.setString(5, product.getStatus().name());
+        ps.setInt(6, product.getStock());
+        ps.setString(7, product.getImgSrc());
+        ps.setTimestamp(8, now);
+        ps.setTimestamp(9, now);
+      }
+
+      @Override
+      public int getBatchSize() {
+        return products.size();
+      }
+    });
+    return results.length;
+  }
+
+  // 삭제되지 않은 상품의 현재 재고 조회 (상품 ID → 재고)
+  public Map<Long, Integer> findStocksByIds(Collection<Long> ids) {
+    Map<Long, Integer> stocks = new HashMap<>();
+    if (ids.isEmpty()) {
+      return stocks;
+    }
+
+    String sql = "SELECT id, stock FROM products WHERE deleted_at IS NULL AND id IN ("
+        + placeholders(ids.size()) + ")";
+    jdbcTemplate.query(sql, rs -> {
+      stocks.put(rs.getLong("id"), rs.getInt("stock"));
+    }, ids.toArray());
+    return stocks;
+  }
+
+  /**
+   * 재고/판매상태 일괄 변경 (UPDATE 한 번)
+   * - newStocks : 상품 ID → 변경할 재고, 판매상태는 Product.statusForStock 규칙으로 계산
+   */
+  public int updateStocks(Map<Long, Integer> newStocks) {
+    if (newStocks.isEmpty()) {
+      return 0;
+    }
+
+    StringBuilder stockCase = new StringBuilder("CASE id");
+    StringBuilder statusCase = new StringBuilder("CASE id");
+    List<Object> stockParams = new ArrayList<>();
+    List<Object> statusParams = new ArrayList<>();
+
+    newStocks.forEach((id, stock) -> {
+      stockCase.append(" WHEN ? THEN ?");
+      stockParams.add(id);
+      stockParams.add(stock);
+      statusCase.append(" WHEN ? THEN ?");
+      statusParams.add(id);
+      statusParams.add(Product.statusForStock(stock).name());
+    });
+
+    String sql = "UPDATE products SET stock = " + stockCase + " END, status = " + statusCase
+        + " END, updated_at = ? WHERE deleted_at IS NULL AND id IN ("
+        + placeholders(newStocks.size()) + ")";
+
+    List<Object> params = new ArrayList<>(stockParams);
+    params.addAll(statusParams);
+    params.add(Timestamp.valueOf(LocalDateTime.now()));
+    params.addAll(newStocks.keySet());
+
+    return jdbcTemplate.update(sql, params.toArray());
+  }
+
+  /**
+   * 조회수 일괄 누적 (UPDATE 한 번)
+   * - viewCounts : 상품 ID → 이번 주기에 늘어난 조회수
+   */
+  public int incrementViewCounts(Map<Long, Long> viewCounts) {
+    if (viewCounts.isEmpty()) {
+      return 0;
+    }
+
+    StringBuilder viewCase = new StringBuilder("CASE id");
+    List<Object> params = new ArrayList<>();
+    viewCounts.forEach((id, count) -> {
+      viewCase.append(" WHEN ? THEN ?");
+      params.add(id);
+      params.add(count);
+    });
+    params.addAll(viewCounts.keySet());
+
+    String sql = "UPDATE products SET view_count = view_count + " + viewCase
+        + " ELSE 0 END WHERE id IN (" + placeholders(viewCounts.size()) + ")";
+    return jdbcTemplate.update(sql, params.toArray());
+  }
+
+  // 상품 수 (삭제된 상품 포함)
+  public long countAll() {
+    Long count = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM products", Long.class);
+    return count == null ? 0 : count;
+  }
+
+  /**
+   * 상품이 참조하는 이미지 URL 전체 순회 (imgSrc + imgVariants, 삭제된 상품 포함)
+   * - MySQL 스트리밍 조회(fetchSize = Integer.MIN_VALUE)로 결과를 메모리에 모으지 않음
+   */
+  public void forEachImageUrl(Consumer<String> consumer) {
+    jdbcTemplate.query(connection -> {
+      PreparedStatement ps = connection.prepareStatement(
+          "SELECT img_src, img_variants FROM products",
+          ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+      ps.setFetchSize(Integer.MIN_VALUE);
+      return ps;
+    }, (RowCallbackHandler) rs -> {
+      consumer.accept(rs.getString("img_src"));
+      Map<String, String> variants =
+          IMAGE_VARIANTS_CONVERTER.convertToEntityAttribute(rs.getString("img_variants"));
+      if (variants != null) {
+        variants.values().forEach(consumer);
+      }
+    });
+  }
+
+  /**
+   * 결제 완료 주문별 상품 ID 순회 (함께 구매된 상품 인덱스 초기 적재용)
+   * - 주문 ID 순으로 스트리밍 조회하며 연속된 행을 주문 하나로 묶어 전달
+   */
+  public void forEachPaidOrderProducts(Consumer<long[]> consumer) {
+    List<Long> productIds = new ArrayList<>();
+    long[] currentOrderId = {-1};
+
+    jdbcTemplate.query(connection -> {
+      PreparedStatement ps = connection.prepareStatement(
+          "SELECT oi.order_id, oi.product_id FROM order_items oi"
+              + " JOIN orders o ON o.order_id = oi.order_id"
+              + " WHERE o.order_status = 'PAID' ORDER BY oi.order_id",
+          ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+      ps.setFetchSize(Integer.MIN_VALUE);
+      return ps;
+    }, (RowCallbackHandler) rs -> {
+      long orderId = rs.getLong("order_id");
+      if (orderId != currentOrderId[0] && !productIds.isEmpty()) {
+        consumer.accept(productIds.stream().mapToLong(Long::longValue).toArray());
+        productIds.clear();
+      }
+      currentOrderId[0] = orderId;
+      productIds.add(rs.getLong("product_id"));
+    });
+
+    if (!productIds.isEmpty()) {
+      consumer.accept(productIds.stream().mapToLong(Long::longValue).toArray());
+    }
+  }
+
+  private static String placeholders(int count) {
+    return String.join(",", Collections.nCopies(count, "?"));
+  }
+}
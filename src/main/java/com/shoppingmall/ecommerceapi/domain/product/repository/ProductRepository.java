@@ -5,7 +5,15 @@ import com.shoppingmall.ecommerceapi.domain.product.entity.enums.ProductCategory
 import com.shoppingmall.ecommerceapi.domain.product.entity.enums.ProductStatus;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
 
 public interface ProductRepository extends JpaRepository<Product, Long> {
 
@@ -25,4 +33,21 @@ public interface ProductRepository extends JpaRepository<Product, Long> {
       ProductStatus status,
       Pageable pageable
   );
-}
\ No newline at end of file
+
+  // 여러 상품의 이름/가격만 한 번에 조회
+  List<ProductSummary> findSummariesByIdIn(Collection<Long> ids);
+
+  // 이미지 교체 (조회 시점의 이미지가 그대로일 때만 반영 → 더 최신 업로드를 덮어쓰지 않음)
+  // 이미지 실행기 큐가 가득 차면 커밋 후 콜백(호출 스레드)에서 실행되므로
+  // 이미 커밋된 트랜잭션에 참여하지 않도록 항상 새 트랜잭션으로 반영
+  @Transactional(propagation = Propagation.REQUIRES_NEW)
+  @Modifying(clearAutomatically = true)
+  @Query("UPDATE Product p SET p.imgSrc = :imgSrc, p.imgVariants = :imgVariants "
+      + "WHERE p.id = :id AND p.imgSrc = :expectedImgSrc AND p.deletedAt IS NULL")
+  int updateImageIfUnchanged(
+      @Param("id") Long id,
+      @Param("expectedImgSrc") String expectedImgSrc,
+      @Param("imgSrc") String imgSrc,
+      @Param("imgVariants") Map<String, String> imgVariants
+  );
+}
@@ -0,0 +1,13 @@
+package com.shoppingmall.ecommerceapi.domain.product.repository;
+
+/**
+ * 상품 요약 프로젝션 (장바구니 등 이름/가격만 필요한 화면용, 필요한 컬럼만 SELECT)
+ */
+public interface ProductSummary {
+
+  Long getId();
+
+  String getName();
+
+  Integer getPrice();
+}
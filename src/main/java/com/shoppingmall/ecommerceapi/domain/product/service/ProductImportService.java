@@ -0,0 +1,293 @@
+package com.shoppingmall.ecommerceapi.domain.product.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.shoppingmall.ecommerceapi.common.exception.BusinessException;
+import com.shoppingmall.ecommerceapi.domain.product.dto.ProductCreateRequest;
+import com.shoppingmall.ecommerceapi.domain.product.dto.ProductImportResponse;
+import com.shoppingmall.ecommerceapi.domain.product.entity.Product;
+import com.shoppingmall.ecommerceapi.domain.product.entity.enums.ProductCategory;
+import com.shoppingmall.ecommerceapi.domain.product.entity.enums.ProductStatus;
+import com.shoppingmall.ecommerceapi.domain.product.event.ProductChangedEvent;
+import com.shoppingmall.ecommerceapi.domain.product.exception.ProductErrorCode;
+import com.shoppingmall.ecommerceapi.domain.product.importer.ProductImportFormat;
+import com.shoppingmall.ecommerceapi.domain.product.importer.ProductImportJob;
+import com.shoppingmall.ecommerceapi.domain.product.importer.ProductImportRowReader;
+import com.shoppingmall.ecommerceapi.domain.product.repository.ProductJdbcRepository;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.multipart.MultipartFile;
+
+/**
+ * 관리자 상품 일괄 등록 (CSV / NDJSON)
+ * - 업로드 파일은 임시 파일로 옮긴 뒤 백그라운드에서 한 줄씩 스트리밍 처리
+ * - 행 단위 검증: ProductCreateRequest 제약 조건 + Product 재고/판매상태 규칙
+ * - 검증을 통과한 행은 batchSize 단위로 JDBC 배치 저장 (배치마다 트랜잭션)
+ * - 진행 상황/행별 오류는 작업 ID로 조회 (작업 정보는 이 서버 메모리에만 보관)
+ */
+@Slf4j
+@Service
+public class ProductImportService {
+
+  private static final String DEFAULT_IMG_SRC = "none.png";
+  private static final int MAX_IMG_SRC_LENGTH = 700;
+
+  private final ProductJdbcRepository productJdbcRepository;
+  private final ObjectMapper objectMapper;
+  private final Validator validator;
+  private final ApplicationEventPublisher eventPublisher;
+  private final TaskExecutor productImportExecutor;
+  private final TransactionTemplate transactionTemplate;
+  private final int batchSize;
+  private final long retentionMinutes;
+
+  private final Map<String, ProductImportJob> jobs = new ConcurrentHashMap<>();
+
+  public ProductImportService(
+      ProductJdbcRepository productJdbcRepository,
+      ObjectMapper objectMapper,
+      Validator validator,
+      ApplicationEventPublisher eventPublisher,
+      @Qualifier("productImportExecutor") TaskExecutor productImportExecutor,
+      PlatformTransactionManager transactionManager,
+      @Value("${product.import.batch-size:1000}") int batchSize,
+      @Value("${product.import.retention-minutes:60}") long retentionMinutes
+  ) {
+    this.productJdbcRepository = productJdbcRepository;
+    this.objectMapper = objectMapper;
+    this.validator = validator;
+    this.eventPublisher = eventPublisher;
+    this.productImportExecutor = productImportExecutor;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    this.batchSize = batchSize;
+    this.retentionMinutes = retentionMinutes;
+  }
+
+  // 일괄 등록 작업 시작
+  public ProductImportResponse startImport(MultipartFile file) {
+    if (file == null || file.isEmpty()) {
+      throw new BusinessException(ProductErrorCode.PRODUCT_IMPORT_INVALID_FILE);
+    }
+    ProductImportFormat format = ProductImportFormat.fromFileName(file.getOriginalFilename());
+
+    // 요청 스레드에서는 디스크로 옮기기만 함 (메모리에 올리지 않음)
+    Path tempFile;
+    try {
+      tempFile = Files.createTempFile("product-import-", "." + format.name().toLowerCase());
+      file.transferTo(tempFile);
+    } catch (IOException e) {
+      log.error("상품 일괄 등록 파일 저장 실패", e);
+      throw new BusinessException(ProductErrorCode.PRODUCT_IMPORT_FAILED);
+    }
+
+    removeExpiredJobs();
+    ProductImportJob job = new ProductImportJob(file.getOriginalFilename(), format);
+    jobs.put(job.getJobId(), job);
+
+    try {
+      productImportExecutor.execute(() -> runImport(job, tempFile));
+    } catch (TaskRejectedException e) {
+      jobs.remove(job.getJobId());
+      deleteQuietly(tempFile);
+      throw new BusinessException(ProductErrorCode.PRODUCT_IMPORT_FAILED,
+          "진행 중인 일괄 등록 작업이 많습니다. 잠시 후 다시 시도해주세요.");
+    }
+
+    return ProductImportResponse.from(job);
+  }
+
+  // 작업 진행 상황 조회
+  public ProductImportResponse getJob(String jobId) {
+    ProductImportJob job = jobs.get(jobId);
+    if (job == null) {
+      throw new BusinessException(ProductErrorCode.PRODUCT_IMPORT_JOB_NOT_FOUND);
+    }
+    return ProductImportResponse.from(job);
+  }
+
+  void runImport(ProductImportJob job, Path file) {
+    job.start();
+    log.info("상품 일괄 등록 시작 - 작업 ID: {}, 파일: {}", job.getJobId(), job.getFileName());
+
+    try (BufferedReader bufferedReader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+      ProductImportRowReader reader =
+          new ProductImportRowReader(bufferedReader, job.getFormat(), objectMapper);
+
+      List<Product> batch = new ArrayList<>(batchSize);
+      List<Integer> batchLines = new ArrayList<>(batchSize);
+
+      while (true) {
+        Map<String, String> row;
+        try {
+          row = reader.nextRow();
+        } catch (IllegalArgumentException e) {
+          job.addFailure(reader.getLineNumber(), e.getMessage());
+          continue;
+        }
+        if (row == null) {
+          break;
+        }
+
+        try {
+          batch.add(toProduct(row));
+          batchLines.add(reader.getLineNumber());
+        } catch (IllegalArgumentException e) {
+          job.addFailure(reader.getLineNumber(), e.getMessage());
+        } catch (BusinessException e) {
+          job.addFailure(reader.getLineNumber(), e.getCode().getMessage());
+        }
+
+        if (batch.size() >= batchSize) {
+          flush(job, batch, batchLines);
+        }
+      }
+      flush(job, batch, batchLines);
+      job.complete();
+
+      log.info("상품 일괄 등록 완료 - 작업 ID: {}, 성공: {}, 실패: {}",
+          job.getJobId(), job.getSuccessRows().get(), job.getFailedRows().get());
+    } catch (Exception e) {
+      log.error("상품 일괄 등록 실패 - 작업 ID: {}", job.getJobId(), e);
+      job.fail(e.getMessage());
+    } finally {
+      deleteQuietly(file);
+      // 신규 상품 → 목록 캐시만 무효화 (작업 전체에서 한 번)
+      if (job.getSuccessRows().get() > 0) {
+        eventPublisher.publishEvent(ProductChangedEvent.of(List.of()));
+      }
+    }
+  }
+
+  // 배치 저장 (실패 시 해당 배치의 행 전체를 실패로 기록하고 다음 배치 진행)
+  private void flush(ProductImportJob job, List<Product> batch, List<Integer> batchLines) {
+    if (batch.isEmpty()) {
+      return;
+    }
+    try {
+      transactionTemplate.executeWithoutResult(
+          status -> productJdbcRepository.batchInsert(batch));
+      job.addSuccess(batch.size());
+    } catch (Exception e) {
+      log.warn("상품 일괄 등록 배치 저장 실패 - 작업 ID: {}, {}~{}행",
+          job.getJobId(), batchLines.get(0), batchLines.get(batchLines.size() - 1), e);
+      batchLines.forEach(line -> job.addFailure(line, "DB 저장 실패"));
+    }
+    batch.clear();
+    batchLines.clear();
+  }
+
+  /**
+   * 행 → Product 변환 + 검증
+   * - 판매상태를 지정하지 않으면 단건 등록과 같이 재고로 결정
+   * - 지정하면 Product.update와 같은 규칙으로 검증 (재고 0 + 판매중 불가)
+   */
+  private Product toProduct(Map<String, String> row) {
+    Integer stock = parseInteger(row.get("stock"), "재고");
+    ProductStatus status = parseEnum(ProductStatus.class, row.get("status"), "판매상태");
+
+    ProductCreateRequest request = ProductCreateRequest.builder()
+        .name(trimToNull(row.get("name")))
+        .description(trimToNull(row.get("description")))
+        .price(parseInteger(row.get("price"), "가격"))
+        .category(parseEnum(ProductCategory.class, row.get("category"), "카테고리"))
+        .stock(stock)
+        .status(status)
+        .imgSrc(trimToNull(row.get("img_src")))
+        .build();
+
+    Set<ConstraintViolation<ProductCreateRequest>> violations = validator.validate(request);
+    if (!violations.isEmpty()) {
+      throw new IllegalArgumentException(violations.stream()
+          .map(ConstraintViolation::getMessage)
+          .sorted()
+          .collect(Collectors.joining(", ")));
+    }
+
+    Product.validateStock(stock);
+    if (status == null) {
+      status = (stock > 0) ? ProductStatus.FOR_SALE : ProductStatus.SOLD_OUT;
+    }
+    Product.validateStatusWithStock(stock, status);
+
+    String imgSrc = request.getImgSrc() != null ? request.getImgSrc() : DEFAULT_IMG_SRC;
+    if (imgSrc.length() > MAX_IMG_SRC_LENGTH) {
+      throw new BusinessException(ProductErrorCode.PRODUCT_INVALID_IMAGE);
+    }
+
+    return Product.builder()
+        .name(request.getName())
+        .description(request.getDescription())
+        .price(request.getPrice())
+        .category(request.getCategory())
+        .status(status)
+        .stock(stock)
+        .imgSrc(imgSrc)
+        .build();
+  }
+
+  private static Integer parseInteger(String value, String fieldName) {
+    String trimmed = trimToNull(value);
+    if (trimmed == null) {
+      return null;
+    }
+    try {
+      return Integer.valueOf(trimmed);
+    } catch (NumberFormatException e) {
+      throw new IllegalArgumentException(fieldName + " 값이 숫자가 아닙니다: " + trimmed);
+    }
+  }
+
+  private static <E extends Enum<E>> E parseEnum(Class<E> type, String value, String fieldName) {
+    String trimmed = trimToNull(value);
+    if (trimmed == null) {
+      return null;
+    }
+    try {
+      return Enum.valueOf(type, trimmed.toUpperCase());
+    } catch (IllegalArgumentException e) {
+      throw new IllegalArgumentException("정의되지 않은 " + fieldName + " 값입니다: " + trimmed);
+    }
+  }
+
+  private static String trimToNull(String value) {
+    if (value == null) {
+      return null;
+    }
+    String trimmed = value.trim();
+    return trimmed.isEmpty() ? null : trimmed;
+  }
+
+  // 끝난 지 오래된 작업 정보 정리
+  private void removeExpiredJobs() {
+    LocalDateTime threshold = LocalDateTime.now().minusMinutes(retentionMinutes);
+    jobs.values().removeIf(job -> job.isFinished() && job.getFinishedAt().isBefore(threshold));
+  }
+
+  private static void deleteQuietly(Path file) {
+    try {
+      Files.deleteIfExists(file);
+    } catch (IOException e) {
+      log.warn("임시 파일 삭제 실패: {}", file);
+    }
+  }
+}
@@ -1,21 +1,40 @@
 package com.shoppingmall.ecommerceapi.domain.product.service;
 
 import com.shoppingmall.ecommerceapi.common.exception.BusinessException;
+import com.shoppingmall.ecommerceapi.common.infra.PresignedUpload;
 import com.shoppingmall.ecommerceapi.common.infra.S3Service;
 import com.shoppingmall.ecommerceapi.common.response.PageRequestDTO;
 import com.shoppingmall.ecommerceapi.common.response.PageResponse;
 import com.shoppingmall.ecommerceapi.domain.order.repository.OrderItemRepository;
 import com.shoppingmall.ecommerceapi.domain.product.converter.ProductConverter;
 import com.shoppingmall.ecommerceapi.domain.product.dto.ProductCreateRequest;
+import com.shoppingmall.ecommerceapi.domain.product.dto.ProductImageConfirmRequest;
+import com.shoppingmall.ecommerceapi.domain.product.dto.ProductImageUploadRequest;
+import com.shoppingmall.ecommerceapi.domain.product.dto.ProductImageUploadResponse;
 import com.shoppingmall.ecommerceapi.domain.product.dto.ProductResponse;
 import com.shoppingmall.ecommerceapi.domain.product.dto.ProductUpdateRequest;
 import com.shoppingmall.ecommerceapi.domain.product.entity.Product;
 import com.shoppingmall.ecommerceapi.domain.product.entity.enums.ProductCategory;
 import com.shoppingmall.ecommerceapi.domain.product.entity.enums.ProductStatus;
+import com.shoppingmall.ecommerceapi.domain.product.event.ProductChangedEvent;
+import com.shoppingmall.ecommerceapi.domain.product.event.ProductImageStagedEvent;
+import com.shoppingmall.ecommerceapi.domain.product.event.ProductImageUploadedEvent;
 import com.shoppingmall.ecommerceapi.domain.product.exception.ProductErrorCode;
 import com.shoppingmall.ecommerceapi.domain.product.repository.ProductRepository;
+import com.shoppingmall.ecommerceapi.domain.product.repository.ProductSummary;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -26,39 +45,37 @@ import org.springframework.web.multipart.MultipartFile;
 @Service
 public class ProductService {
 
+  private static final String DEFAULT_IMG_SRC = "none.png";
+  private static final String UPLOAD_KEY_PREFIX = "products/uploads/";
+  private static final Duration UPLOAD_URL_EXPIRY = Duration.ofMinutes(10);
+
   private final ProductRepository productRepository;
   private final ProductConverter productConverter;
   private final OrderItemRepository orderItemRepository;
+  private final ApplicationEventPublisher eventPublisher;
   private final S3Service s3Service;
 
   // 상품 등록
   @Transactional
   public ProductResponse register(ProductCreateRequest request, MultipartFile image) {
-    String finalImgSrc = "none.png";
-    boolean isUploaded = false;
-
-    // 이미지가 넘어왔을 경우에만 S3 업로드 실행, 유효성 검사
-    if (image != null && !image.isEmpty()) {
-      validateImageFile(image);
-      finalImgSrc = s3Service.uploadFile(image);
-      isUploaded = true;
-    }
+    // 이미지는 임시 파일로만 옮겨두고 업로드/리사이즈는 커밋 이후 백그라운드에서 처리
+    Path stagedImage = stageImage(image);
 
-    /**
-     * 재고에 따라 판매상태 변경
-     * DB 실패 시 S3 롤백
-     */
     try {
+      // 재고에 따라 판매상태 변경
       ProductStatus status =
           (request.getStock() > 0) ? ProductStatus.FOR_SALE : ProductStatus.SOLD_OUT;
-      Product product = productConverter.toEntity(request, finalImgSrc, status);
+      Product product = productConverter.toEntity(request, DEFAULT_IMG_SRC, status);
       Product savedProduct = productRepository.save(product);
+      eventPublisher.publishEvent(ProductChangedEvent.of(product.getId()));
 
+      if (stagedImage != null) {
+        eventPublisher.publishEvent(new ProductImageStagedEvent(
+            product.getId(), stagedImage, image.getOriginalFilename(), DEFAULT_IMG_SRC));
+      }
       return productConverter.toResponse(savedProduct);
     } catch (Exception e) {
-      if (isUploaded) {
-        s3Service.deleteFile(finalImgSrc);
-      }
+      deleteStagedImage(stagedImage);
       throw e;
     }
   }
@@ -71,25 +88,17 @@ public class ProductService {
         .filter(p -> p.getDeletedAt() == null)
         .orElseThrow(() -> new BusinessException(ProductErrorCode.PRODUCT_UPDATE_NOT_FOUND));
 
-    // 기존 이미지 Url 보관, 기본값은 기존 이미지
-    String oldImgSrc = product.getImgSrc();
-    String finalImgSrc = oldImgSrc;
-    boolean isNewUploaded = false;
-
-    // 새로운 파일이 넘어왓을때만 S3 업로드 진행
-    if (image != null && !image.isEmpty()) {
-      validateImageFile(image);
-      finalImgSrc = s3Service.uploadFile(image);
-      isNewUploaded = true;
-    }
+    // 새로운 파일이 넘어왔을 때만 임시 파일로 준비 (이미지 교체는 백그라운드 처리 완료 시점)
+    Path stagedImage = stageImage(image);
+    String currentImgSrc = product.getImgSrc();
 
-    // 재고 0일때 판매중 설정 불가
     try {
+      // 재고 0일때 판매중 설정 불가
       if (request.getStock() == 0 && request.getStatus() == ProductStatus.FOR_SALE) {
         throw new BusinessException(ProductErrorCode.PRODUCT_STATUS_CONFLICT);
       }
 
-      // 더티 체킹
+      // 더티 체킹 (이미지는 기존 값 유지)
       product.update(
           request.getName(),
           request.getDescription(),
@@ -97,24 +106,64 @@ public class ProductService {
           request.getCategory(),
           request.getStatus(),
           request.getStock(),
-          finalImgSrc
+          currentImgSrc
       );
+      eventPublisher.publishEvent(ProductChangedEvent.of(id));
 
-      // 업데이트 성공했으면 기존 이미지가 none.png가 아닐 경우 S3에서 삭제
-      if (isNewUploaded && !oldImgSrc.equals("none.png")) {
-        s3Service.deleteFile(oldImgSrc);
+      if (stagedImage != null) {
+        eventPublisher.publishEvent(new ProductImageStagedEvent(
+            id, stagedImage, image.getOriginalFilename(), currentImgSrc));
       }
       return productConverter.toResponse(product);
 
-      // DB 반영 실패하면 새로 업로드한 S3 파일 삭제(롤백)
+      // 검증 실패 시 준비해둔 임시 파일 삭제
     } catch (Exception e) {
-      if (isNewUploaded) {
-        s3Service.deleteFile(finalImgSrc);
-      }
+      deleteStagedImage(stagedImage);
       throw e;
     }
   }
 
+  // 상품 이미지 직접 업로드용 서명 URL 발급 (이미지 바이트는 API 서버를 거치지 않음)
+  @Transactional(readOnly = true)
+  public ProductImageUploadResponse createImageUploadUrl(Long id,
+      ProductImageUploadRequest request) {
+    findActiveProduct(id);
+    if (!isValidImageExtension(request.getFileName())) {
+      throw new BusinessException(ProductErrorCode.PRODUCT_INVALID_IMAGE);
+    }
+
+    String fileName = request.getFileName().toLowerCase();
+    String extension = fileName.substring(fileName.lastIndexOf('.'));
+    String key = uploadKeyPrefix(id) + UUID.randomUUID() + "/original" + extension;
+
+    PresignedUpload upload = s3Service.createPresignedUpload(key, request.getContentType(),
+        UPLOAD_URL_EXPIRY);
+    return ProductImageUploadResponse.builder()
+        .key(upload.getKey())
+        .uploadUrl(upload.getUploadUrl())
+        .method("PUT")
+        .headers(upload.getHeaders())
+        .expiresAt(upload.getExpiresAt())
+        .build();
+  }
+
+  // 직접 업로드 완료 확인 - 크기별 이미지 생성/교체는 커밋 이후 백그라운드에서 처리
+  @Transactional(readOnly = true)
+  public void confirmImageUpload(Long id, ProductImageConfirmRequest request) {
+    Product product = findActiveProduct(id);
+
+    // 이 상품에 발급한 key만 허용
+    String key = request.getKey();
+    if (!key.startsWith(uploadKeyPrefix(id)) || key.contains("..")) {
+      throw new BusinessException(ProductErrorCode.PRODUCT_IMAGE_INVALID_KEY);
+    }
+    if (!s3Service.exists(key)) {
+      throw new BusinessException(ProductErrorCode.PRODUCT_IMAGE_NOT_UPLOADED);
+    }
+
+    eventPublisher.publishEvent(new ProductImageUploadedEvent(id, key, product.getImgSrc()));
+  }
+
   // 상품 삭제
   @Transactional
   public void deleteProduct(Long id) {
@@ -130,6 +179,7 @@ public class ProductService {
 
     // 더티체킹
     product.delete();
+    eventPublisher.publishEvent(ProductChangedEvent.of(id));
   }
 
   // 상품 단건 조회
@@ -203,6 +253,16 @@ public class ProductService {
     }
   }
 
+  private Product findActiveProduct(Long id) {
+    return productRepository.findById(id)
+        .filter(p -> p.getDeletedAt() == null)
+        .orElseThrow(() -> new BusinessException(ProductErrorCode.PRODUCT_UPDATE_NOT_FOUND));
+  }
+
+  private static String uploadKeyPrefix(Long id) {
+    return UPLOAD_KEY_PREFIX + id + "/";
+  }
+
   // 이미지 파일 유효성 검사
   private boolean isValidImageExtension(String fileName) {
     if ("none.png".equals(fileName)) {
@@ -220,10 +280,67 @@ public class ProductService {
     }
   }
 
+  // 이미지 유효성 검사 후 임시 파일로 이동 (이미지가 없으면 null)
+  private Path stageImage(MultipartFile image) {
+    if (image == null || image.isEmpty()) {
+      return null;
+    }
+    validateImageFile(image);
+
+    try {
+      Path stagedImage = Files.createTempFile("product-image-", null);
+      image.transferTo(stagedImage);
+      return stagedImage;
+    } catch (IOException e) {
+      throw new BusinessException(ProductErrorCode.PRODUCT_INVALID_IMAGE);
+    }
+  }
+
+  private void deleteStagedImage(Path stagedImage) {
+    if (stagedImage == null) {
+      return;
+    }
+    try {
+      Files.deleteIfExists(stagedImage);
+    } catch (IOException ignored) {
+      // 임시 디렉터리 파일이므로 삭제 실패는 무시
+    }
+  }
+
   // 헬퍼 메서드
   @Transactional(readOnly = true)
   public Product findProductEntityById(Long id) {
     return productRepository.findById(id)
         .orElseThrow(() -> new BusinessException(ProductErrorCode.PRODUCT_NOT_FOUND));
   }
-}
\ No newline at end of file
+
+  /**
+   * 여러 상품을 쿼리 한 번으로 조회 (상품 ID → 상품)
+   * - 없는 상품은 결과에서 빠지므로 호출 측에서 항목별로 처리
+   */
+  @Transactional(readOnly = true)
+  public Map<Long, Product> findProductEntities(Collection<Long> ids) {
+    if (ids.isEmpty()) {
+      return Map.of();
+    }
+    return productRepository.findAllById(ids).stream()
+        .collect(Collectors.toMap(Product::getId, Function.identity()));
+  }
+
+  /**
+   * 여러 상품의 이름/가격을 쿼리 한 번으로 조회 (상품 ID → 요약)
+   * - 하나라도 없으면 단건 조회와 같이 PRODUCT_NOT_FOUND
+   */
+  @Transactional(readOnly = true)
+  public Map<Long, ProductSummary> findProductSummaries(Collection<Long> ids) {
+    if (ids.isEmpty()) {
+      return Map.of();
+    }
+    Map<Long, ProductSummary> summaries = productRepository.findSummariesByIdIn(ids).stream()
+        .collect(Collectors.toMap(ProductSummary::getId, Function.identity()));
+    if (summaries.size() < new HashSet<>(ids).size()) {
+      throw new BusinessException(ProductErrorCode.PRODUCT_NOT_FOUND);
+    }
+    return summaries;
+  }
+}
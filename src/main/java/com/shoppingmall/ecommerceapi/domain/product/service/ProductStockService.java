@@ -0,0 +1,198 @@
+package com.shoppingmall.ecommerceapi.domain.product.service;
+
+import com.shoppingmall.ecommerceapi.domain.product.dto.ProductStockAdjustRequest;
+import com.shoppingmall.ecommerceapi.domain.product.dto.ProductStockAdjustResponse;
+import com.shoppingmall.ecommerceapi.domain.product.dto.ProductStockAdjustResponse.Result;
+import com.shoppingmall.ecommerceapi.domain.product.dto.ProductStockAdjustResponse.ResultType;
+import com.shoppingmall.ecommerceapi.domain.product.entity.Product;
+import com.shoppingmall.ecommerceapi.domain.product.event.ProductChangedEvent;
+import com.shoppingmall.ecommerceapi.domain.product.exception.ProductErrorCode;
+import com.shoppingmall.ecommerceapi.domain.product.repository.ProductJdbcRepository;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RLock;
+import org.redisson.api.RedissonClient;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 상품 재고 대량 조정 (창고 재고 동기화)
+ * - 상품 ID 오름차순으로 chunk-size씩 나눠 처리
+ * - chunk마다 주문과 같은 상품 재고 락(product:stock:{id})을 모두 잡은 뒤
+ *   SELECT 한 번 + UPDATE 한 번으로 재고/판매상태 반영 → 주문의 재고 차감과 직렬화
+ * - 캐시 무효화 이벤트는 요청 전체에서 한 번만 발행
+ */
+@Slf4j
+@Service
+public class ProductStockService {
+
+  // OrderService와 같은 락 키를 사용해야 주문 재고 차감과 충돌하지 않음
+  public static final String STOCK_LOCK_PREFIX = "product:stock:";
+
+  private final ProductJdbcRepository productJdbcRepository;
+  private final RedissonClient redissonClient;
+  private final ApplicationEventPublisher eventPublisher;
+  private final TransactionTemplate transactionTemplate;
+  private final int chunkSize;
+  private final long lockWaitSeconds;
+  private final long lockLeaseSeconds;
+
+  public ProductStockService(
+      ProductJdbcRepository productJdbcRepository,
+      RedissonClient redissonClient,
+      ApplicationEventPublisher eventPublisher,
+      PlatformTransactionManager transactionManager,
+      @Value("${product.stock.chunk-size:200}") int chunkSize,
+      @Value("${product.stock.lock-wait-seconds:5}") long lockWaitSeconds,
+      @Value("${product.stock.lock-lease-seconds:10}") long lockLeaseSeconds
+  ) {
+    this.productJdbcRepository = productJdbcRepository;
+    this.redissonClient = redissonClient;
+    this.eventPublisher = eventPublisher;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    this.chunkSize = chunkSize;
+    this.lockWaitSeconds = lockWaitSeconds;
+    this.lockLeaseSeconds = lockLeaseSeconds;
+  }
+
+  public ProductStockAdjustResponse adjustStock(ProductStockAdjustRequest request) {
+    Map<Long, Result> results = new LinkedHashMap<>();
+    List<ProductStockAdjustRequest.Item> validItems = new ArrayList<>();
+    Set<Long> seen = new HashSet<>();
+
+    // 입력 검증: delta/stock 중 하나만, 같은 상품 중복 불가
+    for (ProductStockAdjustRequest.Item item : request.getItems()) {
+      boolean invalid = (item.getDelta() == null) == (item.getStock() == null);
+      if (!seen.add(item.getProductId()) || invalid) {
+        results.put(item.getProductId(), result(item.getProductId(), ResultType.INVALID));
+        validItems.removeIf(valid -> valid.getProductId().equals(item.getProductId()));
+        continue;
+      }
+      validItems.add(item);
+    }
+
+    // 데드락 방지: 상품 ID 오름차순 정렬 후 chunk 단위 처리
+    validItems.sort(Comparator.comparing(ProductStockAdjustRequest.Item::getProductId));
+    for (int from = 0; from < validItems.size(); from += chunkSize) {
+      List<ProductStockAdjustRequest.Item> chunk =
+          validItems.subList(from, Math.min(from + chunkSize, validItems.size()));
+      applyChunk(chunk).forEach(r -> results.put(r.getProductId(), r));
+    }
+
+    List<Long> updatedIds = results.values().stream()
+        .filter(r -> r.getResult() == ResultType.UPDATED)
+        .map(Result::getProductId)
+        .toList();
+    if (!updatedIds.isEmpty()) {
+      eventPublisher.publishEvent(ProductChangedEvent.of(updatedIds));
+    }
+
+    log.info("재고 대량 조정 완료 - 요청: {}, 반영: {}", request.getItems().size(), updatedIds.size());
+
+    return ProductStockAdjustResponse.builder()
+        .requested(request.getItems().size())
+        .updated(updatedIds.size())
+        .failed(request.getItems().size() - updatedIds.size())
+        .results(List.copyOf(results.values()))
+        .build();
+  }
+
+  private List<Result> applyChunk(List<ProductStockAdjustRequest.Item> chunk) {
+    RLock[] locks = chunk.stream()
+        .map(item -> redissonClient.getLock(STOCK_LOCK_PREFIX + item.getProductId()))
+        .toArray(RLock[]::new);
+    RLock multiLock = redissonClient.getMultiLock(locks);
+
+    boolean acquired = false;
+    try {
+      acquired = multiLock.tryLock(lockWaitSeconds, lockLeaseSeconds, TimeUnit.SECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+    if (!acquired) {
+      log.warn("재고 대량 조정 락 획득 실패 - 상품 ID: {}~{}",
+          chunk.get(0).getProductId(), chunk.get(chunk.size() - 1).getProductId());
+      return chunk.stream()
+          .map(item -> result(item.getProductId(), ResultType.LOCK_FAILED))
+          .toList();
+    }
+
+    // 락은 트랜잭션 커밋 이후에 해제 (커밋 전 해제 시 주문이 이전 재고를 읽을 수 있음)
+    try {
+      return transactionTemplate.execute(status -> applyLocked(chunk));
+    } finally {
+      multiLock.unlock();
+    }
+  }
+
+  private List<Result> applyLocked(List<ProductStockAdjustRequest.Item> chunk) {
+    Map<Long, Integer> currentStocks = productJdbcRepository.findStocksByIds(
+        chunk.stream().map(ProductStockAdjustRequest.Item::getProductId).toList());
+
+    List<Result> results = new ArrayList<>();
+    Map<Long, Integer> newStocks = new LinkedHashMap<>();
+
+    for (ProductStockAdjustRequest.Item item : chunk) {
+      Integer current = currentStocks.get(item.getProductId());
+      if (current == null) {
+        results.add(result(item.getProductId(), ResultType.NOT_FOUND));
+        continue;
+      }
+
+      Integer newStock = newStock(current, item);
+      if (newStock == null) {
+        // 절대값 입력(@Max)과 같은 상한 적용 - delta가 커서 int 범위를 넘는 경우 포함
+        results.add(Result.builder()
+            .productId(item.getProductId())
+            .result(ResultType.INVALID)
+            .message(ProductErrorCode.PRODUCT_INVALID_STOCK.getMessage())
+            .build());
+        continue;
+      }
+      if (newStock < 0) {
+        results.add(result(item.getProductId(), ResultType.OUT_OF_STOCK));
+        continue;
+      }
+
+      newStocks.put(item.getProductId(), newStock);
+      results.add(Result.builder()
+          .productId(item.getProductId())
+          .result(ResultType.UPDATED)
+          .stock(newStock)
+          .status(Product.statusForStock(newStock).name())
+          .build());
+    }
+
+    productJdbcRepository.updateStocks(newStocks);
+    return results;
+  }
+
+  /**
+   * 조정 후 재고 - 최대 수량을 넘거나 int 범위를 벗어나면 null (음수는 재고 부족으로 따로 처리)
+   */
+  private static Integer newStock(int current, ProductStockAdjustRequest.Item item) {
+    if (item.getStock() != null) {
+      return item.getStock();
+    }
+    try {
+      int newStock = Math.addExact(current, item.getDelta());
+      return newStock > Product.MAX_STOCK ? null : newStock;
+    } catch (ArithmeticException e) {
+      return null;
+    }
+  }
+
+  private static Result result(Long productId, ResultType type) {
+    return Result.builder().productId(productId).result(type).build();
+  }
+}
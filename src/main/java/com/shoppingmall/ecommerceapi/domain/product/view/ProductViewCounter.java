@@ -0,0 +1,90 @@
+package com.shoppingmall.ecommerceapi.domain.product.view;
+
+import com.shoppingmall.ecommerceapi.domain.product.repository.ProductJdbcRepository;
+import jakarta.annotation.PreDestroy;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 상품 조회수 버퍼 (write-behind)
+ * - 조회 요청은 메모리의 LongAdder만 증가 (DB/Redis 접근 없음, 경합은 셀 분산으로 흡수)
+ * - flush-interval-ms마다 늘어난 만큼만 모아 UPDATE 한 번(batch-size 단위)으로 누적
+ * - DB 반영 실패 시 다음 주기에 다시 반영되도록 되돌려 놓음
+ * - 종료 시(@PreDestroy) 남은 조회수 반영 (server.shutdown=graceful로 진행 중 요청 처리 후 실행)
+ */
+@Slf4j
+@Component
+public class ProductViewCounter {
+
+  private final ProductJdbcRepository productJdbcRepository;
+  private final int batchSize;
+
+  // 상품 ID → 마지막 반영 이후 조회수 (상품 수만큼만 커지므로 항목은 지우지 않음)
+  private final ConcurrentHashMap<Long, LongAdder> counters = new ConcurrentHashMap<>();
+
+  public ProductViewCounter(
+      ProductJdbcRepository productJdbcRepository,
+      @Value("${product.view.batch-size:500}") int batchSize
+  ) {
+    this.productJdbcRepository = productJdbcRepository;
+    this.batchSize = batchSize;
+  }
+
+  public void increment(Long productId) {
+    counters.computeIfAbsent(productId, id -> new LongAdder()).increment();
+  }
+
+  @Scheduled(fixedDelayString = "${product.view.flush-interval-ms:10000}")
+  public void scheduledFlush() {
+    flush();
+  }
+
+  @PreDestroy
+  public void flushOnShutdown() {
+    int flushed = flush();
+    log.info("종료 전 조회수 반영 완료 - 상품 수: {}", flushed);
+  }
+
+  /**
+   * 늘어난 조회수를 DB에 반영하고 반영한 상품 수 반환
+   */
+  public synchronized int flush() {
+    Map<Long, Long> batch = new LinkedHashMap<>();
+    int flushed = 0;
+
+    for (Map.Entry<Long, LongAdder> entry : counters.entrySet()) {
+      // 읽은 만큼만 0으로 (동시에 들어온 증가분은 남아서 다음 주기에 반영)
+      long delta = entry.getValue().sumThenReset();
+      if (delta == 0) {
+        continue;
+      }
+      batch.put(entry.getKey(), delta);
+      if (batch.size() >= batchSize) {
+        flushed += write(batch);
+        batch = new LinkedHashMap<>();
+      }
+    }
+    if (!batch.isEmpty()) {
+      flushed += write(batch);
+    }
+    return flushed;
+  }
+
+  private int write(Map<Long, Long> batch) {
+    try {
+      productJdbcRepository.incrementViewCounts(batch);
+      return batch.size();
+    } catch (Exception e) {
+      log.warn("조회수 반영 실패 - 다음 주기에 다시 반영, 상품 수: {}", batch.size(), e);
+      batch.forEach((productId, delta) ->
+          counters.computeIfAbsent(productId, id -> new LongAdder()).add(delta));
+      return 0;
+    }
+  }
+}
@@ -1,6 +1,8 @@
 package com.shoppingmall.ecommerceapi.domain.user.service;
 
 import com.shoppingmall.ecommerceapi.common.exception.BusinessException;
+import com.shoppingmall.ecommerceapi.domain.auth.repository.RefreshTokenStore;
+import com.shoppingmall.ecommerceapi.domain.auth.service.TokenRevocationService;
 import com.shoppingmall.ecommerceapi.domain.user.dto.UserSimpleResponse;
 import com.shoppingmall.ecommerceapi.domain.user.exception.UserErrorCode;
 import com.shoppingmall.ecommerceapi.domain.user.converter.UserConverter;
@@ -14,6 +16,8 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.util.List;
 import java.util.stream.Collectors;
@@ -30,6 +34,8 @@ public class UserService {
 
     private final UserRepository userRepository;
     private final UserConverter userConverter;
+    private final RefreshTokenStore refreshTokenStore;
+    private final TokenRevocationService tokenRevocationService;
 
     // VIP 승급 기준 금액 (예: 500만원)
     private static final Long VIP_THRESHOLD = 5_000_000L;
@@ -153,11 +159,39 @@ public class UserService {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new BusinessException(UserErrorCode.USER_NOT_FOUND));
 
+        if (role == null || user.getRole() == role) {
+            return;
+        }
         user.updateRole(role);
 
+        // Refresh Token 회전은 저장된 role로 새 Access Token을 발급하므로
+        // 기존 토큰을 모두 무효화해 다음 로그인부터 바뀐 role이 반영되도록 함
+        revokeTokensAfterCommit(userId);
+
         log.info("역할 변경 완료: userId={}, role={}", userId, role);
     }
 
+    /**
+     * Redis는 MySQL 트랜잭션에 묶이지 않으므로 커밋 이후에 무효화
+     * (커밋 전에 재로그인하면 이전 role로 토큰이 발급될 수 있음)
+     */
+    private void revokeTokensAfterCommit(Long userId) {
+        Runnable revoke = () -> {
+            refreshTokenStore.deleteAllByUserId(userId);
+            tokenRevocationService.revokeAll(userId);
+        };
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            revoke.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                revoke.run();
+            }
+        });
+    }
+
     // =====================================================
     // 구매 관련 (주문 도메인에서 호출)
     // =====================================================
@@ -0,0 +1,102 @@
+package com.shoppingmall.ecommerceapi.common.infra;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.web.util.UriComponentsBuilder;
+
+class LocalStorageServiceTest {
+
+  private static final String BASE_URL = "http://localhost:8080/open-api/images";
+
+  @TempDir
+  Path root;
+
+  private LocalStorageService localStorageService;
+
+  @BeforeEach
+  void setUp() throws Exception {
+    localStorageService = new LocalStorageService(root.toString(), BASE_URL, "test-key", 1024);
+  }
+
+  @Test
+  @DisplayName("로컬 저장소 - 같은 내용은 한 번만 저장, 마지막 key 삭제 시 내용 파일도 삭제")
+  void upload_sameContent_storedOnce() throws Exception {
+    // given
+    byte[] bytes = "image".getBytes(StandardCharsets.UTF_8);
+
+    // when
+    String first = localStorageService.uploadFile("products/a/small.jpg", bytes, "image/jpeg");
+    String second = localStorageService.uploadFile("products/b/small.jpg", bytes, "image/jpeg");
+
+    // then
+    assertEquals(BASE_URL + "/products/a/small.jpg", first);
+    assertEquals(1, countObjects());
+    assertArrayEquals(bytes,
+        Files.readAllBytes(localStorageService.resolve("products/b/small.jpg")));
+
+    localStorageService.deleteFile(first);
+    assertFalse(localStorageService.exists("products/a/small.jpg"));
+    assertTrue(localStorageService.exists("products/b/small.jpg"));
+    assertEquals(1, countObjects());
+
+    localStorageService.deleteFile(second);
+    assertEquals(0, countObjects());
+  }
+
+  @Test
+  @DisplayName("로컬 저장소 - 저장소 밖을 가리키는 key는 거부")
+  void resolve_pathTraversal_returnsNull() {
+    assertNull(localStorageService.resolve("../../etc/passwd"));
+    assertNull(localStorageService.resolve(""));
+  }
+
+  @Test
+  @DisplayName("로컬 저장소 - 서명 URL은 key/Content-Type이 바뀌면 검증 실패")
+  void presignedUpload_verifySignature() {
+    // given
+    PresignedUpload upload = localStorageService.createPresignedUpload(
+        "products/uploads/1/a/original.png", "image/png", Duration.ofMinutes(5));
+    var params = UriComponentsBuilder.fromUriString(upload.getUploadUrl()).build()
+        .getQueryParams();
+    long expires = Long.parseLong(params.getFirst("expires"));
+    String signature = params.getFirst("signature");
+
+    // when & then
+    assertTrue(localStorageService.verifyUpload(upload.getKey(), "image/png", expires, signature));
+    assertFalse(localStorageService.verifyUpload("products/uploads/2/a/original.png",
+        "image/png", expires, signature));
+    assertFalse(localStorageService.verifyUpload(upload.getKey(), "image/jpeg", expires,
+        signature));
+    assertFalse(localStorageService.verifyUpload(upload.getKey(), "image/png", expires - 3600,
+        signature));
+  }
+
+  @Test
+  @DisplayName("Range 파싱 - 단일 범위만 부분 응답, 범위 밖은 416")
+  void parseRange() {
+    assertArrayEquals(new long[]{0, 99}, LocalImageController.parseRange("bytes=0-99", 1000));
+    assertArrayEquals(new long[]{900, 999}, LocalImageController.parseRange("bytes=-100", 1000));
+    assertArrayEquals(new long[]{500, 999}, LocalImageController.parseRange("bytes=500-", 1000));
+    assertArrayEquals(new long[0], LocalImageController.parseRange("bytes=0-1,5-6", 1000));
+    assertNull(LocalImageController.parseRange("bytes=1000-", 1000));
+  }
+
+  private long countObjects() throws Exception {
+    try (Stream<Path> files = Files.walk(root.resolve("objects"))) {
+      return files.filter(Files::isRegularFile).count();
+    }
+  }
+}
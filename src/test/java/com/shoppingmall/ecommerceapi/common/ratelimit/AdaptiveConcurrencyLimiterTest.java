@@ -0,0 +1,90 @@
+package com.shoppingmall.ecommerceapi.common.ratelimit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class AdaptiveConcurrencyLimiterTest {
+
+  private static final long FAST = Duration.ofMillis(10).toNanos();
+  private static final long SLOW = Duration.ofMillis(100).toNanos();
+
+  @Test
+  @DisplayName("동시 처리 한도 - 한도만큼만 허용하고 반납하면 다시 허용")
+  void tryAcquire_upToLimit() {
+    // given
+    AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(2, 1, 10, 1.5, 10);
+
+    // when & then
+    assertTrue(limiter.tryAcquire());
+    assertTrue(limiter.tryAcquire());
+    assertFalse(limiter.tryAcquire());
+
+    limiter.release(FAST);
+    assertEquals(1, limiter.getInFlight());
+    assertTrue(limiter.tryAcquire());
+  }
+
+  @Test
+  @DisplayName("동시 처리 한도 - 한도를 채워 쓰는 동안 지연이 그대로면 한도 증가")
+  void steadyLatency_fullyUsed_limitGrows() {
+    // given
+    AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(20, 4, 200, 1.5, 10);
+
+    // when
+    for (int i = 0; i < 5; i++) {
+      saturate(limiter, FAST);
+    }
+
+    // then
+    assertTrue(limiter.getLimit() > 20);
+  }
+
+  @Test
+  @DisplayName("동시 처리 한도 - 지연이 평소보다 크게 늘면 최소 한도 쪽으로 축소")
+  void latencyRises_limitShrinks() {
+    // given
+    AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(20, 4, 200, 1.5, 10);
+    saturate(limiter, FAST);
+    int before = limiter.getLimit();
+
+    // when
+    for (int i = 0; i < 20; i++) {
+      saturate(limiter, SLOW);
+    }
+
+    // then
+    assertTrue(limiter.getLimit() < before / 2);
+    assertTrue(limiter.getLimit() >= 4);
+  }
+
+  @Test
+  @DisplayName("동시 처리 한도 - 한도의 절반도 쓰지 않으면 늘리지 않음")
+  void lowUsage_limitUnchanged() {
+    // given
+    AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(20, 4, 200, 1.5, 10);
+
+    // when
+    for (int i = 0; i < 50; i++) {
+      assertTrue(limiter.tryAcquire());
+      limiter.release(FAST);
+    }
+
+    // then
+    assertEquals(20, limiter.getLimit());
+  }
+
+  private static void saturate(AdaptiveConcurrencyLimiter limiter, long rttNanos) {
+    int acquired = 0;
+    while (limiter.tryAcquire()) {
+      acquired++;
+    }
+    for (int i = 0; i < acquired; i++) {
+      limiter.release(rttNanos);
+    }
+  }
+}
@@ -0,0 +1,64 @@
+package com.shoppingmall.ecommerceapi.common.ratelimit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+class ConcurrencyLimitFilterTest {
+
+  private ConcurrencyLimitFilter concurrencyLimitFilter;
+
+  @BeforeEach
+  void setUp() {
+    // 한도 1로 고정
+    concurrencyLimitFilter = new ConcurrencyLimitFilter(new ObjectMapper(), true,
+        List.of("/api/orders", "/api/carts/checkout"), 1, 1, 1, 1.5, 10, 2);
+  }
+
+  @Test
+  @DisplayName("동시 처리 한도 - 처리 중인 주문이 한도만큼 있으면 다음 주문은 바로 503 + Retry-After")
+  void limitReached_serviceUnavailable() throws Exception {
+    // given
+    MockHttpServletResponse nested = new MockHttpServletResponse();
+    MockHttpServletResponse first = new MockHttpServletResponse();
+
+    // when - 첫 주문 처리 중에 두 번째 주문 도착
+    concurrencyLimitFilter.doFilter(new MockHttpServletRequest("POST", "/api/orders"), first,
+        (request, response) -> concurrencyLimitFilter.doFilter(
+            new MockHttpServletRequest("POST", "/api/carts/checkout"), nested,
+            new MockFilterChain()));
+
+    // then
+    assertEquals(200, first.getStatus());
+    assertEquals(503, nested.getStatus());
+    assertEquals("2", nested.getHeader(HttpHeaders.RETRY_AFTER));
+    assertTrue(nested.getContentAsString().contains("SERVICE_UNAVAILABLE"));
+  }
+
+  @Test
+  @DisplayName("동시 처리 한도 - 주문 생성이 아닌 요청은 슬롯을 차지하지 않음")
+  void otherRequest_notLimited() throws Exception {
+    // given
+    MockHttpServletResponse nested = new MockHttpServletResponse();
+
+    // when - 주문 조회 처리 중에 주문 생성 도착
+    concurrencyLimitFilter.doFilter(new MockHttpServletRequest("GET", "/api/orders"),
+        new MockHttpServletResponse(),
+        (request, response) -> concurrencyLimitFilter.doFilter(
+            new MockHttpServletRequest("POST", "/api/orders"), nested, new MockFilterChain()));
+
+    // then
+    assertEquals(200, nested.getStatus());
+    assertNull(nested.getHeader(HttpHeaders.RETRY_AFTER));
+  }
+}
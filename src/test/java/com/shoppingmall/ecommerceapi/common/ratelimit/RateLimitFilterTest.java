@@ -0,0 +1,171 @@
+package com.shoppingmall.ecommerceapi.common.ratelimit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+@ExtendWith(MockitoExtension.class)
+class RateLimitFilterTest {
+
+  @Mock
+  private RedisRateLimiter redisRateLimiter;
+
+  private RateLimitFilter rateLimitFilter;
+
+  @BeforeEach
+  void setUp() {
+    RateLimitProperties.Group order = new RateLimitProperties.Group();
+    order.setPaths(List.of("/api/orders"));
+    order.setMethods(List.of("post"));
+    order.setCapacity(2);
+    order.setRefillPerSecond(0.1);
+
+    RateLimitProperties properties = new RateLimitProperties();
+    properties.getGroups().put("order", order);
+    properties.setTrustedProxies(List.of("10.0.0.0/8"));
+
+    rateLimitFilter = new RateLimitFilter(properties, redisRateLimiter, new ObjectMapper());
+  }
+
+  @AfterEach
+  void tearDown() {
+    SecurityContextHolder.clearContext();
+  }
+
+  @Test
+  @DisplayName("요청 빈도 제한 - 로컬 버킷을 다 쓰면 Redis 확인 없이 429 + Retry-After")
+  void localBucketExhausted_tooManyRequests() throws Exception {
+    // given
+    SecurityContextHolder.getContext().setAuthentication(
+        new UsernamePasswordAuthenticationToken(1L, null, List.of()));
+    when(redisRateLimiter.tryAcquire(eq("order"), eq("user:1"), any())).thenReturn(0L);
+
+    // when
+    MockHttpServletResponse first = doFilter("POST", "/api/orders");
+    MockHttpServletResponse second = doFilter("POST", "/api/orders");
+    MockHttpServletResponse third = doFilter("POST", "/api/orders");
+
+    // then
+    assertEquals(200, first.getStatus());
+    assertEquals(200, second.getStatus());
+    assertEquals(429, third.getStatus());
+    assertEquals("10", third.getHeader(HttpHeaders.RETRY_AFTER));
+    assertTrue(third.getContentAsString().contains("429"));
+    verify(redisRateLimiter, times(2)).tryAcquire(eq("order"), eq("user:1"), any());
+  }
+
+  @Test
+  @DisplayName("요청 빈도 제한 - Redis 버킷이 거절하면 남은 시간을 초 단위로 올림해 응답")
+  void redisBucketRejected_tooManyRequests() throws Exception {
+    // given
+    when(redisRateLimiter.tryAcquire(eq("order"), eq("ip:127.0.0.1"), any())).thenReturn(1500L);
+
+    // when
+    MockHttpServletResponse response = doFilter("POST", "/api/orders");
+
+    // then
+    assertEquals(429, response.getStatus());
+    assertEquals("2", response.getHeader(HttpHeaders.RETRY_AFTER));
+  }
+
+  @Test
+  @DisplayName("요청 빈도 제한 - Redis 오류 시 로컬 버킷만으로 통과 (fail-open)")
+  void redisFailure_failOpen() throws Exception {
+    // given
+    when(redisRateLimiter.tryAcquire(eq("order"), eq("ip:127.0.0.1"), any()))
+        .thenThrow(new RedisConnectionFailureException("down"));
+
+    // when
+    MockHttpServletResponse response = doFilter("POST", "/api/orders");
+
+    // then
+    assertEquals(200, response.getStatus());
+    assertNull(response.getHeader(HttpHeaders.RETRY_AFTER));
+  }
+
+  @Test
+  @DisplayName("요청 빈도 제한 - 신뢰하는 프록시를 거친 비회원은 X-Forwarded-For의 실제 IP로 구분")
+  void trustedProxy_keyedByForwardedClientIp() throws Exception {
+    // given
+    when(redisRateLimiter.tryAcquire(eq("order"), eq("ip:1.2.3.4"), any())).thenReturn(0L);
+    when(redisRateLimiter.tryAcquire(eq("order"), eq("ip:5.6.7.8"), any())).thenReturn(0L);
+
+    // when - 로드밸런서(10.0.0.5) 뒤의 서로 다른 비회원, 앞쪽 값은 클라이언트가 조작 가능
+    doFilter("POST", "/api/orders", "10.0.0.5", "9.9.9.9, 1.2.3.4, 10.0.0.7");
+    doFilter("POST", "/api/orders", "10.0.0.5", "5.6.7.8");
+
+    // then
+    verify(redisRateLimiter).tryAcquire(eq("order"), eq("ip:1.2.3.4"), any());
+    verify(redisRateLimiter).tryAcquire(eq("order"), eq("ip:5.6.7.8"), any());
+  }
+
+  @Test
+  @DisplayName("요청 빈도 제한 - 신뢰하지 않는 주소에서 온 X-Forwarded-For는 무시")
+  void untrustedRemote_forwardedForIgnored() throws Exception {
+    // given
+    when(redisRateLimiter.tryAcquire(eq("order"), eq("ip:203.0.113.9"), any())).thenReturn(0L);
+
+    // when
+    doFilter("POST", "/api/orders", "203.0.113.9", "1.2.3.4");
+
+    // then
+    verify(redisRateLimiter).tryAcquire(eq("order"), eq("ip:203.0.113.9"), any());
+  }
+
+  @Test
+  @DisplayName("요청 빈도 제한 - 그룹에 없는 경로/메서드는 제한하지 않음")
+  void unmatchedRoute_passThrough() throws Exception {
+    // when
+    MockHttpServletResponse get = doFilter("GET", "/api/orders");
+    MockHttpServletResponse other = doFilter("POST", "/api/products");
+
+    // then
+    assertEquals(200, get.getStatus());
+    assertEquals(200, other.getStatus());
+    verifyNoInteractions(redisRateLimiter);
+  }
+
+  private MockHttpServletResponse doFilter(String method, String uri) throws Exception {
+    return doFilter(method, uri, "127.0.0.1", null);
+  }
+
+  private MockHttpServletResponse doFilter(String method, String uri, String remoteAddr,
+      String forwardedFor) throws Exception {
+    MockHttpServletRequest request = new MockHttpServletRequest(method, uri);
+    request.setRemoteAddr(remoteAddr);
+    if (forwardedFor != null) {
+      request.addHeader("X-Forwarded-For", forwardedFor);
+    }
+    MockHttpServletResponse response = new MockHttpServletResponse();
+    MockFilterChain chain = new MockFilterChain();
+    rateLimitFilter.doFilter(request, response, chain);
+    if (response.getStatus() == 200) {
+      assertNotNull(chain.getRequest());
+    }
+    return response;
+  }
+}
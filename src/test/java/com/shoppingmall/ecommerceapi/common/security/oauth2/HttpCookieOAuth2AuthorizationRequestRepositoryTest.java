@@ -0,0 +1,119 @@
+package com.shoppingmall.ecommerceapi.common.security.oauth2;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.http.Cookie;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.oauth2.core.endpoint.OAuth2AuthorizationRequest;
+import org.springframework.security.oauth2.core.endpoint.OAuth2ParameterNames;
+
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class HttpCookieOAuth2AuthorizationRequestRepositoryTest {
+
+    private static final String COOKIE = HttpCookieOAuth2AuthorizationRequestRepository.COOKIE_NAME;
+
+    private HttpCookieOAuth2AuthorizationRequestRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        repository = new HttpCookieOAuth2AuthorizationRequestRepository(
+                new ObjectMapper(), "test-secret", 180);
+    }
+
+    @Test
+    @DisplayName("OAuth2 인가 요청 쿠키 - 저장한 쿠키로 다른 서버에서도 같은 인가 요청 복원")
+    void saveAndLoad_roundTrip() {
+        // given
+        OAuth2AuthorizationRequest saved = authorizationRequest("state-1");
+        Cookie cookie = save(repository, saved);
+
+        // when - 같은 키를 쓰는 다른 서버 인스턴스
+        HttpCookieOAuth2AuthorizationRequestRepository otherNode =
+                new HttpCookieOAuth2AuthorizationRequestRepository(new ObjectMapper(), "test-secret", 180);
+        OAuth2AuthorizationRequest loaded = otherNode.loadAuthorizationRequest(callback(cookie, "state-1"));
+
+        // then
+        assertNotNull(loaded);
+        assertEquals(saved.getAuthorizationUri(), loaded.getAuthorizationUri());
+        assertEquals(saved.getClientId(), loaded.getClientId());
+        assertEquals(saved.getRedirectUri(), loaded.getRedirectUri());
+        assertEquals(saved.getScopes(), loaded.getScopes());
+        assertEquals(saved.getAttributes(), loaded.getAttributes());
+        assertEquals(saved.getAdditionalParameters(), loaded.getAdditionalParameters());
+        assertEquals(saved.getAuthorizationRequestUri(), loaded.getAuthorizationRequestUri());
+    }
+
+    @Test
+    @DisplayName("OAuth2 인가 요청 쿠키 - state 불일치, 위·변조, 다른 키면 인가 요청 없음")
+    void load_invalid_returnsNull() {
+        // given
+        Cookie cookie = save(repository, authorizationRequest("state-1"));
+        char[] value = cookie.getValue().toCharArray();
+        int middle = value.length / 2;
+        value[middle] = value[middle] == 'A' ? 'B' : 'A';
+        Cookie tampered = new Cookie(COOKIE, new String(value));
+        HttpCookieOAuth2AuthorizationRequestRepository otherKey =
+                new HttpCookieOAuth2AuthorizationRequestRepository(new ObjectMapper(), "other-secret", 180);
+
+        // when & then
+        assertNull(repository.loadAuthorizationRequest(callback(cookie, "state-2")));
+        assertNull(repository.loadAuthorizationRequest(callback(tampered, "state-1")));
+        assertNull(otherKey.loadAuthorizationRequest(callback(cookie, "state-1")));
+        assertNull(repository.loadAuthorizationRequest(new MockHttpServletRequest()));
+    }
+
+    @Test
+    @DisplayName("OAuth2 인가 요청 쿠키 - 꺼내면 쿠키 만료")
+    void remove_expiresCookie() {
+        // given
+        Cookie cookie = save(repository, authorizationRequest("state-1"));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // when
+        OAuth2AuthorizationRequest removed =
+                repository.removeAuthorizationRequest(callback(cookie, "state-1"), response);
+
+        // then
+        assertNotNull(removed);
+        assertEquals(0, response.getCookie(COOKIE).getMaxAge());
+        assertEquals("", response.getCookie(COOKIE).getValue());
+    }
+
+    private static Cookie save(HttpCookieOAuth2AuthorizationRequestRepository repository,
+                               OAuth2AuthorizationRequest authorizationRequest) {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        repository.saveAuthorizationRequest(authorizationRequest, new MockHttpServletRequest(), response);
+        Cookie cookie = response.getCookie(COOKIE);
+        assertNotNull(cookie);
+        assertEquals(180, cookie.getMaxAge());
+        return new Cookie(COOKIE, cookie.getValue());
+    }
+
+    private static MockHttpServletRequest callback(Cookie cookie, String state) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/login/oauth2/code/google");
+        request.setCookies(cookie);
+        request.setParameter(OAuth2ParameterNames.STATE, state);
+        return request;
+    }
+
+    private static OAuth2AuthorizationRequest authorizationRequest(String state) {
+        return OAuth2AuthorizationRequest.authorizationCode()
+                .authorizationUri("https://accounts.google.com/o/oauth2/v2/auth")
+                .clientId("client-id")
+                .redirectUri("http://localhost:8080/login/oauth2/code/google")
+                .scopes(Set.of("profile", "email"))
+                .state(state)
+                .additionalParameters(Map.of("nonce", "hashed-nonce"))
+                .attributes(Map.of(OAuth2ParameterNames.REGISTRATION_ID, "google", "nonce", "raw-nonce"))
+                .build();
+    }
+}
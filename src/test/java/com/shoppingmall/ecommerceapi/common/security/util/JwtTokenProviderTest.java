@@ -0,0 +1,77 @@
+package com.shoppingmall.ecommerceapi.common.security.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.shoppingmall.ecommerceapi.domain.user.entity.enums.UserRole;
+import io.jsonwebtoken.JwtException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class JwtTokenProviderTest {
+
+    private static final String SECRET = "test-secret-key-test-secret-key-test-secret-key-0123";
+
+    private final JwtTokenProvider jwtTokenProvider = new JwtTokenProvider(SECRET, 1, 12, 100);
+
+    @Test
+    @DisplayName("authenticate - 서명 검증 후 userId/role 추출, 같은 토큰은 캐시된 결과 재사용")
+    void authenticate_success_cached() {
+        // given
+        String token = jwtTokenProvider.generateAccessToken(7L, UserRole.ADMIN);
+
+        // when
+        JwtPrincipal first = jwtTokenProvider.authenticate(token);
+        JwtPrincipal second = jwtTokenProvider.authenticate(token);
+
+        // then
+        assertThat(first.userId()).isEqualTo(7L);
+        assertThat(first.role()).isEqualTo(UserRole.ADMIN);
+        assertThat(first.isExpired(System.currentTimeMillis())).isFalse();
+        assertThat(second).isSameAs(first);
+    }
+
+    @Test
+    @DisplayName("authenticate - 캐시가 가득 차면 가장 오래 쓰지 않은 토큰부터 밀어냄")
+    void authenticate_cacheFull_evictsLeastRecentlyUsed() {
+        // given
+        JwtTokenProvider provider = new JwtTokenProvider(SECRET, 1, 12, 2);
+        String first = provider.generateAccessToken(1L, UserRole.USER);
+        String second = provider.generateAccessToken(2L, UserRole.USER);
+        String third = provider.generateAccessToken(3L, UserRole.USER);
+        JwtPrincipal firstPrincipal = provider.authenticate(first);
+        JwtPrincipal secondPrincipal = provider.authenticate(second);
+        provider.authenticate(first);
+
+        // when - second가 가장 오래 쓰지 않은 항목
+        provider.authenticate(third);
+
+        // then
+        assertThat(provider.authenticate(first)).isSameAs(firstPrincipal);
+        assertThat(provider.authenticate(second)).isNotSameAs(secondPrincipal);
+    }
+
+    @Test
+    @DisplayName("authenticate - 서명이 다른 토큰은 JwtException")
+    void authenticate_invalidSignature() {
+        // given
+        JwtTokenProvider other = new JwtTokenProvider(
+                "other-secret-key-other-secret-key-other-secret-key-99", 1, 12, 100);
+        String token = other.generateAccessToken(7L, UserRole.USER);
+
+        // when & then
+        assertThatThrownBy(() -> jwtTokenProvider.authenticate(token))
+                .isInstanceOf(JwtException.class);
+    }
+
+    @Test
+    @DisplayName("authenticate - role이 없는 Refresh Token은 Access Token으로 사용할 수 없음")
+    void authenticate_refreshTokenRejected() {
+        // given
+        String refreshToken = jwtTokenProvider.generateRefreshToken();
+
+        // when & then
+        assertThatThrownBy(() -> jwtTokenProvider.authenticate(refreshToken))
+                .isInstanceOf(JwtException.class);
+    }
+}
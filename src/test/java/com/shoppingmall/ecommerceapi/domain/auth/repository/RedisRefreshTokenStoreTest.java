@@ -1,16 +1,30 @@
 package com.shoppingmall.ecommerceapi.domain.auth.repository;
 
+import com.shoppingmall.ecommerceapi.domain.user.entity.enums.UserRole;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisKeyCommands;
+import org.springframework.data.redis.connection.RedisSetCommands;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
 import org.springframework.data.redis.core.SetOperations;
 import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
 
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 
@@ -28,7 +42,8 @@ class RedisRefreshTokenStoreTest {
     @InjectMocks RedisRefreshTokenStore store;
 
     @Test
-    @DisplayName("save(): refresh_token:{token}에 userId 저장 + user_tokens:{userId} Set에 token 추가 + TTL 설정")
+    @DisplayName("save(): refresh_token:{token} Hash(userId, role, device) + user_tokens:{userId} Set을 스크립트 한 번으로 저장")
+    @SuppressWarnings("unchecked")
     void save_shouldStoreTokenAndUserMapping_andSetExpire() {
         // given
         Long userId = 1L;
@@ -36,153 +51,184 @@ class RedisRefreshTokenStoreTest {
         String deviceInfo = "iPhone";
         Duration expiration = Duration.ofDays(7);
 
-        // 필요한 ops만 stubbing
-        doReturn(valueOps).when(redisTemplate).opsForValue(); // RedisTemplate ops mocking 패턴
-        doReturn(setOps).when(redisTemplate).opsForSet();
-
         // when
-        store.save(userId, token, deviceInfo, expiration);
+        store.save(userId, UserRole.USER, token, deviceInfo, expiration);
 
         // then
         String tokenKey = "refresh_token:" + token;
         String userTokenKey = "user_tokens:" + userId;
 
-        verify(valueOps).set(tokenKey, userId.toString(), expiration);
-        verify(setOps).add(userTokenKey, token);
-        verify(redisTemplate).expire(userTokenKey, expiration);
+        verify(redisTemplate).execute(any(RedisScript.class), eq(List.of(tokenKey, userTokenKey)),
+                eq("1"), eq("USER"), eq(deviceInfo), eq(String.valueOf(expiration.toMillis())), eq(token));
+        verifyNoMoreInteractions(redisTemplate);
+        verifyNoInteractions(valueOps, setOps);
+    }
+
+    @Test
+    @DisplayName("rotate(): 교체 성공 시 저장된 userId/role 반환")
+    @SuppressWarnings("unchecked")
+    void rotate_shouldReturnRotated() {
+        // given
+        Duration expiration = Duration.ofHours(12);
+        List<String> keys = List.of("refresh_token:old_1234567890", "refresh_token:new_1234567890",
+                "refresh_token:used:old_1234567890");
+        when(redisTemplate.execute(any(RedisScript.class), eq(keys),
+                eq("user_tokens:"), eq("old_1234567890"), eq("new_1234567890"), eq("android"),
+                eq(String.valueOf(expiration.toMillis())), eq(""), eq("refresh_token:")))
+                .thenReturn(List.of("1", "5", "ADMIN"));
+
+        // when
+        RefreshTokenRotation rotation =
+                store.rotate("old_1234567890", "new_1234567890", "android", expiration, null);
+
+        // then
+        assertThat(rotation).isEqualTo(
+                new RefreshTokenRotation(RefreshTokenRotation.Status.ROTATED, 5L, UserRole.ADMIN));
+    }
+
+    @Test
+    @DisplayName("rotate(): 스크립트 결과 코드별로 없음/재사용/이전 형식 구분")
+    @SuppressWarnings("unchecked")
+    void rotate_shouldMapStatus() {
+        // given
+        when(redisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class)))
+                .thenReturn(List.of("0"), List.of("-1", "5"), List.of("2", "5"));
+
+        // when
+        RefreshTokenRotation notFound = store.rotate("old_1234567890", "new_1234567890", "android", Duration.ofHours(1), null);
+        RefreshTokenRotation reused = store.rotate("old_1234567890", "new_1234567890", "android", Duration.ofHours(1), null);
+        RefreshTokenRotation legacy = store.rotate("old_1234567890", "new_1234567890", "android", Duration.ofHours(1), null);
 
-        verifyNoMoreInteractions(valueOps, setOps);
+        // then
+        assertThat(notFound).isEqualTo(RefreshTokenRotation.notFound());
+        assertThat(reused).isEqualTo(new RefreshTokenRotation(RefreshTokenRotation.Status.REUSED, 5L, null));
+        assertThat(legacy).isEqualTo(new RefreshTokenRotation(RefreshTokenRotation.Status.LEGACY_FORMAT, 5L, null));
     }
 
     @Test
     @DisplayName("findUserIdByToken(): 토큰이 존재하면 userId 반환")
+    @SuppressWarnings("unchecked")
     void findUserIdByToken_shouldReturnUserId_whenTokenExists() {
         // given
         String token = "rft_token_12345";
         String tokenKey = "refresh_token:" + token;
 
-        doReturn(valueOps).when(redisTemplate).opsForValue(); // [web:54]
-        when(valueOps.get(tokenKey)).thenReturn("10");
+        when(redisTemplate.execute(any(RedisScript.class), eq(List.of(tokenKey)))).thenReturn("10");
 
         // when
         Optional<Long> result = store.findUserIdByToken(token);
 
         // then
         assertThat(result).contains(10L);
-        verify(valueOps).get(tokenKey);
-        verifyNoMoreInteractions(valueOps);
-        verifyNoInteractions(setOps);
+        verifyNoInteractions(valueOps, setOps);
     }
 
     @Test
     @DisplayName("findUserIdByToken(): 토큰이 없으면 empty")
+    @SuppressWarnings("unchecked")
     void findUserIdByToken_shouldReturnEmpty_whenTokenNotExists() {
         // given
         String token = "rft_token_12345";
         String tokenKey = "refresh_token:" + token;
 
-        doReturn(valueOps).when(redisTemplate).opsForValue(); // [web:54]
-        when(valueOps.get(tokenKey)).thenReturn(null);
+        when(redisTemplate.execute(any(RedisScript.class), eq(List.of(tokenKey)))).thenReturn(null);
 
         // when
         Optional<Long> result = store.findUserIdByToken(token);
 
         // then
         assertThat(result).isEmpty();
-        verify(valueOps).get(tokenKey);
-        verifyNoMoreInteractions(valueOps);
-        verifyNoInteractions(setOps);
+        verifyNoInteractions(valueOps, setOps);
     }
 
     @Test
-    @DisplayName("delete(): user_tokens:{userId}에서 token 제거 후 refresh_token:{token} 키 삭제")
+    @DisplayName("delete(): user_tokens:{userId}에서 token 제거 + refresh_token:{token} 키 삭제를 스크립트 한 번으로")
+    @SuppressWarnings("unchecked")
     void delete_shouldRemoveFromUserSet_andDeleteTokenKey() {
         // given
         String token = "rft_token_12345";
         String tokenKey = "refresh_token:" + token;
 
-        doReturn(valueOps).when(redisTemplate).opsForValue(); // [web:54]
-        doReturn(setOps).when(redisTemplate).opsForSet();
-
-        when(valueOps.get(tokenKey)).thenReturn("5");
-
         // when
         store.delete(token);
 
         // then
-        String userTokenKey = "user_tokens:5";
-
-        verify(valueOps).get(tokenKey);
-        verify(setOps).remove(userTokenKey, token);
-        verify(redisTemplate).delete(tokenKey);
-
-        verifyNoMoreInteractions(valueOps, setOps);
+        verify(redisTemplate).execute(any(RedisScript.class), eq(List.of(tokenKey)),
+                eq("user_tokens:"), eq(token));
+        verifyNoMoreInteractions(redisTemplate);
+        verifyNoInteractions(valueOps, setOps);
     }
 
     @Test
-    @DisplayName("delete(): refresh_token:{token}에서 userId를 못 찾으면 Set 제거 없이 tokenKey만 삭제")
-    void delete_shouldOnlyDeleteTokenKey_whenUserIdNotFound() {
+    @DisplayName("deleteAllByUserId(): SMEMBERS 파이프라인 후 토큰 키 UNLINK + 읽은 토큰만 user_tokens에서 SREM")
+    @SuppressWarnings("unchecked")
+    void deleteAllByUserId_shouldDeleteAllTokens_andDeleteUserTokenKey() {
         // given
-        String token = "rft_token_12345";
-        String tokenKey = "refresh_token:" + token;
-
-        doReturn(valueOps).when(redisTemplate).opsForValue();
-        when(valueOps.get(tokenKey)).thenReturn(null);
+        when(redisTemplate.executePipelined(any(RedisCallback.class)))
+                .thenReturn(List.of(Set.of("t1_1234567890", "t2_1234567890")), List.of());
 
         // when
-        store.delete(token);
+        int deleted = store.deleteAllByUserIds(List.of(7L));
 
         // then
-        verify(valueOps).get(tokenKey);
-        verify(redisTemplate).delete(tokenKey);
-        verifyNoInteractions(setOps); // userId 없으니 opsForSet 자체가 불필요
-
-        verifyNoMoreInteractions(valueOps);
+        assertThat(deleted).isEqualTo(2);
+
+        ArgumentCaptor<RedisCallback<Object>> callbacks = ArgumentCaptor.forClass(RedisCallback.class);
+        verify(redisTemplate, times(2)).executePipelined(callbacks.capture());
+        RedisConnection connection = mock(RedisConnection.class);
+        RedisKeyCommands keyCommands = mock(RedisKeyCommands.class);
+        RedisSetCommands setCommands = mock(RedisSetCommands.class);
+        when(connection.keyCommands()).thenReturn(keyCommands);
+        when(connection.setCommands()).thenReturn(setCommands);
+
+        callbacks.getAllValues().get(0).doInRedis(connection);
+        verify(setCommands).sMembers(bytes("user_tokens:7"));
+
+        callbacks.getAllValues().get(1).doInRedis(connection);
+        ArgumentCaptor<byte[][]> unlinked = ArgumentCaptor.forClass(byte[][].class);
+        verify(keyCommands).unlink(unlinked.capture());
+        assertThat(strings(unlinked.getValue()))
+                .containsExactlyInAnyOrder("refresh_token:t1_1234567890", "refresh_token:t2_1234567890");
+        ArgumentCaptor<byte[][]> removed = ArgumentCaptor.forClass(byte[][].class);
+        verify(setCommands).sRem(eq(bytes("user_tokens:7")), removed.capture());
+        assertThat(strings(removed.getValue()))
+                .containsExactlyInAnyOrder("t1_1234567890", "t2_1234567890");
+        verifyNoInteractions(valueOps, setOps);
     }
 
     @Test
-    @DisplayName("deleteAllByUserId(): user_tokens:{userId}에 있는 모든 token의 refresh_token:{token} 키 삭제 후 userTokenKey 삭제")
-    void deleteAllByUserId_shouldDeleteAllTokens_andDeleteUserTokenKey() {
+    @DisplayName("deleteAllByUserId(): tokens가 null/empty면 아무 것도 삭제하지 않음")
+    @SuppressWarnings("unchecked")
+    void deleteAllByUserId_shouldDoNothing_whenNoTokens() {
         // given
-        Long userId = 7L;
-        String userTokenKey = "user_tokens:" + userId;
-
-        doReturn(setOps).when(redisTemplate).opsForSet(); // members를 쓰므로 setOps만 필요
-        when(setOps.members(userTokenKey)).thenReturn(Set.of("t1_1234567890", "t2_1234567890"));
+        when(redisTemplate.executePipelined(any(RedisCallback.class))).thenReturn(List.of(Set.of()));
 
         // when
-        store.deleteAllByUserId(userId);
+        store.deleteAllByUserId(7L);
 
-        // then
-        verify(setOps).members(userTokenKey);
-        verify(redisTemplate).delete("refresh_token:t1_1234567890");
-        verify(redisTemplate).delete("refresh_token:t2_1234567890");
-        verify(redisTemplate).delete(userTokenKey);
-
-        verifyNoMoreInteractions(setOps);
-        verifyNoInteractions(valueOps);
+        // then (SMEMBERS 파이프라인 1번만)
+        verify(redisTemplate, times(1)).executePipelined(any(RedisCallback.class));
+        verifyNoMoreInteractions(redisTemplate);
     }
 
     @Test
-    @DisplayName("deleteAllByUserId(): tokens가 null/empty면 아무 것도 삭제하지 않음")
-    void deleteAllByUserId_shouldDoNothing_whenNoTokens() {
+    @DisplayName("forEachUserIdBatch(): user_tokens:* 를 SCAN해 사용자 ID를 batchSize개씩 전달")
+    @SuppressWarnings("unchecked")
+    void forEachUserIdBatch_shouldStreamUserIds() {
         // given
-        Long userId = 7L;
-        String userTokenKey = "user_tokens:" + userId;
-
-        doReturn(setOps).when(redisTemplate).opsForSet();
-        when(setOps.members(userTokenKey)).thenReturn(Set.of());
+        Cursor<String> cursor = mock(Cursor.class);
+        Iterator<String> keys = List.of("user_tokens:1", "user_tokens:2", "user_tokens:3").iterator();
+        when(redisTemplate.scan(any(ScanOptions.class))).thenReturn(cursor);
+        when(cursor.hasNext()).thenAnswer(invocation -> keys.hasNext());
+        when(cursor.next()).thenAnswer(invocation -> keys.next());
 
         // when
-        store.deleteAllByUserId(userId);
+        List<List<Long>> batches = new ArrayList<>();
+        store.forEachUserIdBatch(2, batches::add);
 
         // then
-        verify(setOps).members(userTokenKey);
-        verify(redisTemplate, never()).delete(startsWith("refresh_token:"));
-        verify(redisTemplate, never()).delete(eq(userTokenKey));
-
-        verifyNoMoreInteractions(setOps);
-        verifyNoInteractions(valueOps);
+        assertThat(batches).containsExactly(List.of(1L, 2L), List.of(3L));
+        verify(cursor).close();
     }
 
     @Test
@@ -203,4 +249,12 @@ class RedisRefreshTokenStoreTest {
 
         verifyNoInteractions(valueOps, setOps);
     }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static List<String> strings(byte[][] values) {
+        return Arrays.stream(values).map(value -> new String(value, StandardCharsets.UTF_8)).toList();
+    }
 }
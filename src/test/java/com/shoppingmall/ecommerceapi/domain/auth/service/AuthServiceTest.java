@@ -5,6 +5,7 @@ import com.shoppingmall.ecommerceapi.common.security.util.JwtTokenProvider;
 import com.shoppingmall.ecommerceapi.domain.auth.converter.OAuthConverter;
 import com.shoppingmall.ecommerceapi.domain.auth.dto.TokenResponse;
 import com.shoppingmall.ecommerceapi.domain.auth.exception.AuthErrorCode;
+import com.shoppingmall.ecommerceapi.domain.auth.repository.RefreshTokenRotation;
 import com.shoppingmall.ecommerceapi.domain.auth.repository.RefreshTokenStore;
 import com.shoppingmall.ecommerceapi.domain.auth.repository.SocialAccountRepository;
 import com.shoppingmall.ecommerceapi.domain.cart.service.CartService;
@@ -35,6 +36,7 @@ class AuthServiceTest {
     @Mock OAuthConverter oAuthConverter;
     @Mock CartService cartService;
     @Mock TokenBlacklistService tokenBlacklistService;
+    @Mock TokenRevocationService tokenRevocationService;
 
     @InjectMocks AuthService authService;
 
@@ -62,7 +64,7 @@ class AuthServiceTest {
         assertThat(res.getRefreshToken()).isEqualTo("refresh");
 
         ArgumentCaptor<Duration> expCaptor = ArgumentCaptor.forClass(Duration.class);
-        verify(refreshTokenStore).save(eq(userId), eq("refresh"), eq(deviceInfo), expCaptor.capture());
+        verify(refreshTokenStore).save(eq(userId), eq(role), eq("refresh"), eq(deviceInfo), expCaptor.capture());
         assertThat(expCaptor.getValue()).isEqualTo(Duration.ofHours(24));
     }
 
@@ -90,7 +92,9 @@ class AuthServiceTest {
     void refreshAccessToken_notFound_shouldThrow() {
         // given
         when(jwtTokenProvider.validateToken("refresh")).thenReturn(true);
-        when(refreshTokenStore.findUserIdByToken("refresh")).thenReturn(Optional.empty());
+        when(jwtTokenProvider.generateRefreshToken()).thenReturn("new-refresh");
+        when(refreshTokenStore.rotate("refresh", "new-refresh", "android", Duration.ofHours(24), null))
+                .thenReturn(RefreshTokenRotation.notFound());
 
         // when / then
         assertThatThrownBy(() ->
@@ -99,25 +103,42 @@ class AuthServiceTest {
                 .extracting("code")
                 .isEqualTo(AuthErrorCode.REFRESH_TOKEN_NOT_FOUND);
 
-        verify(refreshTokenStore, never()).delete(anyString());
-        verifyNoInteractions(tokenBlacklistService);
+        verifyNoInteractions(tokenBlacklistService, userRepository);
+    }
+
+    @Test
+    @DisplayName("refreshAccessToken(): 이미 교체된 refreshToken이 다시 오면 사용자 토큰 전부 무효화 후 REFRESH_TOKEN_REUSED 예외")
+    void refreshAccessToken_reused_shouldRevokeAll() {
+        // given
+        when(jwtTokenProvider.validateToken("refresh")).thenReturn(true);
+        when(jwtTokenProvider.generateRefreshToken()).thenReturn("new-refresh");
+        when(refreshTokenStore.rotate("refresh", "new-refresh", "android", Duration.ofHours(24), null))
+                .thenReturn(new RefreshTokenRotation(RefreshTokenRotation.Status.REUSED, 7L, null));
+
+        // when / then
+        assertThatThrownBy(() ->
+                authService.refreshAccessToken("refresh", "android", "old-access")
+        ).isInstanceOf(BusinessException.class)
+                .extracting("code")
+                .isEqualTo(AuthErrorCode.REFRESH_TOKEN_REUSED);
+
+        verify(tokenRevocationService).revokeAll(7L);
+        verify(jwtTokenProvider, never()).generateAccessToken(anyLong(), any());
+        verifyNoInteractions(tokenBlacklistService, userRepository);
     }
 
     @Test
-    @DisplayName("refreshAccessToken(): oldAccessToken 남은 시간이 >0 이면 블랙리스트에 추가 후 토큰 재발급/저장된다")
+    @DisplayName("refreshAccessToken(): 교체 후 oldAccessToken 남은 시간이 >0 이면 블랙리스트에 추가하고 저장된 role로 재발급 (DB 조회 없음)")
     void refreshAccessToken_shouldBlacklistOldToken_andRotateRefreshToken() {
         // given
         Long userId = 7L;
-        User user = mock(User.class);
-        when(user.getRole()).thenReturn(UserRole.USER);
-
         when(jwtTokenProvider.validateToken("refresh")).thenReturn(true);
-        when(refreshTokenStore.findUserIdByToken("refresh")).thenReturn(Optional.of(userId));
-        when(userRepository.findById(userId)).thenReturn(Optional.of(user));
+        when(jwtTokenProvider.generateRefreshToken()).thenReturn("new-refresh");
+        when(refreshTokenStore.rotate("refresh", "new-refresh", "android", Duration.ofHours(24), null))
+                .thenReturn(new RefreshTokenRotation(RefreshTokenRotation.Status.ROTATED, userId, UserRole.USER));
 
         when(jwtTokenProvider.getTokenRemainingTime("old-access")).thenReturn(10_000L);
         when(jwtTokenProvider.generateAccessToken(userId, UserRole.USER)).thenReturn("new-access");
-        when(jwtTokenProvider.generateRefreshToken()).thenReturn("new-refresh");
 
         // when
         TokenResponse res = authService.refreshAccessToken("refresh", "android", "old-access");
@@ -126,10 +147,11 @@ class AuthServiceTest {
         assertThat(res.getAccessToken()).isEqualTo("new-access");
         assertThat(res.getRefreshToken()).isEqualTo("new-refresh");
 
-        InOrder inOrder = inOrder(tokenBlacklistService, refreshTokenStore);
+        InOrder inOrder = inOrder(refreshTokenStore, tokenBlacklistService);
+        inOrder.verify(refreshTokenStore).rotate("refresh", "new-refresh", "android", Duration.ofHours(24), null);
         inOrder.verify(tokenBlacklistService).addToBlacklist("old-access", 10_000L);
-        inOrder.verify(refreshTokenStore).delete("refresh");
-        inOrder.verify(refreshTokenStore).save(eq(userId), eq("new-refresh"), eq("android"), eq(Duration.ofHours(24)));
+        verifyNoMoreInteractions(refreshTokenStore);
+        verifyNoInteractions(userRepository);
     }
 
     @Test
@@ -137,23 +159,42 @@ class AuthServiceTest {
     void refreshAccessToken_noOldToken_shouldNotBlacklist() {
         // given
         Long userId = 7L;
-        User user = mock(User.class);
-        when(user.getRole()).thenReturn(UserRole.USER);
-
         when(jwtTokenProvider.validateToken("refresh")).thenReturn(true);
-        when(refreshTokenStore.findUserIdByToken("refresh")).thenReturn(Optional.of(userId));
-        when(userRepository.findById(userId)).thenReturn(Optional.of(user));
-
-        when(jwtTokenProvider.generateAccessToken(userId, UserRole.USER)).thenReturn("new-access");
         when(jwtTokenProvider.generateRefreshToken()).thenReturn("new-refresh");
+        when(refreshTokenStore.rotate("refresh", "new-refresh", "android", Duration.ofHours(24), null))
+                .thenReturn(new RefreshTokenRotation(RefreshTokenRotation.Status.ROTATED, userId, UserRole.USER));
+        when(jwtTokenProvider.generateAccessToken(userId, UserRole.USER)).thenReturn("new-access");
 
         // when
         authService.refreshAccessToken("refresh", "android", "");
 
         // then
         verify(tokenBlacklistService, never()).addToBlacklist(anyString(), anyLong());
-        verify(refreshTokenStore).delete("refresh");
-        verify(refreshTokenStore).save(eq(userId), eq("new-refresh"), eq("android"), eq(Duration.ofHours(24)));
+    }
+
+    @Test
+    @DisplayName("refreshAccessToken(): 이전 형식 토큰은 사용자 role을 조회해 한 번 더 교체한다")
+    void refreshAccessToken_legacyFormat_shouldLoadRoleAndRetry() {
+        // given
+        Long userId = 7L;
+        User user = mock(User.class);
+        when(user.getRole()).thenReturn(UserRole.ADMIN);
+
+        when(jwtTokenProvider.validateToken("refresh")).thenReturn(true);
+        when(jwtTokenProvider.generateRefreshToken()).thenReturn("new-refresh");
+        when(refreshTokenStore.rotate("refresh", "new-refresh", "android", Duration.ofHours(24), null))
+                .thenReturn(new RefreshTokenRotation(RefreshTokenRotation.Status.LEGACY_FORMAT, userId, null));
+        when(userRepository.findById(userId)).thenReturn(Optional.of(user));
+        when(refreshTokenStore.rotate("refresh", "new-refresh", "android", Duration.ofHours(24), UserRole.ADMIN))
+                .thenReturn(new RefreshTokenRotation(RefreshTokenRotation.Status.ROTATED, userId, UserRole.ADMIN));
+        when(jwtTokenProvider.generateAccessToken(userId, UserRole.ADMIN)).thenReturn("new-access");
+
+        // when
+        TokenResponse res = authService.refreshAccessToken("refresh", "android", null);
+
+        // then
+        assertThat(res.getAccessToken()).isEqualTo("new-access");
+        assertThat(res.getRefreshToken()).isEqualTo("new-refresh");
     }
 
     @Test
@@ -171,13 +212,14 @@ class AuthServiceTest {
     }
 
     @Test
-    @DisplayName("logoutAllDevices(): userId 기준으로 refreshToken 전부 삭제")
+    @DisplayName("logoutAllDevices(): userId 기준으로 refreshToken 전부 삭제 + Access Token 일괄 무효화")
     void logoutAllDevices_shouldDeleteAllRefreshTokens() {
         // when
         authService.logoutAllDevices(99L);
 
         // then
         verify(refreshTokenStore).deleteAllByUserId(99L);
+        verify(tokenRevocationService).revokeAll(99L);
         verifyNoInteractions(tokenBlacklistService);
     }
 }
@@ -1,17 +1,28 @@
 package com.shoppingmall.ecommerceapi.domain.auth.service;
 
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.ScanOptions;
 import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.List;
 import java.util.concurrent.TimeUnit;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -23,11 +34,22 @@ class TokenBlacklistServiceTest {
     @Mock
     private ValueOperations<String, String> valueOperations;
 
-    @InjectMocks
+    @Mock
+    private RedisMessageListenerContainer redisMessageListenerContainer;
+
+    @Mock
+    private Cursor<String> cursor;
+
     private TokenBlacklistService tokenBlacklistService;
 
+    @BeforeEach
+    void setUp() {
+        tokenBlacklistService = new TokenBlacklistService(
+                redisTemplate, redisMessageListenerContainer, 1000, 0.001);
+    }
+
     @Test
-    @DisplayName("addToBlacklist: prefix가 붙은 key로 value/TTL을 함께 저장한다")
+    @DisplayName("addToBlacklist: 다이제스트 key로 value/TTL을 저장하고 다이제스트를 전파한다")
     void addToBlacklist_setsValueWithTtl() {
         // given
         String token = "abcdefghijklmnopqrstuvwxyz.0123456789";
@@ -39,20 +61,26 @@ class TokenBlacklistServiceTest {
         tokenBlacklistService.addToBlacklist(token, expirationMillis);
 
         // then
-        String expectedKey = "blacklist:token:" + token;
+        String expectedKey = "blacklist:token:" + TokenBlacklistService.digest(token);
+        assertThat(expectedKey).doesNotContain(token).hasSize("blacklist:token:".length() + 22);
 
         verify(redisTemplate, times(1)).opsForValue();
         verify(valueOperations, times(1))
                 .set(expectedKey, "blacklisted", expirationMillis, TimeUnit.MILLISECONDS); // ValueOperations.set 오버로드
+
+        // 원문 토큰이 아닌 다이제스트만 채널로 전파
+        ArgumentCaptor<String> payload = ArgumentCaptor.forClass(String.class);
+        verify(redisTemplate, times(1)).convertAndSend(eq(TokenBlacklistService.CHANNEL), payload.capture());
+        assertThat(payload.getValue()).isNotEqualTo(token).doesNotContain(token);
         verifyNoMoreInteractions(redisTemplate, valueOperations);
     }
 
     @Test
-    @DisplayName("isBlacklisted: hasKey가 true면 true를 반환한다")
+    @DisplayName("isBlacklisted: 필터 재구성 전에는 hasKey가 true면 true를 반환한다")
     void isBlacklisted_returnsTrue() {
         // given
         String token = "token-123";
-        String expectedKey = "blacklist:token:" + token;
+        String expectedKey = "blacklist:token:" + TokenBlacklistService.digest(token);
 
         when(redisTemplate.hasKey(expectedKey)).thenReturn(true);
 
@@ -66,11 +94,11 @@ class TokenBlacklistServiceTest {
     }
 
     @Test
-    @DisplayName("isBlacklisted: hasKey가 false면 false를 반환한다")
+    @DisplayName("isBlacklisted: 필터 재구성 전에는 hasKey가 false면 false를 반환한다")
     void isBlacklisted_returnsFalse() {
         // given
         String token = "token-456";
-        String expectedKey = "blacklist:token:" + token;
+        String expectedKey = "blacklist:token:" + TokenBlacklistService.digest(token);
 
         when(redisTemplate.hasKey(expectedKey)).thenReturn(false);
 
@@ -82,4 +110,118 @@ class TokenBlacklistServiceTest {
         verify(redisTemplate, times(1)).hasKey(expectedKey);
         verifyNoMoreInteractions(redisTemplate);
     }
+
+    @Test
+    @DisplayName("isBlacklisted: 필터에 없는 토큰은 Redis를 조회하지 않는다")
+    void isBlacklisted_filterMiss_skipsRedis() {
+        // given
+        givenScannedKeys();
+        tokenBlacklistService.rebuild();
+
+        // when
+        boolean result = tokenBlacklistService.isBlacklisted("token-789");
+
+        // then
+        assertThat(result).isFalse();
+        verify(redisTemplate, never()).hasKey(anyString());
+    }
+
+    @Test
+    @DisplayName("isBlacklisted: 재구성 시 SCAN된 토큰은 필터에 걸려 Redis로 확인한다")
+    void isBlacklisted_scannedToken_checksRedis() {
+        // given
+        String token = "token-scanned";
+        String expectedKey = "blacklist:token:" + TokenBlacklistService.digest(token);
+        givenScannedKeys(expectedKey);
+        tokenBlacklistService.rebuild();
+
+        when(redisTemplate.hasKey(expectedKey)).thenReturn(true);
+
+        // when
+        boolean result = tokenBlacklistService.isBlacklisted(token);
+
+        // then
+        assertThat(result).isTrue();
+        verify(redisTemplate, times(1)).hasKey(expectedKey);
+    }
+
+    @Test
+    @DisplayName("isBlacklisted: 다른 서버에서 전파된 토큰도 필터에 걸려 Redis로 확인한다")
+    void isBlacklisted_propagatedToken_checksRedis() {
+        // given
+        String token = "token-remote";
+        String expectedKey = "blacklist:token:" + TokenBlacklistService.digest(token);
+        givenScannedKeys();
+        tokenBlacklistService.rebuild();
+
+        // 전파 메시지는 다른 서버의 addToBlacklist가 발행한 다이제스트
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        TokenBlacklistService otherNode = new TokenBlacklistService(
+                redisTemplate, redisMessageListenerContainer, 1000, 0.001);
+        otherNode.addToBlacklist(token, 1000L);
+        ArgumentCaptor<String> payload = ArgumentCaptor.forClass(String.class);
+        verify(redisTemplate).convertAndSend(eq(TokenBlacklistService.CHANNEL), payload.capture());
+
+        tokenBlacklistService.onMessage(new DefaultMessage(
+                TokenBlacklistService.CHANNEL.getBytes(StandardCharsets.UTF_8),
+                payload.getValue().getBytes(StandardCharsets.UTF_8)), null);
+        when(redisTemplate.hasKey(expectedKey)).thenReturn(true);
+
+        // when
+        boolean result = tokenBlacklistService.isBlacklisted(token);
+
+        // then
+        assertThat(result).isTrue();
+        verify(redisTemplate, times(1)).hasKey(expectedKey);
+    }
+
+    @Test
+    @DisplayName("rebuild: SCAN 실패 시 필터를 쓰지 않고 Redis를 직접 조회한다")
+    void rebuild_failure_fallsBackToRedis() {
+        // given
+        String token = "token-000";
+        String expectedKey = "blacklist:token:" + TokenBlacklistService.digest(token);
+        when(redisTemplate.scan(any(ScanOptions.class)))
+                .thenThrow(new IllegalStateException("redis down"));
+        tokenBlacklistService.rebuild();
+
+        when(redisTemplate.hasKey(expectedKey)).thenReturn(false);
+
+        // when
+        boolean result = tokenBlacklistService.isBlacklisted(token);
+
+        // then
+        assertThat(result).isFalse();
+        verify(redisTemplate, times(1)).hasKey(expectedKey);
+    }
+
+    @Test
+    @DisplayName("rebuild: 토큰 원문 키(이전 형식)는 남은 TTL로 다이제스트 키에 옮기고 필터에 반영한다")
+    void rebuild_migratesLegacyKey() {
+        // given
+        String token = "header.payload.signature";
+        String legacyKey = "blacklist:token:" + token;
+        String expectedKey = "blacklist:token:" + TokenBlacklistService.digest(token);
+        givenScannedKeys(legacyKey);
+        when(redisTemplate.getExpire(legacyKey, TimeUnit.MILLISECONDS)).thenReturn(5000L);
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+
+        // when
+        tokenBlacklistService.rebuild();
+
+        // then
+        verify(valueOperations).set(expectedKey, "blacklisted", 5000L, TimeUnit.MILLISECONDS);
+
+        when(redisTemplate.hasKey(expectedKey)).thenReturn(true);
+        assertThat(tokenBlacklistService.isBlacklisted(token)).isTrue();
+    }
+
+    private void givenScannedKeys(String... keys) {
+        Iterator<String> scanned = List.of(keys).iterator();
+        when(redisTemplate.scan(any(ScanOptions.class))).thenReturn(cursor);
+        when(cursor.hasNext()).thenAnswer(invocation -> scanned.hasNext());
+        if (keys.length > 0) {
+            when(cursor.next()).thenAnswer(invocation -> scanned.next());
+        }
+    }
 }
@@ -0,0 +1,106 @@
+package com.shoppingmall.ecommerceapi.domain.auth.service;
+
+import com.shoppingmall.ecommerceapi.common.exception.BusinessException;
+import com.shoppingmall.ecommerceapi.domain.auth.dto.TokenBulkRevokeResponse;
+import com.shoppingmall.ecommerceapi.domain.auth.exception.AuthErrorCode;
+import com.shoppingmall.ecommerceapi.domain.auth.repository.RefreshTokenStore;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.redisson.api.RLock;
+import org.redisson.api.RedissonClient;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TokenBulkRevocationServiceTest {
+
+    @Mock
+    private RefreshTokenStore refreshTokenStore;
+
+    @Mock
+    private TokenRevocationService tokenRevocationService;
+
+    @Mock
+    private RedissonClient redissonClient;
+
+    @Mock
+    private RLock lock;
+
+    private TokenBulkRevocationService tokenBulkRevocationService;
+
+    @BeforeEach
+    void setUp() {
+        tokenBulkRevocationService = new TokenBulkRevocationService(
+                refreshTokenStore, tokenRevocationService, redissonClient, 2, 0);
+    }
+
+    @Test
+    @DisplayName("revoke: SCAN한 사용자 중 범위 안의 사용자만 배치별로 Refresh Token 삭제 + Access Token 무효화")
+    @SuppressWarnings("unchecked")
+    void revoke_inRange() {
+        // given
+        givenLockAcquired();
+        doAnswer(invocation -> {
+            Consumer<List<Long>> consumer = invocation.getArgument(1);
+            consumer.accept(List.of(1L, 5L));
+            consumer.accept(List.of(9L, 12L));
+            return null;
+        }).when(refreshTokenStore).forEachUserIdBatch(anyInt(), any(Consumer.class));
+        when(refreshTokenStore.deleteAllByUserIds(List.of(5L))).thenReturn(3);
+        when(refreshTokenStore.deleteAllByUserIds(List.of(9L))).thenReturn(1);
+
+        // when
+        TokenBulkRevokeResponse response = tokenBulkRevocationService.revoke(5L, 10L);
+
+        // then
+        assertThat(response.getScannedUsers()).isEqualTo(4L);
+        assertThat(response.getRevokedUsers()).isEqualTo(2L);
+        assertThat(response.getDeletedRefreshTokens()).isEqualTo(4L);
+        verify(refreshTokenStore).forEachUserIdBatch(eq(2), any(Consumer.class));
+        verify(tokenRevocationService).revokeAll(List.of(5L));
+        verify(tokenRevocationService).revokeAll(List.of(9L));
+        verify(lock).unlock();
+    }
+
+    @Test
+    @DisplayName("revoke: 다른 서버에서 실행 중이면 TOKEN_BULK_REVOKE_RUNNING")
+    void revoke_running() {
+        // given
+        when(redissonClient.getLock("auth:bulk-revoke")).thenReturn(lock);
+        when(lock.tryLock()).thenReturn(false);
+
+        // when & then
+        assertThatThrownBy(() -> tokenBulkRevocationService.revoke(null, null))
+                .isInstanceOf(BusinessException.class)
+                .extracting("code")
+                .isEqualTo(AuthErrorCode.TOKEN_BULK_REVOKE_RUNNING);
+        verifyNoInteractions(refreshTokenStore, tokenRevocationService);
+    }
+
+    @Test
+    @DisplayName("revoke: 시작 ID가 끝 ID보다 크면 INVALID_USER_ID_RANGE")
+    void revoke_invalidRange() {
+        // when & then
+        assertThatThrownBy(() -> tokenBulkRevocationService.revoke(10L, 5L))
+                .isInstanceOf(BusinessException.class)
+                .extracting("code")
+                .isEqualTo(AuthErrorCode.INVALID_USER_ID_RANGE);
+        verifyNoInteractions(redissonClient, refreshTokenStore);
+    }
+
+    private void givenLockAcquired() {
+        when(redissonClient.getLock("auth:bulk-revoke")).thenReturn(lock);
+        when(lock.tryLock()).thenReturn(true);
+    }
+}
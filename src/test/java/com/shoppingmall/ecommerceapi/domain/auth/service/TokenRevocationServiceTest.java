@@ -0,0 +1,112 @@
+package com.shoppingmall.ecommerceapi.domain.auth.service;
+
+import com.shoppingmall.ecommerceapi.common.security.util.JwtPrincipal;
+import com.shoppingmall.ecommerceapi.domain.user.entity.enums.UserRole;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TokenRevocationServiceTest {
+
+    private static final String KEY = "auth:revoked_before:7";
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    @Mock
+    private RedisMessageListenerContainer redisMessageListenerContainer;
+
+    private TokenRevocationService tokenRevocationService;
+
+    @BeforeEach
+    void setUp() {
+        tokenRevocationService = new TokenRevocationService(
+                redisTemplate, redisMessageListenerContainer, 1, 60_000, 100);
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+    }
+
+    @Test
+    @DisplayName("revokeAll: 다음 초 경계를 기준 시각으로 Access Token 수명만큼 저장하고 전파한다")
+    void revokeAll_setsEpochAndPublishes() {
+        // given
+        long before = System.currentTimeMillis();
+
+        // when
+        tokenRevocationService.revokeAll(7L);
+
+        // then
+        ArgumentCaptor<String> epoch = ArgumentCaptor.forClass(String.class);
+        verify(valueOperations).set(eq(KEY), epoch.capture(), eq(Duration.ofHours(1)));
+        long revokedBefore = Long.parseLong(epoch.getValue());
+        assertThat(revokedBefore % 1000).isZero();
+        assertThat(revokedBefore).isGreaterThan(before);
+        verify(redisTemplate).convertAndSend(TokenRevocationService.CHANNEL, "7");
+    }
+
+    @Test
+    @DisplayName("isRevoked: 기준 시각 이전 발급 토큰은 무효, 이후 발급 토큰은 유효")
+    void isRevoked_comparesIssuedAt() {
+        // given
+        when(valueOperations.get(KEY)).thenReturn("2000000");
+
+        // when & then
+        assertThat(tokenRevocationService.isRevoked(principal(1_999_000L))).isTrue();
+        assertThat(tokenRevocationService.isRevoked(principal(2_000_000L))).isFalse();
+    }
+
+    @Test
+    @DisplayName("isRevoked: 무효화 기록이 없는 사용자도 캐시해 Redis를 한 번만 조회한다")
+    void isRevoked_noEpoch_cachesNegative() {
+        // given
+        when(valueOperations.get(KEY)).thenReturn(null);
+
+        // when
+        boolean first = tokenRevocationService.isRevoked(principal(1_000L));
+        boolean second = tokenRevocationService.isRevoked(principal(1_000L));
+
+        // then
+        assertThat(first).isFalse();
+        assertThat(second).isFalse();
+        verify(valueOperations, times(1)).get(KEY);
+    }
+
+    @Test
+    @DisplayName("onMessage: 다른 서버의 무효화 메시지를 받으면 로컬 캐시를 비우고 다시 조회한다")
+    void onMessage_evictsLocalCache() {
+        // given
+        when(valueOperations.get(KEY)).thenReturn(null, "2000000");
+        assertThat(tokenRevocationService.isRevoked(principal(1_000L))).isFalse();
+
+        // when
+        tokenRevocationService.onMessage(new DefaultMessage(
+                TokenRevocationService.CHANNEL.getBytes(StandardCharsets.UTF_8),
+                "7".getBytes(StandardCharsets.UTF_8)), null);
+
+        // then
+        assertThat(tokenRevocationService.isRevoked(principal(1_000L))).isTrue();
+        verify(valueOperations, times(2)).get(KEY);
+    }
+
+    private static JwtPrincipal principal(long issuedAtMillis) {
+        return new JwtPrincipal(7L, UserRole.USER, issuedAtMillis, Long.MAX_VALUE);
+    }
+}
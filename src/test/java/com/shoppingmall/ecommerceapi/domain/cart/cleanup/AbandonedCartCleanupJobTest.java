@@ -0,0 +1,88 @@
+package com.shoppingmall.ecommerceapi.domain.cart.cleanup;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.shoppingmall.ecommerceapi.domain.cart.repository.CartJdbcRepository;
+import com.shoppingmall.ecommerceapi.domain.cart.repository.CartJdbcRepository.StaleCart;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.redisson.api.RedissonClient;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@ExtendWith(MockitoExtension.class)
+class AbandonedCartCleanupJobTest {
+
+  private static final LocalDateTime T1 = LocalDateTime.of(2024, 1, 1, 0, 0);
+  private static final LocalDateTime T2 = LocalDateTime.of(2024, 1, 2, 0, 0);
+
+  @Mock
+  CartJdbcRepository cartJdbcRepository;
+
+  @Mock
+  JdbcTemplate jdbcTemplate;
+
+  @Mock
+  RedissonClient redissonClient;
+
+  private AbandonedCartCleanupJob job(String lagProbeSql) {
+    // chunk-size 2, delete-batch-size 3, 대기 없음
+    return new AbandonedCartCleanupJob(cartJdbcRepository, jdbcTemplate, redissonClient,
+        90, 2, 3, 0, lagProbeSql, 5, 0);
+  }
+
+  @Test
+  @DisplayName("장바구니 정리 - 키셋으로 다음 chunk를 이어서 조회하고 배치가 가득 차면 반복 삭제")
+  void run_walksKeysetAndDeletesInBatches() {
+    // given
+    given(cartJdbcRepository.findStaleCarts(any(LocalDateTime.class), any(LocalDateTime.class),
+        eq(0L), eq(2)))
+        .willReturn(List.of(new StaleCart(1, T1), new StaleCart(2, T2)));
+    given(cartJdbcRepository.findStaleCarts(any(LocalDateTime.class), eq(T2), eq(2L), eq(2)))
+        .willReturn(List.of(new StaleCart(5, T2)));
+    given(cartJdbcRepository.deleteStaleItems(eq(List.of(1L, 2L)), any(LocalDateTime.class),
+        eq(3)))
+        .willReturn(3, 1);
+    given(cartJdbcRepository.deleteStaleItems(eq(List.of(5L)), any(LocalDateTime.class), eq(3)))
+        .willReturn(2);
+
+    // when
+    long deleted = job("").run();
+
+    // then (마지막 chunk가 chunk-size보다 작으면 더 조회하지 않음)
+    assertThat(deleted).isEqualTo(6);
+    verify(cartJdbcRepository, times(2)).findStaleCarts(any(LocalDateTime.class),
+        any(LocalDateTime.class), anyLong(), eq(2));
+  }
+
+  @Test
+  @DisplayName("장바구니 정리 - 복제 지연이 허용치를 넘으면 이번 주기 중단")
+  void run_stopsWhenReplicationLagExceedsBudget() {
+    // given
+    given(cartJdbcRepository.findStaleCarts(any(LocalDateTime.class), any(LocalDateTime.class),
+        eq(0L), eq(2)))
+        .willReturn(List.of(new StaleCart(1, T1), new StaleCart(2, T2)));
+    given(cartJdbcRepository.deleteStaleItems(eq(List.of(1L, 2L)), any(LocalDateTime.class),
+        eq(3)))
+        .willReturn(3);
+    given(jdbcTemplate.queryForObject("SELECT lag", Long.class)).willReturn(10L);
+
+    // when
+    long deleted = job("SELECT lag").run();
+
+    // then
+    assertThat(deleted).isEqualTo(3);
+    verify(cartJdbcRepository, times(1)).deleteStaleItems(eq(List.of(1L, 2L)),
+        any(LocalDateTime.class), eq(3));
+  }
+}
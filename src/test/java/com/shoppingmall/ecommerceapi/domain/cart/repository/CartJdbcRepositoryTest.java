@@ -0,0 +1,86 @@
+package com.shoppingmall.ecommerceapi.domain.cart.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.shoppingmall.ecommerceapi.config.jpa.JpaAuditingConfig;
+import com.shoppingmall.ecommerceapi.domain.cart.entity.Cart;
+import com.shoppingmall.ecommerceapi.domain.cart.repository.CartJdbcRepository.StaleCart;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({JpaAuditingConfig.class, CartJdbcRepository.class})
+class CartJdbcRepositoryTest {
+
+  private static final LocalDateTime KEYSET_START = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+  @Autowired
+  CartJdbcRepository cartJdbcRepository;
+
+  @Autowired
+  CartRepository cartRepository;
+
+  @Autowired
+  JdbcTemplate jdbcTemplate;
+
+  @Test
+  @DisplayName("방치된 장바구니 - 장바구니가 오래됐어도 최근에 바뀐 아이템이 있으면 유지")
+  void oldCartWithRecentItem_kept() {
+    // given - 아이템만 바뀌고 carts.updated_at은 갱신되지 않은 기존 장바구니
+    LocalDateTime now = LocalDateTime.now();
+    LocalDateTime cutoff = now.minusDays(90);
+    Long cartId = oldCart(71L, now.minusDays(200));
+    cartJdbcRepository.insertItemIfAbsent(cartId, 1L, 1, now.minusDays(200));
+    cartJdbcRepository.insertItemIfAbsent(cartId, 2L, 1, now.minusDays(1));
+
+    // when
+    List<StaleCart> staleCarts = cartJdbcRepository.findStaleCarts(cutoff, KEYSET_START, 0, 100);
+    int deleted = cartJdbcRepository.deleteStaleItems(List.of(cartId), cutoff, 100);
+
+    // then
+    assertThat(staleCarts).extracting(StaleCart::id).doesNotContain(cartId);
+    assertThat(deleted).isZero();
+    assertThat(itemCount(cartId)).isEqualTo(2);
+  }
+
+  @Test
+  @DisplayName("방치된 장바구니 - 장바구니와 아이템 모두 오래됐으면 아이템 삭제")
+  void oldCartWithOldItems_deleted() {
+    // given
+    LocalDateTime now = LocalDateTime.now();
+    LocalDateTime cutoff = now.minusDays(90);
+    Long cartId = oldCart(72L, now.minusDays(200));
+    cartJdbcRepository.insertItemIfAbsent(cartId, 1L, 1, now.minusDays(200));
+    cartJdbcRepository.insertItemIfAbsent(cartId, 2L, 1, now.minusDays(100));
+
+    // when
+    List<StaleCart> staleCarts = cartJdbcRepository.findStaleCarts(cutoff, KEYSET_START, 0, 100);
+    int deleted = cartJdbcRepository.deleteStaleItems(List.of(cartId), cutoff, 100);
+
+    // then
+    assertThat(staleCarts).extracting(StaleCart::id).contains(cartId);
+    assertThat(deleted).isEqualTo(2);
+    assertThat(itemCount(cartId)).isZero();
+  }
+
+  private Long oldCart(Long userId, LocalDateTime updatedAt) {
+    Cart cart = cartRepository.saveAndFlush(Cart.builder().userId(userId).build());
+    jdbcTemplate.update("UPDATE carts SET updated_at = ? WHERE id = ?",
+        Timestamp.valueOf(updatedAt), cart.getId());
+    return cart.getId();
+  }
+
+  private int itemCount(Long cartId) {
+    return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM cart_items WHERE cart_id = ?",
+        Integer.class, cartId);
+  }
+}
@@ -0,0 +1,99 @@
+package com.shoppingmall.ecommerceapi.domain.cart.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.BDDMockito.given;
+
+import com.shoppingmall.ecommerceapi.config.jpa.JpaAuditingConfig;
+import com.shoppingmall.ecommerceapi.domain.cart.dto.CartResponse;
+import com.shoppingmall.ecommerceapi.domain.cart.entity.Cart;
+import com.shoppingmall.ecommerceapi.domain.cart.entity.CartItem;
+import com.shoppingmall.ecommerceapi.domain.cart.repository.CartJdbcRepository;
+import com.shoppingmall.ecommerceapi.domain.cart.repository.CartRepository;
+import com.shoppingmall.ecommerceapi.domain.cart.store.JpaCartStore;
+import com.shoppingmall.ecommerceapi.domain.order.service.OrderService;
+import com.shoppingmall.ecommerceapi.domain.product.entity.Product;
+import com.shoppingmall.ecommerceapi.domain.product.entity.enums.ProductCategory;
+import com.shoppingmall.ecommerceapi.domain.product.entity.enums.ProductStatus;
+import com.shoppingmall.ecommerceapi.domain.product.repository.ProductRepository;
+import com.shoppingmall.ecommerceapi.domain.product.repository.ProductSummary;
+import com.shoppingmall.ecommerceapi.domain.product.service.ProductService;
+import jakarta.persistence.EntityManager;
+import java.util.Collection;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+/**
+ * 장바구니 조회 쿼리 수 회귀 테스트 (아이템 수와 무관하게 장바구니 1번 + 상품 1번)
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({JpaAuditingConfig.class, CartService.class, JpaCartStore.class,
+    CartJdbcRepository.class})
+class CartServiceQueryCountTest {
+
+  private static final int ITEM_COUNT = 40;
+
+  @Autowired
+  CartService cartService;
+
+  @Autowired
+  CartRepository cartRepository;
+
+  @Autowired
+  ProductRepository productRepository;
+
+  @Autowired
+  EntityManager entityManager;
+
+  // 상품 조회는 실제 Repository로 위임 (ProductService의 다른 의존성은 불필요)
+  @MockitoBean
+  ProductService productService;
+
+  @MockitoBean
+  OrderService orderService;
+
+  @Test
+  @DisplayName("getCartResponse: 아이템 40개 장바구니도 쿼리 2번으로 조회")
+  void getCartResponse_queryCount() {
+    // given
+    Long userId = 70L;
+    Cart cart = Cart.builder().userId(userId).build();
+    for (int i = 0; i < ITEM_COUNT; i++) {
+      Product product = productRepository.save(Product.builder()
+          .name("장바구니 상품" + i).price(1000 + i).stock(10)
+          .category(ProductCategory.FOOD).status(ProductStatus.FOR_SALE)
+          .build());
+      cart.addItem(CartItem.builder().productId(product.getId()).quantity(1).build());
+    }
+    cartRepository.save(cart);
+    entityManager.flush();
+    entityManager.clear();
+
+    given(productService.findProductSummaries(anyCollection())).willAnswer(invocation ->
+        productRepository.findSummariesByIdIn(invocation.<Collection<Long>>getArgument(0))
+            .stream()
+            .collect(Collectors.toMap(ProductSummary::getId, Function.identity())));
+
+    Statistics statistics = entityManager.getEntityManagerFactory()
+        .unwrap(SessionFactory.class).getStatistics();
+    statistics.clear();
+
+    // when
+    CartResponse response = cartService.getCartResponse(userId);
+
+    // then
+    assertThat(response.getItems()).hasSize(ITEM_COUNT);
+    assertThat(response.getItems().get(0).getProductName()).startsWith("장바구니 상품");
+    assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+  }
+}
@@ -2,24 +2,42 @@ package com.shoppingmall.ecommerceapi.domain.cart.service;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 
 import com.shoppingmall.ecommerceapi.common.exception.BusinessException;
 import com.shoppingmall.ecommerceapi.domain.cart.dto.AddCartItemRequest;
+import com.shoppingmall.ecommerceapi.domain.cart.dto.BulkCartItemRequest;
+import com.shoppingmall.ecommerceapi.domain.cart.dto.BulkCartItemResponse;
+import com.shoppingmall.ecommerceapi.domain.cart.dto.CartCheckoutRequest;
 import com.shoppingmall.ecommerceapi.domain.cart.dto.CartResponse;
 import com.shoppingmall.ecommerceapi.domain.cart.entity.Cart;
 import com.shoppingmall.ecommerceapi.domain.cart.entity.CartItem;
 import com.shoppingmall.ecommerceapi.domain.cart.exception.CartErrorCode;
 import com.shoppingmall.ecommerceapi.domain.cart.repository.CartRepository;
+import com.shoppingmall.ecommerceapi.domain.cart.store.CartSnapshot;
+import com.shoppingmall.ecommerceapi.domain.cart.store.CartStore;
+import com.shoppingmall.ecommerceapi.domain.order.dto.CreateOrderItemRequest;
+import com.shoppingmall.ecommerceapi.domain.order.dto.CreateOrderRequest;
+import com.shoppingmall.ecommerceapi.domain.order.dto.OrderResponse;
+import com.shoppingmall.ecommerceapi.domain.order.service.OrderService;
 import com.shoppingmall.ecommerceapi.domain.product.entity.Product;
 import com.shoppingmall.ecommerceapi.domain.product.entity.enums.ProductStatus;
+import com.shoppingmall.ecommerceapi.domain.product.repository.ProductSummary;
 import com.shoppingmall.ecommerceapi.domain.product.service.ProductService;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -33,6 +51,12 @@ class CartServiceTest {
   @Mock
   ProductService productService;
 
+  @Mock
+  CartStore cartStore;
+
+  @Mock
+  OrderService orderService;
+
   @InjectMocks
   CartService cartService;
 
@@ -100,36 +124,35 @@ class CartServiceTest {
   }
 
   @Test
-  @DisplayName("getCartResponse: CartItem의 productId로 Product 조회해 응답에 productName/productPrice를 포함")
+  @DisplayName("getCartResponse: CartItem의 productId 목록으로 상품 요약을 한 번에 조회해 productName/productPrice를 포함")
   void getCartResponse_success() {
     // given
     Long userId = 1L;
 
     Cart cart = Cart.builder().userId(userId).build();
     cart.addItem(CartItem.builder().productId(100L).quantity(2).build());
+    cart.addItem(CartItem.builder().productId(200L).quantity(1).build());
 
-    given(cartRepository.findByUserId(userId)).willReturn(Optional.of(cart));
-
-    Product product = Product.builder()
-        .name("테스트상품")
-        .price(1000)
-        .status(ProductStatus.FOR_SALE)
-        .build();
-
-    given(productService.findProductEntityById(100L)).willReturn(product);
+    given(cartStore.getCart(userId))
+        .willReturn(new CartSnapshot(10L, userId, null, cart.getItems()));
+    given(productService.findProductSummaries(List.of(100L, 200L))).willReturn(Map.of(
+        100L, summary(100L, "테스트상품", 1000),
+        200L, summary(200L, "다른상품", 2000)));
 
     // when
     CartResponse response = cartService.getCartResponse(userId);
 
     // then
     assertThat(response.getUserId()).isEqualTo(userId);
-    assertThat(response.getItems()).hasSize(1);
+    assertThat(response.getItems()).hasSize(2);
     assertThat(response.getItems().get(0).getProductId()).isEqualTo(100L);
     assertThat(response.getItems().get(0).getProductName()).isEqualTo("테스트상품");
     assertThat(response.getItems().get(0).getProductPrice()).isEqualTo(1000);
     assertThat(response.getItems().get(0).getProductQuantity()).isEqualTo(2);
+    assertThat(response.getItems().get(1).getProductName()).isEqualTo("다른상품");
 
-    verify(productService).findProductEntityById(100L);
+    verify(productService).findProductSummaries(List.of(100L, 200L));
+    verify(productService, never()).findProductEntityById(org.mockito.ArgumentMatchers.anyLong());
   }
 
   @Test
@@ -139,9 +162,6 @@ class CartServiceTest {
     Long userId = 1L;
     AddCartItemRequest req = AddCartItemRequest.builder().productId(1L).quantity(0).build();
 
-    Cart cart = Cart.builder().userId(userId).build();
-    given(cartRepository.findByUserId(userId)).willReturn(Optional.of(cart));
-
     // when & then
     assertThatThrownBy(() -> cartService.addItem(userId, req))
         .isInstanceOf(BusinessException.class)
@@ -158,9 +178,6 @@ class CartServiceTest {
     Long userId = 1L;
 
     AddCartItemRequest req = AddCartItemRequest.builder().productId(10L).quantity(1).build();
-    Cart cart = Cart.builder().userId(userId).build();
-
-    given(cartRepository.findByUserId(userId)).willReturn(Optional.of(cart));
 
     Product product = Product.builder()
         .name("중지상품")
@@ -184,9 +201,6 @@ class CartServiceTest {
     Long userId = 1L;
 
     AddCartItemRequest req = AddCartItemRequest.builder().productId(10L).quantity(1).build();
-    Cart cart = Cart.builder().userId(userId).build();
-
-    given(cartRepository.findByUserId(userId)).willReturn(Optional.of(cart));
 
     Product product = Product.builder()
         .name("품절상품")
@@ -204,31 +218,108 @@ class CartServiceTest {
   }
 
   @Test
-  @DisplayName("addItem: 이미 담긴 상품이면 CART_ITEM_ALREADY_EXISTS 예외")
-  void addItem_alreadyExists() {
+  @DisplayName("addItem: 판매 중인 상품이면 CartStore에 담기")
+  void addItem_success() {
     // given
     Long userId = 1L;
-
-    Cart cart = Cart.builder().userId(userId).build();
-    cart.addItem(CartItem.builder().productId(10L).quantity(1).build());
-
-    given(cartRepository.findByUserId(userId)).willReturn(Optional.of(cart));
-
-    AddCartItemRequest req = AddCartItemRequest.builder().productId(10L).quantity(1).build();
+    AddCartItemRequest req = AddCartItemRequest.builder().productId(10L).quantity(2).build();
 
     Product product = Product.builder()
         .name("상품")
         .price(1000)
         .status(ProductStatus.FOR_SALE)
         .build();
+    CartItem item = CartItem.builder().productId(10L).quantity(2).build();
 
     given(productService.findProductEntityById(10L)).willReturn(product);
+    given(cartStore.addItem(userId, 10L, 2)).willReturn(item);
 
-    // when & then
-    assertThatThrownBy(() -> cartService.addItem(userId, req))
-        .isInstanceOf(BusinessException.class)
-        .extracting("code")
-        .isEqualTo(CartErrorCode.CART_ITEM_ALREADY_EXISTS);
+    // when
+    CartItem result = cartService.addItem(userId, req);
+
+    // then
+    assertThat(result).isSameAs(item);
+  }
+
+  @Test
+  @DisplayName("upsertItems: 상품은 한 번에 검증하고 통과한 항목만 저장소에 한 번에 반영, 항목별 결과 반환")
+  void upsertItems_partialFailure() {
+    // given
+    Long userId = 1L;
+    BulkCartItemRequest req = BulkCartItemRequest.builder().items(List.of(
+        AddCartItemRequest.builder().productId(10L).quantity(2).build(),
+        AddCartItemRequest.builder().productId(20L).quantity(1).build(),
+        AddCartItemRequest.builder().productId(30L).quantity(1).build(),
+        AddCartItemRequest.builder().productId(40L).quantity(0).build(),
+        AddCartItemRequest.builder().productId(10L).quantity(5).build(),
+        AddCartItemRequest.builder().productId(99L).quantity(1).build()
+    )).build();
+
+    given(productService.findProductEntities(Set.of(10L, 20L, 30L, 40L, 99L))).willReturn(Map.of(
+        10L, Product.builder().id(10L).status(ProductStatus.FOR_SALE).build(),
+        20L, Product.builder().id(20L).status(ProductStatus.FOR_SALE).build(),
+        30L, Product.builder().id(30L).status(ProductStatus.STOP_SALE).build(),
+        40L, Product.builder().id(40L).status(ProductStatus.FOR_SALE).build()));
+    given(cartStore.upsertItems(userId, Map.of(10L, 2, 20L, 1))).willReturn(Set.of(10L));
+
+    // when
+    BulkCartItemResponse response = cartService.upsertItems(userId, req);
+
+    // then
+    assertThat(response.getSuccessCount()).isEqualTo(2);
+    assertThat(response.getFailureCount()).isEqualTo(4);
+    assertThat(response.getResults())
+        .extracting(BulkCartItemResponse.Result::getStatus, BulkCartItemResponse.Result::getErrorCode)
+        .containsExactly(
+            tuple(BulkCartItemResponse.Status.ADDED, null),
+            tuple(BulkCartItemResponse.Status.UPDATED, null),
+            tuple(BulkCartItemResponse.Status.FAILED, "CART_ITEM_PRODUCT_NOT_FOR_SALE"),
+            tuple(BulkCartItemResponse.Status.FAILED, "CART_ITEM_INVALID_QUANTITY"),
+            tuple(BulkCartItemResponse.Status.FAILED, "CART_ITEM_DUPLICATED_IN_REQUEST"),
+            tuple(BulkCartItemResponse.Status.FAILED, "CART_ITEM_INVALID_PRODUCT"));
+    verify(productService, never()).findProductEntityById(org.mockito.ArgumentMatchers.anyLong());
+  }
+
+  @Test
+  @DisplayName("upsertItems: 모든 항목이 실패하면 저장소를 호출하지 않음")
+  void upsertItems_allFailed() {
+    // given
+    Long userId = 1L;
+    BulkCartItemRequest req = BulkCartItemRequest.builder().items(List.of(
+        AddCartItemRequest.builder().productId(99L).quantity(1).build()
+    )).build();
+    given(productService.findProductEntities(Set.of(99L))).willReturn(Map.of());
+
+    // when
+    BulkCartItemResponse response = cartService.upsertItems(userId, req);
+
+    // then
+    assertThat(response.getFailureCount()).isEqualTo(1);
+    verify(cartStore, never()).upsertItems(eq(userId), any());
+  }
+
+  @Test
+  @DisplayName("upsertItems: 빈 항목(null)은 요청 전체를 거절하지 않고 항목 실패로 응답")
+  void upsertItems_nullLine() {
+    // given
+    Long userId = 1L;
+    BulkCartItemRequest req = BulkCartItemRequest.builder().items(Arrays.asList(
+        null,
+        AddCartItemRequest.builder().productId(10L).quantity(1).build()
+    )).build();
+    given(productService.findProductEntities(Set.of(10L))).willReturn(Map.of(
+        10L, Product.builder().id(10L).status(ProductStatus.FOR_SALE).build()));
+    given(cartStore.upsertItems(userId, Map.of(10L, 1))).willReturn(Set.of(10L));
+
+    // when
+    BulkCartItemResponse response = cartService.upsertItems(userId, req);
+
+    // then
+    assertThat(response.getResults())
+        .extracting(BulkCartItemResponse.Result::getStatus, BulkCartItemResponse.Result::getErrorCode)
+        .containsExactly(
+            tuple(BulkCartItemResponse.Status.FAILED, "CART_ITEM_INVALID_PRODUCT"),
+            tuple(BulkCartItemResponse.Status.ADDED, null));
   }
 
   @Test
@@ -238,34 +329,79 @@ class CartServiceTest {
     Long userId = 1L;
     Long cartItemId = 1L;
 
-    Cart cart = Cart.builder().userId(userId).build();
-    cart.addItem(CartItem.builder().productId(10L).quantity(1).build());
-
-    given(cartRepository.findByUserId(userId)).willReturn(Optional.of(cart));
-
     // when & then
     assertThatThrownBy(() -> cartService.changeQuantity(userId, cartItemId, 0))
         .isInstanceOf(BusinessException.class)
         .extracting("code")
         .isEqualTo(CartErrorCode.CART_ITEM_INVALID_QUANTITY);
+
+    verify(cartStore, never()).changeQuantity(userId, cartItemId, 0);
   }
 
   @Test
-  @DisplayName("changeQuantity: 해당 cartItemId가 없으면 CART_ITEM_NOT_FOUND 예외")
-  void changeQuantity_notFound() {
+  @DisplayName("checkout: 장바구니 상품으로 주문 생성 후 주문한 상품만 장바구니에서 삭제")
+  void checkout_success() {
     // given
     Long userId = 1L;
-    Long cartItemId = 999L;
+    CartCheckoutRequest req = CartCheckoutRequest.builder()
+        .zipCode("12345").address("서울시 강남구").detailAddress("101호").build();
 
-    Cart cart = Cart.builder().userId(userId).build();
-    cart.addItem(CartItem.builder().productId(10L).quantity(1).build());
+    given(cartStore.getCart(userId)).willReturn(new CartSnapshot(10L, userId, null, List.of(
+        CartItem.detached(null, 100L, 2),
+        CartItem.detached(null, 200L, 1))));
+    OrderResponse order = OrderResponse.builder().build();
+    given(orderService.createOrderFromCart(eq(userId), any(CreateOrderRequest.class)))
+        .willReturn(order);
 
-    given(cartRepository.findByUserId(userId)).willReturn(Optional.of(cart));
+    // when
+    OrderResponse result = cartService.checkout(userId, req);
+
+    // then
+    assertThat(result).isSameAs(order);
+    ArgumentCaptor<CreateOrderRequest> captor = ArgumentCaptor.forClass(CreateOrderRequest.class);
+    verify(orderService).createOrderFromCart(eq(userId), captor.capture());
+    assertThat(captor.getValue().getZipCode()).isEqualTo("12345");
+    assertThat(captor.getValue().getTotalPrice()).isNull();
+    assertThat(captor.getValue().getOrderItems())
+        .extracting(CreateOrderItemRequest::getProductId, CreateOrderItemRequest::getQuantity)
+        .containsExactly(tuple(100L, 2), tuple(200L, 1));
+    verify(cartStore).removeItems(userId, List.of(100L, 200L));
+  }
+
+  @Test
+  @DisplayName("checkout: 장바구니가 비어 있으면 CART_CHECKOUT_EMPTY 예외")
+  void checkout_empty() {
+    // given
+    Long userId = 1L;
+    CartCheckoutRequest req = CartCheckoutRequest.builder()
+        .zipCode("12345").address("서울시 강남구").detailAddress("101호").build();
+    given(cartStore.getCart(userId)).willReturn(new CartSnapshot(10L, userId, null, List.of()));
 
     // when & then
-    assertThatThrownBy(() -> cartService.changeQuantity(userId, cartItemId, 3))
+    assertThatThrownBy(() -> cartService.checkout(userId, req))
         .isInstanceOf(BusinessException.class)
         .extracting("code")
-        .isEqualTo(CartErrorCode.CART_ITEM_NOT_FOUND);
+        .isEqualTo(CartErrorCode.CART_CHECKOUT_EMPTY);
+
+    verify(orderService, never()).createOrderFromCart(eq(userId), any(CreateOrderRequest.class));
+  }
+
+  private static ProductSummary summary(Long id, String name, Integer price) {
+    return new ProductSummary() {
+      @Override
+      public Long getId() {
+        return id;
+      }
+
+      @Override
+      public String getName() {
+        return name;
+      }
+
+      @Override
+      public Integer getPrice() {
+        return price;
+      }
+    };
   }
 }
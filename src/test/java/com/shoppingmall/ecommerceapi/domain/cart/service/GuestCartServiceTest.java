@@ -0,0 +1,108 @@
+package com.shoppingmall.ecommerceapi.domain.cart.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import com.shoppingmall.ecommerceapi.common.exception.BusinessException;
+import com.shoppingmall.ecommerceapi.domain.cart.dto.AddCartItemRequest;
+import com.shoppingmall.ecommerceapi.domain.cart.dto.BulkCartItemRequest;
+import com.shoppingmall.ecommerceapi.domain.cart.dto.BulkCartItemResponse;
+import com.shoppingmall.ecommerceapi.domain.cart.entity.CartItem;
+import com.shoppingmall.ecommerceapi.domain.cart.exception.CartErrorCode;
+import com.shoppingmall.ecommerceapi.domain.cart.store.CartSnapshot;
+import com.shoppingmall.ecommerceapi.domain.cart.store.GuestCartStore;
+import com.shoppingmall.ecommerceapi.domain.product.entity.Product;
+import com.shoppingmall.ecommerceapi.domain.product.entity.enums.ProductStatus;
+import com.shoppingmall.ecommerceapi.domain.product.service.ProductService;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class GuestCartServiceTest {
+
+  private static final String GUEST_ID = "AAAAAAAAAAAAAAAAAAAAAA";
+
+  @Mock
+  GuestCartStore guestCartStore;
+
+  @Mock
+  ProductService productService;
+
+  @Mock
+  CartService cartService;
+
+  @InjectMocks
+  GuestCartService guestCartService;
+
+  @Test
+  @DisplayName("addItem: STOP_SALE 상품이면 CART_ITEM_PRODUCT_NOT_FOR_SALE 예외, Redis에 담지 않음")
+  void addItem_stopSale() {
+    // given
+    AddCartItemRequest req = AddCartItemRequest.builder().productId(10L).quantity(1).build();
+    given(productService.findProductEntities(Set.of(10L))).willReturn(Map.of(
+        10L, Product.builder().id(10L).status(ProductStatus.STOP_SALE).build()));
+
+    // when & then
+    assertThatThrownBy(() -> guestCartService.addItem(GUEST_ID, req))
+        .isInstanceOf(BusinessException.class)
+        .extracting("code")
+        .isEqualTo(CartErrorCode.CART_ITEM_PRODUCT_NOT_FOR_SALE);
+
+    verify(guestCartStore, never()).addItem(eq(GUEST_ID), any(), anyInt());
+  }
+
+  @Test
+  @DisplayName("mergeIntoUserCart: 비회원 장바구니를 회원 장바구니에 한 번에 반영하고 삭제")
+  void mergeIntoUserCart_success() {
+    // given
+    Long userId = 1L;
+    given(guestCartStore.getCart(GUEST_ID)).willReturn(new CartSnapshot(null, null, null, List.of(
+        CartItem.detached(null, 10L, 2),
+        CartItem.detached(null, 20L, 1))));
+    given(cartService.upsertItems(eq(userId), any(BulkCartItemRequest.class)))
+        .willReturn(BulkCartItemResponse.builder().successCount(2).results(List.of()).build());
+
+    // when
+    guestCartService.mergeIntoUserCart(GUEST_ID, userId);
+
+    // then
+    ArgumentCaptor<BulkCartItemRequest> captor = ArgumentCaptor.forClass(BulkCartItemRequest.class);
+    verify(cartService).upsertItems(eq(userId), captor.capture());
+    assertThat(captor.getValue().getItems())
+        .extracting(AddCartItemRequest::getProductId, AddCartItemRequest::getQuantity)
+        .containsExactly(tuple(10L, 2), tuple(20L, 1));
+    verify(guestCartStore).delete(GUEST_ID);
+  }
+
+  @Test
+  @DisplayName("mergeIntoUserCart: 반영에 실패하면 비회원 장바구니를 남겨 둠")
+  void mergeIntoUserCart_failure_keepsGuestCart() {
+    // given
+    Long userId = 1L;
+    given(guestCartStore.getCart(GUEST_ID)).willReturn(new CartSnapshot(null, null, null, List.of(
+        CartItem.detached(null, 10L, 2))));
+    willThrow(new BusinessException(CartErrorCode.CART_NOT_FOUND))
+        .given(cartService).upsertItems(eq(userId), any(BulkCartItemRequest.class));
+
+    // when & then
+    assertThatThrownBy(() -> guestCartService.mergeIntoUserCart(GUEST_ID, userId))
+        .isInstanceOf(BusinessException.class);
+    verify(guestCartStore, never()).delete(GUEST_ID);
+  }
+}
@@ -0,0 +1,161 @@
+package com.shoppingmall.ecommerceapi.domain.cart.store;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import com.shoppingmall.ecommerceapi.common.exception.BusinessException;
+import com.shoppingmall.ecommerceapi.domain.cart.entity.CartItem;
+import com.shoppingmall.ecommerceapi.domain.cart.exception.CartErrorCode;
+import com.shoppingmall.ecommerceapi.domain.cart.repository.CartItemRepository;
+import com.shoppingmall.ecommerceapi.domain.cart.repository.CartJdbcRepository;
+import com.shoppingmall.ecommerceapi.domain.cart.repository.CartRepository;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class JpaCartStoreTest {
+
+  @Mock
+  CartRepository cartRepository;
+
+  @Mock
+  CartItemRepository cartItemRepository;
+
+  @Mock
+  CartJdbcRepository cartJdbcRepository;
+
+  @InjectMocks
+  JpaCartStore jpaCartStore;
+
+  @Test
+  @DisplayName("addItem: 유니크 제약으로 삽입되지 않으면 CART_ITEM_ALREADY_EXISTS 예외")
+  void addItem_alreadyExists() {
+    // given
+    Long userId = 1L;
+    given(cartRepository.findIdByUserId(userId)).willReturn(Optional.of(5L));
+    given(cartJdbcRepository.insertItemIfAbsent(eq(5L), eq(10L), eq(1),
+        any(LocalDateTime.class))).willReturn(Optional.empty());
+
+    // when & then
+    assertThatThrownBy(() -> jpaCartStore.addItem(userId, 10L, 1))
+        .isInstanceOf(BusinessException.class)
+        .extracting("code")
+        .isEqualTo(CartErrorCode.CART_ITEM_ALREADY_EXISTS);
+
+    verify(cartRepository, never()).touch(eq(userId), any(LocalDateTime.class));
+  }
+
+  @Test
+  @DisplayName("addItem: 삽입된 아이템 ID로 응답하고 장바구니 수정 시각 갱신")
+  void addItem_success() {
+    // given
+    Long userId = 1L;
+    given(cartRepository.findIdByUserId(userId)).willReturn(Optional.of(5L));
+    given(cartJdbcRepository.insertItemIfAbsent(eq(5L), eq(10L), eq(3),
+        any(LocalDateTime.class))).willReturn(Optional.of(77L));
+
+    // when
+    CartItem item = jpaCartStore.addItem(userId, 10L, 3);
+
+    // then
+    assertThat(item.getId()).isEqualTo(77L);
+    assertThat(item.getProductId()).isEqualTo(10L);
+    assertThat(item.getQuantity()).isEqualTo(3);
+    verify(cartRepository).touch(eq(userId), any(LocalDateTime.class));
+  }
+
+  @Test
+  @DisplayName("changeQuantity: 본인 장바구니의 cartItemId가 아니면 CART_ITEM_NOT_FOUND 예외")
+  void changeQuantity_notFound() {
+    // given
+    Long userId = 1L;
+    Long cartItemId = 999L;
+    given(cartItemRepository.findProductIdByIdAndUserId(cartItemId, userId))
+        .willReturn(Optional.empty());
+
+    // when & then
+    assertThatThrownBy(() -> jpaCartStore.changeQuantity(userId, cartItemId, 3))
+        .isInstanceOf(BusinessException.class)
+        .extracting("code")
+        .isEqualTo(CartErrorCode.CART_ITEM_NOT_FOUND);
+  }
+
+  @Test
+  @DisplayName("removeItem: 삭제된 행이 없으면 CART_ITEM_NOT_FOUND 예외")
+  void removeItem_notFound() {
+    // given
+    Long userId = 1L;
+    given(cartRepository.findIdByUserId(userId)).willReturn(Optional.of(5L));
+    given(cartItemRepository.deleteByCartIdAndProductId(5L, 10L)).willReturn(0);
+
+    // when & then
+    assertThatThrownBy(() -> jpaCartStore.removeItem(userId, 10L))
+        .isInstanceOf(BusinessException.class)
+        .extracting("code")
+        .isEqualTo(CartErrorCode.CART_ITEM_NOT_FOUND);
+  }
+
+  @Test
+  @DisplayName("upsertItems: 이미 담긴 상품을 한 번에 확인하고 배치 upsert, 새로 담긴 상품 ID 반환")
+  void upsertItems_success() {
+    // given
+    Long userId = 1L;
+    Map<Long, Integer> quantities = Map.of(10L, 2, 20L, 3);
+    given(cartRepository.findIdByUserId(userId)).willReturn(Optional.of(5L));
+    given(cartItemRepository.findProductIdsByCartIdAndProductIdIn(5L, quantities.keySet()))
+        .willReturn(List.of(20L));
+
+    // when
+    Set<Long> added = jpaCartStore.upsertItems(userId, quantities);
+
+    // then
+    assertThat(added).containsExactly(10L);
+    verify(cartJdbcRepository).upsertItems(eq(5L), eq(quantities), any(LocalDateTime.class));
+    verify(cartRepository).touch(eq(userId), any(LocalDateTime.class));
+  }
+
+  @Test
+  @DisplayName("removeItems: 주문한 상품만 한 번에 삭제하고 장바구니 수정 시각 갱신")
+  void removeItems_success() {
+    // given
+    Long userId = 1L;
+    given(cartRepository.findIdByUserId(userId)).willReturn(Optional.of(5L));
+    given(cartItemRepository.deleteByCartIdAndProductIdIn(5L, List.of(10L, 20L))).willReturn(2);
+
+    // when
+    jpaCartStore.removeItems(userId, List.of(10L, 20L));
+
+    // then
+    verify(cartItemRepository).deleteByCartIdAndProductIdIn(5L, List.of(10L, 20L));
+    verify(cartRepository).touch(eq(userId), any(LocalDateTime.class));
+  }
+
+  @Test
+  @DisplayName("clear: 비어 있으면 CART_ALREADY_EMPTY 예외")
+  void clear_alreadyEmpty() {
+    // given
+    Long userId = 1L;
+    given(cartRepository.findIdByUserId(userId)).willReturn(Optional.of(5L));
+    given(cartItemRepository.bulkDeleteByCartId(5L)).willReturn(0);
+
+    // when & then
+    assertThatThrownBy(() -> jpaCartStore.clear(userId))
+        .isInstanceOf(BusinessException.class)
+        .extracting("code")
+        .isEqualTo(CartErrorCode.CART_ALREADY_EMPTY);
+  }
+}
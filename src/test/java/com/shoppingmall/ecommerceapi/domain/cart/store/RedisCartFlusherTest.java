@@ -0,0 +1,77 @@
+package com.shoppingmall.ecommerceapi.domain.cart.store;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.verify;
+
+import com.shoppingmall.ecommerceapi.domain.cart.repository.CartJdbcRepository;
+import com.shoppingmall.ecommerceapi.domain.cart.repository.CartJdbcRepository.CartState;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.SetOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+@ExtendWith(MockitoExtension.class)
+class RedisCartFlusherTest {
+
+  @Mock
+  StringRedisTemplate redisTemplate;
+
+  @Mock
+  SetOperations<String, String> setOperations;
+
+  @Mock
+  CartJdbcRepository cartJdbcRepository;
+
+  private RedisCartFlusher flusher;
+
+  @BeforeEach
+  void setUp() {
+    flusher = new RedisCartFlusher(redisTemplate, cartJdbcRepository, 100);
+    given(redisTemplate.opsForSet()).willReturn(setOperations);
+  }
+
+  @Test
+  @DisplayName("장바구니 반영 - 변경된 장바구니의 현재 상태와 버전을 한 번에 MySQL에 반영 (만료된 해시는 제외)")
+  void flush_replacesItems() {
+    // given
+    given(setOperations.pop(RedisCartStore.DIRTY_KEY, 100)).willReturn(List.of("1", "2"));
+    given(redisTemplate.executePipelined(any(RedisCallback.class))).willReturn(List.of(
+        Map.of("_id", "10", "_at", "1700000000000", "_v", "3", "5", "2"),
+        Map.of()));
+
+    // when
+    int flushed = flusher.flush();
+
+    // then
+    assertEquals(2, flushed);
+    verify(cartJdbcRepository).replaceItems(Map.of(10L, new CartState(Map.of(5L, 2), 3L)));
+  }
+
+  @Test
+  @DisplayName("장바구니 반영 - 실패하면 사용자 ID를 되돌려 다음 주기에 재시도")
+  void flush_failure_requeues() {
+    // given
+    given(setOperations.pop(RedisCartStore.DIRTY_KEY, 100)).willReturn(List.of("1"));
+    given(redisTemplate.executePipelined(any(RedisCallback.class)))
+        .willReturn(List.of(Map.of("_id", "10", "5", "2")));
+    willThrow(new RuntimeException("db down")).given(cartJdbcRepository).replaceItems(anyMap());
+
+    // when
+    int flushed = flusher.flush();
+
+    // then
+    assertEquals(0, flushed);
+    verify(setOperations).add(RedisCartStore.DIRTY_KEY, "1");
+  }
+}
@@ -3,6 +3,8 @@ package com.shoppingmall.ecommerceapi.domain.order.service;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.verify;
 
@@ -21,6 +23,7 @@ import com.shoppingmall.ecommerceapi.domain.order.util.OrderNumberGenerator;
 import com.shoppingmall.ecommerceapi.domain.product.entity.Product;
 import com.shoppingmall.ecommerceapi.domain.product.entity.enums.ProductCategory;
 import com.shoppingmall.ecommerceapi.domain.product.entity.enums.ProductStatus;
+import com.shoppingmall.ecommerceapi.domain.product.event.ProductOrderConfirmedEvent;
 import com.shoppingmall.ecommerceapi.domain.product.repository.ProductRepository;
 import com.shoppingmall.ecommerceapi.domain.user.entity.User;
 import com.shoppingmall.ecommerceapi.domain.user.entity.enums.UserRole;
@@ -28,6 +31,7 @@ import com.shoppingmall.ecommerceapi.domain.user.repository.UserRepository;
 import java.math.BigDecimal;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -36,6 +40,9 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.redisson.api.RLock;
+import org.redisson.api.RedissonClient;
+import org.springframework.context.ApplicationEventPublisher;
 
 @ExtendWith(MockitoExtension.class)
 class OrderServiceTest {
@@ -47,9 +54,15 @@ class OrderServiceTest {
   @Mock
   private UserRepository userRepository;
   @Mock
+  private ApplicationEventPublisher eventPublisher;
+  @Mock
   private OrderConverter orderConverter;
   @Mock
   private OrderNumberGenerator orderNumberGenerator;
+  @Mock
+  private RedissonClient redissonClient;
+  @Mock
+  private RLock lock;
 
   @InjectMocks
   private OrderService orderService;
@@ -82,9 +95,16 @@ class OrderServiceTest {
         .build();
   }
 
+  // 주문번호/상품 재고 lock은 항상 획득 (트랜잭션 밖이라 보유 중이 아니므로 unlock은 호출되지 않음)
+  private void givenLocksAcquired() throws InterruptedException {
+    given(redissonClient.getLock(anyString())).willReturn(lock);
+    given(lock.tryLock(anyLong(), anyLong(), any(TimeUnit.class))).willReturn(true);
+    given(lock.tryLock(anyLong(), any(TimeUnit.class))).willReturn(true);
+  }
+
   @Test
   @DisplayName("주문 생성 - 정상 흐름")
-  void createOrder_success() {
+  void createOrder_success() throws InterruptedException {
     // given
     Long userId = 1L;
     User user = createUser();
@@ -104,7 +124,8 @@ class OrderServiceTest {
         .build();
 
     given(userRepository.findById(userId)).willReturn(Optional.of(user));
-    given(productRepository.findById(product.getId())).willReturn(Optional.of(product));
+    givenLocksAcquired();
+    given(productRepository.findAllById(List.of(product.getId()))).willReturn(List.of(product));
     given(orderRepository.countTodayOrders()).willReturn(0L);
     given(orderNumberGenerator.generate(1L)).willReturn("ORD20241228001");
 
@@ -158,7 +179,7 @@ class OrderServiceTest {
 
   @Test
   @DisplayName("주문 생성 - 상품이 없으면 예외")
-  void createOrder_invalidProduct() {
+  void createOrder_invalidProduct() throws InterruptedException {
     Long userId = 1L;
     User user = createUser();
 
@@ -176,7 +197,10 @@ class OrderServiceTest {
         .build();
 
     given(userRepository.findById(userId)).willReturn(Optional.of(user));
-    given(productRepository.findById(999L)).willReturn(Optional.empty());
+    givenLocksAcquired();
+    given(orderRepository.countTodayOrders()).willReturn(0L);
+    given(orderNumberGenerator.generate(1L)).willReturn("ORD20241228001");
+    given(productRepository.findAllById(List.of(999L))).willReturn(List.of());
 
     BusinessException ex = assertThrows(
         BusinessException.class,
@@ -186,6 +210,47 @@ class OrderServiceTest {
     assertThat(ex.getCode()).isEqualTo(OrderErrorCode.ORDER_ITEM_INVALID_PRODUCT);
   }
 
+  @Test
+  @DisplayName("장바구니 주문 - 총 금액은 서버 계산 금액으로 확정")
+  void createOrderFromCart_serverCalculatedTotal() throws InterruptedException {
+    // given
+    Long userId = 1L;
+    User user = createUser();
+    Product product = createProduct();
+
+    CreateOrderRequest req = CreateOrderRequest.builder()
+        .zipCode("12345")
+        .address("서울시 강남구")
+        .detailAddress("101호")
+        .orderItems(List.of(CreateOrderItemRequest.builder()
+            .productId(product.getId())
+            .quantity(3)
+            .build()))
+        .build();
+
+    given(userRepository.findById(userId)).willReturn(Optional.of(user));
+    givenLocksAcquired();
+    given(orderRepository.countTodayOrders()).willReturn(0L);
+    given(orderNumberGenerator.generate(1L)).willReturn("ORD20241228001");
+    given(productRepository.findAllById(List.of(product.getId()))).willReturn(List.of(product));
+    given(orderRepository.save(any(Order.class))).willAnswer(invocation -> invocation.getArgument(0));
+
+    OrderResponse response = OrderResponse.builder().build();
+    given(orderConverter.toResponse(any(Order.class))).willReturn(response);
+
+    ArgumentCaptor<Order> orderCaptor = ArgumentCaptor.forClass(Order.class);
+
+    // when
+    OrderResponse result = orderService.createOrderFromCart(userId, req);
+
+    // then
+    assertThat(result).isSameAs(response);
+    verify(orderRepository).save(orderCaptor.capture());
+    assertThat(orderCaptor.getValue().getTotalPrice())
+        .isEqualByComparingTo(BigDecimal.valueOf(30_000));
+    assertThat(product.getStock()).isEqualTo(97);
+  }
+
 
   @Test
   @DisplayName("내 주문 상세 조회 - 성공")
@@ -313,5 +378,6 @@ class OrderServiceTest {
     orderService.confirmOrder(orderId);
 
     assertThat(order.getOrderStatus()).isEqualTo(OrderStatus.PAID);
+    verify(eventPublisher).publishEvent(any(ProductOrderConfirmedEvent.class));
   }
 }
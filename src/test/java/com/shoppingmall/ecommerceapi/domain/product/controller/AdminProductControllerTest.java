@@ -18,7 +18,10 @@ import com.shoppingmall.ecommerceapi.domain.product.dto.ProductResponse;
 import com.shoppingmall.ecommerceapi.domain.product.dto.ProductUpdateRequest;
 import com.shoppingmall.ecommerceapi.domain.product.entity.enums.ProductStatus;
 import com.shoppingmall.ecommerceapi.domain.product.exception.ProductErrorCode;
+import com.shoppingmall.ecommerceapi.domain.product.image.ProductImageGarbageCollector;
+import com.shoppingmall.ecommerceapi.domain.product.service.ProductImportService;
 import com.shoppingmall.ecommerceapi.domain.product.service.ProductService;
+import com.shoppingmall.ecommerceapi.domain.product.service.ProductStockService;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -45,6 +48,15 @@ public class AdminProductControllerTest {
   @MockitoBean
   ProductService productService;
 
+  @MockitoBean
+  ProductImportService productImportService;
+
+  @MockitoBean
+  ProductStockService productStockService;
+
+  @MockitoBean
+  ProductImageGarbageCollector productImageGarbageCollector;
+
   // 상품 등록 테스트
   @Test
   @DisplayName("POST /api/admin/products - 상품 등록 성공")
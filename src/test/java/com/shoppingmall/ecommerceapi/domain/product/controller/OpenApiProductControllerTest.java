@@ -2,22 +2,32 @@ package com.shoppingmall.ecommerceapi.domain.product.controller;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.shoppingmall.ecommerceapi.common.response.PageRequestDTO;
 import com.shoppingmall.ecommerceapi.common.response.PageResponse;
+import com.shoppingmall.ecommerceapi.domain.product.cache.ProductJsonCache;
 import com.shoppingmall.ecommerceapi.domain.product.dto.ProductResponse;
+import com.shoppingmall.ecommerceapi.domain.product.ranking.ProductRankingService;
+import com.shoppingmall.ecommerceapi.domain.product.related.ProductRelatedService;
 import com.shoppingmall.ecommerceapi.domain.product.service.ProductService;
+import com.shoppingmall.ecommerceapi.domain.product.view.ProductViewCounter;
 import java.util.List;
+import java.util.Set;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
 import org.springframework.data.domain.Page;
+import org.springframework.http.HttpHeaders;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
@@ -25,6 +35,7 @@ import org.springframework.test.web.servlet.MockMvc;
 @ActiveProfiles("test")
 @WebMvcTest(OpenApiProductController.class)
 @AutoConfigureMockMvc(addFilters = false)
+@Import(ProductJsonCache.class)
 public class OpenApiProductControllerTest {
 
   @Autowired
@@ -36,6 +47,18 @@ public class OpenApiProductControllerTest {
   @MockitoBean
   ProductService productService;
 
+  @MockitoBean
+  ProductRankingService productRankingService;
+
+  @MockitoBean
+  ProductViewCounter productViewCounter;
+
+  @MockitoBean
+  ProductRelatedService productRelatedService;
+
+  @Autowired
+  ProductJsonCache productJsonCache;
+
   // 샹품 단건 조회 테스트
   @Test
   @DisplayName("GET /open-api/products/{id} - 상품 단건 조회 성공")
@@ -150,4 +173,90 @@ public class OpenApiProductControllerTest {
             .param("sort", "unknwonField,asc"))
         .andExpect(status().isBadRequest());
   }
-}
\ No newline at end of file
+
+  // 캐시 히트 - 같은 상품 재조회 시 서비스 호출 없이 캐시된 바이트 응답
+  @Test
+  @DisplayName("GET /open-api/products/{id} - 두 번째 조회는 캐시에서 응답")
+  void getProduct_cached() throws Exception {
+    // given
+    Long productId = 2L;
+    ProductResponse response = ProductResponse.builder()
+        .id(productId)
+        .name("사과")
+        .price(3000)
+        .build();
+    given(productService.getProduct(productId)).willReturn(response);
+
+    // when
+    mockMvc.perform(get("/open-api/products/{id}", productId))
+        .andExpect(status().isOk());
+    mockMvc.perform(get("/open-api/products/{id}", productId))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.body.name").value("사과"));
+
+    // then
+    verify(productService, times(1)).getProduct(productId);
+  }
+
+  // 캐시 무효화 - 상품 변경 후에는 다시 서비스에서 조회
+  @Test
+  @DisplayName("GET /open-api/products/{id} - 상품 변경 후 캐시 무효화")
+  void getProduct_evicted() throws Exception {
+    // given
+    Long productId = 3L;
+    given(productService.getProduct(productId))
+        .willReturn(ProductResponse.builder().id(productId).name("배").build());
+    mockMvc.perform(get("/open-api/products/{id}", productId));
+
+    // when
+    productJsonCache.evict(Set.of(productId), false);
+    mockMvc.perform(get("/open-api/products/{id}", productId))
+        .andExpect(status().isOk());
+
+    // then
+    verify(productService, times(2)).getProduct(productId);
+  }
+
+  // 캐시 무효화 - 다른 상품이 바뀌어도 상품 단건 캐시는 유지
+  @Test
+  @DisplayName("GET /open-api/products/{id} - 다른 상품 변경 시 단건 캐시 유지")
+  void getProduct_otherProductEvicted_keepsCache() throws Exception {
+    // given
+    Long productId = 4L;
+    given(productService.getProduct(productId))
+        .willReturn(ProductResponse.builder().id(productId).name("귤").build());
+    mockMvc.perform(get("/open-api/products/{id}", productId));
+
+    // when
+    productJsonCache.evict(Set.of(99L), false);
+    mockMvc.perform(get("/open-api/products/{id}", productId))
+        .andExpect(status().isOk());
+
+    // then
+    verify(productService, times(1)).getProduct(productId);
+  }
+
+  // gzip 협상 - q=0 은 명시적 거절이므로 압축본을 보내지 않음
+  @Test
+  @DisplayName("GET /open-api/products/{id} - Accept-Encoding의 gzip q-value에 따라 압축본 응답")
+  void getProduct_gzipNegotiation() throws Exception {
+    // given - gzip 압축본이 만들어지는 크기의 응답
+    Long productId = 5L;
+    given(productService.getProduct(productId)).willReturn(ProductResponse.builder()
+        .id(productId)
+        .name("감")
+        .description("달콤한 감".repeat(200))
+        .build());
+
+    // when & then
+    mockMvc.perform(get("/open-api/products/{id}", productId)
+            .header(HttpHeaders.ACCEPT_ENCODING, "gzip;q=0, identity"))
+        .andExpect(status().isOk())
+        .andExpect(header().doesNotExist(HttpHeaders.CONTENT_ENCODING))
+        .andExpect(jsonPath("$.body.name").value("감"));
+    mockMvc.perform(get("/open-api/products/{id}", productId)
+            .header(HttpHeaders.ACCEPT_ENCODING, "br;q=1.0, gzip;q=0.8"))
+        .andExpect(status().isOk())
+        .andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "gzip"));
+  }
+}
@@ -0,0 +1,127 @@
+package com.shoppingmall.ecommerceapi.domain.product.image;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import com.shoppingmall.ecommerceapi.common.exception.BusinessException;
+import com.shoppingmall.ecommerceapi.common.infra.S3Service;
+import com.shoppingmall.ecommerceapi.common.infra.StoredFile;
+import com.shoppingmall.ecommerceapi.domain.product.dto.ProductImageGcResponse;
+import com.shoppingmall.ecommerceapi.domain.product.exception.ProductErrorCode;
+import com.shoppingmall.ecommerceapi.domain.product.repository.ProductJdbcRepository;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.function.Consumer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.redisson.api.RLock;
+import org.redisson.api.RedissonClient;
+
+@ExtendWith(MockitoExtension.class)
+class ProductImageGarbageCollectorTest {
+
+  @Mock
+  private S3Service s3Service;
+
+  @Mock
+  private ProductJdbcRepository productJdbcRepository;
+
+  @Mock
+  private RedissonClient redissonClient;
+
+  @Mock
+  private RLock lock;
+
+  private ProductImageGarbageCollector garbageCollector;
+
+  @BeforeEach
+  void setUp() {
+    garbageCollector = new ProductImageGarbageCollector(s3Service, productJdbcRepository,
+        redissonClient, "", 24, 2, 0, true);
+    given(redissonClient.getLock("product:image:gc")).willReturn(lock);
+  }
+
+  @Test
+  @DisplayName("이미지 정리 - 참조되지 않고 오래된 파일만 배치로 삭제")
+  void run_deletesOnlyOldOrphans() {
+    // given
+    givenStorage();
+    given(s3Service.deleteFiles(anyList())).willAnswer(invocation ->
+        invocation.<List<String>>getArgument(0).size());
+
+    // when
+    ProductImageGcResponse report = garbageCollector.run(false);
+
+    // then
+    assertEquals(2, report.getReferencedUrls());
+    assertEquals(5, report.getScannedFiles());
+    assertEquals(1, report.getSkippedRecentFiles());
+    assertEquals(2, report.getOrphanFiles());
+    assertEquals(2, report.getDeletedFiles());
+    verify(s3Service).deleteFiles(List.of("https://s3.com/orphan1.jpg", "https://s3.com/orphan2.jpg"));
+    verify(lock).unlock();
+  }
+
+  @Test
+  @DisplayName("이미지 정리 - dry-run은 삭제 없이 고아 목록만 보고")
+  void run_dryRun_noDelete() {
+    // given
+    givenStorage();
+
+    // when
+    ProductImageGcResponse report = garbageCollector.run(true);
+
+    // then
+    assertEquals(2, report.getOrphanFiles());
+    assertEquals(0, report.getDeletedFiles());
+    assertEquals(List.of("https://s3.com/orphan1.jpg", "https://s3.com/orphan2.jpg"),
+        report.getOrphanSamples());
+    verify(s3Service, never()).deleteFiles(anyList());
+  }
+
+  @Test
+  @DisplayName("이미지 정리 - 다른 곳에서 실행 중이면 예외")
+  void run_alreadyRunning_throwsException() {
+    // given
+    given(lock.tryLock()).willReturn(false);
+
+    // when & then
+    BusinessException exception = assertThrows(BusinessException.class,
+        () -> garbageCollector.run(true));
+    assertEquals(ProductErrorCode.PRODUCT_IMAGE_GC_RUNNING, exception.getCode());
+    verify(s3Service, never()).forEachFile(any(), any());
+  }
+
+  private void givenStorage() {
+    Instant old = Instant.now().minus(Duration.ofDays(3));
+    given(lock.tryLock()).willReturn(true);
+    given(productJdbcRepository.countAll()).willReturn(1L);
+    willAnswer(invocation -> {
+      Consumer<String> consumer = invocation.getArgument(0);
+      consumer.accept("https://s3.com/a/original.jpg");
+      consumer.accept("https://s3.com/a/small.jpg");
+      return null;
+    }).given(productJdbcRepository).forEachImageUrl(any());
+    willAnswer(invocation -> {
+      Consumer<StoredFile> consumer = invocation.getArgument(1);
+      consumer.accept(new StoredFile("a/original.jpg", "https://s3.com/a/original.jpg", old));
+      consumer.accept(new StoredFile("a/small.jpg", "https://s3.com/a/small.jpg", old));
+      consumer.accept(new StoredFile("orphan1.jpg", "https://s3.com/orphan1.jpg", old));
+      consumer.accept(new StoredFile("orphan2.jpg", "https://s3.com/orphan2.jpg", old));
+      consumer.accept(new StoredFile("new.jpg", "https://s3.com/new.jpg", Instant.now()));
+      return null;
+    }).given(s3Service).forEachFile(eq(""), any());
+  }
+}
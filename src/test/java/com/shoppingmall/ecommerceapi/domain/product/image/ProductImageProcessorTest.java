@@ -0,0 +1,151 @@
+package com.shoppingmall.ecommerceapi.domain.product.image;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.shoppingmall.ecommerceapi.common.infra.S3Service;
+import com.shoppingmall.ecommerceapi.domain.product.entity.Product;
+import com.shoppingmall.ecommerceapi.domain.product.event.ProductChangedEvent;
+import com.shoppingmall.ecommerceapi.domain.product.event.ProductImageStagedEvent;
+import com.shoppingmall.ecommerceapi.domain.product.event.ProductImageUploadedEvent;
+import com.shoppingmall.ecommerceapi.domain.product.repository.ProductRepository;
+import java.awt.image.BufferedImage;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Map;
+import java.util.Optional;
+import javax.imageio.ImageIO;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+@ExtendWith(MockitoExtension.class)
+class ProductImageProcessorTest {
+
+  @Mock
+  private S3Service s3Service;
+
+  @Mock
+  private ProductRepository productRepository;
+
+  @Mock
+  private ApplicationEventPublisher eventPublisher;
+
+  private ProductImageProcessor productImageProcessor;
+
+  @BeforeEach
+  void setUp() {
+    productImageProcessor = new ProductImageProcessor(s3Service, productRepository,
+        eventPublisher, Runnable::run);
+  }
+
+  @Test
+  @DisplayName("이미지 처리 - 원본 + 크기별 이미지 업로드 후 상품 이미지 교체, 이전 이미지 삭제")
+  void process_success() throws Exception {
+    // given
+    Path staged = createImageFile(800, 400);
+    ProductImageStagedEvent event = new ProductImageStagedEvent(1L, staged, "apple.jpg",
+        "https://s3.com/old.jpg");
+
+    given(s3Service.uploadFile(anyString(), any(byte[].class), anyString()))
+        .willAnswer(invocation -> "https://s3.com/" + invocation.getArgument(0));
+    given(productRepository.findById(1L)).willReturn(Optional.of(Product.builder()
+        .id(1L).imgVariants(Map.of("small", "https://s3.com/old_small.jpg")).build()));
+    given(productRepository.updateImageIfUnchanged(eq(1L), eq("https://s3.com/old.jpg"),
+        anyString(), anyMap())).willReturn(1);
+
+    // when
+    productImageProcessor.process(event);
+
+    // then
+    verify(s3Service, times(1 + ProductImageSize.values().length))
+        .uploadFile(anyString(), any(byte[].class), anyString());
+
+    @SuppressWarnings("unchecked")
+    ArgumentCaptor<Map<String, String>> variants = ArgumentCaptor.forClass(Map.class);
+    verify(productRepository).updateImageIfUnchanged(eq(1L), anyString(), anyString(),
+        variants.capture());
+    assertEquals(ProductImageSize.values().length, variants.getValue().size());
+
+    verify(s3Service).deleteFile("https://s3.com/old.jpg");
+    verify(s3Service).deleteFile("https://s3.com/old_small.jpg");
+    verify(eventPublisher).publishEvent(any(ProductChangedEvent.class));
+    assertFalse(Files.exists(staged));
+  }
+
+  @Test
+  @DisplayName("이미지 처리 - 처리 중 상품 이미지가 바뀌었으면 업로드한 파일을 폐기")
+  void process_imageChangedMeanwhile_discardUploads() throws Exception {
+    // given
+    Path staged = createImageFile(100, 100);
+    ProductImageStagedEvent event = new ProductImageStagedEvent(1L, staged, "apple.png",
+        "none.png");
+
+    given(s3Service.uploadFile(anyString(), any(byte[].class), anyString()))
+        .willReturn("https://s3.com/new.png");
+    given(productRepository.updateImageIfUnchanged(eq(1L), eq("none.png"), anyString(),
+        anyMap())).willReturn(0);
+
+    // when
+    productImageProcessor.process(event);
+
+    // then
+    verify(s3Service, times(1 + ProductImageSize.values().length))
+        .deleteFile("https://s3.com/new.png");
+    verify(eventPublisher, never()).publishEvent(any(ProductChangedEvent.class));
+    assertFalse(Files.exists(staged));
+  }
+
+  @Test
+  @DisplayName("직접 업로드 이미지 처리 - 원본은 다시 올리지 않고 크기별 이미지만 같은 경로에 업로드")
+  void process_uploaded_skipsOriginalUpload() throws Exception {
+    // given
+    String key = "products/uploads/1/abc/original.jpg";
+    Path source = createImageFile(400, 400);
+    ProductImageUploadedEvent event = new ProductImageUploadedEvent(1L, key, "none.png");
+
+    given(s3Service.getFileUrl(key)).willReturn("https://s3.com/" + key);
+    willAnswer(invocation -> Files.copy(source, invocation.<Path>getArgument(1),
+        StandardCopyOption.REPLACE_EXISTING))
+        .given(s3Service).downloadFile(eq(key), any(Path.class));
+    given(s3Service.uploadFile(anyString(), any(byte[].class), anyString()))
+        .willAnswer(invocation -> "https://s3.com/" + invocation.getArgument(0));
+    given(productRepository.updateImageIfUnchanged(eq(1L), eq("none.png"),
+        eq("https://s3.com/" + key), anyMap())).willReturn(1);
+
+    // when
+    productImageProcessor.process(event);
+
+    // then
+    ArgumentCaptor<String> keys = ArgumentCaptor.forClass(String.class);
+    verify(s3Service, times(ProductImageSize.values().length))
+        .uploadFile(keys.capture(), any(byte[].class), anyString());
+    assertTrue(keys.getAllValues().stream().allMatch(k -> k.startsWith("products/uploads/1/abc/")));
+    verify(s3Service, never()).deleteFile(anyString());
+    verify(eventPublisher).publishEvent(any(ProductChangedEvent.class));
+    Files.deleteIfExists(source);
+  }
+
+  private Path createImageFile(int width, int height) throws Exception {
+    Path file = Files.createTempFile("product-image-test-", ".jpg");
+    ImageIO.write(new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB), "jpg",
+        file.toFile());
+    return file;
+  }
+}
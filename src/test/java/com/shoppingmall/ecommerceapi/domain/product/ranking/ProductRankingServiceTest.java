@@ -0,0 +1,122 @@
+package com.shoppingmall.ecommerceapi.domain.product.ranking;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import com.shoppingmall.ecommerceapi.common.exception.BusinessException;
+import com.shoppingmall.ecommerceapi.domain.product.converter.ProductConverter;
+import com.shoppingmall.ecommerceapi.domain.product.dto.ProductBestResponse;
+import com.shoppingmall.ecommerceapi.domain.product.dto.ProductResponse;
+import com.shoppingmall.ecommerceapi.domain.product.entity.Product;
+import com.shoppingmall.ecommerceapi.domain.product.entity.enums.ProductCategory;
+import com.shoppingmall.ecommerceapi.domain.product.exception.ProductErrorCode;
+import com.shoppingmall.ecommerceapi.domain.product.repository.ProductRepository;
+import java.time.LocalDateTime;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+
+@ExtendWith(MockitoExtension.class)
+class ProductRankingServiceTest {
+
+  private static final LocalDateTime NOW = LocalDateTime.of(2025, 1, 2, 13, 30);
+
+  @Mock
+  private StringRedisTemplate redisTemplate;
+
+  @Mock
+  private ZSetOperations<String, String> zSetOperations;
+
+  @Mock
+  private ProductRepository productRepository;
+
+  @Mock
+  private ProductConverter productConverter;
+
+  private ProductRankingService productRankingService;
+
+  @BeforeEach
+  void setUp() {
+    productRankingService = new ProductRankingService(redisTemplate, productRepository,
+        productConverter, 60);
+  }
+
+  @Test
+  @DisplayName("베스트 상품 조회 - 판매 수량 순서 유지, 삭제된 상품은 제외하고 순위 재부여")
+  void getBestProducts_keepsRankOrder() {
+    // given
+    String windowKey = "product:best:w:day:FOOD:2025010213";
+    Set<TypedTuple<String>> top = new LinkedHashSet<>(List.of(
+        TypedTuple.of("3", 30.0), TypedTuple.of("1", 20.0), TypedTuple.of("2", 10.0)));
+
+    given(redisTemplate.hasKey(windowKey)).willReturn(true);
+    given(redisTemplate.opsForZSet()).willReturn(zSetOperations);
+    given(zSetOperations.reverseRangeByScoreWithScores(windowKey, 1, Double.MAX_VALUE, 0, 4))
+        .willReturn(top);
+    given(productRepository.findAllById(any())).willReturn(List.of(
+        Product.builder().id(1L).build(),
+        Product.builder().id(2L).build(),
+        Product.builder().id(3L).deletedAt(LocalDateTime.now()).build()));
+    given(productConverter.toResponse(any(Product.class))).willAnswer(invocation ->
+        ProductResponse.builder().id(invocation.<Product>getArgument(0).getId()).build());
+
+    // when
+    List<ProductBestResponse> result = productRankingService.getBestProducts(
+        ProductCategory.FOOD, ProductRankingWindow.DAY, 2, NOW);
+
+    // then
+    assertThat(result)
+        .extracting(ProductBestResponse::getRank, ProductBestResponse::getSalesQuantity,
+            r -> r.getProduct().getId())
+        .containsExactly(tuple(1, 20L, 1L), tuple(2, 10L, 2L));
+    verify(zSetOperations, never()).unionAndStore(anyString(), anyList(), anyString());
+  }
+
+  @Test
+  @DisplayName("베스트 상품 조회 - 합산 결과가 없으면 최근 24개 시간 버킷을 ZUNIONSTORE")
+  void getBestProducts_buildsWindow() {
+    // given
+    String windowKey = "product:best:w:day:all:2025010213";
+    given(redisTemplate.hasKey(windowKey)).willReturn(false);
+    given(redisTemplate.opsForZSet()).willReturn(zSetOperations);
+
+    // when
+    List<ProductBestResponse> result = productRankingService.getBestProducts(
+        null, ProductRankingWindow.DAY, 10, NOW);
+
+    // then
+    assertThat(result).isEmpty();
+    List<String> buckets = ProductRankingService.bucketKeys("all", ProductRankingWindow.DAY, NOW);
+    assertEquals(24, buckets.size());
+    assertEquals("product:best:h:2025010213:all", buckets.get(0));
+    assertEquals("product:best:h:2025010114:all", buckets.get(23));
+    verify(zSetOperations).unionAndStore(eq(buckets.get(0)), eq(buckets.subList(1, 24)),
+        eq(windowKey));
+  }
+
+  @Test
+  @DisplayName("베스트 상품 조회 - 조회 개수 범위를 벗어나면 예외")
+  void getBestProducts_invalidSize_throwsException() {
+    BusinessException exception = assertThrows(BusinessException.class,
+        () -> productRankingService.getBestProducts(null, ProductRankingWindow.WEEK, 101, NOW));
+    assertEquals(ProductErrorCode.PRODUCT_INVALID_RANKING_SIZE, exception.getCode());
+  }
+}
@@ -0,0 +1,102 @@
+package com.shoppingmall.ecommerceapi.domain.product.related;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class ProductCoOccurrenceIndexTest {
+
+  @Test
+  @DisplayName("함께 구매된 상품 - 횟수 내림차순, 같으면 상품 ID 오름차순")
+  void topRelated_orderedByCount() {
+    // given
+    ProductCoOccurrenceIndex index = new ProductCoOccurrenceIndex(10);
+    index.addOrder(new long[]{1, 2, 3});
+    index.addOrder(new long[]{1, 3});
+    index.addOrder(new long[]{1, 4, 4});
+
+    // when
+    List<ProductCoOccurrenceIndex.Related> related = index.topRelated(1, 10);
+
+    // then
+    assertEquals(List.of(
+        new ProductCoOccurrenceIndex.Related(3, 2),
+        new ProductCoOccurrenceIndex.Related(2, 1),
+        new ProductCoOccurrenceIndex.Related(4, 1)), related);
+    assertEquals(1, index.topRelated(1, 1).size());
+    assertTrue(index.topRelated(99, 10).isEmpty());
+  }
+
+  @Test
+  @DisplayName("함께 구매된 상품 - 후보가 가득 차면 가장 적은 항목을 교체")
+  void addOrder_full_replacesMinimum() {
+    // given
+    ProductCoOccurrenceIndex index = new ProductCoOccurrenceIndex(2);
+    index.addOrder(new long[]{1, 2});
+    index.addOrder(new long[]{1, 2});
+    index.addOrder(new long[]{1, 3});
+
+    // when
+    index.addOrder(new long[]{1, 4});
+
+    // then (3이 밀려나고 4는 최솟값 + 1부터 집계)
+    assertEquals(List.of(
+        new ProductCoOccurrenceIndex.Related(2, 2),
+        new ProductCoOccurrenceIndex.Related(4, 2)), index.topRelated(1, 10));
+  }
+
+  @Test
+  @DisplayName("함께 구매된 상품 - 스냅샷 저장 후 다시 적재")
+  void snapshot_roundTrip() throws Exception {
+    // given
+    ProductCoOccurrenceIndex index = new ProductCoOccurrenceIndex(10);
+    index.addOrder(new long[]{1, 2, 3});
+    index.addOrder(new long[]{2, 3});
+    assertTrue(index.isDirty());
+
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    long snapshotVersion = index.writeTo(new DataOutputStream(bytes));
+    // 파일 교체 전에는 아직 저장되지 않은 상태
+    assertTrue(index.isDirty());
+    index.markSaved(snapshotVersion);
+
+    // when
+    ProductCoOccurrenceIndex loaded = new ProductCoOccurrenceIndex(10);
+    loaded.readFrom(new DataInputStream(new ByteArrayInputStream(bytes.toByteArray())));
+
+    // then
+    assertFalse(index.isDirty());
+    assertFalse(loaded.isDirty());
+    assertEquals(3, loaded.size());
+    assertEquals(index.topRelated(2, 10), loaded.topRelated(2, 10));
+    assertEquals(index.topRelated(3, 10), loaded.topRelated(3, 10));
+
+    // 적재 후 첫 변경도 다음 스냅샷 대상
+    loaded.addOrder(new long[]{1, 4});
+    assertTrue(loaded.isDirty());
+  }
+
+  @Test
+  @DisplayName("함께 구매된 상품 - 스냅샷을 쓴 뒤 들어온 주문은 저장 완료 후에도 dirty 유지")
+  void snapshot_changedWhileSaving_staysDirty() throws Exception {
+    // given
+    ProductCoOccurrenceIndex index = new ProductCoOccurrenceIndex(10);
+    index.addOrder(new long[]{1, 2});
+    long snapshotVersion = index.writeTo(new DataOutputStream(new ByteArrayOutputStream()));
+
+    // when
+    index.addOrder(new long[]{2, 3});
+    index.markSaved(snapshotVersion);
+
+    // then
+    assertTrue(index.isDirty());
+  }
+}
@@ -0,0 +1,143 @@
+package com.shoppingmall.ecommerceapi.domain.product.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.shoppingmall.ecommerceapi.common.exception.BusinessException;
+import com.shoppingmall.ecommerceapi.config.objectmapper.ObjectMapperConfig;
+import com.shoppingmall.ecommerceapi.domain.product.dto.ProductImportResponse;
+import com.shoppingmall.ecommerceapi.domain.product.entity.Product;
+import com.shoppingmall.ecommerceapi.domain.product.entity.enums.ProductStatus;
+import com.shoppingmall.ecommerceapi.domain.product.event.ProductChangedEvent;
+import com.shoppingmall.ecommerceapi.domain.product.exception.ProductErrorCode;
+import com.shoppingmall.ecommerceapi.domain.product.repository.ProductJdbcRepository;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.transaction.PlatformTransactionManager;
+
+@ExtendWith(MockitoExtension.class)
+class ProductImportServiceTest {
+
+  @Mock
+  private ProductJdbcRepository productJdbcRepository;
+
+  @Mock
+  private ApplicationEventPublisher eventPublisher;
+
+  @Mock
+  private PlatformTransactionManager transactionManager;
+
+  private ProductImportService productImportService;
+
+  @BeforeEach
+  void setUp() {
+    ObjectMapper objectMapper = new ObjectMapperConfig().objectMapper();
+    Validator validator = Validation.buildDefaultValidatorFactory().getValidator();
+
+    // 작업을 호출 스레드에서 바로 실행해 결과를 즉시 검증
+    productImportService = new ProductImportService(productJdbcRepository, objectMapper,
+        validator, eventPublisher, Runnable::run, transactionManager, 2, 60);
+  }
+
+  @Test
+  @DisplayName("CSV 일괄 등록 - 유효한 행은 배치 저장, 잘못된 행은 줄 번호와 함께 실패 기록")
+  void importCsv_partialFailure() {
+    // given
+    String csv = """
+        name,description,price,category,stock,status
+        딸기,"신선한, 딸기",15000,FOOD,10,
+        사과,,3000,FOOD,0,
+        배,,abc,FOOD,5,
+        포도,,4000,ELECTRONICS,5,
+        귤,,2000,FOOD,0,FOR_SALE
+        수박,,9000,FOOD,3,STOP_SALE
+        """;
+    MockMultipartFile file = new MockMultipartFile("file", "products.csv", "text/csv",
+        csv.getBytes(StandardCharsets.UTF_8));
+
+    // when
+    ProductImportResponse response = productImportService.startImport(file);
+    ProductImportResponse job = productImportService.getJob(response.getJobId());
+
+    // then
+    assertEquals("COMPLETED", job.getStatus());
+    assertEquals(6, job.getProcessedRows());
+    assertEquals(3, job.getSuccessRows());
+    assertEquals(3, job.getFailedRows());
+    assertThat(job.getErrors()).extracting("line").containsExactly(4, 5, 6);
+
+    // 배치 크기 2 → 2건 + 1건
+    @SuppressWarnings("unchecked")
+    ArgumentCaptor<List<Product>> captor = ArgumentCaptor.forClass(List.class);
+    verify(productJdbcRepository, times(2)).batchInsert(captor.capture());
+    verify(eventPublisher).publishEvent(any(ProductChangedEvent.class));
+  }
+
+  @Test
+  @DisplayName("NDJSON 일괄 등록 - 판매상태 미지정 시 재고로 결정")
+  void importNdjson_statusFromStock() {
+    // given
+    String ndjson = """
+        {"name":"딸기","price":15000,"category":"FOOD","stock":0}
+        {"name":"사과","price":3000,"category":"FOOD","stock":7,"img_src":"apple.png"}
+        """;
+    MockMultipartFile file = new MockMultipartFile("file", "products.ndjson",
+        "application/x-ndjson", ndjson.getBytes(StandardCharsets.UTF_8));
+
+    // when
+    productImportService.startImport(file);
+
+    // then
+    @SuppressWarnings("unchecked")
+    ArgumentCaptor<List<Product>> captor = ArgumentCaptor.forClass(List.class);
+    verify(productJdbcRepository).batchInsert(captor.capture());
+    List<Product> saved = captor.getValue();
+    assertEquals(ProductStatus.SOLD_OUT, saved.get(0).getStatus());
+    assertEquals("none.png", saved.get(0).getImgSrc());
+    assertEquals(ProductStatus.FOR_SALE, saved.get(1).getStatus());
+    assertEquals("apple.png", saved.get(1).getImgSrc());
+  }
+
+  @Test
+  @DisplayName("일괄 등록 실패 - 지원하지 않는 파일 형식")
+  void import_invalidExtension() {
+    // given
+    MockMultipartFile file = new MockMultipartFile("file", "products.xlsx",
+        "application/octet-stream", "data".getBytes());
+
+    // when
+    BusinessException exception = assertThrows(BusinessException.class,
+        () -> productImportService.startImport(file));
+
+    // then
+    assertEquals(ProductErrorCode.PRODUCT_IMPORT_INVALID_FILE, exception.getCode());
+    verify(productJdbcRepository, never()).batchInsert(anyList());
+  }
+
+  @Test
+  @DisplayName("작업 조회 실패 - 존재하지 않는 작업 ID")
+  void getJob_notFound() {
+    BusinessException exception = assertThrows(BusinessException.class,
+        () -> productImportService.getJob("unknown"));
+
+    assertEquals(ProductErrorCode.PRODUCT_IMPORT_JOB_NOT_FOUND, exception.getCode());
+  }
+}
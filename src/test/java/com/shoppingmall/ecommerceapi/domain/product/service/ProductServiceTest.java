@@ -2,6 +2,7 @@ package com.shoppingmall.ecommerceapi.domain.product.service;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
@@ -15,18 +16,24 @@ import com.shoppingmall.ecommerceapi.common.response.PageRequestDTO;
 import com.shoppingmall.ecommerceapi.domain.order.repository.OrderItemRepository;
 import com.shoppingmall.ecommerceapi.domain.product.converter.ProductConverter;
 import com.shoppingmall.ecommerceapi.domain.product.dto.ProductCreateRequest;
+import com.shoppingmall.ecommerceapi.domain.product.dto.ProductImageConfirmRequest;
 import com.shoppingmall.ecommerceapi.domain.product.dto.ProductUpdateRequest;
 import com.shoppingmall.ecommerceapi.domain.product.entity.Product;
 import com.shoppingmall.ecommerceapi.domain.product.entity.enums.ProductStatus;
+import com.shoppingmall.ecommerceapi.domain.product.event.ProductImageStagedEvent;
+import com.shoppingmall.ecommerceapi.domain.product.event.ProductImageUploadedEvent;
 import com.shoppingmall.ecommerceapi.domain.product.exception.ProductErrorCode;
 import com.shoppingmall.ecommerceapi.domain.product.repository.ProductRepository;
+import java.nio.file.Files;
 import java.util.Optional;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.mock.web.MockMultipartFile;
 
 @ExtendWith(MockitoExtension.class)
@@ -44,6 +51,9 @@ class ProductServiceTest {
   @Mock
   private OrderItemRepository orderItemRepository;
 
+  @Mock
+  private ApplicationEventPublisher eventPublisher;
+
   @Mock
   private S3Service s3Service;
 
@@ -68,10 +78,40 @@ class ProductServiceTest {
     assertEquals(ProductErrorCode.PRODUCT_INVALID_IMAGE, exception.getCode());
   }
 
-  // 상품 등록 - DB 저장 실패 시 s3 파일 삭제 테스트
+  // 상품 등록 - 이미지는 요청 스레드에서 업로드하지 않고 이벤트로 넘김
+  @Test
+  @DisplayName("상품 등록 - 이미지 업로드는 커밋 이후 백그라운드 처리 이벤트로 위임")
+  void register_withImage_publishesStagedEvent() throws Exception {
+    // given
+    ProductCreateRequest request = ProductCreateRequest.builder()
+        .name("딸기")
+        .stock(10)
+        .price(1000)
+        .build();
+
+    MockMultipartFile file = new MockMultipartFile("image", "test.jpg", "image/jpeg",
+        "content".getBytes());
+
+    given(productConverter.toEntity(any(), eq("none.png"), any()))
+        .willReturn(Product.builder().id(1L).build());
+
+    // when
+    productService.register(request, file);
+
+    // then
+    ArgumentCaptor<ProductImageStagedEvent> captor =
+        ArgumentCaptor.forClass(ProductImageStagedEvent.class);
+    verify(eventPublisher).publishEvent(captor.capture());
+    assertEquals(1L, captor.getValue().getProductId());
+    assertEquals("none.png", captor.getValue().getExpectedImgSrc());
+    assertTrue(Files.exists(captor.getValue().getStagedFile()));
+    Files.deleteIfExists(captor.getValue().getStagedFile());
+  }
+
+  // 상품 등록 - DB 저장 실패 시 이미지 처리 이벤트 미발행 테스트
   @Test
-  @DisplayName("상품 등록 - DB 저장 실패 시 s3 파일 삭제 확인(롤백)")
-  void register_dbFail_deleteS3File() {
+  @DisplayName("상품 등록 - DB 저장 실패 시 이미지 처리 이벤트를 발행하지 않음")
+  void register_dbFail_noImageEvent() {
     // given
     ProductCreateRequest request = ProductCreateRequest.builder()
         .name("딸기")
@@ -81,15 +121,13 @@ class ProductServiceTest {
 
     MockMultipartFile file = new MockMultipartFile("image", "test.jpg", "image/png",
         "content".getBytes());
-    String fakeUrl = "https://s3.com/test.jpg";
 
-    given(s3Service.uploadFile(any())).willReturn(fakeUrl);
     given(productConverter.toEntity(any(), anyString(), any())).willReturn(new Product());
-    given(productRepository.save(any())).willReturn(new RuntimeException("DB 에러"));
+    given(productRepository.save(any())).willThrow(new RuntimeException("DB 에러"));
 
     // when & then
     assertThrows(RuntimeException.class, () -> productService.register(request, file));
-    verify(s3Service).deleteFile(fakeUrl);
+    verify(eventPublisher, never()).publishEvent(any(ProductImageStagedEvent.class));
   }
 
   // 상품 등록 - 재고에 따른 판매상태 테스트
@@ -110,8 +148,8 @@ class ProductServiceTest {
 
   // 상품 수정 - 재고가 0일때 판매중 설정 불가 테스트
   @Test
-  @DisplayName("상품 수정 - 재고가 0일때 판매중으로 변경시 예외처리 + S3 파일 삭제 확인")
-  void updateProduct_stockValidationFail_deleteS3() {
+  @DisplayName("상품 수정 - 재고가 0일때 판매중으로 변경시 예외처리 + 이미지 처리 이벤트 미발행")
+  void updateProduct_stockValidationFail_noImageEvent() {
     // given
     Long productId = 1L;
     Product product = Product.builder().id(productId).stock(10).imgSrc("old.png").build();
@@ -122,10 +160,8 @@ class ProductServiceTest {
 
     MockMultipartFile newFile = new MockMultipartFile("image", "new.png", "image/png",
         "data".getBytes());
-    String newS3Url = "https://s3.com/newProduct.png";
 
     given(productRepository.findById(productId)).willReturn(Optional.of(product));
-    given(s3Service.uploadFile(any())).willReturn(newS3Url);
 
     // when & then
     BusinessException exception = assertThrows(BusinessException.class, () ->
@@ -133,7 +169,8 @@ class ProductServiceTest {
     );
     assertEquals(ProductErrorCode.PRODUCT_STATUS_CONFLICT, exception.getCode());
 
-    verify(s3Service).deleteFile(newS3Url);
+    verify(eventPublisher, never()).publishEvent(any(ProductImageStagedEvent.class));
+    assertEquals("old.png", product.getImgSrc());
   }
 
   // 상품 삭제 - 삭제된 상품 수정 테스트
@@ -158,8 +195,8 @@ class ProductServiceTest {
       productService.updateProduct(productId, request, null);
     });
     assertEquals(ProductErrorCode.PRODUCT_UPDATE_NOT_FOUND, exception.getCode());
-    // 삭제된 상품이라 s3 업로드 로직이나 다른 로직이 실행되면 안됨
-    verify(s3Service, never()).uploadFile(any());
+    // 삭제된 상품이라 이미지 처리나 다른 로직이 실행되면 안됨
+    verify(eventPublisher, never()).publishEvent(any(ProductImageStagedEvent.class));
   }
 
   // 상품 삭제 - 주문 내역 존재 하는 상품 삭제 테스트
@@ -230,4 +267,41 @@ class ProductServiceTest {
     });
     assertEquals(ProductErrorCode.PRODUCT_NOT_FOUND, exception.getCode());
   }
-}
\ No newline at end of file
+
+  // 이미지 직접 업로드 확인 - 다른 상품용 key 거부 테스트
+  @Test
+  @DisplayName("이미지 업로드 확인 - 이 상품에 발급하지 않은 key는 거부")
+  void confirmImageUpload_foreignKey_throwsException() {
+    // given
+    given(productRepository.findById(1L)).willReturn(Optional.of(Product.builder().id(1L).build()));
+    ProductImageConfirmRequest request = new ProductImageConfirmRequest(
+        "products/uploads/2/abc/original.jpg");
+
+    // when & then
+    BusinessException exception = assertThrows(BusinessException.class,
+        () -> productService.confirmImageUpload(1L, request));
+    assertEquals(ProductErrorCode.PRODUCT_IMAGE_INVALID_KEY, exception.getCode());
+    verify(eventPublisher, never()).publishEvent(any(ProductImageUploadedEvent.class));
+  }
+
+  // 이미지 직접 업로드 확인 - 업로드 완료 후 처리 이벤트 발행 테스트
+  @Test
+  @DisplayName("이미지 업로드 확인 - 저장소에 파일이 있으면 현재 이미지 기준으로 처리 이벤트 발행")
+  void confirmImageUpload_uploaded_publishesEvent() {
+    // given
+    String key = "products/uploads/1/abc/original.jpg";
+    given(productRepository.findById(1L)).willReturn(Optional.of(
+        Product.builder().id(1L).imgSrc("none.png").build()));
+    given(s3Service.exists(key)).willReturn(true);
+
+    // when
+    productService.confirmImageUpload(1L, new ProductImageConfirmRequest(key));
+
+    // then
+    ArgumentCaptor<ProductImageUploadedEvent> captor =
+        ArgumentCaptor.forClass(ProductImageUploadedEvent.class);
+    verify(eventPublisher).publishEvent(captor.capture());
+    assertEquals(key, captor.getValue().getKey());
+    assertEquals("none.png", captor.getValue().getExpectedImgSrc());
+  }
+}
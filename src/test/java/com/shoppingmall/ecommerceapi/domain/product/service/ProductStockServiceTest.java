@@ -0,0 +1,160 @@
+package com.shoppingmall.ecommerceapi.domain.product.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import com.shoppingmall.ecommerceapi.domain.product.dto.ProductStockAdjustRequest;
+import com.shoppingmall.ecommerceapi.domain.product.dto.ProductStockAdjustRequest.Item;
+import com.shoppingmall.ecommerceapi.domain.product.dto.ProductStockAdjustResponse;
+import com.shoppingmall.ecommerceapi.domain.product.dto.ProductStockAdjustResponse.ResultType;
+import com.shoppingmall.ecommerceapi.domain.product.entity.Product;
+import com.shoppingmall.ecommerceapi.domain.product.event.ProductChangedEvent;
+import com.shoppingmall.ecommerceapi.domain.product.exception.ProductErrorCode;
+import com.shoppingmall.ecommerceapi.domain.product.repository.ProductJdbcRepository;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.redisson.api.RLock;
+import org.redisson.api.RedissonClient;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.PlatformTransactionManager;
+
+@ExtendWith(MockitoExtension.class)
+class ProductStockServiceTest {
+
+  @Mock
+  private ProductJdbcRepository productJdbcRepository;
+
+  @Mock
+  private RedissonClient redissonClient;
+
+  @Mock
+  private ApplicationEventPublisher eventPublisher;
+
+  @Mock
+  private PlatformTransactionManager transactionManager;
+
+  @Mock
+  private RLock lock;
+
+  @Mock
+  private RLock multiLock;
+
+  private ProductStockService productStockService;
+
+  @BeforeEach
+  void setUp() {
+    productStockService = new ProductStockService(productJdbcRepository, redissonClient,
+        eventPublisher, transactionManager, 200, 5, 10);
+  }
+
+  @Test
+  @DisplayName("재고 대량 조정 - delta/절대값 반영, 음수 재고/미존재/중복 항목은 실패 처리")
+  void adjustStock_mixedResults() throws Exception {
+    // given
+    ProductStockAdjustRequest request = ProductStockAdjustRequest.builder()
+        .items(List.of(
+            Item.builder().productId(3L).delta(-5).build(),   // 10 → 5
+            Item.builder().productId(1L).stock(0).build(),    // → 0 (품절)
+            Item.builder().productId(2L).delta(-20).build(),  // 10 - 20 < 0
+            Item.builder().productId(4L).delta(1).build(),    // 존재하지 않음
+            Item.builder().productId(5L).delta(1).stock(1).build(), // 둘 다 입력
+            Item.builder().productId(6L).delta(1).build(),
+            Item.builder().productId(6L).delta(2).build()     // 중복
+        ))
+        .build();
+
+    given(redissonClient.getLock(anyString())).willReturn(lock);
+    given(redissonClient.getMultiLock(any(RLock[].class))).willReturn(multiLock);
+    given(multiLock.tryLock(anyLong(), anyLong(), any(TimeUnit.class))).willReturn(true);
+    given(productJdbcRepository.findStocksByIds(List.of(1L, 2L, 3L, 4L)))
+        .willReturn(Map.of(1L, 10, 2L, 10, 3L, 10));
+
+    // when
+    ProductStockAdjustResponse response = productStockService.adjustStock(request);
+
+    // then
+    assertEquals(7, response.getRequested());
+    assertEquals(2, response.getUpdated());
+    assertThat(response.getResults())
+        .extracting("productId", "result")
+        .containsExactlyInAnyOrder(
+            tuple(1L, ResultType.UPDATED),
+            tuple(2L, ResultType.OUT_OF_STOCK),
+            tuple(3L, ResultType.UPDATED),
+            tuple(4L, ResultType.NOT_FOUND),
+            tuple(5L, ResultType.INVALID),
+            tuple(6L, ResultType.INVALID));
+
+    verify(productJdbcRepository).updateStocks(Map.of(1L, 0, 3L, 5));
+    verify(multiLock).unlock();
+    verify(eventPublisher).publishEvent(any(ProductChangedEvent.class));
+  }
+
+  @Test
+  @DisplayName("재고 대량 조정 - delta 반영 후 최대 재고 초과 또는 int 범위 초과면 INVALID")
+  void adjustStock_deltaOverMaxStock() throws Exception {
+    // given
+    ProductStockAdjustRequest request = ProductStockAdjustRequest.builder()
+        .items(List.of(
+            Item.builder().productId(1L).delta(1).build(),                 // 10000 + 1
+            Item.builder().productId(2L).delta(Integer.MAX_VALUE).build()  // int overflow
+        ))
+        .build();
+
+    given(redissonClient.getLock(anyString())).willReturn(lock);
+    given(redissonClient.getMultiLock(any(RLock[].class))).willReturn(multiLock);
+    given(multiLock.tryLock(anyLong(), anyLong(), any(TimeUnit.class))).willReturn(true);
+    given(productJdbcRepository.findStocksByIds(List.of(1L, 2L)))
+        .willReturn(Map.of(1L, Product.MAX_STOCK, 2L, 10));
+
+    // when
+    ProductStockAdjustResponse response = productStockService.adjustStock(request);
+
+    // then
+    assertEquals(0, response.getUpdated());
+    assertThat(response.getResults())
+        .extracting("productId", "result", "message")
+        .containsExactlyInAnyOrder(
+            tuple(1L, ResultType.INVALID, ProductErrorCode.PRODUCT_INVALID_STOCK.getMessage()),
+            tuple(2L, ResultType.INVALID, ProductErrorCode.PRODUCT_INVALID_STOCK.getMessage()));
+    verify(productJdbcRepository).updateStocks(Map.of());
+    verify(eventPublisher, never()).publishEvent(any(ProductChangedEvent.class));
+  }
+
+  @Test
+  @DisplayName("재고 대량 조정 - 주문 처리 중이라 락 획득 실패 시 LOCK_FAILED, DB 변경 없음")
+  void adjustStock_lockFailed() throws Exception {
+    // given
+    ProductStockAdjustRequest request = ProductStockAdjustRequest.builder()
+        .items(List.of(Item.builder().productId(1L).delta(3).build()))
+        .build();
+
+    given(redissonClient.getLock(eq("product:stock:1"))).willReturn(lock);
+    given(redissonClient.getMultiLock(any(RLock[].class))).willReturn(multiLock);
+    given(multiLock.tryLock(anyLong(), anyLong(), any(TimeUnit.class))).willReturn(false);
+
+    // when
+    ProductStockAdjustResponse response = productStockService.adjustStock(request);
+
+    // then
+    assertEquals(0, response.getUpdated());
+    assertEquals(ResultType.LOCK_FAILED, response.getResults().get(0).getResult());
+    verify(productJdbcRepository, never()).updateStocks(any());
+    verify(eventPublisher, never()).publishEvent(any(ProductChangedEvent.class));
+  }
+}
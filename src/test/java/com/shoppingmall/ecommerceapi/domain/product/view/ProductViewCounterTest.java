@@ -0,0 +1,80 @@
+package com.shoppingmall.ecommerceapi.domain.product.view;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.reset;
+import static org.mockito.Mockito.verify;
+
+import com.shoppingmall.ecommerceapi.domain.product.repository.ProductJdbcRepository;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.QueryTimeoutException;
+
+@ExtendWith(MockitoExtension.class)
+class ProductViewCounterTest {
+
+  @Mock
+  private ProductJdbcRepository productJdbcRepository;
+
+  private ProductViewCounter productViewCounter;
+
+  @BeforeEach
+  void setUp() {
+    productViewCounter = new ProductViewCounter(productJdbcRepository, 500);
+  }
+
+  @Test
+  @DisplayName("조회수 - 동시 증가분을 모아 한 번에 반영, 반영 후에는 다시 0부터 집계")
+  void flush_aggregatesConcurrentIncrements() throws Exception {
+    // given
+    ExecutorService executor = Executors.newFixedThreadPool(8);
+    for (int i = 0; i < 8000; i++) {
+      long productId = i % 2 == 0 ? 1L : 2L;
+      executor.execute(() -> productViewCounter.increment(productId));
+    }
+    executor.shutdown();
+    executor.awaitTermination(10, TimeUnit.SECONDS);
+
+    // when
+    int flushed = productViewCounter.flush();
+
+    // then
+    assertEquals(2, flushed);
+    verify(productJdbcRepository).incrementViewCounts(Map.of(1L, 4000L, 2L, 4000L));
+    assertEquals(0, productViewCounter.flush());
+  }
+
+  @Test
+  @DisplayName("조회수 - DB 반영 실패 시 증가분을 되돌려 다음 주기에 다시 반영")
+  void flush_failure_keepsCounts() {
+    // given
+    productViewCounter.increment(1L);
+    productViewCounter.increment(1L);
+    willThrow(new QueryTimeoutException("timeout"))
+        .given(productJdbcRepository).incrementViewCounts(anyMap());
+
+    // when
+    int failed = productViewCounter.flush();
+
+    // then
+    assertEquals(0, failed);
+
+    // 다음 주기: 실패했던 2 + 새 조회 1
+    reset(productJdbcRepository);
+    given(productJdbcRepository.incrementViewCounts(anyMap())).willReturn(1);
+    productViewCounter.increment(1L);
+
+    assertEquals(1, productViewCounter.flush());
+    verify(productJdbcRepository).incrementViewCounts(Map.of(1L, 3L));
+  }
+}
@@ -1,6 +1,8 @@
 package com.shoppingmall.ecommerceapi.domain.user.service;
 
 import com.shoppingmall.ecommerceapi.common.exception.BusinessException;
+import com.shoppingmall.ecommerceapi.domain.auth.repository.RefreshTokenStore;
+import com.shoppingmall.ecommerceapi.domain.auth.service.TokenRevocationService;
 import com.shoppingmall.ecommerceapi.domain.user.converter.UserConverter;
 import com.shoppingmall.ecommerceapi.domain.user.dto.UserProfileResponse;
 import com.shoppingmall.ecommerceapi.domain.user.dto.UserProfileUpdateRequest;
@@ -28,13 +30,18 @@ class UserServiceTest {
 
     private UserRepository userRepository;
     private UserConverter userConverter;
+    private RefreshTokenStore refreshTokenStore;
+    private TokenRevocationService tokenRevocationService;
     private UserService userService;
 
     @BeforeEach
     void setUp() {
         userRepository = mock(UserRepository.class);
         userConverter = mock(UserConverter.class);
-        userService = new UserService(userRepository, userConverter);
+        refreshTokenStore = mock(RefreshTokenStore.class);
+        tokenRevocationService = mock(TokenRevocationService.class);
+        userService = new UserService(userRepository, userConverter, refreshTokenStore,
+                tokenRevocationService);
     }
 
     private User user(long id, UserGrade grade, long totalPurchaseAmount, boolean isActive, LocalDateTime deletedAt) {
@@ -312,6 +319,32 @@ class UserServiceTest {
         assertThat(u.getRole()).isEqualTo(UserRole.ADMIN);
     }
 
+    @Test
+    @DisplayName("updateRole: role이 바뀌면 Refresh Token 삭제 + Access Token 일괄 무효화")
+    void updateRole_revokesTokens() {
+        User u = user(1L, UserGrade.BASIC, 0, true, null);
+        u.updateRole(UserRole.ADMIN);
+        given(userRepository.findById(1L)).willReturn(Optional.of(u));
+
+        userService.updateRole(1L, UserRole.USER);
+
+        assertThat(u.getRole()).isEqualTo(UserRole.USER);
+        then(refreshTokenStore).should().deleteAllByUserId(1L);
+        then(tokenRevocationService).should().revokeAll(1L);
+    }
+
+    @Test
+    @DisplayName("updateRole: 같은 role이면 토큰 유지")
+    void updateRole_sameRole_keepsTokens() {
+        User u = user(1L, UserGrade.BASIC, 0, true, null);
+        given(userRepository.findById(1L)).willReturn(Optional.of(u));
+
+        userService.updateRole(1L, UserRole.USER);
+
+        then(refreshTokenStore).shouldHaveNoInteractions();
+        then(tokenRevocationService).shouldHaveNoInteractions();
+    }
+
     @Test
     @DisplayName("updateRole: 사용자 없으면 USER_NOT_FOUND 예외")
     void updateRole_fail_userNotFound() {